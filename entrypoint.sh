@@ -4,6 +4,56 @@
 
 set -e
 
+# 웜 풀 모드: 작업 없이 미리 시작하여 백엔드에서 할당을 롱 폴링으로 받은 뒤 일반 실행 흐름으로 진행
+if [ "$RUNNER_MODE" = "pool" ]; then
+  RUNNER_POLL_URL="${BACKEND_API_URL:-http://api.loadtest-service.com/api/callback/test-result}"
+  RUNNER_POLL_URL="${RUNNER_POLL_URL%/test-result}/runners/poll"
+  RUNNER_MAX_IDLE_SECONDS=${RUNNER_MAX_IDLE_SECONDS:-900}
+
+  # ECS 태스크 메타데이터에서 자신의 태스크 ARN 조회 (백엔드가 러너를 식별하는 키)
+  TASK_ARN=$(curl -s "$ECS_CONTAINER_METADATA_URI_V4/task" | jq -r '.TaskARN // empty' || true)
+  if [ -z "$TASK_ARN" ]; then
+    echo "ERROR: 태스크 ARN 을 조회할 수 없어 웜 풀 모드로 실행할 수 없습니다."
+    exit 1
+  fi
+
+  echo "웜 풀 러너로 대기합니다: $TASK_ARN"
+  IDLE_SINCE=$(date +%s)
+  while true; do
+    HTTP_STATUS=$(curl -s -o /tmp/assignment.json -w "%{http_code}" --max-time 60 -X POST \
+      -H "Content-Type: application/json" \
+      -H "X-API-Key: $API_KEY" \
+      -d "{\"taskArn\": \"$TASK_ARN\"}" \
+      "$RUNNER_POLL_URL" || true)
+
+    if [ "$HTTP_STATUS" = "200" ]; then
+      break
+    elif [ "$HTTP_STATUS" = "410" ]; then
+      echo "웜 풀에서 제외되어 종료합니다."
+      exit 0
+    elif [ $(( $(date +%s) - IDLE_SINCE )) -ge "$RUNNER_MAX_IDLE_SECONDS" ]; then
+      echo "최대 대기 시간(${RUNNER_MAX_IDLE_SECONDS}초) 동안 할당이 없어 종료합니다."
+      exit 0
+    elif [ "$HTTP_STATUS" != "204" ]; then
+      # 백엔드 오류/재시작 시 잠시 후 재시도
+      sleep 5
+    fi
+  done
+
+  TEST_ID=$(jq -r '.testId' /tmp/assignment.json)
+  TARGET_URL=$(jq -r '.targetUrl' /tmp/assignment.json)
+  VIRTUAL_USERS=$(jq -r '.virtualUsers' /tmp/assignment.json)
+  DURATION_SECONDS=$(jq -r '.durationSeconds' /tmp/assignment.json)
+  RAMP_UP_SECONDS=$(jq -r '.rampUpSeconds // 0' /tmp/assignment.json)
+  SCRIPT_CONTENT=$(jq -r '.scriptContent // ""' /tmp/assignment.json)
+  CONTAINER_INDEX=$(jq -r '.containerIndex // 0' /tmp/assignment.json)
+  TOTAL_CONTAINERS=$(jq -r '.totalContainers // 1' /tmp/assignment.json)
+  EXPECTED_INTERVAL_MS=$(jq -r '.expectedIntervalMs // ""' /tmp/assignment.json)
+  RESULT_UPLOAD_URL=$(jq -r '.resultUploadUrl // ""' /tmp/assignment.json)
+  RESULT_OBJECT_KEY=$(jq -r '.resultObjectKey // ""' /tmp/assignment.json)
+  echo "테스트 ID $TEST_ID 컨테이너 #$CONTAINER_INDEX 작업을 할당받았습니다."
+fi
+
 # 환경 변수 확인
 if [ -z "$TEST_ID" ]; then
   echo "ERROR: TEST_ID 환경 변수가 설정되지 않았습니다."
@@ -110,28 +160,217 @@ export default function() {
 EOL
 fi
 
+# 실행 중 메트릭 스트리밍 설정
+if [ -z "$METRICS_INTERVAL_SECONDS" ]; then
+  METRICS_INTERVAL_SECONDS=1
+fi
+
+if [ -z "$METRICS_API_URL" ]; then
+  METRICS_API_URL="${BACKEND_API_URL%/test-result}/metrics"
+fi
+
+# k6 가 기록하는 포인트(NDJSON)에서 새로 추가된 부분만 읽어 구간별 증분 프레임을 백엔드로 전송
+# (바이트 오프셋으로 이어 읽으므로 결과 파일이 커져도 구간당 처리 비용은 일정함)
+stream_metrics() {
+  local offset=0
+  while true; do
+    local finished=0
+    if [ -f /tmp/k6.done ]; then
+      finished=1
+    else
+      sleep "$METRICS_INTERVAL_SECONDS"
+    fi
+
+    if [ -f /tmp/results.json ]; then
+      local size=$(stat -c %s /tmp/results.json)
+      if [ "$size" -gt "$offset" ]; then
+        tail -c +$((offset + 1)) /tmp/results.json | head -c $((size - offset)) > /tmp/metrics-chunk.json
+        # 개행으로 끝난 줄까지만 처리 (k6 가 쓰는 중인 마지막 줄은 다음 구간에 처리)
+        local lines=$(tr -cd '\n' < /tmp/metrics-chunk.json | wc -c)
+        if [ "$lines" -gt 0 ]; then
+          head -n "$lines" /tmp/metrics-chunk.json > /tmp/metrics-lines.json
+          offset=$((offset + $(wc -c < /tmp/metrics-lines.json)))
+          jq -n -c \
+            --argjson testId "$TEST_ID" \
+            --argjson containerIndex "$CONTAINER_INDEX" \
+            --argjson intervalMs "$((METRICS_INTERVAL_SECONDS * 1000))" '
+            reduce (inputs | select(.type == "Point")) as $p ({requests: 0, failedRequests: 0, latencyHistogram: {}, errors: {}};
+              if $p.metric == "http_reqs" then .requests += $p.data.value
+              elif $p.metric == "http_req_failed" and $p.data.value == 1 then
+                .failedRequests += 1 | .errors[($p.data.tags.status // "unknown" | tostring)] += 1
+              elif $p.metric == "http_req_duration" then
+                .latencyHistogram[(if $p.data.value <= 0.001 then 0
+                  else (($p.data.value / 0.001 | log) / (1.02 | log) | ceil) end | tostring)] += 1
+              else . end)
+            | . + {loadTestId: $testId, containerIndex: $containerIndex,
+                   timestamp: ((now * 1000 | floor) - $intervalMs), intervalMs: $intervalMs}' \
+            /tmp/metrics-lines.json > /tmp/metrics-frame.json && \
+          curl -s -o /dev/null -X POST \
+            -H "Content-Type: application/x-ndjson" \
+            -H "X-API-Key: $API_KEY" \
+            --data-binary @/tmp/metrics-frame.json \
+            "$METRICS_API_URL" || echo "메트릭 전송 실패 (계속 진행)"
+        fi
+      fi
+    fi
+
+    if [ "$finished" -eq 1 ]; then
+      break
+    fi
+  done
+}
+
 # k6 테스트 실행
 echo "k6 테스트를 시작합니다... (컨테이너 #$CONTAINER_INDEX)"
-k6 run --out json=/tmp/results.json /tmp/load-test.js
+rm -f /tmp/k6.done
+stream_metrics &
+METRICS_PID=$!
+k6 run --out json=/tmp/results.json --summary-export=/tmp/summary-export.json /tmp/load-test.js || K6_EXIT_CODE=$?
+
+# 남은 메트릭을 마지막으로 전송하고 스트리밍 종료
+touch /tmp/k6.done
+wait $METRICS_PID || true
+
+if [ -n "$K6_EXIT_CODE" ]; then
+  echo "k6 테스트가 실패했습니다. (종료 코드: $K6_EXIT_CODE)"
+  exit $K6_EXIT_CODE
+fi
 
 # 테스트 종료 시간 기록
 END_TIME=$(date -u +"%Y-%m-%dT%H:%M:%SZ")
 echo "테스트 종료 시간: $END_TIME"
 
-# 결과 파일에서 요약 정보 추출
-echo "테스트 결과를 분석합니다..."
-TOTAL_REQUESTS=$(jq '.metrics.http_reqs.values.count' /tmp/results.json)
-FAILED_REQUESTS=$(jq '.metrics.http_req_failed.values.fails' /tmp/results.json)
-SUCCESSFUL_REQUESTS=$((TOTAL_REQUESTS - FAILED_REQUESTS))
-AVG_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.avg' /tmp/results.json)
-P95_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values["p(95)"]' /tmp/results.json)
-P99_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values["p(99)"]' /tmp/results.json)
-MAX_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.max' /tmp/results.json)
-MIN_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.min' /tmp/results.json)
-REQUESTS_PER_SECOND=$(jq '.metrics.http_reqs.values.rate' /tmp/results.json)
-
-# 요약 결과를 JSON 파일로 생성
-cat > /tmp/summary.json <<EOL
+if [ -z "$RESULT_CALLBACK_VERSION" ]; then
+  RESULT_CALLBACK_VERSION=2
+fi
+
+RESULT_SENT=""
+if [ "$RESULT_CALLBACK_VERSION" = "2" ]; then
+  # v2: k6 출력(NDJSON)을 Point 배열로 감싸 압축해서 그대로 전송하고, 요약 값과 히스토그램은 서버가 스트리밍으로 계산
+  # (jq 로 결과 파일을 여러 번 다시 읽거나 전체 출력을 JSON 문자열로 감싸지 않음)
+  RESULT_V2_URL="${BACKEND_API_URL%/test-result}/v2/test-result"
+  if [ -z "$RESULT_CALLBACK_ENCODING" ]; then
+    RESULT_CALLBACK_ENCODING=gzip
+    if command -v zstd > /dev/null 2>&1; then
+      RESULT_CALLBACK_ENCODING=zstd
+    fi
+  fi
+  if [ "$RESULT_CALLBACK_ENCODING" = "zstd" ]; then
+    COMPRESS="zstd -q -c"
+  else
+    COMPRESS="gzip -c"
+  fi
+
+  # 업로드 URL 을 받았으면 원본(gzip)을 블롭 저장소에 직접 올리고, 콜백에는 요약 값과 객체 키/체크섬만 담음
+  # (상대 경로는 BACKEND_API_URL 의 origin 기준, 업로드 실패 시 원본을 콜백 본문에 포함하는 방식으로 전환)
+  RESULT_UPLOADED=""
+  if [ -n "$RESULT_UPLOAD_URL" ] && [ -n "$RESULT_OBJECT_KEY" ]; then
+    case "$RESULT_UPLOAD_URL" in
+      /*) RESULT_UPLOAD_URL="$(echo "$BACKEND_API_URL" | sed -E 's#^(https?://[^/]+).*#\1#')$RESULT_UPLOAD_URL" ;;
+    esac
+    echo "원본 결과를 업로드합니다... (컨테이너 #$CONTAINER_INDEX)"
+    gzip -c /tmp/results.json > /tmp/results.json.gz
+    if curl -s -o /dev/null --fail --retry 5 --retry-max-time 120 -T /tmp/results.json.gz "$RESULT_UPLOAD_URL"; then
+      RESULT_UPLOADED=1
+    else
+      echo "원본 결과 업로드 실패. 결과를 콜백 본문에 포함합니다."
+    fi
+  fi
+
+  echo "테스트 결과를 압축합니다... ($RESULT_CALLBACK_ENCODING)"
+  if [ -n "$RESULT_UPLOADED" ]; then
+    # 결과 파일을 한 번만 읽어 요약 값과 히스토그램(백엔드 LatencyHistogram 과 같은 버킷)을 계산
+    jq -n -c \
+      --argjson testId "$TEST_ID" \
+      --argjson containerIndex "$CONTAINER_INDEX" \
+      --arg startTime "$START_TIME" \
+      --arg endTime "$END_TIME" \
+      --arg objectKey "$RESULT_OBJECT_KEY" \
+      --arg sha256 "$(sha256sum /tmp/results.json | cut -d ' ' -f 1)" \
+      --argjson sizeBytes "$(wc -c < /tmp/results.json | tr -d ' ')" '
+      reduce (inputs | select(.type == "Point")) as $p (
+        {total: 0, failed: 0, dropped: 0, count: 0, sum: 0, min: null, max: null, histogram: {}};
+        $p.data.value as $v
+        | if $p.metric == "http_reqs" then .total += $v
+          elif $p.metric == "http_req_failed" then .failed += (if $v == 1 then 1 else 0 end)
+          elif $p.metric == "dropped_iterations" then .dropped += $v
+          elif $p.metric == "http_req_duration" then
+            .count += 1 | .sum += $v
+            | .min = (if .min == null or $v < .min then $v else .min end)
+            | .max = (if .max == null or $v > .max then $v else .max end)
+            | (if $v <= 0.001 then 0 else (($v / 0.001 | log) / (1.02 | log) | ceil) end | tostring) as $k
+            | .histogram[$k] += 1
+          else . end)
+      | {loadTestId: $testId, containerIndex: $containerIndex, startTime: $startTime, endTime: $endTime,
+         totalRequests: .total, failedRequests: .failed, successfulRequests: (.total - .failed),
+         droppedIterations: .dropped, avgResponseTimeMs: (if .count > 0 then .sum / .count else 0 end),
+         minResponseTimeMs: (.min // 0), maxResponseTimeMs: (.max // 0), latencyHistogram: .histogram,
+         summaryObjectKey: $objectKey, summarySha256: $sha256, summarySizeBytes: $sizeBytes}' \
+      /tmp/results.json | $COMPRESS > /tmp/result-v2.body
+  else
+    {
+      printf '{"loadTestId":%s,"containerIndex":%s,"startTime":"%s","endTime":"%s"' \
+        "$TEST_ID" "$CONTAINER_INDEX" "$START_TIME" "$END_TIME"
+      if [ -n "$EXPECTED_INTERVAL_MS" ]; then
+        printf ',"expectedIntervalMs":%s' "$EXPECTED_INTERVAL_MS"
+      fi
+      if [ -s /tmp/summary-export.json ]; then
+        printf ',"summary":'
+        cat /tmp/summary-export.json
+      fi
+      printf ',"points":['
+      awk 'NF { if (n++) printf ","; printf "%s", $0 }' /tmp/results.json
+      printf ']}'
+    } | $COMPRESS > /tmp/result-v2.body
+  fi
+
+  echo "결과를 백엔드 서버로 전송합니다... (컨테이너 #$CONTAINER_INDEX)"
+  if curl -X POST --fail --retry 10 --retry-max-time 300 \
+    -H "Content-Type: application/json" \
+    -H "Content-Encoding: $RESULT_CALLBACK_ENCODING" \
+    -H "X-API-Key: $API_KEY" \
+    --data-binary @/tmp/result-v2.body \
+    "$RESULT_V2_URL"; then
+    RESULT_SENT=1
+  fi
+else
+  # 결과 파일에서 요약 정보 추출
+  echo "테스트 결과를 분석합니다..."
+  TOTAL_REQUESTS=$(jq '.metrics.http_reqs.values.count' /tmp/results.json)
+  FAILED_REQUESTS=$(jq '.metrics.http_req_failed.values.fails' /tmp/results.json)
+  SUCCESSFUL_REQUESTS=$((TOTAL_REQUESTS - FAILED_REQUESTS))
+  AVG_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.avg' /tmp/results.json)
+  P95_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values["p(95)"]' /tmp/results.json)
+  P99_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values["p(99)"]' /tmp/results.json)
+  MAX_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.max' /tmp/results.json)
+  MIN_RESPONSE_TIME=$(jq '.metrics.http_req_duration.values.min' /tmp/results.json)
+  REQUESTS_PER_SECOND=$(jq '.metrics.http_reqs.values.rate' /tmp/results.json)
+
+  # 지연시간 히스토그램 생성 (백엔드 LatencyHistogram 과 동일한 버킷: 0.001ms 기준, 1.02 배 간격)
+  # 컨테이너별 히스토그램은 백엔드에서 병합되어 전체 분위수 계산에 사용됩니다.
+  LATENCY_HISTOGRAM=$(jq -n -c '
+    reduce (inputs | select(.type == "Point" and .metric == "http_req_duration") | .data.value) as $v ({};
+      (if $v <= 0.001 then 0 else (($v / 0.001 | log) / (1.02 | log) | ceil) end | tostring) as $k
+      | .[$k] += 1)' /tmp/results.json || echo '{}')
+
+  # 조정 누락(coordinated omission) 보정 히스토그램: 응답이 예상 요청 간격(EXPECTED_INTERVAL_MS)보다 길었다면
+  # 그동안 보내지 못한 요청들이 (값 - 간격), (값 - 2*간격), ... 만큼 기다렸을 것으로 보고 해당 값을 추가로 기록합니다.
+  # 간격이 없으면 null 을 보내고 백엔드가 측정 히스토그램으로 보정합니다.
+  CORRECTED_LATENCY_HISTOGRAM=null
+  if [ -n "$EXPECTED_INTERVAL_MS" ]; then
+    CORRECTED_LATENCY_HISTOGRAM=$(jq -n -c --argjson interval "$EXPECTED_INTERVAL_MS" '
+      reduce (inputs | select(.type == "Point" and .metric == "http_req_duration") | .data.value) as $v ({};
+        reduce ([$v] + [range(1; ($v / $interval | floor)) as $k | $v - $k * $interval])[] as $c (.;
+          (if $c <= 0.001 then 0 else (($c / 0.001 | log) / (1.02 | log) | ceil) end | tostring) as $b
+          | .[$b] += 1))' /tmp/results.json || echo 'null')
+  fi
+
+  # 도착률 모델에서 VU 부족으로 시작하지 못한 반복 수 (closed 모델에서는 0)
+  DROPPED_ITERATIONS=$(jq -n '
+    [inputs | select(.type == "Point" and .metric == "dropped_iterations") | .data.value] | add // 0' /tmp/results.json || echo 0)
+
+  # 요약 결과를 JSON 파일로 생성
+  cat > /tmp/summary.json <<EOL
 {
   "loadTestId": ${TEST_ID},
   "startTime": "${START_TIME}",
@@ -145,25 +384,42 @@ cat > /tmp/summary.json <<EOL
   "maxResponseTimeMs": ${MAX_RESPONSE_TIME},
   "minResponseTimeMs": ${MIN_RESPONSE_TIME},
   "requestsPerSecond": ${REQUESTS_PER_SECOND},
+  "droppedIterations": ${DROPPED_ITERATIONS},
   "containerIndex": ${CONTAINER_INDEX},
+  "latencyHistogram": ${LATENCY_HISTOGRAM},
+  "correctedLatencyHistogram": ${CORRECTED_LATENCY_HISTOGRAM},
   "summaryJson": $(jq '.' /tmp/results.json)
 }
 EOL
 
-# 결과를 백엔드로 전송
-echo "결과를 백엔드 서버로 전송합니다... (컨테이너 #$CONTAINER_INDEX)"
-curl -X POST \
-  -H "Content-Type: application/json" \
-  -H "X-API-Key: $API_KEY" \
-  -d @/tmp/summary.json \
-  $BACKEND_API_URL
+  # 결과를 백엔드로 전송
+  echo "결과를 백엔드 서버로 전송합니다... (컨테이너 #$CONTAINER_INDEX)"
+  # 백엔드 수집 큐가 가득 차면 429 + Retry-After 를 응답하므로 재시도 (curl 은 Retry-After 를 따름)
+  if curl -X POST --fail --retry 10 --retry-max-time 300 \
+    -H "Content-Type: application/json" \
+    -H "X-API-Key: $API_KEY" \
+    -d @/tmp/summary.json \
+    $BACKEND_API_URL; then
+    RESULT_SENT=1
+  fi
+fi
 
-# 종료 상태 확인
-if [ $? -eq 0 ]; then
+# 종료 상태 확인 (set -e 에서도 실패 시 로컬 저장이 실행되도록 curl 결과를 조건으로 확인)
+if [ -n "$RESULT_SENT" ]; then
   echo "결과 전송 성공!"
 else
   echo "결과 전송 실패. 로컬에 결과를 저장합니다."
-  cp /tmp/summary.json /results/summary_${TEST_ID}_container_${CONTAINER_INDEX}.json
+  if [ "$RESULT_CALLBACK_VERSION" = "2" ]; then
+    # v2 본문은 RESULT_CALLBACK_ENCODING 으로 압축한 JSON 이므로 같은 Content-Encoding 으로 다시 전송할 수 있음
+    if [ "$RESULT_CALLBACK_ENCODING" = "zstd" ]; then
+      RESULT_BODY_EXT=json.zst
+    else
+      RESULT_BODY_EXT=json.gz
+    fi
+    cp /tmp/result-v2.body /results/result_v2_${TEST_ID}_container_${CONTAINER_INDEX}.${RESULT_BODY_EXT} 2>/dev/null || true
+  else
+    cp /tmp/summary.json /results/summary_${TEST_ID}_container_${CONTAINER_INDEX}.json 2>/dev/null || true
+  fi
   cp /tmp/results.json /results/full_${TEST_ID}_container_${CONTAINER_INDEX}.json
 fi
 
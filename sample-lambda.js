@@ -18,6 +18,8 @@ exports.handler = async (event) => {
             cluster: process.env.ECS_CLUSTER,
             taskDefinition: process.env.TASK_DEFINITION,
             launchType: 'FARGATE',
+            // 실행 롤백 시 태스크 ARN 없이도 조회/중지할 수 있도록 테스트 ID 기록 (EcsService.STARTED_BY_PREFIX)
+            startedBy: `loadpilot-${event.testId}`,
             networkConfiguration: {
                 awsvpcConfiguration: {
                     subnets: [process.env.SUBNET_ID],
@@ -37,7 +39,12 @@ exports.handler = async (event) => {
                             { name: 'TEST_ID', value: event.testId.toString() },
                             { name: 'SCRIPT_CONTENT', value: event.scriptContent || '' },
                             { name: 'CONTAINER_INDEX', value: containerIndex.toString() },
-                            { name: 'TOTAL_CONTAINERS', value: totalContainers.toString() }
+                            { name: 'TOTAL_CONTAINERS', value: totalContainers.toString() },
+                            // 조정 누락(coordinated omission) 보정용 VU 별 예상 요청 간격 (없으면 백엔드에서 보정)
+                            { name: 'EXPECTED_INTERVAL_MS', value: event.expectedIntervalMs ? event.expectedIntervalMs.toString() : '' },
+                            // 원본 결과 직접 업로드 대상 (없으면 결과를 콜백 본문에 포함)
+                            { name: 'RESULT_UPLOAD_URL', value: event.resultUploadUrl || '' },
+                            { name: 'RESULT_OBJECT_KEY', value: event.resultObjectKey || '' }
                         ]
                     }
                 ]
@@ -0,0 +1,72 @@
+package com.elandinnople.loadpilot.benchmark;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨테이너 결과 집계 (TestResultAggregator.aggregatePartials 와 같은 방식).
+ * 결과 행마다 인코딩된 히스토그램을 디코딩하여 잎 노드를 만들고, 그룹 단위 부분 집계를 다시 병합한 뒤 분위수를 계산합니다.
+ * DB 조회 비용은 제외합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AggregationBenchmark {
+
+    // loadtest.aggregate.group-size 기본값
+    private static final int GROUP_SIZE = 50;
+
+    @Param({"10", "100", "1000"})
+    private int containers;
+
+    private String[] histograms;
+    private String[] correctedHistograms;
+    private LocalDateTime startTime;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        histograms = new String[containers];
+        correctedHistograms = new String[containers];
+        for (int i = 0; i < containers; i++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            LatencyHistogram corrected = new LatencyHistogram();
+            for (int j = 0; j < 10_000; j++) {
+                // 로그 정규 분포에 가까운 응답 시간 (중앙값 약 50ms, 긴 꼬리)
+                double latencyMs = Math.exp(3.9 + random.nextGaussian() * 0.6);
+                histogram.recordValue(latencyMs);
+                corrected.recordValue(latencyMs * 1.1);
+            }
+            histograms[i] = histogram.encode();
+            correctedHistograms[i] = corrected.encode();
+        }
+        startTime = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public double aggregate() {
+        PartialAggregate total = new PartialAggregate();
+        List<PartialAggregate> group = new ArrayList<>(GROUP_SIZE);
+        for (int i = 0; i < containers; i++) {
+            group.add(new PartialAggregate((long) i + 1, 10_000L, 9_990L, 10L, 55.0, 140.0, 210.0, 900.0, 3.0,
+                    166.0, 0L, startTime, startTime.plusMinutes(1), histograms[i], 150.0, 230.0,
+                    correctedHistograms[i]));
+            if (group.size() == GROUP_SIZE) {
+                total.merge(PartialAggregate.mergeAll(group));
+                group.clear();
+            }
+        }
+        total.merge(PartialAggregate.mergeAll(group));
+        return total.getHistogram().getValueAtPercentile(99) + total.getCorrectedHistogram().getValueAtPercentile(99);
+    }
+}
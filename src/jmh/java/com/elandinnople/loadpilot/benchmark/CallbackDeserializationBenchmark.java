@@ -0,0 +1,94 @@
+package com.elandinnople.loadpilot.benchmark;
+
+import com.elandinnople.loadpilot.LoadPilotApplication;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 콜백 본문 역직렬화. 본문 크기는 대부분 원본 k6 요약(summaryJson)이 차지하므로 요약 크기로 1KB ~ 50MB 를 만듭니다.
+ * 공유 ObjectMapper 와 호출마다 새로 만드는 ObjectMapper 를 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CallbackDeserializationBenchmark {
+
+    @Param({"1", "64", "1024", "51200"})
+    private int payloadKb;
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = newObjectMapper();
+
+        TestResultProcessRequest request = new TestResultProcessRequest();
+        request.setLoadTestId(1L);
+        request.setContainerIndex(0);
+        request.setStartTime(LocalDateTime.now().minusMinutes(5));
+        request.setEndTime(LocalDateTime.now());
+        request.setTotalRequests(50_000L);
+        request.setSuccessfulRequests(49_900L);
+        request.setFailedRequests(100L);
+        request.setAvgResponseTimeMs(55.0);
+        request.setP95ResponseTimeMs(140.0);
+        request.setP99ResponseTimeMs(210.0);
+        request.setMaxResponseTimeMs(900.0);
+        request.setMinResponseTimeMs(3.0);
+        request.setRequestsPerSecond(166.0);
+        Map<Integer, Long> histogram = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            histogram.put(500 + i, (long) (i + 1) * 10);
+        }
+        request.setLatencyHistogram(histogram);
+
+        // 요약은 문자열로 직렬화되며 따옴표가 이스케이프되므로, 한 번 만들어 본 뒤 이스케이프 비율로 크기를 보정
+        int target = payloadKb * 1024;
+        int emptySize = objectMapper.writeValueAsBytes(request).length;
+        int summarySize = Math.max(0, target - emptySize);
+        request.setSummaryJson(summaryJson(summarySize));
+        int encodedSummarySize = objectMapper.writeValueAsBytes(request).length - emptySize;
+        request.setSummaryJson(summaryJson((int) ((long) summarySize * summarySize / Math.max(1, encodedSummarySize))));
+        payload = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public TestResultProcessRequest sharedMapper() throws IOException {
+        return objectMapper.readValue(payload, TestResultProcessRequest.class);
+    }
+
+    @Benchmark
+    public TestResultProcessRequest newMapperPerCall() throws IOException {
+        return newObjectMapper().readValue(payload, TestResultProcessRequest.class);
+    }
+
+    // 애플리케이션의 ObjectMapper 빈과 같은 설정
+    private static ObjectMapper newObjectMapper() {
+        return new LoadPilotApplication().objectMapper();
+    }
+
+    // k6 요약과 비슷한 메트릭 항목을 반복하여 지정한 크기(문자 수)의 JSON 을 만듦
+    private static String summaryJson(int size) {
+        StringBuilder json = new StringBuilder(size + 256).append("{\"metrics\":{");
+        for (int i = 0; json.length() < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"http_req_duration{url:/api/items/").append(i).append("}\":{\"type\":\"trend\",")
+                    .append("\"values\":{\"avg\":55.1,\"min\":3.2,\"med\":48.7,\"max\":901.3,")
+                    .append("\"p(90)\":120.4,\"p(95)\":140.9}}");
+        }
+        return json.append("}}").toString();
+    }
+}
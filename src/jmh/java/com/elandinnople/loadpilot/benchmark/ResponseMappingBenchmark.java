@@ -0,0 +1,79 @@
+package com.elandinnople.loadpilot.benchmark;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TestResultResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환. 결과 응답은 인코딩된 히스토그램(원본, 보정)을 디코딩하여 분위수를 계산합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseMappingBenchmark {
+
+    private LoadTest loadTest;
+    private TestResult testResult;
+
+    @Setup
+    public void setUp() {
+        loadTest = new LoadTest();
+        loadTest.setId(1L);
+        loadTest.setName("checkout load test");
+        loadTest.setDescription("peak traffic rehearsal");
+        loadTest.setTargetUrl("https://example.com/api/checkout");
+        loadTest.setTestType(TestType.LOAD);
+        loadTest.setVirtualUsers(500);
+        loadTest.setDurationSeconds(600);
+        loadTest.setRampUpSeconds(60);
+        loadTest.setStatus(TestStatus.COMPLETED);
+        loadTest.setExecutorType(ExecutorType.ECS);
+        loadTest.setContainerCount(10);
+        loadTest.setCompletedContainerCount(10);
+
+        Random random = new Random(42);
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 100_000; i++) {
+            histogram.recordValue(Math.exp(3.9 + random.nextGaussian() * 0.6));
+        }
+        testResult = new TestResult();
+        testResult.setId(1L);
+        testResult.setLoadTest(loadTest);
+        testResult.setStartTime(LocalDateTime.now().minusMinutes(10));
+        testResult.setEndTime(LocalDateTime.now());
+        testResult.setTotalRequests(100_000L);
+        testResult.setSuccessfulRequests(99_900L);
+        testResult.setFailedRequests(100L);
+        testResult.setAvgResponseTimeMs(histogram.getMean());
+        testResult.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+        testResult.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+        testResult.setMaxResponseTimeMs(histogram.getMaxValue());
+        testResult.setMinResponseTimeMs(histogram.getMinValue());
+        testResult.setRequestsPerSecond(166.0);
+        testResult.setLatencyHistogram(histogram.encode());
+        testResult.setCorrectedLatencyHistogram(histogram.copyCorrectedForCoordinatedOmission(100).encode());
+    }
+
+    @Benchmark
+    public LoadTestResponse loadTestResponse() {
+        return LoadTestResponse.fromEntity(loadTest);
+    }
+
+    @Benchmark
+    public TestResultResponse testResultResponse() {
+        return TestResultResponse.fromEntity(testResult);
+    }
+}
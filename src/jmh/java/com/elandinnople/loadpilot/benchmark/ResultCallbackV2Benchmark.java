@@ -0,0 +1,129 @@
+package com.elandinnople.loadpilot.benchmark;
+
+import com.elandinnople.loadpilot.LoadPilotApplication;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.service.ResultCallbackDecoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 같은 k6 출력(Point 수)을 v1 콜백(출력 전체를 summaryJson 문자열로 포함)과
+ * v2 콜백(Point 배열을 gzip 압축한 JSON/CBOR 로 스트리밍 파싱)으로 받을 때의 처리 시간을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResultCallbackV2Benchmark {
+
+    @Param({"10000", "300000"})
+    private int points;
+
+    private ObjectMapper objectMapper;
+    private ResultCallbackDecoder decoder;
+    private byte[] v1Payload;
+    private byte[] v2JsonGzip;
+    private byte[] v2CborGzip;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new LoadPilotApplication().objectMapper();
+        decoder = new ResultCallbackDecoder(objectMapper);
+
+        String ndjson = k6Output(points);
+
+        TestResultProcessRequest v1 = new TestResultProcessRequest();
+        v1.setLoadTestId(1L);
+        v1.setContainerIndex(0);
+        v1.setStartTime(LocalDateTime.now().minusMinutes(5));
+        v1.setEndTime(LocalDateTime.now());
+        v1.setSummaryJson(ndjson);
+        v1Payload = objectMapper.writeValueAsBytes(v1);
+
+        // entrypoint.sh 가 만드는 본문과 같은 형태
+        StringBuilder v2 = new StringBuilder(ndjson.length() + 256)
+                .append("{\"loadTestId\":1,\"containerIndex\":0,")
+                .append("\"startTime\":\"2024-01-01T00:00:00Z\",\"endTime\":\"2024-01-01T00:05:00Z\",\"points\":[");
+        v2.append(ndjson.strip().replace('\n', ',')).append("]}");
+        byte[] v2Json = v2.toString().getBytes(StandardCharsets.UTF_8);
+        v2JsonGzip = gzip(v2Json);
+        v2CborGzip = gzip(toCbor(v2Json));
+    }
+
+    @Benchmark
+    public TestResultProcessRequest v1JsonString() throws IOException {
+        return objectMapper.readValue(v1Payload, TestResultProcessRequest.class);
+    }
+
+    @Benchmark
+    public TestResultProcessRequest v2JsonGzip() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(v2JsonGzip), "application/json", "gzip");
+    }
+
+    @Benchmark
+    public TestResultProcessRequest v2CborGzip() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(v2CborGzip),
+                ResultCallbackDecoder.APPLICATION_CBOR_VALUE, "gzip");
+    }
+
+    // k6 --out json 출력과 같은 형식의 NDJSON (요청마다 http_reqs, http_req_failed, http_req_duration Point)
+    private static String k6Output(int points) {
+        StringBuilder ndjson = new StringBuilder(points * 160);
+        for (int i = 0; i < points; i++) {
+            String metric;
+            double value;
+            switch (i % 3) {
+                case 0 -> {
+                    metric = "http_reqs";
+                    value = 1;
+                }
+                case 1 -> {
+                    // 약 1% 실패
+                    metric = "http_req_failed";
+                    value = i % 100 == 1 ? 1 : 0;
+                }
+                default -> {
+                    metric = "http_req_duration";
+                    value = 20 + (i % 997) * 0.37;
+                }
+            }
+            ndjson.append("{\"type\":\"Point\",\"data\":{\"time\":\"2024-01-01T00:00:00.123456789Z\",\"value\":")
+                    .append(value)
+                    .append(",\"tags\":{\"method\":\"GET\",\"status\":\"200\",\"url\":\"http://target/api/items\"}},")
+                    .append("\"metric\":\"").append(metric).append("\"}\n");
+        }
+        return ndjson.toString();
+    }
+
+    private static byte[] toCbor(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2);
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(json);
+             JsonGenerator generator = new CBORFactory().createGenerator(buffer)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 8);
+        try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(content);
+        }
+        return buffer.toByteArray();
+    }
+}
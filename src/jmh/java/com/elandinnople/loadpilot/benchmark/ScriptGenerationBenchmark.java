@@ -0,0 +1,35 @@
+package com.elandinnople.loadpilot.benchmark;
+
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 k6 스크립트 생성 (컨테이너마다 한 번씩 호출됨).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScriptGenerationBenchmark {
+
+    @Param({"SMOKE", "LOAD", "STRESS", "SOAK"})
+    private TestType testType;
+
+    private final K6ScriptGenerator generator = new K6ScriptGenerator();
+
+    @Benchmark
+    public String generateScript() {
+        return generator.generateScript("https://example.com/api/items", testType, 100, 300, 30);
+    }
+
+    @Benchmark
+    public String generateArrivalRateScript() {
+        return generator.generateArrivalRateScript("https://example.com/api/items",
+                TestType.RAMPING_ARRIVAL_RATE, 500, 50, 200, 300, 30);
+    }
+}
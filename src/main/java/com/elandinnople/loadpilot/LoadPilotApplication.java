@@ -1,5 +1,6 @@
 package com.elandinnople.loadpilot;
 
+import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -10,6 +11,9 @@ import org.springframework.context.annotation.Bean;
 @SpringBootApplication
 public class LoadPilotApplication {
 
+    // 결과 콜백의 원본 k6 요약(summaryJson)은 수십 MB 에 이를 수 있으므로 Jackson 기본 문자열 길이 제한(2천만 자)을 늘림
+    private static final int MAX_JSON_STRING_LENGTH = 100_000_000;
+
     public static void main(String[] args) {
         SpringApplication.run(LoadPilotApplication.class, args);
     }
@@ -17,6 +21,8 @@ public class LoadPilotApplication {
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.getFactory().setStreamReadConstraints(
+                StreamReadConstraints.builder().maxStringLength(MAX_JSON_STRING_LENGTH).build());
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return objectMapper;
@@ -0,0 +1,40 @@
+package com.elandinnople.loadpilot.common.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.elandinnople.loadpilot.common.service.AwsCallMetrics;
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.common.storage.FileSystemBlobStore;
+import com.elandinnople.loadpilot.common.storage.S3BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@Slf4j
+public class BlobStoreConfig {
+
+    /**
+     * 원본 결과 요약을 저장할 블롭 저장소 (loadtest.blob-store.type: s3 또는 filesystem)
+     */
+    @Bean
+    public BlobStore blobStore(
+            AmazonS3 amazonS3Client,
+            AwsCallMetrics awsCallMetrics,
+            @Value("${loadtest.blob-store.type:s3}") String type,
+            @Value("${aws.s3.bucket-name}") String bucketName,
+            @Value("${loadtest.blob-store.s3-prefix:blobs}") String s3Prefix,
+            @Value("${loadtest.blob-store.base-dir:${java.io.tmpdir}/loadpilot-blobs}") String baseDir) {
+        if ("filesystem".equalsIgnoreCase(type)) {
+            Path dir = Path.of(baseDir).toAbsolutePath().normalize();
+            log.info("파일 시스템 블롭 저장소 사용: {}", dir);
+            return new FileSystemBlobStore(dir);
+        }
+        if (!"s3".equalsIgnoreCase(type)) {
+            throw new IllegalStateException("Unknown blob store type: " + type);
+        }
+        return new S3BlobStore(amazonS3Client, bucketName, s3Prefix, awsCallMetrics);
+    }
+}
@@ -0,0 +1,58 @@
+package com.elandinnople.loadpilot.common.service;
+
+import com.elandinnople.loadpilot.common.util.MetricTags;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * AWS SDK 호출 시간을 서비스/오퍼레이션/결과 태그로 기록합니다 (loadpilot.aws.call).
+ * 예외는 outcome=error 로 기록한 뒤 그대로 다시 던집니다. 테스트를 알 수 있는 호출은 테스트 태그를 함께 붙입니다.
+ */
+@Component
+public class AwsCallMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public AwsCallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String service, String operation, Tags tags, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("loadpilot.aws.call")
+                    .description("AWS SDK 호출 시간")
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .tags(tags)
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(String service, String operation, Supplier<T> call) {
+        return record(service, operation, MetricTags.none(), call);
+    }
+
+    /**
+     * 업로드한 객체 크기를 기록합니다 (loadpilot.aws.upload.size).
+     */
+    public void recordUploadSize(String service, long bytes) {
+        DistributionSummary.builder("loadpilot.aws.upload.size")
+                .description("AWS 로 업로드한 객체 크기")
+                .baseUnit("bytes")
+                .tag("service", service)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+}
@@ -2,7 +2,8 @@ package com.elandinnople.loadpilot.common.service;
 
 import com.amazonaws.services.ecs.AmazonECS;
 import com.amazonaws.services.ecs.model.*;
-import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.common.util.MetricTags;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,19 +11,33 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 public class EcsService {
 
+    // DescribeTasks 한 번에 조회할 수 있는 최대 태스크 수
+    private static final int DESCRIBE_TASKS_BATCH_SIZE = 100;
+
+    // 태스크 실행 시 startedBy 에 "loadpilot-{테스트 ID}" 를 기록 (sample-lambda.js 와 동일)
+    public static final String STARTED_BY_PREFIX = "loadpilot-";
+
+    // 웜 풀 러너는 특정 테스트 없이 실행되므로 별도의 startedBy 사용
+    public static final String POOL_STARTED_BY = STARTED_BY_PREFIX + "pool";
+
     private final AmazonECS ecsClient;
     private final String clusterName;
     private final String taskDefinition;
     private final String subnetId;
     private final String securityGroupId;
+    private final AwsCallMetrics awsCallMetrics;
 
     public EcsService(
             AmazonECS ecsClient,
+            AwsCallMetrics awsCallMetrics,
             @Value("${aws.ecs.cluster}") String clusterName,
             @Value("${aws.ecs.task-definition}") String taskDefinition,
             @Value("${aws.ecs.subnet-id}") String subnetId,
@@ -32,55 +47,135 @@ public class EcsService {
         this.taskDefinition = taskDefinition;
         this.subnetId = subnetId;
         this.securityGroupId = securityGroupId;
+        this.awsCallMetrics = awsCallMetrics;
     }
 
-    public String runEcsTask(LoadTest loadTest) {
-        try {
-            // k6 스크립트 내용 준비
-            String scriptContent = loadTest.getScriptContent();
+    /**
+     * 컨테이너 하나 분량의 k6 러너 태스크를 직접 실행합니다.
+     * Lambda(sample-lambda.js) 와 같은 환경 변수와 startedBy 를 사용하므로 러너와 롤백 동작이 동일합니다.
+     *
+     * @param timeoutMillis SDK 요청 타임아웃(ms), 0 이하이면 클라이언트 기본값 사용
+     * @return 실행된 태스크 ARN
+     */
+    public String runContainerTask(LoadTestRequest request, int timeoutMillis) {
+        List<KeyValuePair> environment = new ArrayList<>();
+        environment.add(env("TARGET_URL", request.getTargetUrl()));
+        environment.add(env("VIRTUAL_USERS", String.valueOf(request.getVirtualUsers())));
+        environment.add(env("DURATION_SECONDS", String.valueOf(request.getDurationSeconds())));
+        environment.add(env("RAMP_UP_SECONDS",
+                request.getRampUpSeconds() != null ? request.getRampUpSeconds().toString() : "0"));
+        environment.add(env("TEST_ID", request.getTestId().toString()));
+        environment.add(env("SCRIPT_CONTENT", request.getScriptContent() != null ? request.getScriptContent() : ""));
+        environment.add(env("CONTAINER_INDEX", String.valueOf(request.getContainerIndex())));
+        environment.add(env("TOTAL_CONTAINERS", String.valueOf(request.getTotalContainers())));
+        environment.add(env("EXPECTED_INTERVAL_MS",
+                request.getExpectedIntervalMs() != null ? request.getExpectedIntervalMs().toString() : ""));
+        environment.add(env("RESULT_UPLOAD_URL",
+                request.getResultUploadUrl() != null ? request.getResultUploadUrl() : ""));
+        environment.add(env("RESULT_OBJECT_KEY",
+                request.getResultObjectKey() != null ? request.getResultObjectKey() : ""));
 
-            // 환경 변수 설정
-            Collection<KeyValuePair> environmentVariables = new ArrayList<>();
-            environmentVariables.add(new KeyValuePair().withName("TARGET_URL").withValue(loadTest.getTargetUrl()));
-            environmentVariables.add(new KeyValuePair().withName("VIRTUAL_USERS").withValue(loadTest.getVirtualUsers().toString()));
-            environmentVariables.add(new KeyValuePair().withName("DURATION_SECONDS").withValue(loadTest.getDurationSeconds().toString()));
+        RunTaskRequest runTaskRequest = runTaskRequest(startedBy(request.getTestId()), environment);
+        if (timeoutMillis > 0) {
+            runTaskRequest.withSdkRequestTimeout(timeoutMillis);
+        }
+        RunTaskResult runTaskResult = awsCallMetrics.record("ecs", "RunTask",
+                MetricTags.forTest(request.getTestType(), request.getTotalContainers()),
+                () -> ecsClient.runTask(runTaskRequest));
+        if (runTaskResult.getTasks().isEmpty()) {
+            throw new RuntimeException("ECS 태스크 실행 실패: " + runTaskResult.getFailures());
+        }
 
-            if (loadTest.getRampUpSeconds() != null) {
-                environmentVariables.add(new KeyValuePair().withName("RAMP_UP_SECONDS").withValue(loadTest.getRampUpSeconds().toString()));
-            }
+        String taskArn = runTaskResult.getTasks().get(0).getTaskArn();
+        log.info("ECS 태스크 실행됨: {} (테스트 ID {}, 컨테이너 #{})",
+                taskArn, request.getTestId(), request.getContainerIndex());
+        return taskArn;
+    }
 
-            environmentVariables.add(new KeyValuePair().withName("TEST_ID").withValue(loadTest.getId().toString()));
-            environmentVariables.add(new KeyValuePair().withName("SCRIPT_CONTENT").withValue(scriptContent));
+    /**
+     * 작업 없이 대기하는 웜 풀 러너 태스크를 실행합니다.
+     * 러너는 RUNNER_MODE=pool 로 시작하여 백엔드에서 작업을 폴링합니다 (entrypoint.sh 참고).
+     *
+     * @return 실행된 태스크 ARN
+     */
+    public String runPoolRunner() {
+        RunTaskResult runTaskResult = awsCallMetrics.record("ecs", "RunTask", () -> ecsClient.runTask(
+                runTaskRequest(POOL_STARTED_BY, List.of(env("RUNNER_MODE", "pool")))));
+        if (runTaskResult.getTasks().isEmpty()) {
+            throw new RuntimeException("웜 풀 러너 실행 실패: " + runTaskResult.getFailures());
+        }
 
-            // 태스크 실행 설정
-            RunTaskRequest runTaskRequest = new RunTaskRequest()
+        String taskArn = runTaskResult.getTasks().get(0).getTaskArn();
+        log.info("웜 풀 러너 실행됨: {}", taskArn);
+        return taskArn;
+    }
+
+    private RunTaskRequest runTaskRequest(String startedBy, Collection<KeyValuePair> environment) {
+        return new RunTaskRequest()
+                .withCluster(clusterName)
+                .withTaskDefinition(taskDefinition)
+                .withStartedBy(startedBy)
+                .withLaunchType(LaunchType.FARGATE)
+                .withNetworkConfiguration(new NetworkConfiguration()
+                        .withAwsvpcConfiguration(new AwsVpcConfiguration()
+                                .withSubnets(subnetId)
+                                .withSecurityGroups(securityGroupId)
+                                .withAssignPublicIp(AssignPublicIp.ENABLED)))
+                .withOverrides(new TaskOverride()
+                        .withContainerOverrides(new ContainerOverride()
+                                .withName("k6-runner")
+                                .withEnvironment(environment)));
+    }
+
+    private static KeyValuePair env(String name, String value) {
+        return new KeyValuePair().withName(name).withValue(value);
+    }
+
+    public static String startedBy(Long testId) {
+        return STARTED_BY_PREFIX + testId;
+    }
+
+    /**
+     * ECS 태스크를 중지합니다.
+     */
+    public void stopTask(String taskId, String reason) {
+        try {
+            awsCallMetrics.record("ecs", "StopTask", () -> ecsClient.stopTask(new StopTaskRequest()
                     .withCluster(clusterName)
-                    .withTaskDefinition(taskDefinition)
-                    .withLaunchType(LaunchType.FARGATE)
-                    .withNetworkConfiguration(new NetworkConfiguration()
-                            .withAwsvpcConfiguration(new AwsVpcConfiguration()
-                                    .withSubnets(subnetId)
-                                    .withSecurityGroups(securityGroupId)
-                                    .withAssignPublicIp(AssignPublicIp.ENABLED)))
-                    .withOverrides(new TaskOverride()
-                            .withContainerOverrides(new ContainerOverride()
-                                    .withName("k6-runner")
-                                    .withEnvironment(environmentVariables)));
-
-            RunTaskResult runTaskResult = ecsClient.runTask(runTaskRequest);
-
-            if (runTaskResult.getTasks().isEmpty()) {
-                throw new RuntimeException("ECS 태스크 실행 실패");
-            }
+                    .withTask(taskId)
+                    .withReason(reason)));
+            log.info("ECS 태스크 중지됨: {}", taskId);
+        } catch (Exception e) {
+            log.error("ECS 태스크 중지 중 오류 ({}): {}", taskId, e.getMessage());
+        }
+    }
 
-            String taskId = runTaskResult.getTasks().get(0).getTaskArn();
-            log.info("ECS 태스크 실행됨: {}", taskId);
+    /**
+     * 테스트에 대해 실행된 모든 ECS 태스크를 startedBy 기준으로 조회하여 중지합니다.
+     * 실행 요청이 타임아웃되어 태스크 ARN 을 받지 못한 경우에도 정리할 수 있습니다.
+     *
+     * @return 중지 요청한 태스크 수
+     */
+    public int stopTasksStartedBy(Long testId, String reason) {
+        int stopped = 0;
+        try {
+            ListTasksRequest listTasksRequest = new ListTasksRequest()
+                    .withCluster(clusterName)
+                    .withStartedBy(startedBy(testId));
 
-            return taskId;
+            ListTasksResult result;
+            do {
+                result = awsCallMetrics.record("ecs", "ListTasks", () -> ecsClient.listTasks(listTasksRequest));
+                for (String taskArn : result.getTaskArns()) {
+                    stopTask(taskArn, reason);
+                    stopped++;
+                }
+                listTasksRequest.setNextToken(result.getNextToken());
+            } while (result.getNextToken() != null);
         } catch (Exception e) {
-            log.error("ECS 태스크 실행 중 오류: {}", e.getMessage());
-            throw new RuntimeException("ECS 태스크 실행 중 오류가 발생했습니다.", e);
+            log.error("테스트 ID {} 의 ECS 태스크 조회 중 오류: {}", testId, e.getMessage());
         }
+        return stopped;
     }
 
     public TaskStatus getTaskStatus(String taskId) {
@@ -89,35 +184,74 @@ public class EcsService {
                     .withCluster(clusterName)
                     .withTasks(taskId);
 
-            DescribeTasksResult describeTasksResult = ecsClient.describeTasks(describeTasksRequest);
+            DescribeTasksResult describeTasksResult = awsCallMetrics.record("ecs", "DescribeTasks",
+                    () -> ecsClient.describeTasks(describeTasksRequest));
 
             if (describeTasksResult.getTasks().isEmpty()) {
                 return TaskStatus.UNKNOWN;
             }
 
-            Task task = describeTasksResult.getTasks().get(0);
-            String lastStatus = task.getLastStatus();
-
-            switch (lastStatus) {
-                case "PROVISIONING":
-                case "PENDING":
-                    return TaskStatus.PENDING;
-                case "RUNNING":
-                    return TaskStatus.RUNNING;
-                case "STOPPED":
-                    // Stopped 상태에서 exitCode 확인
-                    if (task.getContainers().get(0).getExitCode() != null &&
-                            task.getContainers().get(0).getExitCode() == 0) {
-                        return TaskStatus.COMPLETED;
-                    } else {
-                        return TaskStatus.FAILED;
-                    }
-                default:
-                    return TaskStatus.UNKNOWN;
-            }
+            return toTaskStatus(describeTasksResult.getTasks().get(0));
         } catch (Exception e) {
             log.error("태스크 상태 조회 중 오류: {}", e.getMessage());
             return TaskStatus.UNKNOWN;
         }
     }
+
+    /**
+     * 여러 태스크의 상태를 DescribeTasks 호출당 최대 100개씩 묶어 조회합니다.
+     * 조회에 실패했거나 ECS 에서 찾을 수 없는 태스크는 결과에 포함되지 않습니다.
+     *
+     * @param taskIds 조회할 태스크 ARN 목록
+     * @return 태스크 ARN 별 상태
+     */
+    public Map<String, TaskStatus> describeTaskStatuses(Collection<String> taskIds) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        List<String> ids = new ArrayList<>(taskIds);
+
+        for (int from = 0; from < ids.size(); from += DESCRIBE_TASKS_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + DESCRIBE_TASKS_BATCH_SIZE, ids.size()));
+            try {
+                DescribeTasksResult result = awsCallMetrics.record("ecs", "DescribeTasks",
+                        () -> ecsClient.describeTasks(new DescribeTasksRequest()
+                                .withCluster(clusterName)
+                                .withTasks(batch)));
+                for (Task task : result.getTasks()) {
+                    statuses.put(task.getTaskArn(), toTaskStatus(task));
+                }
+                for (Failure failure : result.getFailures()) {
+                    log.warn("태스크 상태 조회 실패 ({}): {}", failure.getArn(), failure.getReason());
+                }
+            } catch (Exception e) {
+                log.error("태스크 상태 일괄 조회 중 오류: {}", e.getMessage());
+            }
+        }
+        return statuses;
+    }
+
+    private TaskStatus toTaskStatus(Task task) {
+        String lastStatus = task.getLastStatus();
+        if (lastStatus == null) {
+            return TaskStatus.UNKNOWN;
+        }
+
+        switch (lastStatus) {
+            case "PROVISIONING":
+            case "PENDING":
+                return TaskStatus.PENDING;
+            case "RUNNING":
+                return TaskStatus.RUNNING;
+            case "STOPPED":
+                // Stopped 상태에서 exitCode 확인
+                if (!task.getContainers().isEmpty() &&
+                        task.getContainers().get(0).getExitCode() != null &&
+                        task.getContainers().get(0).getExitCode() == 0) {
+                    return TaskStatus.COMPLETED;
+                } else {
+                    return TaskStatus.FAILED;
+                }
+            default:
+                return TaskStatus.UNKNOWN;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.amazonaws.services.lambda.AWSLambda;
 import com.amazonaws.services.lambda.model.InvokeRequest;
 import com.amazonaws.services.lambda.model.InvokeResult;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.LambdaResponse;
+import com.elandinnople.loadpilot.common.util.MetricTags;
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -18,24 +19,45 @@ public class LambdaService {
 
     private final AWSLambda lambdaClient;
     private final String functionName;
+    private final ObjectMapper objectMapper;
+    private final AwsCallMetrics awsCallMetrics;
 
     public LambdaService(
             AWSLambda lambdaClient,
-            @Value("${aws.lambda.function-name}") String functionName) {
+            @Value("${aws.lambda.function-name}") String functionName,
+            ObjectMapper objectMapper,
+            AwsCallMetrics awsCallMetrics) {
         this.lambdaClient = lambdaClient;
         this.functionName = functionName;
+        this.objectMapper = objectMapper;
+        this.awsCallMetrics = awsCallMetrics;
     }
 
     public String invokeEcsTask(LoadTestRequest request) {
+        return invokeEcsTask(request, 0);
+    }
+
+    /**
+     * 요청 타임아웃을 지정하여 Lambda 를 호출합니다.
+     *
+     * @param request 컨테이너 실행 요청
+     * @param timeoutMillis SDK 요청 타임아웃(ms), 0 이하이면 클라이언트 기본값 사용
+     * @return 시작된 ECS 태스크 ARN
+     */
+    public String invokeEcsTask(LoadTestRequest request, int timeoutMillis) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             String payload = objectMapper.writeValueAsString(request);
 
             InvokeRequest invokeRequest = new InvokeRequest()
                     .withFunctionName(functionName)
                     .withPayload(payload);
+            if (timeoutMillis > 0) {
+                invokeRequest.withSdkRequestTimeout(timeoutMillis);
+            }
 
-            InvokeResult invokeResult = lambdaClient.invoke(invokeRequest);
+            InvokeResult invokeResult = awsCallMetrics.record("lambda", "Invoke",
+                    MetricTags.forTest(request.getTestType(), request.getTotalContainers()),
+                    () -> lambdaClient.invoke(invokeRequest));
 
             if (invokeResult.getFunctionError() != null) {
                 log.error("Lambda 함수 실행 오류: {}", invokeResult.getFunctionError());
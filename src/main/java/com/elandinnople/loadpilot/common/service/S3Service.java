@@ -2,12 +2,14 @@ package com.elandinnople.loadpilot.common.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,25 +19,15 @@ public class S3Service {
 
     private final AmazonS3 s3Client;
     private final String bucketName;
+    private final AwsCallMetrics awsCallMetrics;
 
     public S3Service(
             AmazonS3 s3Client,
-            @Value("${aws.s3.bucket-name}") String bucketName) {
+            @Value("${aws.s3.bucket-name}") String bucketName,
+            AwsCallMetrics awsCallMetrics) {
         this.s3Client = s3Client;
         this.bucketName = bucketName;
-    }
-
-    public String uploadTestResult(Long testId, String resultJson) {
-        try {
-            String key = String.format("results/%d/summary.json", testId);
-            s3Client.putObject(bucketName, key, resultJson);
-
-            // S3 객체에 대한 URL 생성
-            return String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
-        } catch (Exception e) {
-            log.error("S3 업로드 중 오류: {}", e.getMessage());
-            throw new RuntimeException("테스트 결과 업로드 중 오류가 발생했습니다.", e);
-        }
+        this.awsCallMetrics = awsCallMetrics;
     }
 
     public String getResultUrl(Long testId) {
@@ -43,20 +35,40 @@ public class S3Service {
         return String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
     }
 
-    // 파일명을 지정할 수 있는 메서드 추가
-    public String uploadTestResult(Long testId, String resultJson, String fileName) {
+    /**
+     * 로컬 파일을 테스트 결과 경로(results/{testId}/{fileName})에 업로드합니다.
+     */
+    public void uploadTestResultFile(Long testId, String fileName, Path file) {
         try {
             String key = String.format("results/%d/%s", testId, fileName);
-            s3Client.putObject(bucketName, key, resultJson);
-
-            // S3 객체에 대한 URL 생성
-            return String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
+            awsCallMetrics.record("s3", "PutObject", () -> s3Client.putObject(bucketName, key, file.toFile()));
+            awsCallMetrics.recordUploadSize("s3", file.toFile().length());
         } catch (Exception e) {
             log.error("S3 업로드 중 오류: {}", e.getMessage());
             throw new RuntimeException("테스트 결과 업로드 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 테스트 결과 파일을 로컬 경로로 내려받습니다.
+     *
+     * @return 객체가 없으면 false
+     */
+    public boolean downloadTestResultFile(Long testId, String fileName, Path target) {
+        String key = String.format("results/%d/%s", testId, fileName);
+        try {
+            if (!awsCallMetrics.record("s3", "HeadObject", () -> s3Client.doesObjectExist(bucketName, key))) {
+                return false;
+            }
+            awsCallMetrics.record("s3", "GetObject",
+                    () -> s3Client.getObject(new GetObjectRequest(bucketName, key), target.toFile()));
+            return true;
+        } catch (Exception e) {
+            log.error("S3 다운로드 중 오류: {}", e.getMessage());
+            throw new RuntimeException("테스트 결과 다운로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
     /**
      * 테스트 결과 파일을 S3에서 삭제하는 메서드
      */
@@ -71,7 +83,7 @@ public class S3Service {
 
             ListObjectsV2Result result;
             do {
-                result = s3Client.listObjectsV2(listObjectsRequest);
+                result = awsCallMetrics.record("s3", "ListObjectsV2", () -> s3Client.listObjectsV2(listObjectsRequest));
 
                 // 조회된 파일들 삭제
                 List<DeleteObjectsRequest.KeyVersion> keys = result.getObjectSummaries().stream()
@@ -81,7 +93,7 @@ public class S3Service {
                 if (!keys.isEmpty()) {
                     DeleteObjectsRequest deleteRequest = new DeleteObjectsRequest(bucketName)
                             .withKeys(keys);
-                    s3Client.deleteObjects(deleteRequest);
+                    awsCallMetrics.record("s3", "DeleteObjects", () -> s3Client.deleteObjects(deleteRequest));
                     log.info("Deleted {} objects from S3 for test ID {}", keys.size(), testId);
                 }
 
@@ -0,0 +1,47 @@
+package com.elandinnople.loadpilot.common.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 해시 계산과 압축을 담당하고 실제 읽기/쓰기는 저장소 구현에 맡깁니다.
+ */
+abstract class AbstractBlobStore implements BlobStore {
+
+    @Override
+    public StoredBlob store(byte[] content) {
+        String sha256 = sha256(content);
+        // 앞 두 글자로 디렉터리를 나눠 한 디렉터리(접두어)에 객체가 몰리지 않게 함
+        String key = "sha256/" + sha256.substring(0, 2) + "/" + sha256;
+        byte[] compressed = gzip(content);
+        if (!exists(key)) {
+            write(key, compressed);
+        }
+        return new StoredBlob(key, content.length, compressed.length, sha256);
+    }
+
+    protected abstract void write(String key, byte[] compressed);
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
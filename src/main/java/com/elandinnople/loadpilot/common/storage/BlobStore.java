@@ -0,0 +1,45 @@
+package com.elandinnople.loadpilot.common.storage;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 내용 주소 기반(content-addressed) 블롭 저장소.
+ * <p>
+ * 블롭은 원본의 SHA-256 으로 키가 정해지고 gzip 으로 압축되어 저장되므로, 같은 내용은 한 번만 저장됩니다.
+ * 러너가 직접 업로드하는 블롭은 예외적으로 호출자가 정한 키(테스트/컨테이너별)에 이미 압축된 상태로 저장됩니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 내용을 압축하여 저장합니다. 같은 키의 블롭이 이미 있으면 다시 쓰지 않습니다.
+     *
+     * @return 저장된 블롭의 키, 원본 크기, 체크섬
+     */
+    StoredBlob store(byte[] content);
+
+    /**
+     * 저장된 블롭의 gzip 압축 스트림을 엽니다. 호출자가 스트림을 닫아야 합니다.
+     *
+     * @throws IllegalStateException 블롭이 없는 경우
+     */
+    InputStream openCompressed(String key);
+
+    boolean exists(String key);
+
+    /**
+     * 러너가 백엔드를 거치지 않고 gzip 압축된 블롭을 지정한 키로 직접 PUT 할 수 있는 URL 을 발급합니다.
+     *
+     * @return 저장소가 직접 업로드 URL 을 발급할 수 없으면 빈 값 (백엔드 업로드 엔드포인트를 대신 사용)
+     */
+    Optional<URL> createUploadUrl(String key, Duration ttl);
+
+    /**
+     * 이미 gzip 압축된 스트림을 그대로 지정한 키에 저장합니다. 호출자가 스트림을 닫아야 합니다.
+     */
+    void storeCompressed(String key, InputStream compressed);
+
+    void delete(String key);
+}
@@ -0,0 +1,103 @@
+package com.elandinnople.loadpilot.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 로컬 디렉터리에 블롭을 저장합니다 (개발/단일 서버용).
+ * 임시 파일에 쓴 뒤 원자적으로 이동하므로 동시에 같은 블롭을 써도 부분 파일이 보이지 않습니다.
+ * 직접 업로드 URL 은 발급하지 않으므로 러너 업로드는 백엔드 업로드 엔드포인트가 {@link #storeCompressed} 로 받습니다.
+ */
+@Slf4j
+public class FileSystemBlobStore extends AbstractBlobStore {
+
+    private final Path baseDir;
+
+    public FileSystemBlobStore(Path baseDir) {
+        this.baseDir = baseDir;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    protected void write(String key, byte[] compressed) {
+        write(key, temp -> Files.write(temp, compressed));
+    }
+
+    @Override
+    public Optional<URL> createUploadUrl(String key, Duration ttl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void storeCompressed(String key, InputStream compressed) {
+        write(key, temp -> Files.copy(compressed, temp, StandardCopyOption.REPLACE_EXISTING));
+    }
+
+    @Override
+    public InputStream openCompressed(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Blob not found: " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("블롭 삭제 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    private void write(String key, TempFileWriter writer) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), "blob-", ".tmp");
+            writer.write(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // 스트림 업로드가 중간에 끊긴 경우 남은 임시 파일 정리
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 원래 예외를 전달
+                }
+            }
+            throw new UncheckedIOException("블롭 저장 실패: " + key, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TempFileWriter {
+        void write(Path temp) throws IOException;
+    }
+
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,113 @@
+package com.elandinnople.loadpilot.common.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.elandinnople.loadpilot.common.service.AwsCallMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * S3 버킷의 지정된 접두어 아래에 블롭을 저장합니다.
+ * 러너 업로드에는 PUT 사전 서명 URL 을 발급하므로 업로드 트래픽이 백엔드를 거치지 않습니다.
+ */
+@Slf4j
+public class S3BlobStore extends AbstractBlobStore {
+
+    private final AmazonS3 s3Client;
+    private final String bucketName;
+    private final String prefix;
+    private final AwsCallMetrics awsCallMetrics;
+
+    public S3BlobStore(AmazonS3 s3Client, String bucketName, String prefix, AwsCallMetrics awsCallMetrics) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        this.awsCallMetrics = awsCallMetrics;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return awsCallMetrics.record("s3", "HeadObject", () -> s3Client.doesObjectExist(bucketName, prefix + key));
+    }
+
+    @Override
+    protected void write(String key, byte[] compressed) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(compressed.length);
+        metadata.setContentType("application/json");
+        metadata.setContentEncoding("gzip");
+        awsCallMetrics.record("s3", "PutObject",
+                () -> s3Client.putObject(bucketName, prefix + key, new ByteArrayInputStream(compressed), metadata));
+        awsCallMetrics.recordUploadSize("s3", compressed.length);
+    }
+
+    // 서명은 로컬에서 계산되므로 AWS 호출이 아님
+    @Override
+    public Optional<URL> createUploadUrl(String key, Duration ttl) {
+        Date expiration = new Date(System.currentTimeMillis() + ttl.toMillis());
+        return Optional.of(s3Client.generatePresignedUrl(bucketName, prefix + key, expiration, HttpMethod.PUT));
+    }
+
+    // 길이를 모르는 스트림을 PutObject 로 올리면 SDK 가 전체를 메모리에 버퍼링하므로 임시 파일에 받은 뒤 파일로 업로드
+    @Override
+    public void storeCompressed(String key, InputStream compressed) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("blob-upload-", ".gz");
+            Files.copy(compressed, temp, StandardCopyOption.REPLACE_EXISTING);
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(Files.size(temp));
+            metadata.setContentEncoding("gzip");
+            PutObjectRequest request = new PutObjectRequest(bucketName, prefix + key, temp.toFile())
+                    .withMetadata(metadata);
+            awsCallMetrics.record("s3", "PutObject", () -> s3Client.putObject(request));
+            awsCallMetrics.recordUploadSize("s3", metadata.getContentLength());
+        } catch (IOException e) {
+            throw new UncheckedIOException("블롭 저장 실패: " + key, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("임시 파일 삭제 실패: {} ({})", temp, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public InputStream openCompressed(String key) {
+        try {
+            return awsCallMetrics.record("s3", "GetObject", () -> s3Client.getObject(bucketName, prefix + key))
+                    .getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalStateException("Blob not found: " + key);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(bucketName, prefix + key);
+        } catch (RuntimeException e) {
+            log.warn("블롭 삭제 실패: {} ({})", key, e.getMessage());
+        }
+    }
+}
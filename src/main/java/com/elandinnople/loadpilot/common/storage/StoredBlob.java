@@ -0,0 +1,13 @@
+package com.elandinnople.loadpilot.common.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredBlob {
+    private final String key;
+    private final long size; // 압축 전 원본 크기(bytes)
+    private final long compressedSize;
+    private final String sha256; // 원본의 SHA-256 (16진수)
+}
@@ -9,6 +9,9 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class K6ScriptGenerator {
 
+    // 닫힌 모델 기본 스크립트의 반복 사이 대기 시간(초)
+    public static final int ITERATION_PAUSE_SECONDS = 1;
+
     /**
      * 테스트 유형에 따라 기본 k6 스크립트를 생성합니다.
      *
@@ -23,19 +26,7 @@ public class K6ScriptGenerator {
                                  int virtualUsers, int durationSeconds, Integer rampUpSeconds) {
 
         StringBuilder script = new StringBuilder();
-
-        script.append("import http from 'k6/http';\n");
-        script.append("import { check, sleep } from 'k6';\n");
-        script.append("import { Counter } from 'k6/metrics';\n");
-        script.append("import { Rate } from 'k6/metrics';\n\n");
-
-        // 사용자 정의 메트릭 설정
-        script.append("// 사용자 정의 메트릭\n");
-        script.append("const errors = new Counter('errors');\n");
-        script.append("const successRate = new Rate('success_rate');\n\n");
-
-        // 테스트 옵션 생성
-        script.append("export const options = {\n");
+        appendHeader(script);
 
         // 테스트 유형별 다른 설정 적용
         switch (testType) {
@@ -102,8 +93,84 @@ public class K6ScriptGenerator {
                 script.append("    { duration: '30s', target: 0 },\n");
                 script.append("  ],\n");
                 break;
+
+            default:
+                throw new IllegalArgumentException(
+                        "Arrival-rate test types must use generateArrivalRateScript: " + testType);
         }
 
+        appendFooter(script, targetUrl, true);
+        return script.toString();
+    }
+
+    /**
+     * 개방형 모델(arrival-rate) 스크립트를 생성합니다.
+     * 반복 시작 간격이 응답 시간과 무관하므로 대상 시스템이 느려져도 요청률이 유지되며,
+     * VU 가 부족해 시작하지 못한 반복은 k6 의 dropped_iterations 메트릭으로 집계됩니다.
+     *
+     * @param targetUrl 대상 URL
+     * @param testType 테스트 유형 (CONSTANT_ARRIVAL_RATE, RAMPING_ARRIVAL_RATE)
+     * @param targetRps 초당 목표 반복(요청) 수
+     * @param preAllocatedVUs 미리 할당할 VU 수
+     * @param maxVUs 최대 VU 수
+     * @param durationSeconds 목표 요청률 유지 시간(초)
+     * @param rampUpSeconds 목표 요청률까지 증가 시간(초, RAMPING_ARRIVAL_RATE 전용)
+     * @return 생성된 k6 스크립트
+     */
+    public String generateArrivalRateScript(String targetUrl, TestType testType, int targetRps,
+                                            int preAllocatedVUs, int maxVUs,
+                                            int durationSeconds, Integer rampUpSeconds) {
+        StringBuilder script = new StringBuilder();
+        appendHeader(script);
+
+        script.append("  scenarios: {\n");
+        script.append("    arrival: {\n");
+        if (testType == TestType.RAMPING_ARRIVAL_RATE) {
+            // 0 에서 목표 요청률까지 증가 후 유지
+            script.append("      executor: 'ramping-arrival-rate',\n");
+            script.append("      startRate: 0,\n");
+            script.append("      timeUnit: '1s',\n");
+            script.append("      preAllocatedVUs: ").append(preAllocatedVUs).append(",\n");
+            script.append("      maxVUs: ").append(maxVUs).append(",\n");
+            script.append("      stages: [\n");
+            if (rampUpSeconds != null && rampUpSeconds > 0) {
+                script.append("        { duration: '").append(rampUpSeconds).append("s', target: ").append(targetRps).append(" },\n");
+            }
+            script.append("        { duration: '").append(durationSeconds).append("s', target: ").append(targetRps).append(" },\n");
+            script.append("      ],\n");
+        } else {
+            // 테스트 기간 동안 일정한 요청률 유지
+            script.append("      executor: 'constant-arrival-rate',\n");
+            script.append("      rate: ").append(targetRps).append(",\n");
+            script.append("      timeUnit: '1s',\n");
+            script.append("      duration: '").append(durationSeconds).append("s',\n");
+            script.append("      preAllocatedVUs: ").append(preAllocatedVUs).append(",\n");
+            script.append("      maxVUs: ").append(maxVUs).append(",\n");
+        }
+        script.append("    },\n");
+        script.append("  },\n");
+
+        // 도착률 모델에서는 반복 사이 대기가 요청률을 바꾸지 못하고 VU 만 점유하므로 sleep 을 넣지 않음
+        appendFooter(script, targetUrl, false);
+        return script.toString();
+    }
+
+    private void appendHeader(StringBuilder script) {
+        script.append("import http from 'k6/http';\n");
+        script.append("import { check, sleep } from 'k6';\n");
+        script.append("import { Counter } from 'k6/metrics';\n");
+        script.append("import { Rate } from 'k6/metrics';\n\n");
+
+        // 사용자 정의 메트릭 설정
+        script.append("// 사용자 정의 메트릭\n");
+        script.append("const errors = new Counter('errors');\n");
+        script.append("const successRate = new Rate('success_rate');\n\n");
+
+        // 테스트 옵션 생성
+        script.append("export const options = {\n");
+    }
+
+    private void appendFooter(StringBuilder script, String targetUrl, boolean sleepBetweenRequests) {
         // 공통 옵션 설정
         script.append("  thresholds: {\n");
         script.append("    http_req_duration: ['p(95)<500'], // 95% 요청은 500ms 이내 응답\n");
@@ -130,13 +197,13 @@ public class K6ScriptGenerator {
         script.append("  if (!success) {\n");
         script.append("    errors.add(1);\n");
         script.append("  }\n");
-        script.append("  successRate.add(success);\n\n");
+        script.append("  successRate.add(success);\n");
 
-        script.append("  // 요청 간 짧은 대기 시간 추가\n");
-        script.append("  sleep(1);\n");
+        if (sleepBetweenRequests) {
+            script.append("\n  // 요청 간 짧은 대기 시간 추가\n");
+            script.append("  sleep(").append(ITERATION_PAUSE_SECONDS).append(");\n");
+        }
         script.append("}\n");
-
-        return script.toString();
     }
 
     /**
@@ -151,6 +218,18 @@ public class K6ScriptGenerator {
             return loadTest.getScriptContent();
         }
 
+        if (loadTest.getTestType().isArrivalRate()) {
+            return generateArrivalRateScript(
+                    loadTest.getTargetUrl(),
+                    loadTest.getTestType(),
+                    loadTest.getTargetRps(),
+                    loadTest.getPreAllocatedVUs(),
+                    loadTest.getMaxVUs(),
+                    loadTest.getDurationSeconds(),
+                    loadTest.getRampUpSeconds()
+            );
+        }
+
         // 기본 스크립트 생성
         return generateScript(
                 loadTest.getTargetUrl(),
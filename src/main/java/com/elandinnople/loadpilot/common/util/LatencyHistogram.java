@@ -0,0 +1,301 @@
+package com.elandinnople.loadpilot.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 로그 버킷 기반 지연시간 히스토그램.
+ * <p>
+ * 버킷 경계가 {@link #GAMMA} 배씩 증가하므로 분위수 값은 상대 오차 1% 이내로 보장됩니다.
+ * 러너와 집계기가 같은 버킷 체계를 사용하기 때문에 컨테이너별 히스토그램은 카운트를 더하는 것만으로 병합됩니다.
+ * 이 클래스는 스레드 안전하지 않습니다.
+ */
+public class LatencyHistogram {
+
+    // 버킷 i 는 (MIN_TRACKABLE_MS * GAMMA^(i-1), MIN_TRACKABLE_MS * GAMMA^i] 구간을 담당
+    public static final double GAMMA = 1.02;
+    public static final double MIN_TRACKABLE_MS = 0.001;
+    public static final double MAX_TRACKABLE_MS = 3_600_000;
+
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    public static final int BUCKET_COUNT =
+            (int) Math.ceil(Math.log(MAX_TRACKABLE_MS / MIN_TRACKABLE_MS) / LOG_GAMMA) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private double minValue = Double.MAX_VALUE;
+    private double maxValue = 0;
+
+    /**
+     * 지연시간(ms)이 속하는 버킷 인덱스를 계산합니다.
+     * entrypoint.sh 의 jq 버킷 계산식과 동일해야 합니다.
+     */
+    public static int bucketIndex(double valueMs) {
+        if (valueMs <= MIN_TRACKABLE_MS) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(valueMs / MIN_TRACKABLE_MS) / LOG_GAMMA);
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 버킷의 대표값(ms). 버킷 상/하한 대비 상대 오차가 최소가 되는 지점을 사용합니다.
+     */
+    public static double bucketValue(int index) {
+        if (index <= 0) {
+            return MIN_TRACKABLE_MS;
+        }
+        return MIN_TRACKABLE_MS * 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    public void recordValue(double valueMs) {
+        recordValue(valueMs, 1);
+    }
+
+    public void recordValue(double valueMs, long count) {
+        if (count <= 0 || Double.isNaN(valueMs)) {
+            return;
+        }
+        counts[bucketIndex(valueMs)] += count;
+        totalCount += count;
+        minValue = Math.min(minValue, valueMs);
+        maxValue = Math.max(maxValue, valueMs);
+    }
+
+    /**
+     * 다른 히스토그램의 카운트를 현재 히스토그램에 합산합니다.
+     */
+    public void add(LatencyHistogram other) {
+        if (other == null || other.totalCount == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    /**
+     * 러너가 전송한 희소 버킷 카운트(버킷 인덱스 -> 카운트)를 합산합니다.
+     * 최소/최대값은 버킷 대표값으로 근사합니다.
+     */
+    public void addBucketCounts(Map<Integer, Long> bucketCounts) {
+        if (bucketCounts == null) {
+            return;
+        }
+        for (Map.Entry<Integer, Long> entry : bucketCounts.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            addToBucket(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 버킷 인덱스에 카운트를 직접 더합니다. 범위를 벗어난 인덱스는 양 끝 버킷으로 보정됩니다.
+     */
+    public void addToBucket(int index, long count) {
+        if (count <= 0) {
+            return;
+        }
+        int bucket = Math.max(0, Math.min(index, BUCKET_COUNT - 1));
+        counts[bucket] += count;
+        totalCount += count;
+        double value = bucketValue(bucket);
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+    }
+
+    public long getBucketCount(int index) {
+        return counts[index];
+    }
+
+    /**
+     * 주어진 백분위(0~100)에 해당하는 지연시간(ms)을 반환합니다.
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.max(0, Math.min(percentile, 100));
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100.0 * totalCount));
+
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.max(minValue, Math.min(bucketValue(i), maxValue));
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * 버킷 대표값으로 근사한 평균 지연시간(ms)을 반환합니다.
+     */
+    public double getMean() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                sum += bucketValue(i) * counts[i];
+            }
+        }
+        return sum / totalCount;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        minValue = Double.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * 조정 누락(coordinated omission)을 보정한 사본을 반환합니다.
+     * <p>
+     * 응답이 예상 요청 간격보다 오래 걸렸다면 그동안 보내지 못한 요청들은 (값 - 간격), (값 - 2*간격), ... 만큼 기다렸을 것이므로
+     * 간격 이상인 해당 값들을 원래 값과 같은 횟수만큼 추가합니다 (HdrHistogram copyCorrectedForCoordinatedOmission 과 같은 방식).
+     * 버킷 대표값 기준으로 계산하며, 보정값은 버킷 구간 단위로 한꺼번에 더하므로 비용은 응답 시간 크기와 무관합니다.
+     *
+     * @param expectedIntervalMs 가상 사용자 하나의 예상 요청 간격(ms). 0 이하이면 보정하지 않은 사본을 반환
+     */
+    public LatencyHistogram copyCorrectedForCoordinatedOmission(double expectedIntervalMs) {
+        LatencyHistogram corrected = copy();
+        if (expectedIntervalMs <= 0 || totalCount == 0) {
+            return corrected;
+        }
+
+        int firstBucket = bucketIndex(expectedIntervalMs);
+        for (int i = firstBucket; i < BUCKET_COUNT; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            double value = bucketValue(i);
+            // 추가할 값: value - k * interval (1 <= k <= maxK, 값은 interval 이상)
+            long maxK = (long) Math.floor(value / expectedIntervalMs) - 1;
+            if (maxK < 1) {
+                continue;
+            }
+            for (int j = firstBucket; j <= i; j++) {
+                double lower = j == 0 ? 0 : MIN_TRACKABLE_MS * Math.pow(GAMMA, j - 1);
+                double upper = MIN_TRACKABLE_MS * Math.pow(GAMMA, j);
+                // lower < value - k * interval <= upper 를 만족하는 k 의 개수
+                long fromK = Math.max(1, (long) Math.ceil((value - upper) / expectedIntervalMs));
+                long toK = Math.min(maxK, (long) Math.ceil((value - lower) / expectedIntervalMs) - 1);
+                if (toK >= fromK) {
+                    corrected.addToBucket(j, (toK - fromK + 1) * counts[i]);
+                }
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 0이 아닌 버킷만 담은 희소 맵(버킷 인덱스 -> 카운트)을 반환합니다.
+     */
+    public Map<Integer, Long> toBucketCounts() {
+        Map<Integer, Long> result = new TreeMap<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                result.put(i, counts[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 히스토그램을 DB/JSON 저장용 문자열로 직렬화합니다.
+     * 형식: Base64( min(double) | max(double) | [버킷 인덱스 증분(varint), 카운트(varint)]* )
+     */
+    public String encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(Double.BYTES * 2);
+        header.putDouble(getMinValue());
+        header.putDouble(maxValue);
+        out.writeBytes(header.array());
+
+        int previous = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                writeVarLong(out, i - previous);
+                writeVarLong(out, counts[i]);
+                previous = i;
+            }
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * {@link #encode()} 로 직렬화된 문자열을 히스토그램으로 복원합니다.
+     */
+    public static LatencyHistogram decode(String encoded) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (encoded == null || encoded.isEmpty()) {
+            return histogram;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+
+        int index = 0;
+        while (buffer.hasRemaining()) {
+            index += (int) readVarLong(buffer);
+            long count = readVarLong(buffer);
+            histogram.counts[Math.min(index, BUCKET_COUNT - 1)] += count;
+            histogram.totalCount += count;
+        }
+        if (histogram.totalCount > 0) {
+            histogram.minValue = min;
+            histogram.maxValue = max;
+        }
+        return histogram;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,55 @@
+package com.elandinnople.loadpilot.common.util;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * 메트릭에 공통으로 붙이는 테스트 태그.
+ * <p>
+ * 컨테이너 수는 그대로 태그로 쓰면 시계열 수가 컨테이너 수만큼 늘어나므로 구간으로 묶습니다.
+ * Prometheus 는 같은 이름의 메트릭이 같은 태그 키를 갖도록 요구하므로, 특정 테스트와 무관한 측정에는 {@link #none()} 을 사용합니다.
+ */
+public final class MetricTags {
+
+    public static final String TEST_TYPE = "test_type";
+    public static final String CONTAINERS = "containers";
+
+    private static final String UNKNOWN = "unknown";
+    private static final String NONE = "none";
+
+    private MetricTags() {
+    }
+
+    public static Tags forTest(TestType testType, Integer containerCount) {
+        return Tags.of(
+                TEST_TYPE, testType != null ? testType.name() : UNKNOWN,
+                CONTAINERS, containerBucket(containerCount));
+    }
+
+    // 특정 테스트와 무관한 측정 (웜 풀 러너 실행, 일괄 상태 조회 등)
+    public static Tags none() {
+        return Tags.of(TEST_TYPE, NONE, CONTAINERS, NONE);
+    }
+
+    /**
+     * 컨테이너 수 구간 (1, 2-5, 6-20, 21-100, 101+)
+     */
+    public static String containerBucket(Integer containerCount) {
+        if (containerCount == null || containerCount < 1) {
+            return UNKNOWN;
+        }
+        if (containerCount == 1) {
+            return "1";
+        }
+        if (containerCount <= 5) {
+            return "2-5";
+        }
+        if (containerCount <= 20) {
+            return "6-20";
+        }
+        if (containerCount <= 100) {
+            return "21-100";
+        }
+        return "101+";
+    }
+}
@@ -0,0 +1,71 @@
+package com.elandinnople.loadpilot.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 가상 사용자 수나 목표 처리량 같은 부하량을 컨테이너별로 나눕니다.
+ * <p>
+ * 가중치 비율로 나눈 뒤 버려진 소수부가 큰 순서대로 1씩 더 주는 최대 잉여(largest remainder) 방식을 사용하므로
+ * 분배 결과의 합은 항상 전체 부하량과 같고, 각 컨테이너 몫은 이상적인 비율 대비 오차가 1 미만입니다.
+ * 나머지를 마지막 컨테이너에 몰아주는 방식과 달리 컨테이너 수가 많아도 특정 컨테이너에 부하가 쏠리지 않습니다.
+ */
+public final class WorkloadSharder {
+
+    private WorkloadSharder() {
+    }
+
+    /**
+     * 전체 부하량을 균등하게 나눕니다.
+     */
+    public static int[] split(int total, int shards) {
+        int[] weights = new int[shards];
+        Arrays.fill(weights, 1);
+        return split(total, weights, 0);
+    }
+
+    /**
+     * 전체 부하량을 가중치 비율로 나눕니다.
+     *
+     * @param total 전체 부하량
+     * @param weights 컨테이너별 가중치 (모두 1 이상)
+     * @param minPerShard 컨테이너마다 보장할 최소 몫. 전체 부하량이 부족하면 가능한 만큼만 보장합니다.
+     * @return 컨테이너 순서의 몫 (합계 = total)
+     */
+    public static int[] split(int total, int[] weights, int minPerShard) {
+        int shards = weights.length;
+        int[] shares = new int[shards];
+        if (shards == 0 || total <= 0) {
+            return shares;
+        }
+
+        // 최소 몫을 먼저 배정하고 남은 양을 가중치로 분배
+        int guaranteed = Math.min(minPerShard, total / shards);
+        Arrays.fill(shares, guaranteed);
+        long remaining = total - (long) guaranteed * shards;
+
+        long weightSum = 0;
+        for (int weight : weights) {
+            weightSum += weight;
+        }
+
+        long assigned = 0;
+        long[] remainders = new long[shards];
+        for (int i = 0; i < shards; i++) {
+            long scaled = remaining * weights[i];
+            shares[i] += (int) (scaled / weightSum);
+            assigned += scaled / weightSum;
+            remainders[i] = scaled % weightSum;
+        }
+
+        // 소수부(나머지)가 큰 컨테이너부터 1씩 추가, 동률이면 앞 인덱스 우선
+        Integer[] order = new Integer[shards];
+        for (int i = 0; i < shards; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(remainders[b], remainders[a]));
+        for (int i = 0; i < remaining - assigned; i++) {
+            shares[order[i]]++;
+        }
+        return shares;
+    }
+}
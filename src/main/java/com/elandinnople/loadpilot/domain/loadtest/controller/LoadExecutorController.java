@@ -0,0 +1,25 @@
+package com.elandinnople.loadpilot.domain.loadtest.controller;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadExecutorResponse;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/executors")
+@RequiredArgsConstructor
+public class LoadExecutorController {
+
+    private final LoadExecutorRegistry loadExecutorRegistry;
+
+    // 실행기별 사용 가능 여부, 용량, 측정된 실행 지연 조회
+    @GetMapping
+    public ResponseEntity<List<LoadExecutorResponse>> getExecutors() {
+        return ResponseEntity.ok(loadExecutorRegistry.describe());
+    }
+}
@@ -1,23 +1,45 @@
 package com.elandinnople.loadpilot.domain.loadtest.controller;
 
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.CreateLoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CapacitySearchResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CursorPageResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.DailyStatsResponse;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestStatusResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RawSummaryBlob;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.TestResultResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TimeSeriesResponse;
 import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.service.CapacitySearchService;
+import com.elandinnople.loadpilot.domain.loadtest.service.LiveMetricsBroadcaster;
 import com.elandinnople.loadpilot.domain.loadtest.service.LoadTestService;
+import com.elandinnople.loadpilot.domain.loadtest.service.MetricSeriesService;
+import com.elandinnople.loadpilot.domain.loadtest.service.ResultSummaryStore;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultCache;
+import com.elandinnople.loadpilot.domain.loadtest.service.UserDailyStatsService;
 import com.elandinnople.loadpilot.domain.user.entity.User;
 import com.elandinnople.loadpilot.domain.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/load-tests")
@@ -27,6 +49,12 @@ public class LoadTestController {
 
     private final LoadTestService loadTestService;
     private final UserService userService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+    private final UserDailyStatsService userDailyStatsService;
+    private final TestResultCache testResultCache;
+    private final ResultSummaryStore resultSummaryStore;
+    private final MetricSeriesService metricSeriesService;
+    private final CapacitySearchService capacitySearchService;
 
     @PostMapping
     public ResponseEntity<LoadTestResponse> createLoadTest(
@@ -51,12 +79,24 @@ public class LoadTestController {
         String keycloakId = jwt.getSubject();
         User user = userService.findByKeycloakId(keycloakId);
 
-        Page<LoadTest> loadTests = loadTestService.getLoadTests(user.getId(), status, page, size);
-        Page<LoadTestResponse> response = loadTests.map(LoadTestResponse::fromEntity);
+        Page<LoadTestResponse> response = loadTestService.getLoadTests(user.getId(), status, page, size);
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<LoadTestResponse>> getLoadTestsByCursor(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) TestStatus status) {
+
+        String keycloakId = jwt.getSubject();
+        User user = userService.findByKeycloakId(keycloakId);
+
+        return ResponseEntity.ok(loadTestService.getLoadTestsByCursor(user.getId(), status, cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<LoadTestResponse> getLoadTest(
             @PathVariable Long id,
@@ -93,16 +133,141 @@ public class LoadTestController {
         return ResponseEntity.ok(status);
     }
 
+    // 실행 중인 테스트의 상태 변화와 초 단위 메트릭을 SSE 로 전달 (구독 시 한 번만 DB 조회)
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLoadTest(
+            @PathVariable Long id,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String keycloakId = jwt.getSubject();
+        User user = userService.findByKeycloakId(keycloakId);
+
+        LoadTest loadTest = loadTestService.getLoadTest(id, user.getId());
+        return liveMetricsBroadcaster.subscribe(loadTest);
+    }
+
+    /**
+     * 완료된 테스트의 처리량/오류율/지연시간 분위수 시계열을 조회합니다.
+     * resolution 은 1s, 10s, 1m 등의 간격 또는 auto 이며, from/to 는 epoch ms 입니다.
+     */
+    @GetMapping("/{id}/timeseries")
+    public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+            @PathVariable Long id,
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(defaultValue = "auto") String resolution,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to) {
+
+        String keycloakId = jwt.getSubject();
+        User user = userService.findByKeycloakId(keycloakId);
+
+        loadTestService.getLoadTest(id, user.getId());
+        return ResponseEntity.ok(metricSeriesService.query(id, resolution, from, to));
+    }
+
+    /**
+     * 용량 탐색(BREAKPOINT) 테스트의 최대 지속 가능 RPS, 포화 시작 단계, 단계별 지연시간 곡선을 조회합니다.
+     */
+    @GetMapping("/{id}/capacity")
+    public ResponseEntity<CapacitySearchResponse> getCapacitySearch(
+            @PathVariable Long id,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String keycloakId = jwt.getSubject();
+        User user = userService.findByKeycloakId(keycloakId);
+
+        LoadTest loadTest = loadTestService.getLoadTest(id, user.getId());
+        return ResponseEntity.ok(capacitySearchService.getResult(loadTest));
+    }
+
+    /**
+     * 완료된 테스트의 결과는 바뀌지 않으므로 강한 ETag 와 immutable 캐시 헤더를 붙여 응답합니다.
+     * 중단된 테스트처럼 아직 바뀔 수 있는 결과는 no-cache 로 매번 재검증하게 합니다.
+     * 캐시에 있으면 DB 를 조회하지 않고, If-None-Match 가 일치하면 304 를 응답합니다.
+     */
     @GetMapping("/{id}/result")
     public ResponseEntity<TestResultResponse> getLoadTestResult(
             @PathVariable Long id,
-            @AuthenticationPrincipal Jwt jwt) {
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String keycloakId = jwt.getSubject();
+        TestResultCache.CachedTestResult result = testResultCache.get(id, keycloakId)
+                .orElseGet(() -> loadTestService.getCacheableTestResult(id, userService.findByKeycloakId(keycloakId)));
+
+        // 사용자별 응답이므로 공유 캐시에는 저장하지 않음
+        CacheControl cacheControl = result.isImmutable()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+        if (matchesETag(ifNoneMatch, result.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(result.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(result.getEtag())
+                .cacheControl(cacheControl)
+                .body(result.getResponse());
+    }
+
+    // If-None-Match 는 약한 비교를 사용하므로 W/ 접두어를 무시하고 비교
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || (value.startsWith("W/") ? value.substring(2) : value).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컨테이너의 원본 결과를 저장된 형식(k6 출력 NDJSON 또는 k6 종료 요약 JSON)으로 스트리밍합니다.
+     * 클라이언트가 gzip 을 받을 수 있으면 저장된 압축 바이트를 그대로 전달합니다.
+     */
+    @GetMapping("/{id}/results/{containerIndex}/raw")
+    public ResponseEntity<StreamingResponseBody> getRawContainerResult(
+            @PathVariable Long id,
+            @PathVariable Integer containerIndex,
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        String keycloakId = jwt.getSubject();
+        User user = userService.findByKeycloakId(keycloakId);
+
+        RawSummaryBlob raw = loadTestService.getRawSummaryBlob(id, user.getId(), containerIndex);
+        String blobKey = raw.getBlobKey();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream in = resultSummaryStore.open(blobKey, gzip)) {
+                in.transferTo(outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(raw.getContentType() != null
+                        ? MediaType.parseMediaType(raw.getContentType()) : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<DailyStatsResponse>> getDailyStats(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
         String keycloakId = jwt.getSubject();
         User user = userService.findByKeycloakId(keycloakId);
 
-        TestResultResponse result = loadTestService.getTestResult(id, user.getId());
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(userDailyStatsService.getDailyStats(user.getId(), startDate, endDate));
     }
 
     @DeleteMapping("/{id}")
@@ -1,12 +1,28 @@
 package com.elandinnople.loadpilot.domain.loadtest.controller;
 
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.RunnerPollRequest;
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
-import com.elandinnople.loadpilot.domain.loadtest.service.LoadTestService;
+import com.elandinnople.loadpilot.domain.loadtest.service.LiveMetricsService;
+import com.elandinnople.loadpilot.domain.loadtest.service.OrchestrationMetrics;
+import com.elandinnople.loadpilot.domain.loadtest.service.ResultCallbackDecoder;
+import com.elandinnople.loadpilot.domain.loadtest.service.ResultUploadService;
+import com.elandinnople.loadpilot.domain.loadtest.service.RunnerPoolService;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultIngestionPipeline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/callback")
@@ -14,9 +30,17 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class ResultCallbackController {
 
-    private final LoadTestService loadTestService;
+    private final TestResultIngestionPipeline testResultIngestionPipeline;
+    private final LiveMetricsService liveMetricsService;
+    private final RunnerPoolService runnerPoolService;
+    private final OrchestrationMetrics orchestrationMetrics;
+    private final ResultCallbackDecoder resultCallbackDecoder;
+    private final ResultUploadService resultUploadService;
+
+    @Value("${loadtest.ingest.retry-after-seconds:5}")
+    private int retryAfterSeconds;
 
-    // ECS 컨테이너에서 테스트 완료 후 결과를 전송하는 엔드포인트
+    // ECS 컨테이너에서 테스트 완료 후 결과를 전송하는 엔드포인트 (수집 큐에 넣고 바로 202 응답)
     @PostMapping("/test-result")
     public ResponseEntity<Void> processTestResult(
             @RequestHeader("X-API-Key") String apiKey,
@@ -27,13 +51,113 @@ public class ResultCallbackController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
+        return submitResult(request);
+    }
+
+    /**
+     * v2 결과 콜백: JSON/CBOR/Smile 본문을 gzip/zstd 압축 그대로 받아 스트리밍으로 파싱합니다.
+     * k6 출력은 요약 문자열 대신 Point 배열(points)로 보내면 서버가 읽으면서 요청 수와 히스토그램에 누적합니다.
+     * 원본을 직접 업로드한 러너는 Point 대신 요약 값과 업로드 객체 키/체크섬만 보냅니다.
+     */
+    @PostMapping(value = "/v2/test-result", consumes = {MediaType.APPLICATION_JSON_VALUE,
+            ResultCallbackDecoder.APPLICATION_CBOR_VALUE, ResultCallbackDecoder.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Void> processTestResultV2(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) {
+
+        if (!validateApiKey(apiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        TestResultProcessRequest result;
         try {
-            loadTestService.processTestResult(request.getLoadTestId(), request);
+            result = resultCallbackDecoder.decode(request.getInputStream(), request.getContentType(), contentEncoding);
+        } catch (ResultCallbackDecoder.UnsupportedBodyFormatException e) {
+            log.warn("결과 콜백 형식 오류: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        } catch (IOException e) {
+            log.warn("결과 콜백 파싱 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return submitResult(result);
+    }
+
+    /**
+     * 직접 업로드 URL 을 발급할 수 없는 블롭 저장소(파일 시스템)를 대신해 러너의 gzip 원본 결과를 받습니다.
+     * API 키 대신 실행 시 발급한 경로의 만료 시각과 서명으로 인증하며, 본문은 버퍼링하지 않고 저장소로 바로 씁니다.
+     */
+    @PutMapping("/uploads/{loadTestId}/{containerIndex}")
+    public ResponseEntity<Void> uploadResult(
+            @PathVariable Long loadTestId,
+            @PathVariable Integer containerIndex,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            HttpServletRequest request) {
+
+        if (!resultUploadService.verify(loadTestId, containerIndex, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            resultUploadService.store(loadTestId, containerIndex, request.getInputStream());
             return ResponseEntity.ok().build();
-        } catch (Exception e) {
-            log.error("테스트 결과 처리 중 오류: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("테스트 ID {} 컨테이너 {} 결과 업로드 실패: {}", loadTestId, containerIndex, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private ResponseEntity<Void> submitResult(TestResultProcessRequest request) {
+        if (request.getLoadTestId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 마지막 콜백부터 집계 완료까지의 시간은 큐 대기 시간을 포함하도록 큐에 넣기 전 수신 시각 기준으로 측정
+        orchestrationMetrics.resultReceived(request.getLoadTestId());
+
+        // 큐가 가득 찬 경우 러너가 잠시 후 재시도하도록 요청
+        if (!testResultIngestionPipeline.submit(request)) {
+            log.warn("결과 수집 큐가 가득 차 테스트 ID {} 결과를 거절합니다", request.getLoadTestId());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    // 실행 중인 러너가 주기적으로 메트릭 증분을 전송하는 엔드포인트 (NDJSON 또는 JSON 배열)
+    @PostMapping(value = "/metrics", consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> ingestMetrics(
+            @RequestHeader("X-API-Key") String apiKey,
+            HttpServletRequest request) {
+
+        if (!validateApiKey(apiKey)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            int frames = liveMetricsService.ingest(request.getInputStream());
+            log.debug("메트릭 프레임 {}개 수신", frames);
+            return ResponseEntity.accepted().build();
+        } catch (IOException e) {
+            log.warn("메트릭 프레임 파싱 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 웜 풀 러너가 작업 할당을 기다리는 롱 폴링 엔드포인트 (할당 없으면 204, 풀에서 제외되면 410)
+    @PostMapping("/runners/poll")
+    public DeferredResult<ResponseEntity<LoadTestRequest>> pollRunnerAssignment(
+            @RequestHeader("X-API-Key") String apiKey,
+            @Valid @RequestBody RunnerPollRequest request) {
+
+        if (!validateApiKey(apiKey)) {
+            DeferredResult<ResponseEntity<LoadTestRequest>> unauthorized = new DeferredResult<>();
+            unauthorized.setResult(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+            return unauthorized;
         }
+        return runnerPoolService.poll(request.getTaskArn());
     }
 
     private boolean validateApiKey(String apiKey) {
@@ -0,0 +1,23 @@
+package com.elandinnople.loadpilot.domain.loadtest.controller;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RunnerPoolStatsResponse;
+import com.elandinnople.loadpilot.domain.loadtest.service.RunnerPoolService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/runner-pool")
+@RequiredArgsConstructor
+public class RunnerPoolController {
+
+    private final RunnerPoolService runnerPoolService;
+
+    // 웜 풀 현황, 적중률, 첫 요청까지의 평균 시간 조회
+    @GetMapping("/stats")
+    public ResponseEntity<RunnerPoolStatsResponse> getStats() {
+        return ResponseEntity.ok(runnerPoolService.getStats());
+    }
+}
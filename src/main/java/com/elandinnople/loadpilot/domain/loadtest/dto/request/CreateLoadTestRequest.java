@@ -1,15 +1,21 @@
 package com.elandinnople.loadpilot.domain.loadtest.dto.request;
 
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.URL;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,7 +45,45 @@ public class CreateLoadTestRequest {
 
     private String scriptContent;
 
+    // 실행기 (null 이면 loadtest.executor.default)
+    private ExecutorType executorType;
+
+    // 도착률(arrival-rate) 테스트 유형 전용: 초당 목표 요청 수, 미리 할당할 VU 수, 최대 VU 수
+    @Min(value = 1, message = "Target RPS must be at least 1")
+    private Integer targetRps;
+
+    @Min(value = 1, message = "Pre-allocated VUs must be at least 1")
+    private Integer preAllocatedVUs;
+
+    @Min(value = 1, message = "Max VUs must be at least 1")
+    private Integer maxVUs;
+
+    // 용량 탐색(BREAKPOINT) 전용: 탐색 범위 [minRps, targetRps] 와 단계별 SLO (p99 응답 시간 ms, 오류율 0~1)
+    @Min(value = 1, message = "Min RPS must be at least 1")
+    private Integer minRps;
+
+    @Positive(message = "SLO p99 threshold must be positive")
+    private Double sloP99Ms;
+
+    @DecimalMin(value = "0.0", message = "SLO error rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "SLO error rate must be between 0 and 1")
+    private Double sloErrorRate;
+
+    // 조기 중단 규칙: 구간 p95 응답 시간(ms) 또는 오류율(0~1)이 abortBreachSeconds 초 연속으로 기준을 넘으면 중단
+    @Positive(message = "Abort p95 threshold must be positive")
+    private Double abortP95Ms;
+
+    @DecimalMin(value = "0.0", message = "Abort error rate must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Abort error rate must be between 0 and 1")
+    private Double abortErrorRate;
+
+    @Min(value = 1, message = "Abort breach duration must be at least 1 second")
+    private Integer abortBreachSeconds;
+
     @Min(value = 1, message = "Container count must be at least 1")
-    @Max(value = 5, message = "Container count must be at most 5")
-    private Integer containerCount = 1; // 기본값 1, 최대 5
+    @Max(value = 500, message = "Container count must be at most 500")
+    private Integer containerCount = 1; // 기본값 1, 최대 500
+
+    // 컨테이너별 부하 가중치 (생략 시 균등 분배, 지정 시 컨테이너 수와 같은 길이)
+    private List<@Min(value = 1, message = "Container weight must be at least 1") Integer> containerWeights;
 }
@@ -1,5 +1,6 @@
 package com.elandinnople.loadpilot.domain.loadtest.dto.request;
 
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,4 +17,11 @@ public class LoadTestRequest {
     private String scriptContent;
     private Integer containerIndex; //  컨테이너 인덱스
     private Integer totalContainers; // 전체 컨테이너 수
+    private TestType testType;
+    private Integer targetRps; // 도착률 모델: 컨테이너 몫의 목표 RPS
+    private Integer preAllocatedVUs;
+    private Integer maxVUs;
+    private Double expectedIntervalMs; // 조정 누락 보정용 VU 별 예상 요청 간격 (null 이면 보정하지 않음)
+    private String resultUploadUrl; // 원본 결과 직접 업로드 URL (사전 서명 URL 또는 백엔드 기준 상대 경로, null 이면 콜백에 포함)
+    private String resultObjectKey; // 업로드 객체 키 (콜백의 summaryObjectKey 로 그대로 전달)
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunnerPollRequest {
+    @NotBlank(message = "Task ARN is required")
+    private String taskArn; // 폴링하는 러너의 ECS 태스크 ARN
+}
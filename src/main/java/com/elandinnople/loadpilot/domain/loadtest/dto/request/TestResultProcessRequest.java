@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -25,6 +26,13 @@ public class TestResultProcessRequest {
     private Double maxResponseTimeMs;
     private Double minResponseTimeMs;
     private Double requestsPerSecond;
+    private Long droppedIterations; // 도착률 테스트에서 시작하지 못한 반복 수
     private Integer containerIndex; // 컨테이너 인덱스
+    private Map<Integer, Long> latencyHistogram; // 지연시간 히스토그램 (버킷 인덱스 -> 카운트)
+    private Map<Integer, Long> correctedLatencyHistogram; // 조정 누락 보정 히스토그램 (없으면 서버에서 보정)
+    private String summaryObjectKey; // 러너가 블롭 저장소에 직접 업로드한 원본 결과 키 (있으면 summaryJson 대신 사용)
+    private String summarySha256; // 업로드한 원본(압축 전)의 SHA-256
+    private Long summarySizeBytes; // 업로드한 원본(압축 전)의 크기
+    private String summaryContentType; // summaryJson 의 형식 (없으면 application/json)
 }
 
@@ -0,0 +1,24 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacitySearchResponse {
+    private Long loadTestId;
+    private TestStatus status;
+    private Integer minRps;                  // 탐색 범위 하한
+    private Integer maxRps;                  // 탐색 범위 상한 (targetRps)
+    private Double sloP99Ms;
+    private Double sloErrorRate;
+    private Integer maxSustainableRps;       // SLO 를 만족한 최대 RPS (하한에서도 위반하면 null)
+    private Integer saturationRps;           // SLO 를 위반한 최소 RPS (상한에서도 만족하면 null)
+    private Integer saturationStep;          // 처음 SLO 를 위반한 단계 번호
+    private List<CapacitySearchStepResponse> steps; // 단계별 지연시간 곡선 (실행 순서)
+}
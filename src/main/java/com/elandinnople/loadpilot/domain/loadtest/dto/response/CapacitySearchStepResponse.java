@@ -0,0 +1,45 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.CapacitySearchStep;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CapacitySearchStepResponse {
+    private Integer stepIndex;
+    private Integer targetRps;
+    private Double achievedRps;
+    private Long totalRequests;
+    private Long failedRequests;
+    private Double errorRate;
+    private Double p50ResponseTimeMs;
+    private Double p95ResponseTimeMs;
+    private Double p99ResponseTimeMs;
+    private Boolean sustainable;
+    private String breachReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+
+    public static CapacitySearchStepResponse fromEntity(CapacitySearchStep step) {
+        return new CapacitySearchStepResponse(
+                step.getStepIndex(),
+                step.getTargetRps(),
+                step.getAchievedRps(),
+                step.getTotalRequests(),
+                step.getFailedRequests(),
+                step.getErrorRate(),
+                step.getP50ResponseTimeMs(),
+                step.getP95ResponseTimeMs(),
+                step.getP99ResponseTimeMs(),
+                step.getSustainable(),
+                step.getBreachReason(),
+                step.getStartedAt(),
+                step.getEndedAt()
+        );
+    }
+}
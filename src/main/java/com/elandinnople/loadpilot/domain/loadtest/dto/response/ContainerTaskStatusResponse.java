@@ -0,0 +1,28 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContainerTaskStatusResponse {
+    private Integer containerIndex;
+    private String taskArn;
+    private TaskStatus status;
+    private LocalDateTime lastCheckedAt;
+
+    public static ContainerTaskStatusResponse fromEntity(ContainerTask containerTask) {
+        return new ContainerTaskStatusResponse(
+                containerTask.getContainerIndex(),
+                containerTask.getTaskArn(),
+                containerTask.getStatus(),
+                containerTask.getLastCheckedAt()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor; // 다음 페이지 조회에 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
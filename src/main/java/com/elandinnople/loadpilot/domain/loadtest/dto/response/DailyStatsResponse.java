@@ -0,0 +1,46 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.entity.UserDailyStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStatsResponse {
+    private LocalDate date;
+    private Long resultCount; // 저장된 컨테이너 결과 수
+    private Long totalRequests;
+    private Long successfulRequests;
+    private Long failedRequests;
+    private Double avgResponseTimeMs;
+    private Double p50ResponseTimeMs;
+    private Double p95ResponseTimeMs;
+    private Double p99ResponseTimeMs;
+    private Double maxResponseTimeMs;
+
+    public static DailyStatsResponse fromEntity(UserDailyStats stats) {
+        DailyStatsResponse response = new DailyStatsResponse();
+        response.setDate(stats.getStatDate());
+        response.setResultCount(stats.getResultCount());
+        response.setTotalRequests(stats.getTotalRequests());
+        response.setSuccessfulRequests(stats.getSuccessfulRequests());
+        response.setFailedRequests(stats.getFailedRequests());
+        response.setAvgResponseTimeMs(stats.getTotalRequests() > 0
+                ? stats.getResponseTimeSum() / stats.getTotalRequests() : 0);
+        response.setMaxResponseTimeMs(stats.getMaxResponseTimeMs());
+
+        // 그날의 모든 요청에 대한 분위수 (컨테이너별 분위수의 평균/최대가 아님)
+        if (stats.getLatencyHistogram() != null) {
+            LatencyHistogram histogram = LatencyHistogram.decode(stats.getLatencyHistogram());
+            response.setP50ResponseTimeMs(histogram.getValueAtPercentile(50));
+            response.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+            response.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+        }
+        return response;
+    }
+}
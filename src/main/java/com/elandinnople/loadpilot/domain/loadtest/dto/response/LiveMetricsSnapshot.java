@@ -0,0 +1,20 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveMetricsSnapshot {
+    private Long loadTestId;
+    private Long timestamp;              // 스냅샷 시각 (epoch ms)
+    private Double requestsPerSecond;    // 구간 처리량
+    private Double errorRate;            // 구간 오류율 (0~1)
+    private Double p50ResponseTimeMs;
+    private Double p95ResponseTimeMs;
+    private Double p99ResponseTimeMs;
+    private Long totalRequests;          // 테스트 시작 이후 누적 요청 수
+    private Long failedRequests;         // 테스트 시작 이후 누적 실패 수
+}
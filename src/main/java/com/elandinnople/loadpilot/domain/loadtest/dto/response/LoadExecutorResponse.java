@@ -0,0 +1,22 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadExecutorResponse {
+    private ExecutorType type;
+    private boolean available;
+    private boolean defaultExecutor;
+    private int maxContainersPerTest;
+    private int maxConcurrentLaunches;
+    private int runningTasks;               // 알 수 없으면 -1
+    private long launches;                  // 지금까지 실행한 컨테이너 수
+    private Double avgLaunchLatencyMs;      // 컨테이너 실행 요청 평균 지연 (실행 이력이 없으면 null)
+    private Double maxLaunchLatencyMs;      // 최근 컨테이너 실행 요청 최대 지연
+    private Double launchesPerSecond;       // 평균 지연과 동시 실행 수로 추정한 초당 실행 가능 컨테이너 수
+}
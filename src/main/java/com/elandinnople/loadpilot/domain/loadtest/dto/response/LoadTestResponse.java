@@ -3,6 +3,7 @@ package com.elandinnople.loadpilot.domain.loadtest.dto.response;
 
 import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -22,14 +23,50 @@ public class LoadTestResponse {
     private Integer virtualUsers;
     private Integer durationSeconds;
     private Integer rampUpSeconds;
+    private Integer targetRps;
+    private Integer preAllocatedVUs;
+    private Integer maxVUs;
     private TestStatus status;
+    private ExecutorType executorType;
     private String taskId;
     private Integer containerCount;
     private Integer completedContainerCount;
     private Boolean allContainersCompleted;
+    private String abortReason;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 목록 조회용 JPQL 생성자 표현식에서 사용합니다. 스크립트와 결과 컬럼을 읽지 않습니다.
+     */
+    public LoadTestResponse(Long id, String name, String description, String targetUrl, TestType testType,
+                            Integer virtualUsers, Integer durationSeconds, Integer rampUpSeconds,
+                            Integer targetRps, Integer preAllocatedVUs, Integer maxVUs,
+                            TestStatus status, ExecutorType executorType, String taskId,
+                            Integer containerCount, Integer completedContainerCount, String abortReason,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.targetUrl = targetUrl;
+        this.testType = testType;
+        this.virtualUsers = virtualUsers;
+        this.durationSeconds = durationSeconds;
+        this.rampUpSeconds = rampUpSeconds;
+        this.targetRps = targetRps;
+        this.preAllocatedVUs = preAllocatedVUs;
+        this.maxVUs = maxVUs;
+        this.status = status;
+        this.executorType = executorType != null ? executorType : ExecutorType.LAMBDA_ECS;
+        this.taskId = taskId;
+        this.containerCount = containerCount;
+        this.completedContainerCount = completedContainerCount;
+        this.allContainersCompleted = completedContainerCount >= containerCount;
+        this.abortReason = abortReason;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public static LoadTestResponse fromEntity(LoadTest loadTest) {
         LoadTestResponse response = new LoadTestResponse();
         response.setId(loadTest.getId());
@@ -40,11 +77,16 @@ public class LoadTestResponse {
         response.setVirtualUsers(loadTest.getVirtualUsers());
         response.setDurationSeconds(loadTest.getDurationSeconds());
         response.setRampUpSeconds(loadTest.getRampUpSeconds());
+        response.setTargetRps(loadTest.getTargetRps());
+        response.setPreAllocatedVUs(loadTest.getPreAllocatedVUs());
+        response.setMaxVUs(loadTest.getMaxVUs());
         response.setStatus(loadTest.getStatus());
+        response.setExecutorType(loadTest.getExecutorTypeOrDefault());
         response.setTaskId(loadTest.getTaskId());
         response.setContainerCount(loadTest.getContainerCount());
         response.setCompletedContainerCount(loadTest.getCompletedContainerCount());
         response.setAllContainersCompleted(loadTest.isAllContainersCompleted());
+        response.setAbortReason(loadTest.getAbortReason());
         response.setCreatedAt(loadTest.getCreatedAt());
         response.setUpdatedAt(loadTest.getUpdatedAt());
         return response;
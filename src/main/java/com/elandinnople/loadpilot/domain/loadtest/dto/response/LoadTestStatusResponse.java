@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +17,12 @@ public class LoadTestStatusResponse {
     private Integer containerCount;
     private Integer completedContainerCount;
     private Boolean allContainersCompleted;
+    private List<ContainerTaskStatusResponse> containerStatuses; // 컨테이너별 ECS 태스크 상태
+
+    public LoadTestStatusResponse(Long id, TestStatus status, String taskStatus, Integer containerCount,
+                                  Integer completedContainerCount, Boolean allContainersCompleted) {
+        this(id, status, taskStatus, containerCount, completedContainerCount, allContainersCompleted, null);
+    }
 
     // 기존 생성자 오버로드 (하위 호환성 유지)
     public LoadTestStatusResponse(Long id, TestStatus status, String taskStatus) {
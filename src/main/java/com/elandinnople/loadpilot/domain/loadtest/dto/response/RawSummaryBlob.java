@@ -0,0 +1,16 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컨테이너 원본 결과의 블롭 키와 저장된 내용의 형식
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RawSummaryBlob {
+    private String blobKey;
+    private String contentType; // null 이면 application/json (형식을 기록하기 전에 저장된 결과)
+}
@@ -0,0 +1,19 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunnerPoolStatsResponse {
+    private boolean enabled;
+    private int startingRunners;
+    private int idleRunners;
+    private long hits;       // 웜 러너에 할당된 컨테이너 수
+    private long misses;     // 풀이 비어 새로 실행한 컨테이너 수
+    private double hitRate;  // hits / (hits + misses)
+    private Double avgWarmTimeToFirstRequestMs; // 실행 요청부터 첫 메트릭 수신까지 평균 시간 (웜 러너)
+    private Double avgColdTimeToFirstRequestMs; // 실행 요청부터 첫 메트릭 수신까지 평균 시간 (신규 태스크)
+}
@@ -1,6 +1,6 @@
 package com.elandinnople.loadpilot.domain.loadtest.dto.response;
 
-
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
 import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,18 +21,28 @@ public class TestResultResponse {
     private Long successfulRequests;
     private Long failedRequests;
     private Double avgResponseTimeMs;
+    private Double p50ResponseTimeMs;
+    private Double p90ResponseTimeMs;
     private Double p95ResponseTimeMs;
     private Double p99ResponseTimeMs;
+    private Double p999ResponseTimeMs;
     private Double maxResponseTimeMs;
     private Double minResponseTimeMs;
     private Double requestsPerSecond;
+    private Long droppedIterations;
+    // 예상 요청 간격으로 조정 누락(coordinated omission)을 보정한 분위수
+    private Double correctedP50ResponseTimeMs;
+    private Double correctedP90ResponseTimeMs;
+    private Double correctedP95ResponseTimeMs;
+    private Double correctedP99ResponseTimeMs;
+    private Double correctedP999ResponseTimeMs;
     private String resultUrl;
     private List<String> containerResultUrls; // 컨테이너별 결과 URL 리스트
 
     public static TestResultResponse fromEntity(TestResult testResult) {
         TestResultResponse response = new TestResultResponse();
         response.setId(testResult.getId());
-        response.setLoadTestId(testResult.getLoadTest().getId());
+        response.setLoadTestId(testResult.getParentTest().getId());
         response.setStartTime(testResult.getStartTime());
         response.setEndTime(testResult.getEndTime());
         response.setTotalRequests(testResult.getTotalRequests());
@@ -44,7 +54,24 @@ public class TestResultResponse {
         response.setMaxResponseTimeMs(testResult.getMaxResponseTimeMs());
         response.setMinResponseTimeMs(testResult.getMinResponseTimeMs());
         response.setRequestsPerSecond(testResult.getRequestsPerSecond());
+        response.setDroppedIterations(testResult.getDroppedIterations());
         response.setResultUrl(testResult.getResultFilePath());
+
+        // 히스토그램이 있으면 추가 분위수 계산
+        if (testResult.getLatencyHistogram() != null) {
+            LatencyHistogram histogram = LatencyHistogram.decode(testResult.getLatencyHistogram());
+            response.setP50ResponseTimeMs(histogram.getValueAtPercentile(50));
+            response.setP90ResponseTimeMs(histogram.getValueAtPercentile(90));
+            response.setP999ResponseTimeMs(histogram.getValueAtPercentile(99.9));
+        }
+        response.setCorrectedP95ResponseTimeMs(testResult.getCorrectedP95ResponseTimeMs());
+        response.setCorrectedP99ResponseTimeMs(testResult.getCorrectedP99ResponseTimeMs());
+        if (testResult.getCorrectedLatencyHistogram() != null) {
+            LatencyHistogram corrected = LatencyHistogram.decode(testResult.getCorrectedLatencyHistogram());
+            response.setCorrectedP50ResponseTimeMs(corrected.getValueAtPercentile(50));
+            response.setCorrectedP90ResponseTimeMs(corrected.getValueAtPercentile(90));
+            response.setCorrectedP999ResponseTimeMs(corrected.getValueAtPercentile(99.9));
+        }
 //        response.setContainerResultUrls(testResult.get());
         return response;
     }
@@ -0,0 +1,21 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesPoint {
+    private Long timestamp;              // 구간 시작 시각 (epoch ms)
+    private Long totalRequests;          // 구간 요청 수
+    private Long failedRequests;         // 구간 실패 수
+    private Double requestsPerSecond;    // 구간 처리량
+    private Double errorRate;            // 구간 오류율 (0~1)
+    private Double p50ResponseTimeMs;
+    private Double p90ResponseTimeMs;
+    private Double p95ResponseTimeMs;
+    private Double p99ResponseTimeMs;
+    private Double maxResponseTimeMs;
+}
@@ -0,0 +1,18 @@
+package com.elandinnople.loadpilot.domain.loadtest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesResponse {
+    private Long loadTestId;
+    private Integer resolutionMs;        // 응답 포인트 간격 (ms)
+    private Long from;                   // 조회 범위 시작 (epoch ms, 포함)
+    private Long to;                     // 조회 범위 끝 (epoch ms, 제외)
+    private List<TimeSeriesPoint> points;
+}
@@ -0,0 +1,102 @@
+package com.elandinnople.loadpilot.domain.loadtest.engine;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 가상 사용자가 동시에 기록하는 지연시간 수집기.
+ * <p>
+ * {@link LatencyHistogram} 과 같은 버킷 체계를 원자 배열로 유지하므로 기록 시 객체를 할당하거나 잠금을 잡지 않고,
+ * 테스트가 끝난 뒤 한 번만 {@link LatencyHistogram} 으로 변환합니다.
+ */
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(LatencyHistogram.BUCKET_COUNT);
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(long latencyNanos, boolean success) {
+        counts.incrementAndGet(LatencyHistogram.bucketIndex(latencyNanos / NANOS_PER_MILLI));
+        totalNanos.add(latencyNanos);
+        minNanos.accumulate(latencyNanos);
+        maxNanos.accumulate(latencyNanos);
+        if (success) {
+            successCount.increment();
+        } else {
+            failureCount.increment();
+        }
+    }
+
+    public long getTotalCount() {
+        return successCount.sum() + failureCount.sum();
+    }
+
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public double getAvgMs() {
+        long total = getTotalCount();
+        return total > 0 ? totalNanos.sum() / NANOS_PER_MILLI / total : 0;
+    }
+
+    public double getMinMs() {
+        return getTotalCount() > 0 ? minNanos.get() / NANOS_PER_MILLI : 0;
+    }
+
+    public double getMaxMs() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * 이전 호출 이후 기록된 요청 수, 실패 수, 버킷별 증분을 프레임에 채웁니다.
+     * reported 는 호출자가 유지하는 지금까지 보고한 누적값(버킷별 카운트, 마지막 칸은 실패 수)이며 호출 후 갱신됩니다.
+     * 같은 reported 로 여러 스레드에서 동시에 호출하면 안 됩니다.
+     */
+    public void drainInterval(long[] reported, MetricFrame frame) {
+        long requests = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            long delta = count - reported[i];
+            if (delta > 0) {
+                frame.addBucket(i, delta);
+                requests += delta;
+                reported[i] = count;
+            }
+        }
+        long failures = failureCount.sum();
+        int failureSlot = counts.length();
+        frame.setRequests(requests);
+        frame.setFailedRequests(Math.max(failures - reported[failureSlot], 0));
+        reported[failureSlot] = Math.max(failures, reported[failureSlot]);
+    }
+
+    /**
+     * {@link #drainInterval} 에 넘길 누적값 배열을 만듭니다.
+     */
+    public long[] newIntervalCursor() {
+        return new long[counts.length() + 1];
+    }
+
+    public LatencyHistogram toHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < counts.length(); i++) {
+            histogram.addToBucket(i, counts.get(i));
+        }
+        return histogram;
+    }
+}
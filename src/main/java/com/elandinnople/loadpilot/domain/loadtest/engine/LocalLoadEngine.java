@@ -0,0 +1,452 @@
+package com.elandinnople.loadpilot.domain.loadtest.engine;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.service.LiveMetricsService;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultIngestionPipeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadPilot 프로세스 안에서 부하를 생성하는 로컬 실행 엔진 (IN_PROCESS 실행기).
+ * <p>
+ * 컨테이너 하나를 가상 스레드 하나로 대신하며, k6 기본 스크립트와 같은 부하 프로파일을 재현합니다.
+ * 닫힌 모델(SMOKE/LOAD/STRESS/SOAK)은 단계별 목표 VU 수만큼 가상 스레드가 요청 후 1초씩 대기하고,
+ * 도착률 모델은 스케줄러가 목표 요청률에 맞춰 반복을 시작하되 동시 실행 수가 maxVUs 를 넘으면 반복을 버립니다.
+ * 결과는 러너 콜백과 같은 수집 파이프라인으로, 1초 단위 증분은 러너 메트릭 스트림과 같은 누적기로 전달되므로
+ * 클라우드 없이 동일한 집계, 실시간 조회, 조기 중단 경로를 검증할 수 있습니다.
+ * 중지(취소)된 실행은 결과를 제출하지 않고 실패로 보고됩니다.
+ * 사용자 정의 k6 스크립트는 해석하지 않고 대상 URL 에 대한 GET 요청으로 대신합니다.
+ */
+@Component
+@Slf4j
+public class LocalLoadEngine {
+
+    public static final String TASK_ID_PREFIX = "local:";
+
+    // 목표 요청률이 0 인 구간(램프 시작)에서 요청률을 다시 확인하는 간격
+    private static final long IDLE_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long VU_PAUSE_MILLIS = 1000;
+    private static final long VU_IDLE_MILLIS = 100;
+    private static final long REPORT_INTERVAL_MILLIS = 1000;
+
+    private final TestResultIngestionPipeline ingestionPipeline;
+    private final LiveMetricsService liveMetricsService;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final Map<String, Thread> runs = new ConcurrentHashMap<>();
+    // 끝난 실행의 결과 상태 (상태 조회 시 한 번 반환하고 제거)
+    private final Map<String, TaskStatus> outcomes = new ConcurrentHashMap<>();
+
+    public LocalLoadEngine(
+            TestResultIngestionPipeline ingestionPipeline,
+            LiveMetricsService liveMetricsService,
+            @Value("${loadtest.local.request-timeout-seconds:30}") int requestTimeoutSeconds) {
+        this.ingestionPipeline = ingestionPipeline;
+        this.liveMetricsService = liveMetricsService;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 컨테이너 하나 분량의 부하를 백그라운드에서 실행합니다.
+     *
+     * @return 로컬 태스크 ID
+     */
+    public String start(LoadTestRequest request) {
+        String taskId = TASK_ID_PREFIX + request.getTestId() + ":" + request.getContainerIndex();
+        if (request.getScriptContent() != null && !request.getScriptContent().isBlank()
+                && !request.getTestType().isArrivalRate()) {
+            log.warn("로컬 엔진은 k6 스크립트를 실행하지 않습니다. 테스트 ID {} 는 대상 URL GET 요청으로 실행됩니다.",
+                    request.getTestId());
+        }
+
+        Thread thread = Thread.ofVirtual().name("local-load-" + request.getTestId() + "-" + request.getContainerIndex())
+                .unstarted(() -> {
+                    TaskStatus outcome = TaskStatus.FAILED;
+                    try {
+                        run(request);
+                        outcome = TaskStatus.COMPLETED;
+                    } catch (InterruptedException e) {
+                        log.warn("로컬 부하 실행 중지 (결과 미제출): {}", taskId);
+                    } catch (Exception e) {
+                        log.error("로컬 부하 실행 중 오류 ({}): {}", taskId, e.getMessage(), e);
+                    } finally {
+                        outcomes.put(taskId, outcome);
+                        runs.remove(taskId);
+                    }
+                });
+        runs.put(taskId, thread);
+        thread.start();
+        return taskId;
+    }
+
+    /**
+     * 실행 상태를 반환합니다. 끝난 실행의 상태는 한 번만 반환되며,
+     * 알 수 없는 태스크(예: 재시작 전에 실행된 태스크)는 결과를 보낼 수 없으므로 실패로 취급합니다.
+     */
+    public TaskStatus getStatus(String taskId) {
+        if (runs.containsKey(taskId)) {
+            return TaskStatus.RUNNING;
+        }
+        TaskStatus outcome = outcomes.remove(taskId);
+        return outcome != null ? outcome : TaskStatus.FAILED;
+    }
+
+    public void cancel(String taskId) {
+        Thread thread = runs.get(taskId);
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public int getRunningCount() {
+        return runs.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        runs.values().forEach(Thread::interrupt);
+        httpClient.shutdownNow();
+    }
+
+    private void run(LoadTestRequest request) throws InterruptedException {
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(request.getTargetUrl()))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        LatencyRecorder recorder = new LatencyRecorder();
+        LongAdder droppedIterations = new LongAdder();
+        // 개방 모델에서만 예정 시작 시각 기준 지연시간을 직접 측정 (닫힌 모델은 백엔드에서 예상 요청 간격으로 보정)
+        LatencyRecorder intendedRecorder = null;
+
+        LocalDateTime startTime = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        IntervalReporter reporter = new IntervalReporter(request, recorder);
+        Thread reporterThread = Thread.ofVirtual()
+                .name("local-metrics-" + request.getTestId() + "-" + request.getContainerIndex())
+                .start(reporter::run);
+        try {
+            if (request.getTestType().isArrivalRate()) {
+                intendedRecorder = new LatencyRecorder();
+                runOpenModel(request, httpRequest, recorder, intendedRecorder, droppedIterations);
+            } else {
+                runClosedModel(request, httpRequest, recorder);
+            }
+        } finally {
+            reporterThread.interrupt();
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        // 중지 요청으로 모델이 일찍 끝난 경우 (executor close 가 인터럽트 상태를 복원함) 부분 결과를 완료로 제출하지 않음
+        if (Thread.interrupted()) {
+            throw new InterruptedException("로컬 부하 실행이 중지되었습니다");
+        }
+        reporterThread.join();
+        reporter.report();
+
+        TestResultProcessRequest result = toResult(request, recorder, intendedRecorder,
+                droppedIterations.sum(), elapsedSeconds);
+        result.setStartTime(startTime);
+        result.setEndTime(LocalDateTime.now());
+
+        // 원격 러너의 429 재시도와 같이 큐에 자리가 날 때까지 대기
+        while (!ingestionPipeline.submit(result)) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+        }
+        log.info("로컬 부하 실행 완료: 테스트 ID {}, 컨테이너 {}, 요청 {}건",
+                request.getTestId(), request.getContainerIndex(), recorder.getTotalCount());
+    }
+
+    // 닫힌 모델: VU 마다 가상 스레드 하나, 현재 목표 VU 수를 넘는 VU 는 쉬면서 대기
+    private void runClosedModel(LoadTestRequest request, HttpRequest httpRequest, LatencyRecorder recorder) {
+        LoadProfile profile = LoadProfile.closed(request.getTestType(), request.getVirtualUsers(),
+                request.getDurationSeconds(), request.getRampUpSeconds());
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + profile.totalNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.peak(); i++) {
+                final int vu = i;
+                executor.execute(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < endNanos && !Thread.currentThread().isInterrupted()) {
+                        if (vu >= Math.round(profile.targetAt(now - startNanos))) {
+                            sleepUntil(Math.min(now + TimeUnit.MILLISECONDS.toNanos(VU_IDLE_MILLIS), endNanos));
+                            continue;
+                        }
+                        execute(httpRequest, recorder, null, 0);
+                        sleepUntil(Math.min(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(VU_PAUSE_MILLIS), endNanos));
+                    }
+                });
+            }
+        }
+    }
+
+    // 개방 모델: 응답 시간과 무관하게 예정 시각마다 반복 시작, 동시 실행 수가 maxVUs 에 도달하면 반복을 버림
+    // 실제 시작이 예정 시각보다 늦어진 만큼을 포함한 지연시간은 intendedRecorder 에 기록 (조정 누락 보정)
+    private void runOpenModel(LoadTestRequest request, HttpRequest httpRequest, LatencyRecorder recorder,
+                              LatencyRecorder intendedRecorder, LongAdder droppedIterations) {
+        LoadProfile profile = LoadProfile.arrival(request.getTestType(), request.getTargetRps(),
+                request.getDurationSeconds(), request.getRampUpSeconds());
+        int maxVUs = request.getMaxVUs() != null ? request.getMaxVUs() : request.getVirtualUsers();
+        Semaphore activeVUs = new Semaphore(Math.max(1, maxVUs));
+        long startNanos = System.nanoTime();
+        long totalNanos = profile.totalNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long scheduled = 0;
+            while (scheduled < totalNanos && !Thread.currentThread().isInterrupted()) {
+                long wait = scheduled - (System.nanoTime() - startNanos);
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+
+                double rate = profile.targetAt(scheduled);
+                if (rate <= 0) {
+                    scheduled += IDLE_TICK_NANOS;
+                    continue;
+                }
+                if (activeVUs.tryAcquire()) {
+                    long intendedStartNanos = startNanos + scheduled;
+                    executor.execute(() -> {
+                        try {
+                            execute(httpRequest, recorder, intendedRecorder, intendedStartNanos);
+                        } finally {
+                            activeVUs.release();
+                        }
+                    });
+                } else {
+                    droppedIterations.increment();
+                }
+                scheduled += (long) (1e9 / rate);
+            }
+        }
+    }
+
+    private void execute(HttpRequest httpRequest, LatencyRecorder recorder,
+                         LatencyRecorder intendedRecorder, long intendedStartNanos) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+            // k6 http_req_failed 와 같은 기준
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long end = System.nanoTime();
+        recorder.record(end - start, success);
+        if (intendedRecorder != null) {
+            intendedRecorder.record(end - intendedStartNanos, success);
+        }
+    }
+
+    /**
+     * 원격 러너의 메트릭 스트림과 같이 1초마다 직전 구간의 증분을 실시간 누적기에 보냅니다.
+     * 마지막 구간은 실행이 정상 종료된 뒤 실행 스레드가 보냅니다 (보고 스레드 종료 후이므로 동시 호출 없음).
+     */
+    private final class IntervalReporter {
+
+        private final LoadTestRequest request;
+        private final LatencyRecorder recorder;
+        private final long[] reported;
+        private long intervalStartedAt = System.currentTimeMillis();
+
+        private IntervalReporter(LoadTestRequest request, LatencyRecorder recorder) {
+            this.request = request;
+            this.recorder = recorder;
+            this.reported = recorder.newIntervalCursor();
+        }
+
+        private void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(REPORT_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                report();
+            }
+        }
+
+        private void report() {
+            long now = System.currentTimeMillis();
+            MetricFrame frame = new MetricFrame();
+            frame.setLoadTestId(request.getTestId());
+            frame.setContainerIndex(request.getContainerIndex());
+            frame.setTimestamp(intervalStartedAt);
+            frame.setIntervalMs((int) (now - intervalStartedAt));
+            recorder.drainInterval(reported, frame);
+            intervalStartedAt = now;
+            if (frame.getRequests() == 0 && frame.getFailedRequests() == 0) {
+                return;
+            }
+            try {
+                liveMetricsService.accept(frame);
+            } catch (RuntimeException e) {
+                // 실시간 지표는 보조 정보이므로 부하 실행은 계속
+                log.warn("로컬 실행 메트릭 전달 실패 (테스트 ID {}): {}", request.getTestId(), e.getMessage());
+            }
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static TestResultProcessRequest toResult(LoadTestRequest request, LatencyRecorder recorder,
+                                                     LatencyRecorder intendedRecorder,
+                                                     long droppedIterations, double elapsedSeconds) {
+        LatencyHistogram histogram = recorder.toHistogram();
+
+        TestResultProcessRequest result = new TestResultProcessRequest();
+        result.setLoadTestId(request.getTestId());
+        result.setContainerIndex(request.getContainerIndex());
+        result.setTotalRequests(recorder.getTotalCount());
+        result.setSuccessfulRequests(recorder.getSuccessCount());
+        result.setFailedRequests(recorder.getFailureCount());
+        result.setAvgResponseTimeMs(recorder.getAvgMs());
+        result.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+        result.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+        result.setMaxResponseTimeMs(recorder.getMaxMs());
+        result.setMinResponseTimeMs(recorder.getMinMs());
+        result.setRequestsPerSecond(elapsedSeconds > 0 ? recorder.getTotalCount() / elapsedSeconds : 0);
+        result.setDroppedIterations(droppedIterations);
+        result.setLatencyHistogram(histogram.toBucketCounts());
+        if (intendedRecorder != null) {
+            result.setCorrectedLatencyHistogram(intendedRecorder.toHistogram().toBucketCounts());
+        }
+        return result;
+    }
+
+    /**
+     * 시간에 따른 목표값(VU 수 또는 초당 반복 수). 각 단계는 이전 목표값에서 단계 목표값까지 선형으로 변합니다.
+     * 단계 구성은 {@code K6ScriptGenerator} 가 생성하는 k6 옵션과 같습니다.
+     */
+    static final class LoadProfile {
+
+        private final double initialTarget;
+        private final List<long[]> stages = new ArrayList<>(); // {단계 길이(ns), 목표값}
+
+        private LoadProfile(double initialTarget) {
+            this.initialTarget = initialTarget;
+        }
+
+        static LoadProfile closed(TestType testType, int virtualUsers, int durationSeconds, Integer rampUpSeconds) {
+            int rampUp = rampUpSeconds != null ? rampUpSeconds : 0;
+            LoadProfile profile;
+            switch (testType) {
+                case SMOKE:
+                    int smokeUsers = Math.min(virtualUsers, 5);
+                    profile = new LoadProfile(smokeUsers);
+                    profile.stage(Math.min(durationSeconds, 60), smokeUsers);
+                    break;
+                case STRESS:
+                    profile = new LoadProfile(0);
+                    if (rampUp > 0) {
+                        profile.stage(rampUp / 3, virtualUsers / 2);
+                        profile.stage(rampUp / 3, virtualUsers);
+                        profile.stage(rampUp / 3, virtualUsers * 2);
+                    } else {
+                        profile.stage(30, virtualUsers * 2);
+                    }
+                    profile.stage(durationSeconds, virtualUsers * 2);
+                    profile.stage(30, 0);
+                    break;
+                default:
+                    // LOAD 는 10초, SOAK 는 30초에 걸쳐 종료
+                    profile = new LoadProfile(0);
+                    if (rampUp > 0) {
+                        profile.stage(rampUp, virtualUsers);
+                    }
+                    profile.stage(durationSeconds, virtualUsers);
+                    profile.stage(testType == TestType.LOAD ? 10 : 30, 0);
+                    break;
+            }
+            return profile;
+        }
+
+        static LoadProfile arrival(TestType testType, int targetRps, int durationSeconds, Integer rampUpSeconds) {
+            if (testType == TestType.CONSTANT_ARRIVAL_RATE) {
+                LoadProfile profile = new LoadProfile(targetRps);
+                profile.stage(durationSeconds, targetRps);
+                return profile;
+            }
+            LoadProfile profile = new LoadProfile(0);
+            if (rampUpSeconds != null && rampUpSeconds > 0) {
+                profile.stage(rampUpSeconds, targetRps);
+            }
+            profile.stage(durationSeconds, targetRps);
+            return profile;
+        }
+
+        private void stage(int seconds, int target) {
+            stages.add(new long[]{TimeUnit.SECONDS.toNanos(seconds), target});
+        }
+
+        long totalNanos() {
+            long total = 0;
+            for (long[] stage : stages) {
+                total += stage[0];
+            }
+            return total;
+        }
+
+        int peak() {
+            double peak = initialTarget;
+            for (long[] stage : stages) {
+                peak = Math.max(peak, stage[1]);
+            }
+            return (int) peak;
+        }
+
+        double targetAt(long elapsedNanos) {
+            double from = initialTarget;
+            long offset = elapsedNanos;
+            for (long[] stage : stages) {
+                if (offset < stage[0]) {
+                    return from + (stage[1] - from) * offset / stage[0];
+                }
+                offset -= stage[0];
+                from = stage[1];
+            }
+            return from;
+        }
+    }
+}
@@ -37,12 +37,21 @@ public class AggregatedTestResult extends BaseEntity {
     @Column(name = "avg_response_time_ms")
     private Double avgResponseTimeMs;
 
+    @Column(name = "p50_response_time_ms")
+    private Double p50ResponseTimeMs;
+
+    @Column(name = "p90_response_time_ms")
+    private Double p90ResponseTimeMs;
+
     @Column(name = "p95_response_time_ms")
     private Double p95ResponseTimeMs;
 
     @Column(name = "p99_response_time_ms")
     private Double p99ResponseTimeMs;
 
+    @Column(name = "p999_response_time_ms")
+    private Double p999ResponseTimeMs;
+
     @Column(name = "max_response_time_ms")
     private Double maxResponseTimeMs;
 
@@ -52,6 +61,25 @@ public class AggregatedTestResult extends BaseEntity {
     @Column(name = "requests_per_second")
     private Double requestsPerSecond;
 
+    @Column(name = "dropped_iterations")
+    private Long droppedIterations;
+
+    // 조정 누락(coordinated omission) 보정 분위수
+    @Column(name = "corrected_p50_response_time_ms")
+    private Double correctedP50ResponseTimeMs;
+
+    @Column(name = "corrected_p90_response_time_ms")
+    private Double correctedP90ResponseTimeMs;
+
+    @Column(name = "corrected_p95_response_time_ms")
+    private Double correctedP95ResponseTimeMs;
+
+    @Column(name = "corrected_p99_response_time_ms")
+    private Double correctedP99ResponseTimeMs;
+
+    @Column(name = "corrected_p999_response_time_ms")
+    private Double correctedP999ResponseTimeMs;
+
     @Column(name = "start_time")
     private LocalDateTime startTime;
 
@@ -60,4 +88,12 @@ public class AggregatedTestResult extends BaseEntity {
 
     @Column(name = "aggregated_json", columnDefinition = "TEXT")
     private String aggregatedJson;
+
+    // 전체 컨테이너의 히스토그램을 병합한 결과 (재조회용, LatencyHistogram.encode() 형식)
+    @Column(name = "latency_histogram", columnDefinition = "TEXT")
+    private String latencyHistogram;
+
+    // 전체 컨테이너의 조정 누락 보정 히스토그램을 병합한 결과
+    @Column(name = "corrected_latency_histogram", columnDefinition = "TEXT")
+    private String correctedLatencyHistogram;
 }
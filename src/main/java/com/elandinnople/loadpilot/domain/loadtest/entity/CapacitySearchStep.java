@@ -0,0 +1,75 @@
+package com.elandinnople.loadpilot.domain.loadtest.entity;
+
+import com.elandinnople.loadpilot.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 용량 탐색(BREAKPOINT) 테스트의 단계 하나의 결과.
+ * 단계마다 새 컨테이너 인덱스 범위 [firstContainerIndex, firstContainerIndex + containerCount) 를 사용합니다.
+ */
+@Entity
+@Table(name = "capacity_search_steps",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_capacity_search_steps_test_step",
+                columnNames = {"load_test_id", "step_index"}))
+@Getter @Setter
+@NoArgsConstructor
+public class CapacitySearchStep extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "load_test_id", nullable = false)
+    private LoadTest loadTest;
+
+    @Column(name = "step_index", nullable = false)
+    private Integer stepIndex; // 1부터 시작하는 단계 번호
+
+    @Column(name = "target_rps", nullable = false)
+    private Integer targetRps;
+
+    @Column(name = "first_container_index", nullable = false)
+    private Integer firstContainerIndex;
+
+    @Column(name = "container_count", nullable = false)
+    private Integer containerCount;
+
+    @Column(name = "achieved_rps")
+    private Double achievedRps;
+
+    @Column(name = "total_requests")
+    private Long totalRequests;
+
+    @Column(name = "failed_requests")
+    private Long failedRequests;
+
+    @Column(name = "error_rate")
+    private Double errorRate;
+
+    @Column(name = "p50_response_time_ms")
+    private Double p50ResponseTimeMs;
+
+    @Column(name = "p95_response_time_ms")
+    private Double p95ResponseTimeMs;
+
+    @Column(name = "p99_response_time_ms")
+    private Double p99ResponseTimeMs;
+
+    @Column(nullable = false)
+    private Boolean sustainable;
+
+    @Column(name = "breach_reason", length = 500)
+    private String breachReason; // SLO 를 위반한 경우 위반 내용
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+}
@@ -0,0 +1,52 @@
+package com.elandinnople.loadpilot.domain.loadtest.entity;
+
+import com.elandinnople.loadpilot.common.entity.BaseEntity;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "container_tasks",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_container_tasks_test_container",
+                columnNames = {"load_test_id", "container_index"}),
+        indexes = @Index(name = "idx_container_tasks_task_arn", columnList = "task_arn"))
+@Getter @Setter
+@NoArgsConstructor
+public class ContainerTask extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "load_test_id", nullable = false)
+    private LoadTest loadTest;
+
+    @Column(name = "container_index", nullable = false)
+    private Integer containerIndex; // 0부터 시작하는 컨테이너 인덱스
+
+    @Column(name = "task_arn")
+    private String taskArn; // ECS 태스크 ARN
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status = TaskStatus.PENDING; // 백그라운드 조정기가 갱신하는 마지막 ECS 상태
+
+    @Column(name = "last_checked_at")
+    private LocalDateTime lastCheckedAt; // 마지막 ECS 상태 조회 시각
+
+    public ContainerTask(LoadTest loadTest, Integer containerIndex, String taskArn) {
+        this.loadTest = loadTest;
+        this.containerIndex = containerIndex;
+        this.taskArn = taskArn;
+    }
+
+    // 더 이상 상태 조회가 필요 없는 상태인지 확인
+    public boolean isTerminal() {
+        return status == TaskStatus.COMPLETED || status == TaskStatus.FAILED;
+    }
+}
@@ -1,7 +1,9 @@
 package com.elandinnople.loadpilot.domain.loadtest.entity;
 
 import com.elandinnople.loadpilot.common.entity.BaseEntity;
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
 import com.elandinnople.loadpilot.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -13,7 +15,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "load_tests")
+@Table(name = "load_tests", indexes = {
+        // 목록 키셋 조회 (createdAt, id) 내림차순: 상태 필터 유무별
+        @Index(name = "idx_load_tests_user_status_created", columnList = "user_id, status, created_at, id"),
+        @Index(name = "idx_load_tests_user_created", columnList = "user_id, created_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class LoadTest extends BaseEntity {
@@ -46,9 +52,57 @@ public class LoadTest extends BaseEntity {
     @Column(name = "script_content", length = 10000)
     private String scriptContent;
 
+    // 도착률 테스트 유형 전용 설정 (전체 테스트 기준, 컨테이너별로 분배됨)
+    @Column(name = "target_rps")
+    private Integer targetRps;
+
+    @Column(name = "pre_allocated_vus")
+    private Integer preAllocatedVUs;
+
+    @Column(name = "max_vus")
+    private Integer maxVUs;
+
+    // 용량 탐색(BREAKPOINT) 전용: 탐색 범위는 [minRps, targetRps], 단계마다 p99 와 오류율이 SLO 이내여야 지속 가능
+    @Column(name = "min_rps")
+    private Integer minRps;
+
+    @Column(name = "slo_p99_ms")
+    private Double sloP99Ms;
+
+    @Column(name = "slo_error_rate")
+    private Double sloErrorRate;
+
+    // 용량 탐색 결과: SLO 를 만족한 최대 RPS, SLO 를 위반한 최소 RPS, 처음 위반한 단계 번호 (위반이 없으면 null)
+    @Column(name = "max_sustainable_rps")
+    private Integer maxSustainableRps;
+
+    @Column(name = "saturation_rps")
+    private Integer saturationRps;
+
+    @Column(name = "saturation_step")
+    private Integer saturationStep;
+
+    // 조기 중단(SLO) 규칙: 초 단위 구간 지표가 연속으로 기준을 넘으면 테스트를 중단 (null 이면 해당 규칙 없음)
+    @Column(name = "abort_p95_ms")
+    private Double abortP95Ms;
+
+    @Column(name = "abort_error_rate")
+    private Double abortErrorRate;
+
+    @Column(name = "abort_breach_seconds")
+    private Integer abortBreachSeconds; // null 이면 loadtest.abort.default-breach-seconds
+
+    @Column(name = "abort_reason", length = 500)
+    private String abortReason; // 조기 중단된 경우 위반한 규칙
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private TestStatus status; // PENDING, RUNNING, COMPLETED, FAILED
+    private TestStatus status; // PENDING, RUNNING, COMPLETED, FAILED, ABORTED
+
+    // null 이면 실행기 도입 전 생성된 테스트로 LAMBDA_ECS 로 취급
+    @Enumerated(EnumType.STRING)
+    @Column(name = "executor_type")
+    private ExecutorType executorType;
 
     @Column(name = "task_id")
     private String taskId; // ECS 태스크 ID
@@ -60,10 +114,12 @@ public class LoadTest extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToOne(mappedBy = "loadTest", cascade = CascadeType.ALL)
-    private TestResult testResult;
     @Column(name = "container_count", nullable = false)
-    private Integer containerCount = 1; // 기본값 1, 최대 5
+    private Integer containerCount = 1; // 기본값 1, 최대 loadtest.launch.max-containers
+
+    // 컨테이너별 부하 가중치 (쉼표 구분, null 이면 균등 분배)
+    @Column(name = "container_weights", length = 4000)
+    private String containerWeights;
 
     @Column(name = "completed_container_count", nullable = false)
     private Integer completedContainerCount = 0; // 완료된 컨테이너 수
@@ -71,14 +127,40 @@ public class LoadTest extends BaseEntity {
     @OneToMany(mappedBy = "parentTest", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TestResult> testResults = new ArrayList<>();
 
+    @OneToMany(mappedBy = "loadTest", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("containerIndex ASC")
+    private List<ContainerTask> containerTasks = new ArrayList<>();
+
+    @OneToMany(mappedBy = "loadTest", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("stepIndex ASC")
+    private List<CapacitySearchStep> capacitySearchSteps = new ArrayList<>();
+
+    public ExecutorType getExecutorTypeOrDefault() {
+        return executorType != null ? executorType : ExecutorType.LAMBDA_ECS;
+    }
+
+    /**
+     * 조정 누락(coordinated omission) 보정에 사용할 가상 사용자 하나의 예상 요청 간격(ms).
+     * 도착률 모델은 VU 수 / 목표 RPS, 기본 스크립트의 닫힌 모델은 반복 사이 대기 시간이며,
+     * 간격을 알 수 없는 사용자 정의 스크립트의 닫힌 모델은 null 을 반환합니다.
+     */
+    public Double getExpectedIntervalMs() {
+        if (testType != null && (testType.isArrivalRate() || testType.isCapacitySearch())) {
+            if (targetRps == null || targetRps <= 0) {
+                return null;
+            }
+            int vus = preAllocatedVUs != null ? preAllocatedVUs : virtualUsers;
+            return vus * 1000.0 / targetRps;
+        }
+        if (scriptContent != null && !scriptContent.trim().isEmpty()) {
+            return null;
+        }
+        return K6ScriptGenerator.ITERATION_PAUSE_SECONDS * 1000.0;
+    }
+
     // 결과 확인 메서드
     public boolean isAllContainersCompleted() {
         return completedContainerCount >= containerCount;
     }
 
-    // 완료된 컨테이너 수 증가 메서드
-    public void incrementCompletedContainerCount() {
-        this.completedContainerCount++;
-    }
-
 }
\ No newline at end of file
@@ -10,7 +10,11 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "test_results")
+@Table(name = "test_results",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_test_results_load_test_container",
+                columnNames = {"load_test_id", "container_index"}),
+        indexes = @Index(name = "idx_test_results_summary_blob_key", columnList = "summary_blob_key"))
 @Getter @Setter
 @NoArgsConstructor
 public class TestResult extends BaseEntity {
@@ -18,20 +22,30 @@ public class TestResult extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
-    @JoinColumn(name = "load_test_id")
-    private LoadTest loadTest;
-
     @Column(name = "start_time")
     private LocalDateTime startTime;
 
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
-    // JSON 형태로 저장되는 요약 결과
-    @Column(name = "summary_json", columnDefinition = "TEXT")
+    // 콜백으로 받은 원본 요약 JSON. 행에는 저장하지 않고 블롭 저장소로 옮긴 뒤 아래 포인터만 저장
+    @Transient
     private String summaryJson;
 
+    // 원본 요약이 저장된 블롭 키 (BlobStore, gzip 압축)
+    @Column(name = "summary_blob_key")
+    private String summaryBlobKey;
+
+    @Column(name = "summary_size_bytes")
+    private Long summarySizeBytes; // 압축 전 크기
+
+    @Column(name = "summary_sha256", length = 64)
+    private String summarySha256;
+
+    // 원본의 형식: 러너 직접 업로드는 k6 출력(application/x-ndjson), v2 콜백은 k6 종료 요약(application/json)
+    @Column(name = "summary_content_type", length = 64)
+    private String summaryContentType;
+
     @Column(name = "total_requests")
     private Long totalRequests;
 
@@ -59,6 +73,25 @@ public class TestResult extends BaseEntity {
     @Column(name = "requests_per_second")
     private Double requestsPerSecond;
 
+    // 도착률 테스트에서 VU 부족으로 시작하지 못한 반복 수
+    @Column(name = "dropped_iterations")
+    private Long droppedIterations;
+
+    // LatencyHistogram.encode() 로 직렬화된 지연시간 히스토그램
+    @Column(name = "latency_histogram", columnDefinition = "TEXT")
+    private String latencyHistogram;
+
+    // 예상 요청 간격으로 조정 누락(coordinated omission)을 보정한 지표.
+    // 보정할 간격을 알 수 없는 테스트(사용자 정의 스크립트의 닫힌 모델)는 측정값과 같음
+    @Column(name = "corrected_p95_response_time_ms")
+    private Double correctedP95ResponseTimeMs;
+
+    @Column(name = "corrected_p99_response_time_ms")
+    private Double correctedP99ResponseTimeMs;
+
+    @Column(name = "corrected_latency_histogram", columnDefinition = "TEXT")
+    private String correctedLatencyHistogram;
+
     @Column(name = "result_file_path")
     private String resultFilePath; // S3에 저장된 전체 결과 파일 경로
 
@@ -0,0 +1,57 @@
+package com.elandinnople.loadpilot.domain.loadtest.entity;
+
+import com.elandinnople.loadpilot.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 테스트 결과 롤업.
+ * <p>
+ * 컨테이너 결과가 저장될 때마다 합계와 병합 히스토그램을 증분 갱신하므로,
+ * 대시보드는 결과 테이블을 스캔하지 않고 기간의 일수만큼의 행으로 일별 분위수를 계산합니다.
+ */
+@Entity
+@Table(name = "user_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_daily_stats_user_date",
+                columnNames = {"user_id", "stat_date"}))
+@Getter @Setter
+@NoArgsConstructor
+public class UserDailyStats extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "result_count")
+    private Long resultCount;
+
+    @Column(name = "total_requests")
+    private Long totalRequests;
+
+    @Column(name = "successful_requests")
+    private Long successfulRequests;
+
+    @Column(name = "failed_requests")
+    private Long failedRequests;
+
+    // 평균 응답 시간 * 요청 수의 합 (가중 평균 계산용)
+    @Column(name = "response_time_sum")
+    private Double responseTimeSum;
+
+    @Column(name = "max_response_time_ms")
+    private Double maxResponseTimeMs;
+
+    // 그날 저장된 컨테이너 결과의 히스토그램을 병합한 결과 (LatencyHistogram.encode() 형식)
+    @Column(name = "latency_histogram", columnDefinition = "TEXT")
+    private String latencyHistogram;
+}
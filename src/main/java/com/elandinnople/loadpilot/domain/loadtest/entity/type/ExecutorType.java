@@ -0,0 +1,9 @@
+package com.elandinnople.loadpilot.domain.loadtest.entity.type;
+
+// 컨테이너(부하 생성 단위)를 실행하는 방식
+public enum ExecutorType {
+    LAMBDA_ECS, // Lambda 가 ECS 태스크 실행 (기존 방식)
+    ECS,        // 백엔드가 ECS RunTask 직접 호출
+    LOCAL_K6,   // 백엔드 호스트에서 k6 프로세스 실행
+    IN_PROCESS  // 백엔드 JVM 안의 가상 스레드 엔진
+}
@@ -1,5 +1,5 @@
 package com.elandinnople.loadpilot.domain.loadtest.entity.type;
 
 public enum TestStatus {
-    PENDING, RUNNING, COMPLETED, FAILED
+    PENDING, RUNNING, COMPLETED, FAILED, ABORTED
 }
\ No newline at end of file
@@ -1,5 +1,17 @@
 package com.elandinnople.loadpilot.domain.loadtest.entity.type;
 
 public enum TestType {
-    SMOKE, LOAD, STRESS, SOAK
+    SMOKE, LOAD, STRESS, SOAK,
+    // 개방형 모델: 응답 시간과 관계없이 초당 목표 요청 수로 반복을 시작 (k6 arrival-rate executor)
+    CONSTANT_ARRIVAL_RATE, RAMPING_ARRIVAL_RATE,
+    // 용량 탐색: 컨트롤 플레인이 고정 도착률 단계를 차례로 실행하며 SLO 를 만족하는 최대 RPS 를 이분 탐색
+    BREAKPOINT;
+
+    public boolean isArrivalRate() {
+        return this == CONSTANT_ARRIVAL_RATE || this == RAMPING_ARRIVAL_RATE;
+    }
+
+    public boolean isCapacitySearch() {
+        return this == BREAKPOINT;
+    }
 }
\ No newline at end of file
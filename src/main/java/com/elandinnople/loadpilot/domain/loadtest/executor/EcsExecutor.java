@@ -0,0 +1,31 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백엔드가 ECS RunTask 를 직접 호출합니다. 컨테이너마다 Lambda 호출 한 번이 줄어듭니다.
+ */
+@Component
+public class EcsExecutor extends EcsTaskExecutorSupport {
+
+    public EcsExecutor(
+            EcsService ecsService,
+            @Value("${loadtest.launch.max-containers:500}") int maxContainers,
+            @Value("${loadtest.executor.ecs.max-concurrency:20}") int maxConcurrency) {
+        super(ecsService, maxContainers, maxConcurrency);
+    }
+
+    @Override
+    public ExecutorType getType() {
+        return ExecutorType.ECS;
+    }
+
+    @Override
+    public String launch(LoadTestRequest request, int timeoutMillis) {
+        return ecsService.runContainerTask(request, timeoutMillis);
+    }
+}
@@ -0,0 +1,65 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * ECS 태스크로 컨테이너를 실행하는 실행기의 공통 동작 (상태 조회, 중지, 웜 풀).
+ */
+abstract class EcsTaskExecutorSupport implements LoadExecutor {
+
+    protected final EcsService ecsService;
+    private final int maxContainers;
+    private final int maxConcurrency;
+
+    protected EcsTaskExecutorSupport(EcsService ecsService, int maxContainers, int maxConcurrency) {
+        this.ecsService = ecsService;
+        this.maxContainers = maxContainers;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public Map<String, TaskStatus> getTaskStatuses(Collection<String> taskIds) {
+        return ecsService.describeTaskStatuses(taskIds);
+    }
+
+    @Override
+    public void stop(String taskId, String reason) {
+        ecsService.stopTask(taskId, reason);
+    }
+
+    // 태스크마다 StopTask 를 동시 실행 한도만큼 병렬로 호출하고, ARN 을 받지 못한 태스크는 startedBy 로 조회하여 중지
+    @Override
+    public void stopAll(Long testId, Collection<String> taskIds, String reason) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try (ExecutorService stoppers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String taskId : taskIds) {
+                stoppers.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        stop(taskId, reason);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        ecsService.stopTasksStartedBy(testId, reason);
+    }
+
+    @Override
+    public ExecutorCapacity getCapacity() {
+        return new ExecutorCapacity(maxContainers, maxConcurrency, -1);
+    }
+
+    @Override
+    public boolean supportsRunnerPool() {
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 실행기가 선언하는 용량.
+ */
+@Getter
+@AllArgsConstructor
+public class ExecutorCapacity {
+    private final int maxContainersPerTest; // 테스트 하나에 배치할 수 있는 최대 컨테이너 수
+    private final int maxConcurrentLaunches; // 동시에 진행할 수 있는 실행 요청 수
+    private final int runningTasks; // 현재 실행 중인 태스크 수 (알 수 없으면 -1)
+}
@@ -0,0 +1,59 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.engine.LocalLoadEngine;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 백엔드 JVM 안의 {@link LocalLoadEngine} 으로 컨테이너를 대신합니다. 클라우드 없이 로컬 개발/CI 에서 사용합니다.
+ */
+@Component
+public class InProcessExecutor implements LoadExecutor {
+
+    private final LocalLoadEngine localLoadEngine;
+    private final int maxContainers;
+
+    public InProcessExecutor(
+            LocalLoadEngine localLoadEngine,
+            @Value("${loadtest.executor.in-process.max-containers:16}") int maxContainers) {
+        this.localLoadEngine = localLoadEngine;
+        this.maxContainers = Math.max(1, maxContainers);
+    }
+
+    @Override
+    public ExecutorType getType() {
+        return ExecutorType.IN_PROCESS;
+    }
+
+    @Override
+    public String launch(LoadTestRequest request, int timeoutMillis) {
+        return localLoadEngine.start(request);
+    }
+
+    @Override
+    public Map<String, TaskStatus> getTaskStatuses(Collection<String> taskIds) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        for (String taskId : taskIds) {
+            statuses.put(taskId, localLoadEngine.getStatus(taskId));
+        }
+        return statuses;
+    }
+
+    @Override
+    public void stop(String taskId, String reason) {
+        localLoadEngine.cancel(taskId);
+    }
+
+    // 스레드 시작만 하므로 실행 요청 동시성은 제한하지 않음
+    @Override
+    public ExecutorCapacity getCapacity() {
+        return new ExecutorCapacity(maxContainers, maxContainers, localLoadEngine.getRunningCount());
+    }
+}
@@ -0,0 +1,36 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.common.service.LambdaService;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lambda 함수(sample-lambda.js)가 ECS 태스크를 실행하는 기존 방식.
+ */
+@Component
+public class LambdaEcsExecutor extends EcsTaskExecutorSupport {
+
+    private final LambdaService lambdaService;
+
+    public LambdaEcsExecutor(
+            LambdaService lambdaService,
+            EcsService ecsService,
+            @Value("${loadtest.launch.max-containers:500}") int maxContainers,
+            @Value("${loadtest.executor.lambda-ecs.max-concurrency:20}") int maxConcurrency) {
+        super(ecsService, maxContainers, maxConcurrency);
+        this.lambdaService = lambdaService;
+    }
+
+    @Override
+    public ExecutorType getType() {
+        return ExecutorType.LAMBDA_ECS;
+    }
+
+    @Override
+    public String launch(LoadTestRequest request, int timeoutMillis) {
+        return lambdaService.invokeEcsTask(request, timeoutMillis);
+    }
+}
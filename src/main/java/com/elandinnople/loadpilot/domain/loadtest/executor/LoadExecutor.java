@@ -0,0 +1,63 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 컨테이너(부하 생성 단위)를 실행하는 실행기.
+ * <p>
+ * 구현체는 스프링 빈으로 등록되며 {@link LoadExecutorRegistry} 가 {@link #getType()} 기준으로 찾아 사용합니다.
+ * 모든 메서드는 여러 스레드에서 동시에 호출될 수 있습니다.
+ */
+public interface LoadExecutor {
+
+    ExecutorType getType();
+
+    /**
+     * 컨테이너 하나를 실행합니다.
+     *
+     * @param request 컨테이너 실행 요청
+     * @param timeoutMillis 실행 요청 타임아웃(ms), 0 이하이면 실행기 기본값 사용
+     * @return 실행기 안에서 유일한 태스크 ID
+     */
+    String launch(LoadTestRequest request, int timeoutMillis);
+
+    /**
+     * 태스크 상태를 일괄 조회합니다. 찾을 수 없는 태스크는 결과에 포함되지 않습니다.
+     */
+    Map<String, TaskStatus> getTaskStatuses(Collection<String> taskIds);
+
+    void stop(String taskId, String reason);
+
+    /**
+     * 테스트의 태스크를 모두 중지합니다. 실행 도중 실패하여 ID 를 받지 못한 태스크까지 정리할 수 있는 실행기는 재정의합니다.
+     */
+    default void stopAll(Long testId, Collection<String> taskIds, String reason) {
+        for (String taskId : taskIds) {
+            stop(taskId, reason);
+        }
+    }
+
+    /**
+     * 배치 결정에 사용하는 실행기 용량.
+     */
+    ExecutorCapacity getCapacity();
+
+    /**
+     * 현재 이 실행기로 테스트를 실행할 수 있는지 여부 (예: k6 바이너리 존재).
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * ECS 웜 풀 러너에 컨테이너를 할당할 수 있는지 여부.
+     */
+    default boolean supportsRunnerPool() {
+        return false;
+    }
+}
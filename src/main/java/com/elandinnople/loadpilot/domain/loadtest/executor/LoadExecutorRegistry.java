@@ -0,0 +1,106 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadExecutorResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 실행기를 유형별로 보관하고, 테스트에 사용할 실행기 선택과 실행기별 실행 지연 측정을 담당합니다.
+ * <p>
+ * 기본 실행기는 {@code loadtest.executor.default} 로 지정하며, 지정하지 않으면
+ * {@code aws.use-local-implementation} 이 true 일 때 IN_PROCESS, 아니면 LAMBDA_ECS 를 사용합니다.
+ */
+@Component
+@Slf4j
+public class LoadExecutorRegistry {
+
+    private final Map<ExecutorType, LoadExecutor> executors = new EnumMap<>(ExecutorType.class);
+    private final Map<ExecutorType, Timer> launchTimers = new EnumMap<>(ExecutorType.class);
+    private final ExecutorType defaultType;
+
+    public LoadExecutorRegistry(
+            List<LoadExecutor> executors,
+            MeterRegistry meterRegistry,
+            @Value("${loadtest.executor.default:}") String defaultType,
+            @Value("${aws.use-local-implementation:false}") boolean useLocalImplementation) {
+        for (LoadExecutor executor : executors) {
+            this.executors.put(executor.getType(), executor);
+            launchTimers.put(executor.getType(), Timer.builder("loadpilot.executor.launch")
+                    .description("컨테이너 하나의 실행 요청 지연")
+                    .tag("executor", executor.getType().name())
+                    .register(meterRegistry));
+        }
+
+        if (defaultType != null && !defaultType.isBlank()) {
+            this.defaultType = ExecutorType.valueOf(defaultType.trim());
+        } else {
+            this.defaultType = useLocalImplementation ? ExecutorType.IN_PROCESS : ExecutorType.LAMBDA_ECS;
+        }
+        log.info("부하 실행기 {}개 등록 (기본: {})", this.executors.size(), this.defaultType);
+    }
+
+    public ExecutorType getDefaultType() {
+        return defaultType;
+    }
+
+    /**
+     * 테스트 생성 시 사용할 실행기를 선택합니다.
+     *
+     * @param requested 요청한 실행기 (null 이면 기본 실행기)
+     * @throws IllegalStateException 실행기가 없거나 현재 사용할 수 없는 경우
+     */
+    public LoadExecutor select(ExecutorType requested) {
+        LoadExecutor executor = get(requested != null ? requested : defaultType);
+        if (!executor.isAvailable()) {
+            throw new IllegalStateException("Executor is not available: " + executor.getType());
+        }
+        return executor;
+    }
+
+    public LoadExecutor get(ExecutorType type) {
+        LoadExecutor executor = executors.get(type);
+        if (executor == null) {
+            throw new IllegalStateException("Executor is not registered: " + type);
+        }
+        return executor;
+    }
+
+    public Timer getLaunchTimer(ExecutorType type) {
+        return launchTimers.get(type);
+    }
+
+    // 실행기별 용량과 측정된 실행 지연
+    public List<LoadExecutorResponse> describe() {
+        List<LoadExecutorResponse> responses = new ArrayList<>(executors.size());
+        for (LoadExecutor executor : executors.values()) {
+            ExecutorCapacity capacity = executor.getCapacity();
+            Timer timer = launchTimers.get(executor.getType());
+            boolean measured = timer.count() > 0;
+            Double avgLatencyMs = measured ? timer.mean(TimeUnit.MILLISECONDS) : null;
+
+            responses.add(new LoadExecutorResponse(
+                    executor.getType(),
+                    executor.isAvailable(),
+                    executor.getType() == defaultType,
+                    capacity.getMaxContainersPerTest(),
+                    capacity.getMaxConcurrentLaunches(),
+                    capacity.getRunningTasks(),
+                    timer.count(),
+                    avgLatencyMs,
+                    measured ? timer.max(TimeUnit.MILLISECONDS) : null,
+                    avgLatencyMs != null && avgLatencyMs > 0
+                            ? capacity.getMaxConcurrentLaunches() * 1000.0 / avgLatencyMs : null));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,251 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultIngestionPipeline;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 백엔드 호스트에서 k6 바이너리를 프로세스로 실행합니다.
+ * <p>
+ * 컨테이너마다 임시 디렉터리에 스크립트를 쓰고 {@code k6 run --out json} 으로 실행한 뒤,
+ * 종료되면 JSON 출력의 데이터 포인트로 요약과 지연시간 히스토그램을 만들어 결과 수집 파이프라인으로 전달합니다.
+ */
+@Component
+@Slf4j
+public class LocalK6Executor implements LoadExecutor {
+
+    public static final String TASK_ID_PREFIX = "k6:";
+
+    // k6 는 임계값(thresholds) 위반 시 99 로 종료하지만 결과는 정상적으로 생성됨
+    private static final int THRESHOLDS_FAILED_EXIT_CODE = 99;
+
+    private final TestResultIngestionPipeline ingestionPipeline;
+    private final K6ScriptGenerator k6ScriptGenerator;
+    private final ObjectMapper objectMapper;
+    private final String binary;
+    private final int maxProcesses;
+    private final Map<String, Process> processes = new ConcurrentHashMap<>();
+    // 끝난 프로세스의 결과 상태 (상태 조회 시 한 번 반환하고 제거)
+    private final Map<String, TaskStatus> outcomes = new ConcurrentHashMap<>();
+    private volatile Boolean available;
+
+    public LocalK6Executor(
+            TestResultIngestionPipeline ingestionPipeline,
+            K6ScriptGenerator k6ScriptGenerator,
+            ObjectMapper objectMapper,
+            @Value("${loadtest.executor.local-k6.binary:k6}") String binary,
+            @Value("${loadtest.executor.local-k6.max-processes:4}") int maxProcesses) {
+        this.ingestionPipeline = ingestionPipeline;
+        this.k6ScriptGenerator = k6ScriptGenerator;
+        this.objectMapper = objectMapper;
+        this.binary = binary;
+        this.maxProcesses = Math.max(1, maxProcesses);
+    }
+
+    @Override
+    public ExecutorType getType() {
+        return ExecutorType.LOCAL_K6;
+    }
+
+    @Override
+    public String launch(LoadTestRequest request, int timeoutMillis) {
+        if (processes.size() >= maxProcesses) {
+            throw new IllegalStateException("Local k6 process limit reached: " + maxProcesses);
+        }
+
+        String taskId = TASK_ID_PREFIX + request.getTestId() + ":" + request.getContainerIndex();
+        try {
+            Path workDir = Files.createTempDirectory("loadpilot-k6-");
+            Path script = workDir.resolve("script.js");
+            Files.writeString(script, scriptFor(request), StandardCharsets.UTF_8);
+
+            LocalDateTime startTime = LocalDateTime.now();
+            Process process = new ProcessBuilder(binary, "run", "--quiet",
+                    "--out", "json=" + workDir.resolve("results.json"), script.toString())
+                    .directory(workDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(workDir.resolve("k6.log").toFile())
+                    .start();
+            processes.put(taskId, process);
+
+            Thread.ofVirtual().name("local-k6-" + request.getTestId() + "-" + request.getContainerIndex())
+                    .start(() -> awaitAndReport(taskId, process, request, workDir, startTime));
+            log.info("로컬 k6 프로세스 실행됨: {} (pid {})", taskId, process.pid());
+            return taskId;
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 k6 프로세스 실행 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public Map<String, TaskStatus> getTaskStatuses(Collection<String> taskIds) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        for (String taskId : taskIds) {
+            if (processes.containsKey(taskId)) {
+                statuses.put(taskId, TaskStatus.RUNNING);
+            } else {
+                // 알 수 없는 태스크(재시작 전에 실행된 프로세스)는 결과를 보낼 수 없으므로 실패로 취급
+                TaskStatus outcome = outcomes.remove(taskId);
+                statuses.put(taskId, outcome != null ? outcome : TaskStatus.FAILED);
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public void stop(String taskId, String reason) {
+        Process process = processes.get(taskId);
+        if (process != null) {
+            log.info("로컬 k6 프로세스 중지: {} ({})", taskId, reason);
+            process.destroy();
+        }
+    }
+
+    @Override
+    public ExecutorCapacity getCapacity() {
+        return new ExecutorCapacity(maxProcesses, maxProcesses, processes.size());
+    }
+
+    // k6 바이너리 존재 여부는 처음 확인할 때 한 번만 검사
+    @Override
+    public boolean isAvailable() {
+        if (available == null) {
+            try {
+                Process process = new ProcessBuilder(binary, "version").redirectErrorStream(true).start();
+                available = process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0;
+            } catch (IOException e) {
+                available = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return available;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        processes.values().forEach(Process::destroy);
+    }
+
+    private String scriptFor(LoadTestRequest request) {
+        if (request.getScriptContent() != null && !request.getScriptContent().isBlank()) {
+            return request.getScriptContent();
+        }
+        return k6ScriptGenerator.generateScript(request.getTargetUrl(), request.getTestType(),
+                request.getVirtualUsers(), request.getDurationSeconds(), request.getRampUpSeconds());
+    }
+
+    private void awaitAndReport(String taskId, Process process, LoadTestRequest request,
+                                Path workDir, LocalDateTime startTime) {
+        TaskStatus outcome = TaskStatus.FAILED;
+        try {
+            int exitCode = process.waitFor();
+            if (exitCode != 0 && exitCode != THRESHOLDS_FAILED_EXIT_CODE) {
+                log.error("로컬 k6 프로세스 비정상 종료: {} (exit {})\n{}", taskId, exitCode,
+                        Files.readString(workDir.resolve("k6.log"), StandardCharsets.UTF_8));
+                return;
+            }
+
+            TestResultProcessRequest result = readResult(workDir.resolve("results.json"), request);
+            result.setStartTime(startTime);
+            result.setEndTime(LocalDateTime.now());
+            double elapsedSeconds = Duration.between(startTime, result.getEndTime()).toMillis() / 1000.0;
+            result.setRequestsPerSecond(elapsedSeconds > 0 ? result.getTotalRequests() / elapsedSeconds : 0);
+
+            // 원격 러너의 429 재시도와 같이 큐에 자리가 날 때까지 대기
+            while (!ingestionPipeline.submit(result)) {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+            }
+            outcome = TaskStatus.COMPLETED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+        } catch (Exception e) {
+            log.error("로컬 k6 결과 처리 중 오류 ({}): {}", taskId, e.getMessage(), e);
+        } finally {
+            outcomes.put(taskId, outcome);
+            processes.remove(taskId);
+            deleteQuietly(workDir);
+        }
+    }
+
+    // k6 JSON 출력의 데이터 포인트를 한 줄씩 읽어 요약 (entrypoint.sh 의 jq 계산과 같은 지표)
+    private TestResultProcessRequest readResult(Path resultsFile, LoadTestRequest request) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long totalRequests = 0;
+        long failedRequests = 0;
+        long droppedIterations = 0;
+        double durationSum = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains("\"Point\"")) {
+                    continue;
+                }
+                JsonNode point = objectMapper.readTree(line);
+                double value = point.path("data").path("value").asDouble();
+                switch (point.path("metric").asText()) {
+                    case "http_reqs" -> totalRequests += (long) value;
+                    case "http_req_failed" -> failedRequests += (long) value;
+                    case "dropped_iterations" -> droppedIterations += (long) value;
+                    case "http_req_duration" -> {
+                        histogram.recordValue(value);
+                        durationSum += value;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        TestResultProcessRequest result = new TestResultProcessRequest();
+        result.setLoadTestId(request.getTestId());
+        result.setContainerIndex(request.getContainerIndex());
+        result.setTotalRequests(totalRequests);
+        result.setSuccessfulRequests(totalRequests - failedRequests);
+        result.setFailedRequests(failedRequests);
+        result.setAvgResponseTimeMs(histogram.getTotalCount() > 0 ? durationSum / histogram.getTotalCount() : 0);
+        result.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+        result.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+        result.setMaxResponseTimeMs(histogram.getMaxValue());
+        result.setMinResponseTimeMs(histogram.getMinValue());
+        result.setDroppedIterations(droppedIterations);
+        result.setLatencyHistogram(histogram.toBucketCounts());
+        return result;
+    }
+
+    private static void deleteQuietly(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("임시 디렉터리 삭제 실패: {}", dir);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+
+/**
+ * 실행 중인 테스트의 조기 중단(SLO) 규칙.
+ * <p>
+ * 초 단위 구간의 p95 응답 시간 또는 오류율이 기준을 넘은 구간이 breachSeconds 번 연속되면 위반으로 판단합니다.
+ * 요청 수가 minRequests 미만인 구간은 분위수를 신뢰할 수 없으므로 판단에서 제외합니다.
+ */
+public class AbortRule {
+
+    private final Double p95Ms;
+    private final Double errorRate;
+    private final int breachSeconds;
+    private final long minRequests;
+
+    public AbortRule(Double p95Ms, Double errorRate, int breachSeconds, long minRequests) {
+        this.p95Ms = p95Ms;
+        this.errorRate = errorRate;
+        this.breachSeconds = Math.max(1, breachSeconds);
+        this.minRequests = Math.max(1, minRequests);
+    }
+
+    /**
+     * 테스트에 설정된 규칙을 만듭니다. 기준이 하나도 없으면 null 을 반환합니다.
+     */
+    public static AbortRule of(LoadTest loadTest, int defaultBreachSeconds, long minRequests) {
+        if (loadTest.getAbortP95Ms() == null && loadTest.getAbortErrorRate() == null) {
+            return null;
+        }
+        int breachSeconds = loadTest.getAbortBreachSeconds() != null
+                ? loadTest.getAbortBreachSeconds() : defaultBreachSeconds;
+        return new AbortRule(loadTest.getAbortP95Ms(), loadTest.getAbortErrorRate(), breachSeconds, minRequests);
+    }
+
+    public int getBreachSeconds() {
+        return breachSeconds;
+    }
+
+    public long getMinRequests() {
+        return minRequests;
+    }
+
+    /**
+     * 구간 지표가 기준을 넘었는지 확인합니다.
+     *
+     * @return 위반한 기준 설명, 위반하지 않았으면 null
+     */
+    public String check(double p95ResponseTimeMs, double intervalErrorRate) {
+        if (errorRate != null && intervalErrorRate > errorRate) {
+            return String.format("error rate %.3f > %.3f", intervalErrorRate, errorRate);
+        }
+        if (p95Ms != null && p95ResponseTimeMs > p95Ms) {
+            return String.format("p95 %.1fms > %.1fms", p95ResponseTimeMs, p95Ms);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import lombok.Getter;
+
+/**
+ * 컨테이너 하나에 대해 스트리밍으로 누적된 메트릭.
+ * {@link TestMetricsAccumulator} 의 잠금 하에서만 접근됩니다.
+ */
+@Getter
+public class ContainerMetrics {
+
+    private final int containerIndex;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long requests;
+    private long failedRequests;
+    private long firstTimestamp = Long.MAX_VALUE; // 첫 구간 시작 시각 (epoch ms)
+    private long lastTimestamp;                   // 마지막 구간 종료 시각 (epoch ms)
+
+    public ContainerMetrics(int containerIndex) {
+        this.containerIndex = containerIndex;
+    }
+
+    void apply(MetricFrame frame) {
+        requests += frame.getRequests();
+        failedRequests += frame.getFailedRequests();
+        for (int i = 0; i < frame.getBucketSize(); i++) {
+            histogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+        }
+        if (frame.getTimestamp() > 0) {
+            firstTimestamp = Math.min(firstTimestamp, frame.getTimestamp());
+            lastTimestamp = Math.max(lastTimestamp, frame.getTimestamp() + frame.getIntervalMs());
+        }
+    }
+
+    public boolean hasData() {
+        return requests > 0 || histogram.getTotalCount() > 0;
+    }
+
+    public double getElapsedSeconds() {
+        if (firstTimestamp == Long.MAX_VALUE || lastTimestamp <= firstTimestamp) {
+            return 0;
+        }
+        return (lastTimestamp - firstTimestamp) / 1000.0;
+    }
+}
@@ -0,0 +1,216 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트 하나의 실시간 이벤트 채널.
+ * <p>
+ * 최근 메트릭 스냅샷을 고정 크기 링 버퍼에 보관하고 모든 구독자가 이를 공유합니다.
+ * 이벤트는 한 번만 JSON 으로 직렬화되어 모든 구독자에게 그대로 전송되므로,
+ * 구독자 수가 늘어도 DB 나 AWS 호출은 증가하지 않습니다.
+ * <p>
+ * 전송은 구독자마다 순서를 지키는 큐를 거쳐 전송 실행기에서 이루어지므로, 느린 구독자가 이벤트를 발행하는
+ * 스케줄러 스레드나 다른 구독자를 막지 않습니다. 버퍼 크기만큼 밀린 구독자와 시간이 초과된 구독자는 연결을 끊습니다.
+ */
+@Slf4j
+public class LiveChannel {
+
+    public static final String STATUS_EVENT = "status";
+    public static final String METRICS_EVENT = "metrics";
+
+    private final String[] ring;
+    private int next;
+    private int size;
+    private String lastStatusJson;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Executor sendExecutor;
+
+    public LiveChannel(int capacity, Executor sendExecutor) {
+        this.ring = new String[capacity];
+        this.sendExecutor = sendExecutor;
+    }
+
+    /**
+     * 구독자를 추가하고 현재 상태와 버퍼에 남아 있는 스냅샷을 먼저 전송합니다.
+     */
+    public void subscribe(SseEmitter emitter) {
+        String status;
+        List<String> backlog;
+        synchronized (this) {
+            status = lastStatusJson;
+            backlog = bufferedSnapshots();
+        }
+
+        try {
+            if (status != null) {
+                emitter.send(SseEmitter.event().name(STATUS_EVENT).data(status, MediaType.APPLICATION_JSON));
+            }
+            for (String snapshot : backlog) {
+                emitter.send(SseEmitter.event().name(METRICS_EVENT).data(snapshot, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        // 시간이 초과된 연결은 정상 종료하여 비동기 요청 타임아웃 오류 대신 스트림을 닫음
+        emitter.onTimeout(() -> subscriber.drop(null));
+        emitter.onError(subscriber::drop);
+    }
+
+    public void publishMetrics(String snapshotJson) {
+        synchronized (this) {
+            ring[next] = snapshotJson;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+        }
+        broadcast(METRICS_EVENT, snapshotJson);
+    }
+
+    /**
+     * 아직 상태가 기록되지 않은 채널(서버 재시작 직후 등)에만 현재 상태를 설정합니다. 구독자에게 전송하지 않습니다.
+     */
+    public synchronized void initStatus(String statusJson) {
+        if (lastStatusJson == null) {
+            lastStatusJson = statusJson;
+        }
+    }
+
+    public void publishStatus(String statusJson) {
+        synchronized (this) {
+            lastStatusJson = statusJson;
+        }
+        broadcast(STATUS_EVENT, statusJson);
+    }
+
+    /**
+     * 모든 구독을 정상 종료합니다.
+     */
+    public void complete() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(COMPLETE);
+        }
+        subscribers.clear();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(String eventName, String json) {
+        Event event = new Event(eventName, json);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    // 오래된 것부터 순서대로
+    private List<String> bufferedSnapshots() {
+        List<String> result = new ArrayList<>(size);
+        int start = (next - size + ring.length) % ring.length;
+        for (int i = 0; i < size; i++) {
+            result.add(ring[(start + i) % ring.length]);
+        }
+        return result;
+    }
+
+    private record Event(String name, String json) {
+    }
+
+    // 앞선 이벤트를 모두 보낸 뒤 연결을 종료하라는 표시
+    private static final Event COMPLETE = new Event(null, null);
+
+    /**
+     * 구독자 하나의 전송 큐. 한 번에 하나의 전송 작업만 큐를 비우므로 이벤트 순서가 유지됩니다.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Event event) {
+            if (closed) {
+                return;
+            }
+            // 링 버퍼 크기만큼 밀렸으면 따라잡을 수 없는 구독자로 보고 연결을 끊음
+            if (pendingCount.incrementAndGet() > ring.length) {
+                log.debug("Dropping slow live subscriber ({} pending events)", ring.length);
+                drop(null);
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        void drop(Throwable error) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            pending.clear();
+            if (error == null) {
+                emitter.complete();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 서버 종료 중
+                    draining.set(false);
+                    drop(null);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while (!closed && (event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    if (event == COMPLETE) {
+                        closed = true;
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().name(event.name()).data(event.json(), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Removing disconnected live subscriber: {}", e.getMessage());
+                drop(e);
+            } finally {
+                draining.set(false);
+            }
+            // 마지막 확인 이후 들어온 이벤트가 있으면 다시 전송
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
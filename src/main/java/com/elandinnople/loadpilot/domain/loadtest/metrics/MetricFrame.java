@@ -0,0 +1,65 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * 러너가 주기적으로 전송하는 메트릭 증분 프레임.
+ * <p>
+ * 스트리밍 파서가 하나의 인스턴스를 재사용하며 프레임마다 값을 덮어쓰므로,
+ * 프레임 처리 중 별도의 객체 할당이 발생하지 않습니다. 처리 후 참조를 보관하면 안 됩니다.
+ */
+@Getter
+@Setter
+public class MetricFrame {
+
+    private long loadTestId;
+    private int containerIndex;
+    private long timestamp;      // 구간 시작 시각 (epoch ms)
+    private int intervalMs;      // 구간 길이 (ms)
+    private long requests;       // 구간 동안의 요청 수
+    private long failedRequests; // 구간 동안의 실패 요청 수
+
+    // 구간 동안의 지연시간 히스토그램 증분 (LatencyHistogram 버킷 인덱스 -> 카운트)
+    private int[] bucketIndexes = new int[64];
+    private long[] bucketCounts = new long[64];
+    private int bucketSize;
+
+    // 구간 동안의 오류 유형별 카운트 (예: HTTP 상태 코드)
+    private String[] errorKeys = new String[8];
+    private long[] errorCounts = new long[8];
+    private int errorSize;
+
+    public void reset() {
+        loadTestId = 0;
+        containerIndex = 0;
+        timestamp = 0;
+        intervalMs = 0;
+        requests = 0;
+        failedRequests = 0;
+        bucketSize = 0;
+        errorSize = 0;
+    }
+
+    public void addBucket(int index, long count) {
+        if (bucketSize == bucketIndexes.length) {
+            bucketIndexes = Arrays.copyOf(bucketIndexes, bucketSize * 2);
+            bucketCounts = Arrays.copyOf(bucketCounts, bucketSize * 2);
+        }
+        bucketIndexes[bucketSize] = index;
+        bucketCounts[bucketSize] = count;
+        bucketSize++;
+    }
+
+    public void addError(String key, long count) {
+        if (errorSize == errorKeys.length) {
+            errorKeys = Arrays.copyOf(errorKeys, errorSize * 2);
+            errorCounts = Arrays.copyOf(errorCounts, errorSize * 2);
+        }
+        errorKeys[errorSize] = key;
+        errorCounts[errorSize] = count;
+        errorSize++;
+    }
+}
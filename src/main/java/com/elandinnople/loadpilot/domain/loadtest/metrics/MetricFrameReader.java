@@ -0,0 +1,94 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON(줄 단위 JSON 객체) 또는 JSON 배열 형태의 메트릭 프레임을 스트리밍 파싱합니다.
+ * <p>
+ * 요청 본문 전체를 메모리에 올리지 않고 토큰 단위로 읽어 재사용 가능한 {@link MetricFrame} 에 채웁니다.
+ */
+public class MetricFrameReader {
+
+    private final JsonFactory jsonFactory;
+
+    public MetricFrameReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 입력 스트림의 모든 프레임을 읽어 consumer 에 전달합니다.
+     *
+     * @return 처리한 프레임 수
+     */
+    public int read(InputStream inputStream, Consumer<MetricFrame> consumer) throws IOException {
+        MetricFrame frame = new MetricFrame();
+        int frameCount = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+
+            // NDJSON 은 공백으로 구분된 루트 객체의 연속이므로 그대로 반복해서 읽음
+            while (token == JsonToken.START_OBJECT) {
+                frame.reset();
+                readFrame(parser, frame);
+                consumer.accept(frame);
+                frameCount++;
+                token = parser.nextToken();
+            }
+
+            if (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                throw new IOException("Unexpected token in metric stream: " + token);
+            }
+        }
+        return frameCount;
+    }
+
+    private void readFrame(JsonParser parser, MetricFrame frame) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "loadTestId" -> frame.setLoadTestId(parser.getLongValue());
+                case "containerIndex" -> frame.setContainerIndex(parser.getIntValue());
+                case "timestamp" -> frame.setTimestamp(parser.getLongValue());
+                case "intervalMs" -> frame.setIntervalMs(parser.getIntValue());
+                case "requests" -> frame.setRequests(parser.getValueAsLong());
+                case "failedRequests" -> frame.setFailedRequests(parser.getValueAsLong());
+                case "latencyHistogram" -> readBuckets(parser, frame);
+                case "errors" -> readErrors(parser, frame);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readBuckets(JsonParser parser, MetricFrame frame) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int index = Integer.parseInt(parser.currentName());
+            parser.nextToken();
+            frame.addBucket(index, parser.getValueAsLong());
+        }
+    }
+
+    private void readErrors(JsonParser parser, MetricFrame frame) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            // 필드명은 파서가 정규화(intern)하므로 반복되는 오류 키마다 새 문자열이 생기지 않음
+            String key = parser.currentName();
+            parser.nextToken();
+            frame.addError(key, parser.getValueAsLong());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 테스트별 구간 메트릭 시계열 파일(.lpts) 형식.
+ * <p>
+ * <pre>
+ * file    := header block* footer trailer
+ * header  := magic(i32 "LPTS") version(u8) reserved(3)
+ * block   := pointCount(varint) firstTimestamp(varint) point*
+ * point   := timestampDelta(zigzag) intervalMs(varint) requests(varint) failedRequests(varint)
+ *            bucketSize(varint) [bucketIndexDelta(zigzag) count(varint)]*
+ *            tagSize(varint) [tagId(varint) count(varint)]*
+ * footer  := tagCount(varint) [length(varint) utf8]* sectionCount(varint) section*
+ * section := resolutionMs(varint) blockCount(varint) [firstTimestamp(i64) lastTimestamp(i64) offset(i64) length(i32)]*
+ * trailer := footerOffset(i64) magic(i32)
+ * </pre>
+ * 첫 번째 섹션은 원본 해상도, 나머지는 기록 시점에 미리 계산한 롤업 해상도(오름차순)입니다.
+ * 타임스탬프는 블록 안에서 직전 포인트와의 차이로 저장되고, 태그(오류 유형) 이름은 푸터의 사전에 한 번만 저장됩니다.
+ * 블록 인덱스는 고정 크기이므로 조회 시 시간 범위에 걸친 블록만 찾아 디코딩할 수 있습니다.
+ */
+final class MetricSeriesFormat {
+
+    static final int MAGIC = 0x4C505453;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int BLOCK_INDEX_ENTRY_BYTES = Long.BYTES * 3 + Integer.BYTES;
+
+    // 1초 구간 기준 블록 하나가 5분을 담당
+    static final int POINTS_PER_BLOCK = 300;
+
+    private MetricSeriesFormat() {
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeZigZag(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static long readZigZag(ByteBuffer buffer) {
+        long value = readVarLong(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,224 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * {@link MetricSeriesWriter} 가 만든 시계열 파일을 메모리 매핑으로 읽습니다.
+ * <p>
+ * 열 때는 트레일러와 푸터(태그 사전, 섹션별 블록 인덱스)만 읽고, 조회 시 시간 범위에 걸친 블록만 디코딩합니다.
+ * 파일 전체를 힙에 올리지 않으므로 장시간 테스트의 일부 구간도 빠르게 읽을 수 있습니다.
+ * 열린 뒤에는 읽기 전용이므로 여러 스레드에서 동시에 조회해도 됩니다.
+ */
+public class MetricSeriesReader {
+
+    private final MappedByteBuffer mapped;
+    private final String[] tags;
+    // 원본 해상도가 첫 번째, 롤업 해상도는 오름차순
+    private final Section[] sections;
+
+    private MetricSeriesReader(MappedByteBuffer mapped) throws IOException {
+        this.mapped = mapped;
+        int size = mapped.capacity();
+        if (size < MetricSeriesFormat.HEADER_BYTES + MetricSeriesFormat.TRAILER_BYTES
+                || mapped.getInt(0) != MetricSeriesFormat.MAGIC
+                || mapped.getInt(size - Integer.BYTES) != MetricSeriesFormat.MAGIC) {
+            throw new IOException("Not a complete metric series file");
+        }
+        if (mapped.get(Integer.BYTES) != MetricSeriesFormat.VERSION) {
+            throw new IOException("Unsupported metric series version: " + mapped.get(Integer.BYTES));
+        }
+
+        ByteBuffer footer = mapped.duplicate();
+        footer.position((int) mapped.getLong(size - MetricSeriesFormat.TRAILER_BYTES));
+
+        tags = new String[(int) MetricSeriesFormat.readVarLong(footer)];
+        for (int i = 0; i < tags.length; i++) {
+            byte[] bytes = new byte[(int) MetricSeriesFormat.readVarLong(footer)];
+            footer.get(bytes);
+            tags[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        sections = new Section[(int) MetricSeriesFormat.readVarLong(footer)];
+        if (sections.length == 0) {
+            throw new IOException("Metric series file has no sections");
+        }
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = new Section(footer);
+        }
+    }
+
+    /**
+     * 시계열 파일을 읽기 전용으로 매핑합니다. 매핑은 파일 채널을 닫은 뒤에도 유효합니다.
+     *
+     * @throws IOException 파일이 없거나 닫히지 않은(푸터가 없는) 파일인 경우
+     */
+    public static MetricSeriesReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MetricSeriesReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 원본 해상도 (ms)
+     */
+    public int getResolutionMs() {
+        return sections[0].resolutionMs;
+    }
+
+    /**
+     * 저장된 모든 해상도 (ms, 오름차순)
+     */
+    public int[] getResolutionsMs() {
+        int[] resolutions = new int[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            resolutions[i] = sections[i].resolutionMs;
+        }
+        return resolutions;
+    }
+
+    /**
+     * 주어진 간격을 넘지 않는 가장 큰 저장 해상도 (ms). 간격이 원본 해상도보다 작으면 원본 해상도를 반환합니다.
+     */
+    public int coarsestResolutionAtMost(long stepMs) {
+        int resolution = sections[0].resolutionMs;
+        for (Section section : sections) {
+            if (section.resolutionMs <= stepMs) {
+                resolution = section.resolutionMs;
+            }
+        }
+        return resolution;
+    }
+
+    public boolean isEmpty() {
+        return sections[0].firstTimestamps.length == 0;
+    }
+
+    public long getFirstTimestamp() {
+        return isEmpty() ? 0 : sections[0].firstTimestamps[0];
+    }
+
+    public long getLastTimestamp() {
+        long[] lastTimestamps = sections[0].lastTimestamps;
+        return isEmpty() ? 0 : lastTimestamps[lastTimestamps.length - 1];
+    }
+
+    /**
+     * 원본 해상도에서 구간 시작 시각이 [fromMs, toMs) 에 속하는 프레임을 읽습니다.
+     *
+     * @see #read(int, long, long, Consumer)
+     */
+    public int read(long fromMs, long toMs, Consumer<MetricFrame> consumer) {
+        return read(getResolutionMs(), fromMs, toMs, consumer);
+    }
+
+    /**
+     * 지정한 해상도 섹션에서 구간 시작 시각이 [fromMs, toMs) 에 속하는 프레임을 시각 순서로 consumer 에 전달합니다.
+     * 하나의 프레임 인스턴스를 재사용하므로 consumer 는 참조를 보관하면 안 됩니다.
+     *
+     * @return 전달한 프레임 수
+     * @throws IllegalArgumentException 저장되지 않은 해상도인 경우
+     */
+    public int read(int resolutionMs, long fromMs, long toMs, Consumer<MetricFrame> consumer) {
+        Section section = section(resolutionMs);
+        MetricFrame frame = new MetricFrame();
+        int frameCount = 0;
+        for (int block = section.firstBlockEndingAtOrAfter(fromMs);
+             block < section.firstTimestamps.length && section.firstTimestamps[block] < toMs; block++) {
+            ByteBuffer buffer = mapped.slice((int) section.offsets[block], section.lengths[block]);
+            int pointCount = (int) MetricSeriesFormat.readVarLong(buffer);
+            long timestamp = MetricSeriesFormat.readVarLong(buffer);
+
+            for (int i = 0; i < pointCount; i++) {
+                frame.reset();
+                timestamp += MetricSeriesFormat.readZigZag(buffer);
+                readPoint(buffer, frame);
+                if (timestamp >= toMs) {
+                    return frameCount;
+                }
+                if (timestamp >= fromMs) {
+                    frame.setTimestamp(timestamp);
+                    consumer.accept(frame);
+                    frameCount++;
+                }
+            }
+        }
+        return frameCount;
+    }
+
+    private Section section(int resolutionMs) {
+        for (Section section : sections) {
+            if (section.resolutionMs == resolutionMs) {
+                return section;
+            }
+        }
+        throw new IllegalArgumentException("No metric series section for resolution " + resolutionMs + "ms");
+    }
+
+    private void readPoint(ByteBuffer buffer, MetricFrame frame) {
+        frame.setIntervalMs((int) MetricSeriesFormat.readVarLong(buffer));
+        frame.setRequests(MetricSeriesFormat.readVarLong(buffer));
+        frame.setFailedRequests(MetricSeriesFormat.readVarLong(buffer));
+
+        int bucketSize = (int) MetricSeriesFormat.readVarLong(buffer);
+        int bucket = 0;
+        for (int i = 0; i < bucketSize; i++) {
+            bucket += (int) MetricSeriesFormat.readZigZag(buffer);
+            frame.addBucket(bucket, MetricSeriesFormat.readVarLong(buffer));
+        }
+
+        int tagSize = (int) MetricSeriesFormat.readVarLong(buffer);
+        for (int i = 0; i < tagSize; i++) {
+            String tag = tags[(int) MetricSeriesFormat.readVarLong(buffer)];
+            frame.addError(tag, MetricSeriesFormat.readVarLong(buffer));
+        }
+    }
+
+    /**
+     * 해상도 하나의 블록 인덱스.
+     */
+    private static final class Section {
+
+        private final int resolutionMs;
+        private final long[] firstTimestamps;
+        private final long[] lastTimestamps;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private Section(ByteBuffer footer) {
+            resolutionMs = (int) MetricSeriesFormat.readVarLong(footer);
+            int blockCount = (int) MetricSeriesFormat.readVarLong(footer);
+            firstTimestamps = new long[blockCount];
+            lastTimestamps = new long[blockCount];
+            offsets = new long[blockCount];
+            lengths = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                firstTimestamps[i] = footer.getLong();
+                lastTimestamps[i] = footer.getLong();
+                offsets[i] = footer.getLong();
+                lengths[i] = footer.getInt();
+            }
+        }
+
+        // 블록의 마지막 시각 기준 이진 탐색
+        private int firstBlockEndingAtOrAfter(long timestamp) {
+            int low = 0;
+            int high = lastTimestamps.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lastTimestamps[mid] < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
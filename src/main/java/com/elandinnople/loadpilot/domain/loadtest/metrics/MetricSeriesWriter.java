@@ -0,0 +1,279 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구간 메트릭 프레임을 {@link MetricSeriesFormat} 형식의 파일에 순서대로 추가합니다.
+ * <p>
+ * 원본 해상도 섹션과 함께 더 큰 해상도의 롤업 섹션(예: 10초, 1분)을 기록 시점에 미리 계산합니다.
+ * 롤업은 구간의 카운터와 히스토그램 버킷을 더하는 것만으로 만들어지므로 원본을 다시 읽지 않고도 정확한 분위수를 얻을 수 있습니다.
+ * 섹션마다 현재 블록만 메모리에 보관하고 가득 차면 파일 끝에 기록하므로 실행 시간과 관계없이 메모리 사용량이 일정합니다.
+ * 블록 인덱스와 태그 사전은 {@link #close()} 시 푸터로 기록되며, 닫히지 않은 파일은 읽을 수 없습니다.
+ * 이 클래스는 스레드 안전하지 않습니다.
+ */
+public class MetricSeriesWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final Map<String, Integer> tagIds = new LinkedHashMap<>();
+    // 원본 섹션이 첫 번째, 롤업 섹션은 해상도 오름차순
+    private final List<Section> sections = new ArrayList<>();
+    private long position;
+    private boolean closed;
+
+    private MetricSeriesWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 새 시계열 파일을 만듭니다. 같은 경로의 파일이 있으면 덮어씁니다.
+     *
+     * @param resolutionMs 프레임 구간 길이 (ms)
+     * @param rollupResolutionsMs 미리 계산할 롤업 해상도 (ms). 원본 해상도보다 크지 않은 값은 무시됩니다.
+     */
+    public static MetricSeriesWriter create(Path file, int resolutionMs, int... rollupResolutionsMs)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        MetricSeriesWriter writer = new MetricSeriesWriter(channel);
+        writer.sections.add(new Section(resolutionMs, false));
+        int previous = resolutionMs;
+        int[] rollups = rollupResolutionsMs.clone();
+        Arrays.sort(rollups);
+        for (int rollup : rollups) {
+            if (rollup > previous) {
+                writer.sections.add(new Section(rollup, true));
+                previous = rollup;
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(MetricSeriesFormat.HEADER_BYTES);
+        header.putInt(MetricSeriesFormat.MAGIC).put(MetricSeriesFormat.VERSION);
+        // 예약 바이트를 포함한 헤더 전체를 기록
+        writer.write(header.rewind());
+        return writer;
+    }
+
+    /**
+     * 프레임 하나를 원본 섹션에 추가하고 롤업 섹션에 누적합니다. 프레임은 시각 순서로 추가되어야 합니다.
+     */
+    public void append(MetricFrame frame) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Metric series writer is closed");
+        }
+        for (Section section : sections) {
+            if (section.rollup) {
+                if (section.pending && section.windowStart != windowStart(frame.getTimestamp(), section.resolutionMs)) {
+                    appendPoint(section, section.flushWindow());
+                }
+                section.accumulate(frame);
+            } else {
+                appendPoint(section, frame);
+            }
+        }
+    }
+
+    /**
+     * 남은 롤업 구간과 블록, 푸터를 기록하고 파일을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (Section section : sections) {
+                if (section.pending) {
+                    appendPoint(section, section.flushWindow());
+                }
+                flushBlock(section);
+            }
+            long footerOffset = position;
+
+            ByteArrayOutputStream footer = new ByteArrayOutputStream();
+            MetricSeriesFormat.writeVarLong(footer, tagIds.size());
+            for (String tag : tagIds.keySet()) {
+                byte[] bytes = tag.getBytes(StandardCharsets.UTF_8);
+                MetricSeriesFormat.writeVarLong(footer, bytes.length);
+                footer.writeBytes(bytes);
+            }
+            MetricSeriesFormat.writeVarLong(footer, sections.size());
+            write(ByteBuffer.wrap(footer.toByteArray()));
+
+            for (Section section : sections) {
+                ByteArrayOutputStream sectionHeader = new ByteArrayOutputStream(16);
+                MetricSeriesFormat.writeVarLong(sectionHeader, section.resolutionMs);
+                MetricSeriesFormat.writeVarLong(sectionHeader, section.blockIndex.size());
+                write(ByteBuffer.wrap(sectionHeader.toByteArray()));
+
+                ByteBuffer entries = ByteBuffer.allocate(
+                        section.blockIndex.size() * MetricSeriesFormat.BLOCK_INDEX_ENTRY_BYTES);
+                for (long[] entry : section.blockIndex) {
+                    entries.putLong(entry[0]).putLong(entry[1]).putLong(entry[2]).putInt((int) entry[3]);
+                }
+                write(entries.flip());
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(MetricSeriesFormat.TRAILER_BYTES);
+            trailer.putLong(footerOffset).putInt(MetricSeriesFormat.MAGIC);
+            write(trailer.flip());
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void appendPoint(Section section, MetricFrame frame) throws IOException {
+        if (section.blockPoints == 0) {
+            section.blockFirstTimestamp = frame.getTimestamp();
+            section.previousTimestamp = section.blockFirstTimestamp;
+        }
+        ByteArrayOutputStream block = section.block;
+
+        MetricSeriesFormat.writeZigZag(block, frame.getTimestamp() - section.previousTimestamp);
+        MetricSeriesFormat.writeVarLong(block, frame.getIntervalMs());
+        MetricSeriesFormat.writeVarLong(block, frame.getRequests());
+        MetricSeriesFormat.writeVarLong(block, frame.getFailedRequests());
+
+        MetricSeriesFormat.writeVarLong(block, frame.getBucketSize());
+        int previousBucket = 0;
+        for (int i = 0; i < frame.getBucketSize(); i++) {
+            MetricSeriesFormat.writeZigZag(block, frame.getBucketIndexes()[i] - previousBucket);
+            MetricSeriesFormat.writeVarLong(block, frame.getBucketCounts()[i]);
+            previousBucket = frame.getBucketIndexes()[i];
+        }
+
+        MetricSeriesFormat.writeVarLong(block, frame.getErrorSize());
+        for (int i = 0; i < frame.getErrorSize(); i++) {
+            MetricSeriesFormat.writeVarLong(block, tagIds.computeIfAbsent(frame.getErrorKeys()[i], key -> tagIds.size()));
+            MetricSeriesFormat.writeVarLong(block, frame.getErrorCounts()[i]);
+        }
+
+        section.previousTimestamp = frame.getTimestamp();
+        if (++section.blockPoints == MetricSeriesFormat.POINTS_PER_BLOCK) {
+            flushBlock(section);
+        }
+    }
+
+    // 블록 헤더(포인트 수, 첫 시각)는 포인트를 모두 받은 뒤에 알 수 있으므로 기록 시점에 앞에 붙임
+    private void flushBlock(Section section) throws IOException {
+        if (section.blockPoints == 0) {
+            return;
+        }
+        ByteArrayOutputStream header = new ByteArrayOutputStream(16);
+        MetricSeriesFormat.writeVarLong(header, section.blockPoints);
+        MetricSeriesFormat.writeVarLong(header, section.blockFirstTimestamp);
+
+        long offset = position;
+        write(ByteBuffer.wrap(header.toByteArray()));
+        write(ByteBuffer.wrap(section.block.toByteArray()));
+        section.blockIndex.add(new long[]{section.blockFirstTimestamp, section.previousTimestamp, offset,
+                position - offset});
+
+        section.block.reset();
+        section.blockPoints = 0;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    static long windowStart(long timestamp, int resolutionMs) {
+        return timestamp - Math.floorMod(timestamp, resolutionMs);
+    }
+
+    /**
+     * 해상도 하나의 블록 상태. 롤업 섹션은 현재 구간의 누적 상태도 함께 가집니다.
+     */
+    private static final class Section {
+
+        private final int resolutionMs;
+        private final boolean rollup;
+        // 블록 인덱스 항목: 첫 시각, 마지막 시각, 파일 오프셋, 길이
+        private final List<long[]> blockIndex = new ArrayList<>();
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+        private int blockPoints;
+        private long blockFirstTimestamp;
+        private long previousTimestamp;
+
+        // 롤업 구간 누적 상태
+        private boolean pending;
+        private long windowStart;
+        private long windowIntervalMs;
+        private long windowRequests;
+        private long windowFailedRequests;
+        private final LatencyHistogram windowHistogram;
+        private final Map<String, long[]> windowErrorCounts;
+        private final MetricFrame windowFrame;
+
+        private Section(int resolutionMs, boolean rollup) {
+            this.resolutionMs = resolutionMs;
+            this.rollup = rollup;
+            this.windowHistogram = rollup ? new LatencyHistogram() : null;
+            this.windowErrorCounts = rollup ? new HashMap<>() : null;
+            this.windowFrame = rollup ? new MetricFrame() : null;
+        }
+
+        private void accumulate(MetricFrame frame) {
+            if (!pending) {
+                pending = true;
+                windowStart = windowStart(frame.getTimestamp(), resolutionMs);
+            }
+            windowIntervalMs += frame.getIntervalMs();
+            windowRequests += frame.getRequests();
+            windowFailedRequests += frame.getFailedRequests();
+            for (int i = 0; i < frame.getBucketSize(); i++) {
+                windowHistogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+            }
+            for (int i = 0; i < frame.getErrorSize(); i++) {
+                windowErrorCounts.computeIfAbsent(frame.getErrorKeys()[i], key -> new long[1])[0]
+                        += frame.getErrorCounts()[i];
+            }
+        }
+
+        // 누적한 구간을 프레임으로 만들고 누적 상태를 초기화 (반환된 프레임은 다음 호출 전까지만 유효)
+        private MetricFrame flushWindow() {
+            windowFrame.reset();
+            windowFrame.setTimestamp(windowStart);
+            windowFrame.setIntervalMs((int) Math.min(windowIntervalMs, Integer.MAX_VALUE));
+            windowFrame.setRequests(windowRequests);
+            windowFrame.setFailedRequests(windowFailedRequests);
+            for (int i = 0; windowHistogram.getTotalCount() > 0 && i < LatencyHistogram.BUCKET_COUNT; i++) {
+                long count = windowHistogram.getBucketCount(i);
+                if (count > 0) {
+                    windowFrame.addBucket(i, count);
+                }
+            }
+            windowErrorCounts.forEach((key, count) -> {
+                if (count[0] > 0) {
+                    windowFrame.addError(key, count[0]);
+                    count[0] = 0;
+                }
+            });
+
+            pending = false;
+            windowIntervalMs = 0;
+            windowRequests = 0;
+            windowFailedRequests = 0;
+            windowHistogram.reset();
+            return windowFrame;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 컨테이너 결과의 부분 집계.
+ * <p>
+ * 컨테이너 결과 행 하나가 잎 노드가 되고, 그룹 단위로 병합한 부분 집계를 다시 병합하여 전체 집계를 만듭니다.
+ * 모든 필드가 결합법칙을 만족하는 연산(합/최대/최소/히스토그램 합산)으로 병합되므로 그룹 크기나 순서와 관계없이 결과가 같습니다.
+ * 이 클래스는 스레드 안전하지 않습니다.
+ */
+@Getter
+public class PartialAggregate {
+
+    // 키셋 페이지 조회용 마지막 결과 ID
+    private long lastResultId;
+    private int containerCount;
+    private long totalRequests;
+    private long successfulRequests;
+    private long failedRequests;
+    // 평균 응답 시간 * 요청 수 (가중 평균 계산용)
+    private double responseTimeSum;
+    private double maxP95ResponseTimeMs;
+    private double maxP99ResponseTimeMs;
+    private double maxResponseTimeMs;
+    private double minResponseTimeMs = Double.MAX_VALUE;
+    private double requestsPerSecond;
+    // 도착률 모델에서 VU 부족으로 시작하지 못한 반복 수
+    private long droppedIterations;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    // 히스토그램이 없는 컨테이너가 하나라도 있으면 정확한 분위수를 계산할 수 없음
+    private boolean histogramComplete = true;
+    // 조정 누락(coordinated omission) 보정 지표
+    private double maxCorrectedP95ResponseTimeMs;
+    private double maxCorrectedP99ResponseTimeMs;
+    private final LatencyHistogram correctedHistogram = new LatencyHistogram();
+    private boolean correctedHistogramComplete = true;
+
+    public PartialAggregate() {
+    }
+
+    /**
+     * 컨테이너 결과 한 행으로 잎 노드를 만듭니다. JPQL 생성자 표현식에서 사용됩니다.
+     */
+    public PartialAggregate(Long resultId, Long totalRequests, Long successfulRequests, Long failedRequests,
+                            Double avgResponseTimeMs, Double p95ResponseTimeMs, Double p99ResponseTimeMs,
+                            Double maxResponseTimeMs, Double minResponseTimeMs, Double requestsPerSecond,
+                            Long droppedIterations,
+                            LocalDateTime startTime, LocalDateTime endTime, String latencyHistogram,
+                            Double correctedP95ResponseTimeMs, Double correctedP99ResponseTimeMs,
+                            String correctedLatencyHistogram) {
+        this.lastResultId = resultId;
+        this.containerCount = 1;
+        this.totalRequests = valueOf(totalRequests);
+        this.successfulRequests = valueOf(successfulRequests);
+        this.failedRequests = valueOf(failedRequests);
+        this.responseTimeSum = valueOf(avgResponseTimeMs) * this.totalRequests;
+        this.maxP95ResponseTimeMs = valueOf(p95ResponseTimeMs);
+        this.maxP99ResponseTimeMs = valueOf(p99ResponseTimeMs);
+        this.maxResponseTimeMs = valueOf(maxResponseTimeMs);
+        this.minResponseTimeMs = minResponseTimeMs != null ? minResponseTimeMs : Double.MAX_VALUE;
+        this.requestsPerSecond = valueOf(requestsPerSecond);
+        this.droppedIterations = valueOf(droppedIterations);
+        this.startTime = startTime;
+        this.endTime = endTime;
+        if (latencyHistogram != null) {
+            this.histogram.add(LatencyHistogram.decode(latencyHistogram));
+        } else {
+            this.histogramComplete = false;
+        }
+        this.maxCorrectedP95ResponseTimeMs = valueOf(correctedP95ResponseTimeMs);
+        this.maxCorrectedP99ResponseTimeMs = valueOf(correctedP99ResponseTimeMs);
+        if (correctedLatencyHistogram != null) {
+            this.correctedHistogram.add(LatencyHistogram.decode(correctedLatencyHistogram));
+        } else {
+            this.correctedHistogramComplete = false;
+        }
+    }
+
+    /**
+     * 부분 집계들을 하나로 병합합니다.
+     */
+    public static PartialAggregate mergeAll(Collection<PartialAggregate> partials) {
+        PartialAggregate merged = new PartialAggregate();
+        for (PartialAggregate partial : partials) {
+            merged.merge(partial);
+        }
+        return merged;
+    }
+
+    public PartialAggregate merge(PartialAggregate other) {
+        lastResultId = Math.max(lastResultId, other.lastResultId);
+        containerCount += other.containerCount;
+        totalRequests += other.totalRequests;
+        successfulRequests += other.successfulRequests;
+        failedRequests += other.failedRequests;
+        responseTimeSum += other.responseTimeSum;
+        maxP95ResponseTimeMs = Math.max(maxP95ResponseTimeMs, other.maxP95ResponseTimeMs);
+        maxP99ResponseTimeMs = Math.max(maxP99ResponseTimeMs, other.maxP99ResponseTimeMs);
+        maxResponseTimeMs = Math.max(maxResponseTimeMs, other.maxResponseTimeMs);
+        minResponseTimeMs = Math.min(minResponseTimeMs, other.minResponseTimeMs);
+        requestsPerSecond += other.requestsPerSecond;
+        droppedIterations += other.droppedIterations;
+        if (other.startTime != null && (startTime == null || other.startTime.isBefore(startTime))) {
+            startTime = other.startTime;
+        }
+        if (other.endTime != null && (endTime == null || other.endTime.isAfter(endTime))) {
+            endTime = other.endTime;
+        }
+        histogram.add(other.histogram);
+        histogramComplete &= other.histogramComplete;
+        maxCorrectedP95ResponseTimeMs = Math.max(maxCorrectedP95ResponseTimeMs, other.maxCorrectedP95ResponseTimeMs);
+        maxCorrectedP99ResponseTimeMs = Math.max(maxCorrectedP99ResponseTimeMs, other.maxCorrectedP99ResponseTimeMs);
+        correctedHistogram.add(other.correctedHistogram);
+        correctedHistogramComplete &= other.correctedHistogramComplete;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return containerCount == 0;
+    }
+
+    public double getAvgResponseTimeMs() {
+        return totalRequests > 0 ? responseTimeSum / totalRequests : 0;
+    }
+
+    public double getMinResponseTimeMs() {
+        return minResponseTimeMs == Double.MAX_VALUE ? 0 : minResponseTimeMs;
+    }
+
+    /**
+     * 모든 컨테이너의 히스토그램을 병합한 결과. 히스토그램이 없는 컨테이너가 있으면 null 을 반환합니다.
+     */
+    public LatencyHistogram getMergedHistogram() {
+        return histogramComplete && !isEmpty() ? histogram : null;
+    }
+
+    /**
+     * 모든 컨테이너의 조정 누락 보정 히스토그램을 병합한 결과. 보정 히스토그램이 없는 컨테이너가 있으면 null 을 반환합니다.
+     */
+    public LatencyHistogram getMergedCorrectedHistogram() {
+        return correctedHistogramComplete && !isEmpty() ? correctedHistogram : null;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,286 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * v2 결과 콜백 본문을 스트리밍 파싱하여 {@link TestResultProcessRequest} 를 만듭니다.
+ * <p>
+ * 본문은 JSON, CBOR, Smile 중 무엇이든 같은 구조의 루트 객체입니다. {@code points} 배열에는 k6 JSON 출력의
+ * Point 객체를 그대로 넣으며, 토큰 단위로 읽으면서 요청 수/실패 수/지연시간 히스토그램에 바로 누적하므로
+ * 원본 출력이 문자열이나 트리로 메모리에 올라가지 않습니다. 본문에 요약 값이 있으면 누적 값보다 우선합니다.
+ * {@code expectedIntervalMs} 가 있으면 누적한 히스토그램을 그 간격으로 조정 누락 보정합니다.
+ * {@code summary} 객체(k6 종료 요약)는 원본 요약으로 보관하기 위해 JSON 으로 다시 인코딩합니다.
+ * 원본을 블롭 저장소에 직접 업로드한 러너는 Point 없이 요약 값, 히스토그램, 업로드 객체 키/체크섬만 보내며,
+ * 이때 빠진 분위수와 초당 요청 수는 보낸 히스토그램과 시간으로 계산합니다.
+ */
+public class ResultCallbackReader {
+
+    private final JsonFactory jsonFactory;
+    // summary 는 입력 형식과 관계없이 JSON 으로 보관
+    private final JsonFactory summaryFactory;
+
+    public ResultCallbackReader(JsonFactory jsonFactory, JsonFactory summaryFactory) {
+        this.jsonFactory = jsonFactory;
+        this.summaryFactory = summaryFactory;
+    }
+
+    public TestResultProcessRequest read(InputStream inputStream) throws IOException {
+        TestResultProcessRequest request = new TestResultProcessRequest();
+        PointTotals totals = new PointTotals();
+
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Result callback body must be an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (field) {
+                    case "loadTestId" -> request.setLoadTestId(parser.getValueAsLong());
+                    case "containerIndex" -> request.setContainerIndex(parser.getValueAsInt());
+                    case "startTime" -> request.setStartTime(readTime(parser));
+                    case "endTime" -> request.setEndTime(readTime(parser));
+                    case "totalRequests" -> request.setTotalRequests(parser.getValueAsLong());
+                    case "successfulRequests" -> request.setSuccessfulRequests(parser.getValueAsLong());
+                    case "failedRequests" -> request.setFailedRequests(parser.getValueAsLong());
+                    case "avgResponseTimeMs" -> request.setAvgResponseTimeMs(parser.getValueAsDouble());
+                    case "p95ResponseTimeMs" -> request.setP95ResponseTimeMs(parser.getValueAsDouble());
+                    case "p99ResponseTimeMs" -> request.setP99ResponseTimeMs(parser.getValueAsDouble());
+                    case "maxResponseTimeMs" -> request.setMaxResponseTimeMs(parser.getValueAsDouble());
+                    case "minResponseTimeMs" -> request.setMinResponseTimeMs(parser.getValueAsDouble());
+                    case "requestsPerSecond" -> request.setRequestsPerSecond(parser.getValueAsDouble());
+                    case "droppedIterations" -> request.setDroppedIterations(parser.getValueAsLong());
+                    case "expectedIntervalMs" -> totals.expectedIntervalMs = parser.getValueAsDouble();
+                    case "latencyHistogram" -> request.setLatencyHistogram(readBuckets(parser));
+                    case "correctedLatencyHistogram" -> request.setCorrectedLatencyHistogram(readBuckets(parser));
+                    case "summary" -> {
+                        request.setSummaryJson(copySummary(parser));
+                        request.setSummaryContentType(MediaType.APPLICATION_JSON_VALUE);
+                    }
+                    case "summaryObjectKey" -> request.setSummaryObjectKey(parser.getText());
+                    case "summarySha256" -> request.setSummarySha256(parser.getText());
+                    case "summarySizeBytes" -> request.setSummarySizeBytes(parser.getValueAsLong());
+                    case "points" -> readPoints(parser, totals);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        totals.fillMissing(request);
+        return request;
+    }
+
+    private void readPoints(JsonParser parser, PointTotals totals) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("points must be an array");
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readPoint(parser, totals);
+        }
+    }
+
+    // k6 JSON 출력의 한 줄: {"type":"Point","data":{"time":...,"value":...,"tags":{...}},"metric":"..."}
+    private void readPoint(JsonParser parser, PointTotals totals) throws IOException {
+        boolean point = false;
+        String metric = null;
+        double value = Double.NaN;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "type" -> point = "Point".equals(parser.getText());
+                case "metric" -> metric = parser.getText();
+                case "data" -> value = readPointValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (point && metric != null && !Double.isNaN(value)) {
+            totals.add(metric, value);
+        }
+    }
+
+    private double readPointValue(JsonParser parser) throws IOException {
+        double value = Double.NaN;
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return value;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("value".equals(field)) {
+                value = parser.getValueAsDouble();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    private Map<Integer, Long> readBuckets(JsonParser parser) throws IOException {
+        Map<Integer, Long> buckets = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int index;
+            try {
+                index = Integer.parseInt(parser.currentName());
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid histogram bucket index: " + parser.currentName());
+            }
+            parser.nextToken();
+            buckets.merge(index, parser.getValueAsLong(), Long::sum);
+        }
+        return buckets;
+    }
+
+    private String copySummary(JsonParser parser) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = summaryFactory.createGenerator(buffer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    // ISO-8601 문자열(오프셋이 있으면 UTC 로 변환) 또는 epoch 밀리초
+    private static LocalDateTime readTime(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+        }
+        String text = parser.getText();
+        int time = text.indexOf('T');
+        try {
+            if (time > 0 && (text.endsWith("Z") || text.indexOf('+', time) > 0 || text.indexOf('-', time) > 0)) {
+                return OffsetDateTime.parse(text).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+            }
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Invalid time: " + text);
+        }
+    }
+
+    /**
+     * k6 Point 를 요약 값으로 누적합니다 (entrypoint.sh 의 v1 요약 계산과 같은 기준).
+     */
+    private static final class PointTotals {
+
+        private long requests;
+        private long failedRequests;
+        private long droppedIterations;
+        private double durationSum;
+        private double expectedIntervalMs;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private void add(String metric, double value) {
+            switch (metric) {
+                case "http_reqs" -> requests += (long) value;
+                case "http_req_failed" -> {
+                    if (value == 1) {
+                        failedRequests++;
+                    }
+                }
+                case "http_req_duration" -> {
+                    histogram.recordValue(value);
+                    durationSum += value;
+                }
+                case "dropped_iterations" -> droppedIterations += (long) value;
+                default -> {
+                    // 그 밖의 메트릭은 요약에 사용하지 않음
+                }
+            }
+        }
+
+        private void fillMissing(TestResultProcessRequest request) {
+            if (requests == 0 && histogram.getTotalCount() == 0 && droppedIterations == 0) {
+                fillFromSummary(request);
+                return;
+            }
+            if (request.getTotalRequests() == null) {
+                request.setTotalRequests(requests);
+            }
+            if (request.getFailedRequests() == null) {
+                request.setFailedRequests(failedRequests);
+            }
+            if (request.getSuccessfulRequests() == null) {
+                request.setSuccessfulRequests(request.getTotalRequests() - request.getFailedRequests());
+            }
+            if (request.getDroppedIterations() == null) {
+                request.setDroppedIterations(droppedIterations);
+            }
+            fillRequestsPerSecond(request);
+
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                return;
+            }
+            if (request.getLatencyHistogram() == null || request.getLatencyHistogram().isEmpty()) {
+                request.setLatencyHistogram(histogram.toBucketCounts());
+                // 보정 간격이 없으면 서버가 테스트의 예상 요청 간격으로 보정
+                if (expectedIntervalMs > 0 && request.getCorrectedLatencyHistogram() == null) {
+                    request.setCorrectedLatencyHistogram(
+                            histogram.copyCorrectedForCoordinatedOmission(expectedIntervalMs).toBucketCounts());
+                }
+            }
+            if (request.getAvgResponseTimeMs() == null) {
+                request.setAvgResponseTimeMs(durationSum / count);
+            }
+            if (request.getP95ResponseTimeMs() == null) {
+                request.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+            }
+            if (request.getP99ResponseTimeMs() == null) {
+                request.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+            }
+            if (request.getMaxResponseTimeMs() == null) {
+                request.setMaxResponseTimeMs(histogram.getMaxValue());
+            }
+            if (request.getMinResponseTimeMs() == null) {
+                request.setMinResponseTimeMs(histogram.getMinValue());
+            }
+        }
+
+        // Point 없이 요약 값과 히스토그램만 받은 경우
+        private static void fillFromSummary(TestResultProcessRequest request) {
+            fillRequestsPerSecond(request);
+            if (request.getLatencyHistogram() == null || request.getLatencyHistogram().isEmpty()) {
+                return;
+            }
+            LatencyHistogram latencies = new LatencyHistogram();
+            latencies.addBucketCounts(request.getLatencyHistogram());
+            if (request.getP95ResponseTimeMs() == null) {
+                request.setP95ResponseTimeMs(latencies.getValueAtPercentile(95));
+            }
+            if (request.getP99ResponseTimeMs() == null) {
+                request.setP99ResponseTimeMs(latencies.getValueAtPercentile(99));
+            }
+        }
+
+        private static void fillRequestsPerSecond(TestResultProcessRequest request) {
+            if (request.getRequestsPerSecond() == null && request.getTotalRequests() != null
+                    && request.getStartTime() != null && request.getEndTime() != null) {
+                long millis = Duration.between(request.getStartTime(), request.getEndTime()).toMillis();
+                request.setRequestsPerSecond(millis > 0 ? request.getTotalRequests() * 1000.0 / millis : 0.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LiveMetricsSnapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 테스트 하나의 메트릭을 증분 프레임 단위로 누적합니다.
+ * <p>
+ * 모든 컨테이너의 프레임이 하나의 잠금 아래에서 고정 크기 배열(히스토그램 버킷)과 카운터에 더해지므로
+ * 요청(샘플) 수에 비례하는 할당이 발생하지 않습니다.
+ */
+public class TestMetricsAccumulator {
+
+    private final Long loadTestId;
+    private final Map<Integer, ContainerMetrics> containers = new HashMap<>();
+    private final Map<String, long[]> errorCounts = new HashMap<>();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long requests;
+    private long failedRequests;
+    private long frameCount;
+    private long lastFrameReceivedAt;
+
+    // 마지막 스냅샷 이후 구간 상태
+    private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+    private final Map<String, long[]> intervalErrorCounts = new HashMap<>();
+    private long intervalRequests;
+    private long intervalFailedRequests;
+    private long intervalStartedAt = System.currentTimeMillis();
+
+    // 조기 중단 규칙 평가 상태
+    private AbortRule abortRule;
+    private int breachedIntervals;
+    private String abortReason;
+
+    public TestMetricsAccumulator(Long loadTestId) {
+        this.loadTestId = loadTestId;
+    }
+
+    /**
+     * 프레임을 누적합니다.
+     *
+     * @return 해당 컨테이너의 첫 프레임이면 true
+     */
+    public synchronized boolean apply(MetricFrame frame) {
+        boolean firstFrame = !containers.containsKey(frame.getContainerIndex());
+        containers.computeIfAbsent(frame.getContainerIndex(), ContainerMetrics::new).apply(frame);
+
+        requests += frame.getRequests();
+        failedRequests += frame.getFailedRequests();
+        intervalRequests += frame.getRequests();
+        intervalFailedRequests += frame.getFailedRequests();
+        for (int i = 0; i < frame.getBucketSize(); i++) {
+            histogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+            intervalHistogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+        }
+        for (int i = 0; i < frame.getErrorSize(); i++) {
+            errorCounts.computeIfAbsent(frame.getErrorKeys()[i], key -> new long[1])[0] += frame.getErrorCounts()[i];
+            intervalErrorCounts.computeIfAbsent(frame.getErrorKeys()[i], key -> new long[1])[0]
+                    += frame.getErrorCounts()[i];
+        }
+        frameCount++;
+        lastFrameReceivedAt = System.currentTimeMillis();
+        return firstFrame;
+    }
+
+    /**
+     * 마지막 스냅샷 이후 수신한 프레임으로 구간 스냅샷을 만들고 구간 상태를 초기화합니다.
+     * 초기화 전의 구간 증분(요청 수, 히스토그램 버킷, 오류 유형별 카운트)은 시계열 기록용으로 interval 에 채워집니다.
+     */
+    public synchronized LiveMetricsSnapshot takeSnapshot(long now, MetricFrame interval) {
+        double elapsedSeconds = Math.max(now - intervalStartedAt, 1) / 1000.0;
+
+        LiveMetricsSnapshot snapshot = new LiveMetricsSnapshot();
+        snapshot.setLoadTestId(loadTestId);
+        snapshot.setTimestamp(now);
+        snapshot.setRequestsPerSecond(intervalRequests / elapsedSeconds);
+        snapshot.setErrorRate(intervalRequests > 0 ? (double) intervalFailedRequests / intervalRequests : 0);
+        snapshot.setP50ResponseTimeMs(intervalHistogram.getValueAtPercentile(50));
+        snapshot.setP95ResponseTimeMs(intervalHistogram.getValueAtPercentile(95));
+        snapshot.setP99ResponseTimeMs(intervalHistogram.getValueAtPercentile(99));
+        snapshot.setTotalRequests(requests);
+        snapshot.setFailedRequests(failedRequests);
+        evaluateAbortRule(snapshot);
+
+        interval.reset();
+        interval.setLoadTestId(loadTestId);
+        interval.setTimestamp(intervalStartedAt);
+        interval.setIntervalMs((int) (now - intervalStartedAt));
+        interval.setRequests(intervalRequests);
+        interval.setFailedRequests(intervalFailedRequests);
+        for (int i = 0; intervalHistogram.getTotalCount() > 0 && i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long count = intervalHistogram.getBucketCount(i);
+            if (count > 0) {
+                interval.addBucket(i, count);
+            }
+        }
+        // 오류 유형 키는 유지하고 카운트만 초기화하여 구간마다 맵 항목을 다시 만들지 않음
+        intervalErrorCounts.forEach((key, count) -> {
+            if (count[0] > 0) {
+                interval.addError(key, count[0]);
+                count[0] = 0;
+            }
+        });
+
+        intervalHistogram.reset();
+        intervalRequests = 0;
+        intervalFailedRequests = 0;
+        intervalStartedAt = now;
+        return snapshot;
+    }
+
+    // 스냅샷 주기(1초)마다 한 번 호출되므로 연속 위반 구간 수가 곧 연속 위반 시간(초)
+    private void evaluateAbortRule(LiveMetricsSnapshot snapshot) {
+        if (abortRule == null || abortReason != null || intervalRequests < abortRule.getMinRequests()) {
+            return;
+        }
+        String breach = abortRule.check(snapshot.getP95ResponseTimeMs(), snapshot.getErrorRate());
+        if (breach == null) {
+            breachedIntervals = 0;
+        } else if (++breachedIntervals >= abortRule.getBreachSeconds()) {
+            abortReason = breach + " for " + breachedIntervals + "s";
+        }
+    }
+
+    public Long getLoadTestId() {
+        return loadTestId;
+    }
+
+    public synchronized void setAbortRule(AbortRule abortRule) {
+        this.abortRule = abortRule;
+    }
+
+    /**
+     * 조기 중단 규칙을 위반한 경우 위반 내용, 아니면 null
+     */
+    public synchronized String getAbortReason() {
+        return abortReason;
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getFailedRequests() {
+        return failedRequests;
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized long getLastFrameReceivedAt() {
+        return lastFrameReceivedAt;
+    }
+
+    /**
+     * 전체 컨테이너의 누적 히스토그램 사본을 반환합니다.
+     */
+    public synchronized LatencyHistogram copyHistogram() {
+        return histogram.copy();
+    }
+
+    public synchronized Map<String, Long> copyErrorCounts() {
+        Map<String, Long> result = new HashMap<>();
+        errorCounts.forEach((key, count) -> result.put(key, count[0]));
+        return result;
+    }
+
+    /**
+     * 특정 컨테이너의 누적 상태에 대해 작업을 수행합니다. 해당 컨테이너의 데이터가 없으면 false 를 반환합니다.
+     */
+    public synchronized boolean withContainer(int containerIndex, Consumer<ContainerMetrics> action) {
+        ContainerMetrics container = containers.get(containerIndex);
+        if (container == null || !container.hasData()) {
+            return false;
+        }
+        action.accept(container);
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.elandinnople.loadpilot.domain.loadtest.pool;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * 웜 풀에 등록된 러너 태스크 하나의 상태.
+ * 상태 전환은 이 객체를 잠금으로 사용하여 {@link com.elandinnople.loadpilot.domain.loadtest.service.RunnerPoolService} 에서만 수행합니다.
+ */
+@Getter
+@Setter
+public class PooledRunner {
+
+    public enum State {
+        STARTING, // 태스크 실행 요청 후 첫 폴링 전
+        IDLE,     // 폴링하며 작업 대기 중
+        ASSIGNED  // 작업을 할당받음 (더 이상 풀에 포함되지 않음)
+    }
+
+    private final String taskArn;
+    private final long launchedAt;
+    private State state = State.STARTING;
+    private long lastSeenAt;
+    private LoadTestRequest assignment;
+    // 대기 중인 롱 폴링 응답 (없으면 다음 폴링 때 할당을 전달)
+    private DeferredResult<ResponseEntity<LoadTestRequest>> pendingPoll;
+
+    public PooledRunner(String taskArn, long launchedAt) {
+        this.taskArn = taskArn;
+        this.launchedAt = launchedAt;
+        this.lastSeenAt = launchedAt;
+    }
+
+    public boolean isAvailable() {
+        return state != State.ASSIGNED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.elandinnople.loadpilot.domain.loadtest.repository;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.CapacitySearchStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CapacitySearchStepRepository extends JpaRepository<CapacitySearchStep, Long> {
+
+    List<CapacitySearchStep> findByLoadTestIdOrderByStepIndex(Long loadTestId);
+}
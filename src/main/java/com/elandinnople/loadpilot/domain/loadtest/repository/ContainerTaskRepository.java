@@ -0,0 +1,16 @@
+package com.elandinnople.loadpilot.domain.loadtest.repository;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ContainerTaskRepository extends JpaRepository<ContainerTask, Long> {
+
+    List<ContainerTask> findByLoadTestIdOrderByContainerIndex(Long loadTestId);
+
+    List<ContainerTask> findByLoadTestIdIn(Collection<Long> loadTestIds);
+}
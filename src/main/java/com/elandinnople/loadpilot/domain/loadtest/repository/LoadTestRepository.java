@@ -1,7 +1,9 @@
 package com.elandinnople.loadpilot.domain.loadtest.repository;
 
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse;
 import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,20 +13,69 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LoadTestRepository extends JpaRepository<LoadTest, Long> {
 
-    Page<LoadTest> findByUserId(Long userId, Pageable pageable);
+    // 목록 조회는 스크립트/결과 컬럼을 읽지 않도록 응답 DTO 로 바로 조회
+    String LISTING_SELECT = "SELECT new com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse(" +
+            "lt.id, lt.name, lt.description, lt.targetUrl, lt.testType, lt.virtualUsers, lt.durationSeconds, " +
+            "lt.rampUpSeconds, lt.targetRps, lt.preAllocatedVUs, lt.maxVUs, lt.status, lt.executorType, lt.taskId, " +
+            "lt.containerCount, lt.completedContainerCount, lt.abortReason, lt.createdAt, lt.updatedAt) " +
+            "FROM LoadTest lt ";
 
-    Page<LoadTest> findByUserIdAndStatus(Long userId, TestStatus status, Pageable pageable);
+    String KEYSET_AFTER = "AND (lt.createdAt < :createdAt OR (lt.createdAt = :createdAt AND lt.id < :id)) ";
+
+    String KEYSET_ORDER = "ORDER BY lt.createdAt DESC, lt.id DESC";
+
+    @Query(value = LISTING_SELECT + "WHERE lt.user.id = :userId",
+            countQuery = "SELECT COUNT(lt) FROM LoadTest lt WHERE lt.user.id = :userId")
+    Page<LoadTestResponse> findListingByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = LISTING_SELECT + "WHERE lt.user.id = :userId AND lt.status = :status",
+            countQuery = "SELECT COUNT(lt) FROM LoadTest lt WHERE lt.user.id = :userId AND lt.status = :status")
+    Page<LoadTestResponse> findListingByUserIdAndStatus(
+            @Param("userId") Long userId, @Param("status") TestStatus status, Pageable pageable);
+
+    /**
+     * 키셋 목록의 첫 페이지. 개수 조회 없이 limit 만큼만 읽습니다.
+     */
+    @Query(LISTING_SELECT + "WHERE lt.user.id = :userId " + KEYSET_ORDER)
+    List<LoadTestResponse> findFirstListing(@Param("userId") Long userId, Pageable limit);
+
+    /**
+     * 커서 (createdAt, id) 이후의 키셋 목록. 인덱스 범위 조회이므로 깊은 페이지도 첫 페이지와 비용이 같습니다.
+     */
+    @Query(LISTING_SELECT + "WHERE lt.user.id = :userId " + KEYSET_AFTER + KEYSET_ORDER)
+    List<LoadTestResponse> findListingAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable limit);
+
+    @Query(LISTING_SELECT + "WHERE lt.user.id = :userId AND lt.status = :status " + KEYSET_ORDER)
+    List<LoadTestResponse> findFirstListingByStatus(
+            @Param("userId") Long userId, @Param("status") TestStatus status, Pageable limit);
+
+    @Query(LISTING_SELECT + "WHERE lt.user.id = :userId AND lt.status = :status " + KEYSET_AFTER + KEYSET_ORDER)
+    List<LoadTestResponse> findListingByStatusAfter(
+            @Param("userId") Long userId,
+            @Param("status") TestStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable limit);
 
     Optional<LoadTest> findByIdAndUserId(Long id, Long userId);
 
     List<LoadTest> findByStatus(TestStatus status);
 
+    List<LoadTest> findByStatusAndTestType(TestStatus status, TestType testType);
+
+    boolean existsByIdAndStatus(Long id, TestStatus status);
+
     @Query("SELECT lt FROM LoadTest lt WHERE lt.status = :status AND lt.createdAt < :timestamp")
     List<LoadTest> findStaleTestsByStatusAndCreatedBefore(
             @Param("status") TestStatus status,
@@ -34,6 +85,40 @@ public interface LoadTestRepository extends JpaRepository<LoadTest, Long> {
     @Query("UPDATE LoadTest lt SET lt.status = :newStatus WHERE lt.id = :id")
     int updateStatus(@Param("id") Long id, @Param("newStatus") TestStatus newStatus);
 
+    /**
+     * 현재 상태가 excludedStatuses 중 하나가 아닌 경우에만 상태를 변경합니다.
+     * 반환값이 1인 호출만 상태 전환에 성공한 것이므로 후속 작업을 한 번만 수행할 때 사용합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LoadTest lt SET lt.status = :newStatus WHERE lt.id = :id AND lt.status NOT IN :excludedStatuses")
+    int updateStatusUnlessIn(@Param("id") Long id, @Param("newStatus") TestStatus newStatus,
+                             @Param("excludedStatuses") Collection<TestStatus> excludedStatuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LoadTest lt SET lt.taskId = :taskId WHERE lt.id = :id")
+    int updateTaskId(@Param("id") Long id, @Param("taskId") String taskId);
+
+    /**
+     * 실행 중인 테스트만 ABORTED 로 전환하고 중단 사유를 기록합니다.
+     * 반환값이 1인 호출만 중단에 성공한 것이므로 중단 후속 작업을 한 번만 수행할 때 사용합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LoadTest lt SET lt.status = :aborted, lt.abortReason = :reason " +
+            "WHERE lt.id = :id AND lt.status = :running")
+    int abortIfRunning(@Param("id") Long id, @Param("reason") String reason,
+                       @Param("running") TestStatus running, @Param("aborted") TestStatus aborted);
+
+    /**
+     * 완료된 컨테이너 수를 DB 에서 원자적으로 증가시킵니다.
+     * 엔티티를 읽고 증가시켜 저장하는 방식은 동시 콜백 사이에 갱신 유실이 발생합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LoadTest lt SET lt.completedContainerCount = lt.completedContainerCount + :delta WHERE lt.id = :id")
+    int incrementCompletedContainerCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT lt.completedContainerCount FROM LoadTest lt WHERE lt.id = :id")
+    int findCompletedContainerCount(@Param("id") Long id);
+
     /**
      * 사용자별로 상태별 테스트 수를 집계합니다.
      *
@@ -0,0 +1,92 @@
+package com.elandinnople.loadpilot.domain.loadtest.repository;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 컨테이너 결과를 JDBC 배치로 저장합니다.
+ * <p>
+ * IDENTITY 키를 사용하는 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 결과 수집 파이프라인에서는 이 저장소를 사용합니다.
+ * JPA 를 거치지 않으므로 감사 컬럼은 직접 채웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TestResultJdbcRepository {
+
+    // (load_test_id, container_index) 유니크 제약에 걸리는 중복 결과는 건너뜀 (H2 는 PostgreSQL 모드에서 지원)
+    private static final String INSERT_SQL =
+            "INSERT INTO test_results (created_by, created_at, updated_at, load_test_id, container_index, " +
+                    "start_time, end_time, summary_blob_key, summary_size_bytes, summary_sha256, summary_content_type, total_requests, successful_requests, failed_requests, " +
+                    "avg_response_time_ms, p95_response_time_ms, p99_response_time_ms, max_response_time_ms, " +
+                    "min_response_time_ms, requests_per_second, dropped_iterations, latency_histogram, " +
+                    "corrected_p95_response_time_ms, corrected_p99_response_time_ms, corrected_latency_histogram, " +
+                    "result_file_path, is_aggregated_result) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 결과를 한 번의 배치로 저장합니다.
+     *
+     * @return 입력 순서대로 실제 저장 여부 (중복으로 건너뛴 행은 false)
+     */
+    public boolean[] batchInsert(List<TestResult> results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, results, results.size(), (ps, result) -> {
+            ps.setString(1, "system");
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, result.getParentTest().getId());
+            ps.setInt(5, result.getContainerIndex());
+            setTimestamp(ps, 6, result.getStartTime());
+            setTimestamp(ps, 7, result.getEndTime());
+            ps.setString(8, result.getSummaryBlobKey());
+            ps.setObject(9, result.getSummarySizeBytes(), Types.BIGINT);
+            ps.setString(10, result.getSummarySha256());
+            ps.setString(11, result.getSummaryContentType());
+            ps.setObject(12, result.getTotalRequests(), Types.BIGINT);
+            ps.setObject(13, result.getSuccessfulRequests(), Types.BIGINT);
+            ps.setObject(14, result.getFailedRequests(), Types.BIGINT);
+            ps.setObject(15, result.getAvgResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(16, result.getP95ResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(17, result.getP99ResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(18, result.getMaxResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(19, result.getMinResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(20, result.getRequestsPerSecond(), Types.DOUBLE);
+            ps.setObject(21, result.getDroppedIterations(), Types.BIGINT);
+            ps.setString(22, result.getLatencyHistogram());
+            ps.setObject(23, result.getCorrectedP95ResponseTimeMs(), Types.DOUBLE);
+            ps.setObject(24, result.getCorrectedP99ResponseTimeMs(), Types.DOUBLE);
+            ps.setString(25, result.getCorrectedLatencyHistogram());
+            ps.setString(26, result.getResultFilePath());
+            ps.setBoolean(27, Boolean.TRUE.equals(result.getIsAggregatedResult()));
+        });
+
+        boolean[] inserted = new boolean[results.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[i++] = count != 0;
+            }
+        }
+        return inserted;
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.elandinnople.loadpilot.domain.loadtest.repository;
 
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RawSummaryBlob;
 import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,38 +11,70 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TestResultRepository extends JpaRepository<TestResult, Long> {
-    Optional<TestResult> findByLoadTestId(Long loadTestId);
-
     List<TestResult> findByParentTestId(Long parentTestId);
 
-    boolean existsByLoadTestId(Long loadTestId);
-
     boolean existsByParentTestIdAndContainerIndex(Long parentTestId, Integer containerIndex);
 
+    long countByParentTestIdAndContainerIndexBetween(Long parentTestId, Integer fromIndex, Integer toIndex);
+
+    boolean existsBySummaryBlobKey(String summaryBlobKey);
+
+    @Query("SELECT new com.elandinnople.loadpilot.domain.loadtest.dto.response.RawSummaryBlob(" +
+            "tr.summaryBlobKey, tr.summaryContentType) FROM TestResult tr WHERE tr.parentTest.id = :parentTestId " +
+            "AND tr.containerIndex = :containerIndex AND tr.summaryBlobKey IS NOT NULL")
+    Optional<RawSummaryBlob> findRawSummaryBlob(@Param("parentTestId") Long parentTestId,
+                                                @Param("containerIndex") Integer containerIndex);
+
+    @Query("SELECT DISTINCT tr.summaryBlobKey FROM TestResult tr WHERE tr.parentTest.id = :parentTestId " +
+            "AND tr.summaryBlobKey IS NOT NULL")
+    List<String> findSummaryBlobKeysByParentTestId(@Param("parentTestId") Long parentTestId);
+
+    /**
+     * 여러 테스트에 대해 이미 결과가 저장된 (테스트 ID, 컨테이너 인덱스) 쌍을 조회합니다.
+     */
+    @Query("SELECT tr.parentTest.id, tr.containerIndex FROM TestResult tr WHERE tr.parentTest.id IN :parentTestIds")
+    List<Object[]> findContainerIndexesByParentTestIdIn(@Param("parentTestIds") Collection<Long> parentTestIds);
+
+    String PARTIAL_AGGREGATE_SELECT = "SELECT new com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate(" +
+            "tr.id, tr.totalRequests, tr.successfulRequests, tr.failedRequests, tr.avgResponseTimeMs, " +
+            "tr.p95ResponseTimeMs, tr.p99ResponseTimeMs, tr.maxResponseTimeMs, tr.minResponseTimeMs, " +
+            "tr.requestsPerSecond, tr.droppedIterations, tr.startTime, tr.endTime, tr.latencyHistogram, " +
+            "tr.correctedP95ResponseTimeMs, tr.correctedP99ResponseTimeMs, tr.correctedLatencyHistogram) ";
+
+    /**
+     * 요약 JSON 을 제외한 수치 컬럼만 부분 집계(잎 노드)로 조회합니다. ID 기준 키셋 페이지 조회용입니다.
+     */
+    @Query(PARTIAL_AGGREGATE_SELECT +
+            "FROM TestResult tr WHERE tr.parentTest.id = :parentTestId AND tr.id > :afterId ORDER BY tr.id")
+    List<PartialAggregate> findPartialAggregates(
+            @Param("parentTestId") Long parentTestId,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * 컨테이너 인덱스 범위(용량 탐색 단계 하나)의 결과를 부분 집계(잎 노드)로 조회합니다.
+     */
+    @Query(PARTIAL_AGGREGATE_SELECT +
+            "FROM TestResult tr WHERE tr.parentTest.id = :parentTestId " +
+            "AND tr.containerIndex BETWEEN :firstContainerIndex AND :lastContainerIndex ORDER BY tr.id")
+    List<PartialAggregate> findPartialAggregatesByContainerIndexBetween(
+            @Param("parentTestId") Long parentTestId,
+            @Param("firstContainerIndex") int firstContainerIndex,
+            @Param("lastContainerIndex") int lastContainerIndex);
+
+    // 원본이 없는 결과(중단 시 누적 메트릭으로 만든 부분 결과 등)는 제외
+    @Query("SELECT tr.resultFilePath FROM TestResult tr WHERE tr.parentTest.id = :parentTestId " +
+            "AND tr.resultFilePath IS NOT NULL ORDER BY tr.containerIndex")
+    List<String> findResultFilePathsByParentTestId(@Param("parentTestId") Long parentTestId);
+
     List<TestResult> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT tr FROM TestResult tr JOIN tr.loadTest lt WHERE lt.user.id = :userId")
+    @Query("SELECT tr FROM TestResult tr JOIN tr.parentTest lt WHERE lt.user.id = :userId")
     Page<TestResult> findByUserId(@Param("userId") Long userId, Pageable pageable);
-
-    @Query(value =
-            "SELECT DATE(tr.created_at) as test_date, " +
-                    "AVG(tr.avg_response_time_ms) as avg_response, " +
-                    "MAX(tr.p95_response_time_ms) as p95_response, " +
-                    "SUM(tr.total_requests) as total_requests " +
-                    "FROM test_results tr " +
-                    "JOIN load_tests lt ON tr.load_test_id = lt.id " +
-                    "WHERE lt.user_id = :userId " +
-                    "AND tr.created_at BETWEEN :startDate AND :endDate " +
-                    "GROUP BY DATE(tr.created_at) " +
-                    "ORDER BY test_date",
-            nativeQuery = true)
-    List<Object[]> findDailyStatsByUserIdAndDateRange(
-            @Param("userId") Long userId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.elandinnople.loadpilot.domain.loadtest.repository;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.UserDailyStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDailyStatsRepository extends JpaRepository<UserDailyStats, Long> {
+
+    /**
+     * 사용자/일자 롤업 행이 없으면 빈 행을 만듭니다.
+     * 동시에 첫 결과가 도착해도 유니크 제약에 걸린 쪽은 건너뛰므로 이후 잠금 조회가 항상 행을 찾습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_stats (created_by, created_at, updated_at, user_id, stat_date, " +
+            "result_count, total_requests, successful_requests, failed_requests, response_time_sum, max_response_time_ms) " +
+            "VALUES ('system', :now, :now, :userId, :statDate, 0, 0, 0, 0, 0, 0) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("statDate") LocalDate statDate,
+                       @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserDailyStats s WHERE s.userId = :userId AND s.statDate = :statDate")
+    Optional<UserDailyStats> findForUpdate(@Param("userId") Long userId, @Param("statDate") LocalDate statDate);
+
+    List<UserDailyStats> findByUserIdAndStatDateBetweenOrderByStatDate(Long userId, LocalDate startDate, LocalDate endDate);
+}
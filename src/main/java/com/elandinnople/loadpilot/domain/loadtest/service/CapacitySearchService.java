@@ -0,0 +1,460 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.common.util.WorkloadSharder;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CapacitySearchResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CapacitySearchStepResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.CapacitySearchStep;
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.elandinnople.loadpilot.domain.loadtest.repository.CapacitySearchStepRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.ContainerTaskRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 용량 탐색(BREAKPOINT) 테스트를 실행합니다.
+ * <p>
+ * 컨트롤 플레인이 고정 도착률 단계를 하나씩 실행하고, 단계가 끝나면 단계 컨테이너들이 저장한 결과를
+ * 전체 집계와 같은 방식(부분 집계, 히스토그램 병합)으로 합쳐 p99 응답 시간, 오류율, 달성 RPS 를 SLO 와 비교합니다.
+ * 스트리밍된 실시간 메트릭은 단계 도중 SLO 를 명확히 위반했을 때 단계를 일찍 끝내는 데만 사용합니다. 첫 단계는 탐색 하한(minRps), 두 번째 단계는 상한(targetRps)이며
+ * 이후에는 지속 가능한 최대 RPS 와 위반한 최소 RPS 사이를 이분 탐색하여 간격이 해상도 이하가 되면 끝냅니다.
+ * <p>
+ * 탐색 상태는 저장된 단계 결과에서 다시 계산하므로 서버가 재시작되어도 다음 단계부터 이어서 실행됩니다.
+ * 단계마다 새 컨테이너 인덱스 범위를 사용하여 단계별 메트릭과 결과가 섞이지 않게 합니다.
+ */
+@Service
+@Slf4j
+public class CapacitySearchService {
+
+    private final LoadTestRepository loadTestRepository;
+    private final ContainerTaskRepository containerTaskRepository;
+    private final TestResultRepository testResultRepository;
+    private final CapacitySearchStepRepository capacitySearchStepRepository;
+    private final ContainerLauncher containerLauncher;
+    private final LoadExecutorRegistry loadExecutorRegistry;
+    private final LiveMetricsService liveMetricsService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+    private final TestResultAggregator testResultAggregator;
+    private final K6ScriptGenerator k6ScriptGenerator;
+    private final int maxSteps;
+    private final double resolution;
+    private final double minAchievedRatio;
+    private final long stepGraceMillis;
+    private final long cooldownMillis;
+    private final long earlyStopMinRequests;
+    // 탐색을 진행 중인 테스트 (같은 테스트를 중복 실행하지 않도록)
+    private final Set<Long> searching = ConcurrentHashMap.newKeySet();
+
+    public CapacitySearchService(LoadTestRepository loadTestRepository,
+                                 ContainerTaskRepository containerTaskRepository,
+                                 TestResultRepository testResultRepository,
+                                 CapacitySearchStepRepository capacitySearchStepRepository,
+                                 ContainerLauncher containerLauncher,
+                                 LoadExecutorRegistry loadExecutorRegistry,
+                                 LiveMetricsService liveMetricsService,
+                                 LiveMetricsBroadcaster liveMetricsBroadcaster,
+                                 TestResultAggregator testResultAggregator,
+                                 K6ScriptGenerator k6ScriptGenerator,
+                                 @Value("${loadtest.capacity.max-steps:10}") int maxSteps,
+                                 @Value("${loadtest.capacity.resolution:0.05}") double resolution,
+                                 @Value("${loadtest.capacity.min-achieved-ratio:0.95}") double minAchievedRatio,
+                                 @Value("${loadtest.capacity.step-grace-seconds:60}") int stepGraceSeconds,
+                                 @Value("${loadtest.capacity.cooldown-seconds:5}") int cooldownSeconds,
+                                 @Value("${loadtest.capacity.early-stop-min-requests:200}") long earlyStopMinRequests) {
+        this.loadTestRepository = loadTestRepository;
+        this.containerTaskRepository = containerTaskRepository;
+        this.testResultRepository = testResultRepository;
+        this.capacitySearchStepRepository = capacitySearchStepRepository;
+        this.containerLauncher = containerLauncher;
+        this.loadExecutorRegistry = loadExecutorRegistry;
+        this.liveMetricsService = liveMetricsService;
+        this.liveMetricsBroadcaster = liveMetricsBroadcaster;
+        this.testResultAggregator = testResultAggregator;
+        this.k6ScriptGenerator = k6ScriptGenerator;
+        this.maxSteps = Math.max(2, maxSteps);
+        this.resolution = resolution;
+        this.minAchievedRatio = minAchievedRatio;
+        this.stepGraceMillis = stepGraceSeconds * 1000L;
+        this.cooldownMillis = cooldownSeconds * 1000L;
+        this.earlyStopMinRequests = earlyStopMinRequests;
+    }
+
+    /**
+     * 실행 중인 용량 탐색 테스트 중 탐색 스레드가 없는 테스트의 탐색을 시작합니다 (새로 시작된 테스트, 재시작 후 복구).
+     */
+    @Scheduled(fixedDelayString = "${loadtest.capacity.check-interval-ms:2000}")
+    public void startPendingSearches() {
+        for (LoadTest loadTest : loadTestRepository.findByStatusAndTestType(TestStatus.RUNNING, TestType.BREAKPOINT)) {
+            Long loadTestId = loadTest.getId();
+            if (!searching.add(loadTestId)) {
+                continue;
+            }
+            // 단계마다 실행 기간만큼 대기하므로 테스트마다 가상 스레드에서 실행
+            Thread.ofVirtual().name("capacity-search-" + loadTestId).start(() -> {
+                try {
+                    search(loadTestId);
+                } catch (RuntimeException e) {
+                    log.error("테스트 ID {} 용량 탐색 중 오류: {}", loadTestId, e.getMessage(), e);
+                    fail(loadTestId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    searching.remove(loadTestId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 용량 탐색 결과와 단계별 지연시간 곡선을 반환합니다. 실행 중이면 지금까지 끝난 단계만 포함됩니다.
+     *
+     * @throws IllegalStateException 용량 탐색 테스트가 아닌 경우
+     */
+    public CapacitySearchResponse getResult(LoadTest loadTest) {
+        if (!loadTest.getTestType().isCapacitySearch()) {
+            throw new IllegalStateException("Load test is not a capacity search test");
+        }
+        List<CapacitySearchStepResponse> steps = capacitySearchStepRepository
+                .findByLoadTestIdOrderByStepIndex(loadTest.getId()).stream()
+                .map(CapacitySearchStepResponse::fromEntity)
+                .collect(Collectors.toList());
+        return new CapacitySearchResponse(
+                loadTest.getId(),
+                loadTest.getStatus(),
+                loadTest.getMinRps(),
+                loadTest.getTargetRps(),
+                loadTest.getSloP99Ms(),
+                loadTest.getSloErrorRate(),
+                loadTest.getMaxSustainableRps(),
+                loadTest.getSaturationRps(),
+                loadTest.getSaturationStep(),
+                steps
+        );
+    }
+
+    private void search(Long loadTestId) throws InterruptedException {
+        while (true) {
+            LoadTest loadTest = loadTestRepository.findById(loadTestId).orElse(null);
+            if (loadTest == null || loadTest.getStatus() != TestStatus.RUNNING) {
+                return;
+            }
+            List<CapacitySearchStep> steps = capacitySearchStepRepository.findByLoadTestIdOrderByStepIndex(loadTestId);
+            Integer nextRps = steps.size() < maxSteps ? nextRps(loadTest, steps) : null;
+            if (nextRps == null) {
+                complete(loadTestId, steps);
+                return;
+            }
+            if (!steps.isEmpty()) {
+                Thread.sleep(cooldownMillis);
+            }
+            runStep(loadTest, steps.size() + 1, nextRps);
+        }
+    }
+
+    /**
+     * 지금까지의 단계 결과로 다음 단계의 요청률을 정합니다. 탐색이 끝났으면 null 을 반환합니다.
+     */
+    Integer nextRps(LoadTest loadTest, List<CapacitySearchStep> steps) {
+        if (steps.isEmpty()) {
+            return loadTest.getMinRps();
+        }
+        Integer sustainable = maxSustainableRps(steps);
+        Integer saturated = saturationRps(steps);
+        if (sustainable == null) {
+            // 하한에서도 SLO 를 위반
+            return null;
+        }
+        if (saturated == null) {
+            return sustainable >= loadTest.getTargetRps() ? null : loadTest.getTargetRps();
+        }
+        int precision = Math.max(1, (int) Math.ceil(saturated * resolution));
+        if (saturated - sustainable <= precision) {
+            return null;
+        }
+        return sustainable + (saturated - sustainable) / 2;
+    }
+
+    private void runStep(LoadTest loadTest, int stepIndex, int rps) throws InterruptedException {
+        Long loadTestId = loadTest.getId();
+        int containerCount = loadTest.getContainerCount();
+        int firstContainerIndex = containerTaskRepository.findByLoadTestIdOrderByContainerIndex(loadTestId).stream()
+                .mapToInt(task -> task.getContainerIndex() + 1)
+                .max()
+                .orElse(0);
+        List<LoadTestRequest> requests = buildStepRequests(loadTest, rps, firstContainerIndex);
+
+        log.info("테스트 ID {} 용량 탐색 단계 {} 시작: {} RPS (컨테이너 {}개)", loadTestId, stepIndex, rps, containerCount);
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> taskIds = containerLauncher.launchAll(
+                loadTestId, loadTest.getExecutorTypeOrDefault(), requests);
+        List<ContainerTask> containerTasks = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            containerTasks.add(new ContainerTask(loadTest, firstContainerIndex + i, taskIds.get(i)));
+        }
+        containerTaskRepository.saveAll(containerTasks);
+
+        // 단계 기간 동안은 실시간 메트릭으로 명확한 SLO 위반만 확인하고,
+        // 기간이 지난 뒤 모든 컨테이너의 결과가 저장되거나 유예 시간이 지날 때까지 대기
+        long stepStartedAt = System.currentTimeMillis();
+        long stepEndsAt = stepStartedAt + loadTest.getDurationSeconds() * 1000L;
+        long deadline = stepEndsAt + stepGraceMillis;
+        int lastContainerIndex = firstContainerIndex + containerCount - 1;
+        boolean allReported = false;
+        boolean running = true;
+        String earlyBreach = null;
+        long stepStoppedAt = stepEndsAt;
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(1000);
+            running = loadTestRepository.existsByIdAndStatus(loadTestId, TestStatus.RUNNING);
+            if (!running) {
+                break;
+            }
+            long now = System.currentTimeMillis();
+            if (now < stepEndsAt) {
+                earlyBreach = liveBreach(loadTest, firstContainerIndex);
+                if (earlyBreach != null) {
+                    stepStoppedAt = now;
+                    break;
+                }
+                continue;
+            }
+            allReported = testResultRepository.countByParentTestIdAndContainerIndexBetween(
+                    loadTestId, firstContainerIndex, lastContainerIndex) >= containerCount;
+            if (allReported) {
+                break;
+            }
+        }
+        if (!allReported) {
+            loadExecutorRegistry.get(loadTest.getExecutorTypeOrDefault()).stopAll(loadTestId, taskIds,
+                    earlyBreach != null
+                            ? "LoadPilot capacity search step " + stepIndex + " breached SLO"
+                            : "LoadPilot capacity search step " + stepIndex + " finished");
+        }
+        if (!running) {
+            log.info("테스트 ID {} 용량 탐색이 단계 {} 도중 종료됨", loadTestId, stepIndex);
+            return;
+        }
+
+        double stepSeconds = Math.max(stepStoppedAt - stepStartedAt, 1000) / 1000.0;
+        CapacitySearchStep step = measureStep(loadTest, stepIndex, rps, firstContainerIndex, stepSeconds, earlyBreach);
+        step.setStartedAt(startedAt);
+        step.setEndedAt(LocalDateTime.now());
+        capacitySearchStepRepository.save(step);
+        log.info("테스트 ID {} 용량 탐색 단계 {} 완료: {} RPS 목표, {} RPS 달성, p99 {} ms, 오류율 {} ({})",
+                loadTestId, stepIndex, rps, String.format("%.1f", step.getAchievedRps()),
+                String.format("%.1f", step.getP99ResponseTimeMs()), String.format("%.4f", step.getErrorRate()),
+                step.getSustainable() ? "지속 가능" : step.getBreachReason());
+    }
+
+    // 단계 요청률과 VU 풀을 컨테이너 가중치로 분배 (VU 풀은 상한 요청률 대비 비율로 축소)
+    private List<LoadTestRequest> buildStepRequests(LoadTest loadTest, int rps, int firstContainerIndex) {
+        int containerCount = loadTest.getContainerCount();
+        int[] weights = LoadTestService.containerWeights(loadTest);
+        double scale = (double) rps / loadTest.getTargetRps();
+        int preAllocatedVUs = Math.max(containerCount, (int) Math.ceil(loadTest.getPreAllocatedVUs() * scale));
+        int maxVUs = Math.max(preAllocatedVUs, (int) Math.ceil(loadTest.getMaxVUs() * scale));
+        int[] rpsPerContainer = WorkloadSharder.split(rps, weights, 1);
+        int[] preAllocatedPerContainer = WorkloadSharder.split(preAllocatedVUs, weights, 1);
+        int[] maxVUsPerContainer = WorkloadSharder.split(maxVUs, weights, 1);
+
+        List<LoadTestRequest> requests = new ArrayList<>(containerCount);
+        for (int i = 0; i < containerCount; i++) {
+            LoadTestRequest request = new LoadTestRequest();
+            request.setTestId(loadTest.getId());
+            request.setTargetUrl(loadTest.getTargetUrl());
+            request.setVirtualUsers(preAllocatedPerContainer[i]);
+            request.setDurationSeconds(loadTest.getDurationSeconds());
+            request.setTestType(TestType.CONSTANT_ARRIVAL_RATE);
+            request.setTargetRps(rpsPerContainer[i]);
+            request.setPreAllocatedVUs(preAllocatedPerContainer[i]);
+            request.setMaxVUs(Math.max(maxVUsPerContainer[i], preAllocatedPerContainer[i]));
+            request.setScriptContent(k6ScriptGenerator.generateArrivalRateScript(
+                    loadTest.getTargetUrl(), TestType.CONSTANT_ARRIVAL_RATE, request.getTargetRps(),
+                    request.getPreAllocatedVUs(), request.getMaxVUs(), loadTest.getDurationSeconds(), null));
+            request.setExpectedIntervalMs(preAllocatedPerContainer[i] * 1000.0 / rpsPerContainer[i]);
+            request.setContainerIndex(firstContainerIndex + i);
+            request.setTotalContainers(containerCount);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /**
+     * 단계 컨테이너들이 저장한 결과를 병합하여 SLO 와 비교합니다.
+     * 실시간 메트릭으로 일찍 끝낸 단계는 위반으로 기록하며, 결과가 모두 저장되지 않았으면 실시간 메트릭으로 대신합니다.
+     * 유예 시간 안에 결과를 보내지 않은 컨테이너가 있으면 단계 전체를 판정할 수 없으므로 위반으로 기록합니다.
+     */
+    CapacitySearchStep measureStep(LoadTest loadTest, int stepIndex, int rps, int firstContainerIndex,
+                                   double stepSeconds, String earlyBreach) {
+        int containerCount = loadTest.getContainerCount();
+        PartialAggregate stored = PartialAggregate.mergeAll(testResultRepository
+                .findPartialAggregatesByContainerIndexBetween(
+                        loadTest.getId(), firstContainerIndex, firstContainerIndex + containerCount - 1));
+        boolean complete = stored.getContainerCount() >= containerCount;
+
+        CapacitySearchStep step = new CapacitySearchStep();
+        step.setLoadTest(loadTest);
+        step.setStepIndex(stepIndex);
+        step.setTargetRps(rps);
+        step.setFirstContainerIndex(firstContainerIndex);
+        step.setContainerCount(containerCount);
+        if (earlyBreach != null && !complete) {
+            LiveStepMetrics live = liveStepMetrics(loadTest, firstContainerIndex);
+            setMetrics(step, live.requests(), live.failedRequests(), stepSeconds,
+                    live.histogram().getValueAtPercentile(50), live.histogram().getValueAtPercentile(95),
+                    live.histogram().getValueAtPercentile(99));
+        } else {
+            // 전체 집계와 같이 히스토그램을 병합하고, 히스토그램이 없는 컨테이너가 있으면 컨테이너별 최대값 사용
+            LatencyHistogram histogram = stored.getMergedHistogram();
+            setMetrics(step, stored.getTotalRequests(), stored.getFailedRequests(), stepSeconds,
+                    histogram != null ? histogram.getValueAtPercentile(50) : stored.getAvgResponseTimeMs(),
+                    histogram != null ? histogram.getValueAtPercentile(95) : stored.getMaxP95ResponseTimeMs(),
+                    histogram != null ? histogram.getValueAtPercentile(99) : stored.getMaxP99ResponseTimeMs());
+        }
+
+        String breach;
+        if (earlyBreach != null) {
+            breach = "stopped early: " + earlyBreach;
+        } else if (!complete) {
+            breach = String.format("results from %d of %d containers", stored.getContainerCount(), containerCount);
+        } else {
+            breach = sloBreach(loadTest, step.getTotalRequests(), step.getErrorRate(), step.getP99ResponseTimeMs());
+            if (breach == null && step.getAchievedRps() < rps * minAchievedRatio) {
+                // 응답이 느려 VU 가 부족하면 반복이 누락(dropped)되어 목표 요청률에 도달하지 못함
+                breach = String.format("achieved %.1f RPS < %.0f%% of %d RPS",
+                        step.getAchievedRps(), minAchievedRatio * 100, rps);
+            }
+        }
+        step.setSustainable(breach == null);
+        step.setBreachReason(breach);
+        return step;
+    }
+
+    /**
+     * 단계 도중 실시간 메트릭이 SLO 를 명확히 위반했는지 확인합니다.
+     * 표본이 적을 때의 잡음으로 단계를 끝내지 않도록 최소 요청 수를 넘은 뒤에만 판정합니다.
+     *
+     * @return 위반 사유 (위반하지 않았으면 null)
+     */
+    String liveBreach(LoadTest loadTest, int firstContainerIndex) {
+        LiveStepMetrics live = liveStepMetrics(loadTest, firstContainerIndex);
+        if (live.requests() < earlyStopMinRequests) {
+            return null;
+        }
+        double errorRate = (double) live.failedRequests() / live.requests();
+        return sloBreach(loadTest, live.requests(), errorRate, live.histogram().getValueAtPercentile(99));
+    }
+
+    private LiveStepMetrics liveStepMetrics(LoadTest loadTest, int firstContainerIndex) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] counts = new long[2];
+        TestMetricsAccumulator accumulator = liveMetricsService.find(loadTest.getId()).orElse(null);
+        for (int i = 0; accumulator != null && i < loadTest.getContainerCount(); i++) {
+            accumulator.withContainer(firstContainerIndex + i, container -> {
+                histogram.add(container.getHistogram());
+                counts[0] += container.getRequests();
+                counts[1] += container.getFailedRequests();
+            });
+        }
+        return new LiveStepMetrics(counts[0], counts[1], histogram);
+    }
+
+    private static void setMetrics(CapacitySearchStep step, long requests, long failedRequests, double seconds,
+                                   double p50, double p95, double p99) {
+        step.setTotalRequests(requests);
+        step.setFailedRequests(failedRequests);
+        step.setAchievedRps(requests / seconds);
+        step.setErrorRate(requests > 0 ? (double) failedRequests / requests : 0);
+        step.setP50ResponseTimeMs(p50);
+        step.setP95ResponseTimeMs(p95);
+        step.setP99ResponseTimeMs(p99);
+    }
+
+    private static String sloBreach(LoadTest loadTest, long requests, double errorRate, double p99) {
+        if (requests == 0) {
+            return "no requests recorded";
+        }
+        if (errorRate > loadTest.getSloErrorRate()) {
+            return String.format("error rate %.4f > %.4f", errorRate, loadTest.getSloErrorRate());
+        }
+        if (p99 > loadTest.getSloP99Ms()) {
+            return String.format("p99 %.1fms > %.1fms", p99, loadTest.getSloP99Ms());
+        }
+        return null;
+    }
+
+    private void complete(Long loadTestId, List<CapacitySearchStep> steps) {
+        Integer saturationStep = steps.stream()
+                .filter(step -> !step.getSustainable())
+                .map(CapacitySearchStep::getStepIndex)
+                .findFirst()
+                .orElse(null);
+        if (testResultAggregator.completeCapacitySearch(
+                loadTestId, maxSustainableRps(steps), saturationRps(steps), saturationStep)) {
+            log.info("테스트 ID {} 용량 탐색 완료: 최대 지속 가능 {} RPS, 포화 {} RPS (단계 {})",
+                    loadTestId, maxSustainableRps(steps), saturationRps(steps), saturationStep);
+            finish(loadTestId);
+        }
+    }
+
+    private void fail(Long loadTestId) {
+        if (testResultAggregator.failLoadTest(loadTestId)) {
+            loadTestRepository.findById(loadTestId).ifPresent(loadTest -> {
+                List<String> taskIds = containerTaskRepository.findByLoadTestIdIn(List.of(loadTestId)).stream()
+                        .map(ContainerTask::getTaskArn)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+                loadExecutorRegistry.get(loadTest.getExecutorTypeOrDefault())
+                        .stopAll(loadTestId, taskIds, "LoadPilot capacity search failed");
+            });
+            finish(loadTestId);
+        }
+    }
+
+    private void finish(Long loadTestId) {
+        liveMetricsService.remove(loadTestId);
+        loadTestRepository.findById(loadTestId).ifPresent(liveMetricsBroadcaster::publishStatus);
+    }
+
+    // 측정 오차로 위반한 요청률보다 높은 단계가 통과한 경우는 무시 (위반한 최소 RPS 미만에서만 선택)
+    private static Integer maxSustainableRps(List<CapacitySearchStep> steps) {
+        Integer saturated = saturationRps(steps);
+        return steps.stream()
+                .filter(CapacitySearchStep::getSustainable)
+                .map(CapacitySearchStep::getTargetRps)
+                .filter(rps -> saturated == null || rps < saturated)
+                .max(Integer::compare)
+                .orElse(null);
+    }
+
+    private static Integer saturationRps(List<CapacitySearchStep> steps) {
+        return steps.stream()
+                .filter(step -> !step.getSustainable())
+                .map(CapacitySearchStep::getTargetRps)
+                .min(Integer::compare)
+                .orElse(null);
+    }
+
+    private record LiveStepMetrics(long requests, long failedRequests, LatencyHistogram histogram) {
+    }
+}
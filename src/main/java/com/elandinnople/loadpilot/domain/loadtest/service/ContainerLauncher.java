@@ -0,0 +1,143 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutor;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 컨테이너 테스트의 컨테이너를 테스트에 지정된 실행기로 병렬 실행합니다.
+ * <p>
+ * 가상 스레드에서 실행 요청을 동시에 수행하되 동시 요청 수는 세마포어로 제한하고(전역 한도와 실행기 용량 중 작은 값),
+ * 요청마다 타임아웃을 적용합니다. 하나라도 실패하면 이미 시작된 태스크를 모두 중지합니다(all-or-nothing).
+ * 웜 풀을 지원하는 실행기는 대기 중인 러너에 먼저 할당하고 남은 컨테이너만 새로 실행합니다.
+ * 실행 전에 컨테이너마다 원본 결과 직접 업로드 URL 을 발급해 실행 요청에 담습니다.
+ */
+@Component
+@Slf4j
+public class ContainerLauncher {
+
+    private final LoadExecutorRegistry loadExecutorRegistry;
+    private final RunnerPoolService runnerPoolService;
+    private final ResultUploadService resultUploadService;
+    private final int maxConcurrency;
+    private final int launchTimeoutMillis;
+
+    public ContainerLauncher(
+            LoadExecutorRegistry loadExecutorRegistry,
+            RunnerPoolService runnerPoolService,
+            ResultUploadService resultUploadService,
+            @Value("${loadtest.launch.max-concurrency:20}") int maxConcurrency,
+            @Value("${loadtest.launch.timeout-seconds:30}") int launchTimeoutSeconds) {
+        this.loadExecutorRegistry = loadExecutorRegistry;
+        this.runnerPoolService = runnerPoolService;
+        this.resultUploadService = resultUploadService;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.launchTimeoutMillis = launchTimeoutSeconds * 1000;
+    }
+
+    /**
+     * 모든 컨테이너를 병렬로 실행합니다.
+     *
+     * @param testId 로드 테스트 ID
+     * @param executorType 실행기 유형
+     * @param requests 컨테이너별 실행 요청 (컨테이너 인덱스 순서)
+     * @return 컨테이너 인덱스 순서의 태스크 ID 목록
+     * @throws IllegalStateException 일부 컨테이너 실행에 실패한 경우 (시작된 태스크는 중지됨)
+     */
+    public List<String> launchAll(Long testId, ExecutorType executorType, List<LoadTestRequest> requests) {
+        LoadExecutor executor = loadExecutorRegistry.get(executorType);
+        Timer launchTimer = loadExecutorRegistry.getLaunchTimer(executorType);
+        int concurrency = Math.max(1, Math.min(maxConcurrency, executor.getCapacity().getMaxConcurrentLaunches()));
+
+        long startedAt = System.nanoTime();
+        long launchedAt = System.currentTimeMillis();
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        String[] taskIds = new String[requests.size()];
+        boolean[] warm = new boolean[requests.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(requests.size());
+        Throwable failure = null;
+
+        // 서명은 로컬에서 계산되므로 컨테이너 수만큼 반복해도 AWS 호출이 없음
+        requests.forEach(resultUploadService::assign);
+
+        // 대기 중인 웜 러너에 먼저 할당 (프로비저닝 없이 바로 시작)
+        int warmCount = 0;
+        for (int i = 0; executor.supportsRunnerPool() && i < requests.size(); i++) {
+            Optional<String> runner = runnerPoolService.assign(requests.get(i));
+            if (runner.isEmpty()) {
+                break;
+            }
+            taskIds[i] = runner.get();
+            warm[i] = true;
+            warmCount++;
+        }
+
+        try (ExecutorService launchers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = warmCount; i < requests.size(); i++) {
+                final int index = i;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        // 다른 컨테이너가 이미 실패했다면 더 이상 실행하지 않음
+                        if (failed.get()) {
+                            throw new CancellationException("다른 컨테이너 실행 실패로 취소됨");
+                        }
+                        taskIds[index] = launchTimer.record(
+                                () -> executor.launch(requests.get(index), launchTimeoutMillis));
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, launchers));
+            }
+
+            try {
+                // 호출별 타임아웃이 SDK 에서 적용되므로 전체 대기 시간은 배치 수만큼으로 제한
+                long batches = (requests.size() + concurrency - 1) / concurrency;
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                        .get(batches * launchTimeoutMillis + launchTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                failed.set(true);
+                failure = e instanceof ExecutionException ? e.getCause() : e;
+            }
+        } // 진행 중인 호출이 모두 끝날 때까지 대기한 뒤 롤백해야 늦게 시작된 태스크를 놓치지 않음
+
+        if (failure != null) {
+            log.error("테스트 ID {} 컨테이너 병렬 실행 실패: {}", testId, failure.getMessage());
+            rollback(executor, testId, taskIds);
+            throw new IllegalStateException("Failed to launch all containers", failure);
+        }
+
+        if (executor.supportsRunnerPool()) {
+            for (int i = 0; i < requests.size(); i++) {
+                runnerPoolService.recordLaunch(testId, requests.get(i).getContainerIndex(), launchedAt, warm[i]);
+            }
+        }
+        log.info("테스트 ID {} 컨테이너 {}개 실행 완료 ({}, 웜 러너 {}개, {} ms)", testId, requests.size(),
+                executorType, warmCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return Arrays.asList(taskIds);
+    }
+
+    // 이미 시작된 태스크 중지 (ID 를 받지 못한 태스크 정리는 실행기가 담당)
+    private void rollback(LoadExecutor executor, Long testId, String[] taskIds) {
+        String reason = "LoadPilot launch rollback for test " + testId;
+        executor.stopAll(testId, Arrays.stream(taskIds).filter(Objects::nonNull).collect(Collectors.toList()), reason);
+    }
+}
@@ -0,0 +1,106 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.repository.ContainerTaskRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 중인 모든 테스트의 태스크 상태를 주기적으로 실행기별로 일괄 조회하여 컨테이너별 상태를 갱신합니다.
+ * <p>
+ * 상태 조회 API 는 이 조정기가 기록한 값을 읽기만 하므로,
+ * ECS 실행기의 AWS 호출량은 사용자의 폴링 빈도와 무관하게 (실행 중인 태스크 수 / 100) 회로 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContainerTaskReconciler {
+
+    private final LoadTestRepository loadTestRepository;
+    private final ContainerTaskRepository containerTaskRepository;
+    private final LoadExecutorRegistry loadExecutorRegistry;
+    private final LiveMetricsService liveMetricsService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+
+    @Scheduled(fixedDelayString = "${loadtest.reconcile.interval-ms:10000}")
+    @Transactional
+    public void reconcile() {
+        List<LoadTest> runningTests = loadTestRepository.findByStatus(TestStatus.RUNNING);
+        if (runningTests.isEmpty()) {
+            return;
+        }
+
+        List<Long> testIds = runningTests.stream().map(LoadTest::getId).collect(Collectors.toList());
+        List<ContainerTask> containerTasks = containerTaskRepository.findByLoadTestIdIn(testIds).stream()
+                .filter(task -> task.getTaskArn() != null && !task.isTerminal())
+                .collect(Collectors.toList());
+        if (containerTasks.isEmpty()) {
+            return;
+        }
+
+        // 같은 실행기의 태스크를 한꺼번에 조회 (ECS 는 DescribeTasks 호출당 100개)
+        Map<Long, ExecutorType> executorTypes = runningTests.stream()
+                .collect(Collectors.toMap(LoadTest::getId, LoadTest::getExecutorTypeOrDefault));
+        Map<ExecutorType, List<String>> taskIdsByExecutor = containerTasks.stream()
+                .collect(Collectors.groupingBy(task -> executorTypes.get(task.getLoadTest().getId()),
+                        Collectors.mapping(ContainerTask::getTaskArn, Collectors.toList())));
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        taskIdsByExecutor.forEach((executorType, taskIds) ->
+                statuses.putAll(loadExecutorRegistry.get(executorType).getTaskStatuses(taskIds)));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (ContainerTask containerTask : containerTasks) {
+            TaskStatus status = statuses.get(containerTask.getTaskArn());
+            if (status != null) {
+                containerTask.setStatus(status);
+                containerTask.setLastCheckedAt(now);
+            }
+        }
+
+        // 상태 변경 쿼리가 영속성 컨텍스트를 비우므로 실패한 테스트를 먼저 모은 뒤 전환
+        List<Long> failedTestIds = runningTests.stream()
+                .filter(this::hasFailedContainer)
+                .map(LoadTest::getId)
+                .collect(Collectors.toList());
+        failedTestIds.forEach(this::failLoadTest);
+        log.debug("Reconciled {} tasks across {} running load tests", containerTasks.size(), runningTests.size());
+    }
+
+    // 실패한 컨테이너가 있으면 결과가 모두 모일 수 없으므로 테스트를 실패 처리
+    // (정상 완료는 결과 콜백이 모두 도착했을 때 결과 수집 파이프라인에서 처리됨)
+    // 용량 탐색은 단계가 끝날 때 남은 태스크를 중지하므로 실패한 태스크가 있어도 탐색 서비스가 단계 결과로 판단
+    private boolean hasFailedContainer(LoadTest loadTest) {
+        if (loadTest.getTestType().isCapacitySearch()) {
+            return false;
+        }
+        return loadTest.getContainerTasks().stream()
+                .anyMatch(task -> task.getStatus() == TaskStatus.FAILED);
+    }
+
+    // 엔티티의 상태를 바꾸면 전체 행 UPDATE 로 그 사이 결과 수집이 올린 완료 컨테이너 수를 덮어쓰므로 조건부 쿼리로 전환
+    private void failLoadTest(Long loadTestId) {
+        if (loadTestRepository.updateStatusUnlessIn(loadTestId, TestStatus.FAILED,
+                EnumSet.of(TestStatus.COMPLETED, TestStatus.ABORTED, TestStatus.FAILED)) == 0) {
+            return;
+        }
+        log.warn("Load test ID {} has a failed container task, marked as FAILED", loadTestId);
+        liveMetricsService.remove(loadTestId);
+        loadTestRepository.findById(loadTestId).ifPresent(liveMetricsBroadcaster::publishStatus);
+    }
+}
@@ -0,0 +1,136 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LiveMetricsSnapshot;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestStatusResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.LiveChannel;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 테스트의 상태 변화와 초 단위 메트릭 스냅샷을 SSE 구독자에게 전달합니다.
+ */
+@Service
+@Slf4j
+public class LiveMetricsBroadcaster {
+
+    private final LiveMetricsService liveMetricsService;
+    private final MetricSeriesService metricSeriesService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final Map<Long, LiveChannel> channels = new ConcurrentHashMap<>();
+    // SSE 전송 전용 실행기 (느린 구독자가 공용 스케줄러 스레드를 막지 않도록 가상 스레드에서 전송)
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // 스케줄러 스레드에서만 사용하는 구간 프레임 (틱마다 재사용)
+    private final MetricFrame interval = new MetricFrame();
+
+    public LiveMetricsBroadcaster(
+            LiveMetricsService liveMetricsService,
+            MetricSeriesService metricSeriesService,
+            ObjectMapper objectMapper,
+            @Value("${loadtest.live.buffer-size:300}") int bufferSize,
+            @Value("${loadtest.live.emitter-timeout-minutes:60}") long emitterTimeoutMinutes) {
+        this.liveMetricsService = liveMetricsService;
+        this.metricSeriesService = metricSeriesService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = TimeUnit.MINUTES.toMillis(emitterTimeoutMinutes);
+    }
+
+    /**
+     * 테스트의 실시간 이벤트 스트림을 구독합니다.
+     * 구독 시 현재 상태와 링 버퍼의 최근 스냅샷이 먼저 전송됩니다.
+     */
+    public SseEmitter subscribe(LoadTest loadTest) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        LiveChannel channel = channel(loadTest.getId());
+        channel.initStatus(toJson(toStatusResponse(loadTest)));
+        channel.subscribe(emitter);
+
+        // 이미 끝난 테스트는 현재 상태만 전달하고 종료
+        if (!isActive(loadTest)) {
+            emitter.complete();
+            channels.remove(loadTest.getId(), channel);
+        }
+        return emitter;
+    }
+
+    /**
+     * 상태 변화를 구독자에게 전달합니다. 테스트가 종료 상태가 되면 채널을 닫습니다.
+     */
+    public void publishStatus(LoadTest loadTest) {
+        LiveChannel channel = isActive(loadTest) ? channel(loadTest.getId()) : channels.remove(loadTest.getId());
+        if (channel == null) {
+            return;
+        }
+        channel.publishStatus(toJson(toStatusResponse(loadTest)));
+        if (!isActive(loadTest)) {
+            channel.complete();
+        }
+    }
+
+    /**
+     * 1초마다 실행 중인 모든 테스트의 구간 스냅샷을 만들어 링 버퍼에 추가하고 구독자에게 전송합니다.
+     * 같은 구간의 증분은 테스트의 시계열 파일에도 기록됩니다. 전송은 전송 실행기에서 이루어지므로 이 메서드는
+     * 구독자의 네트워크 상태와 무관하게 바로 끝납니다.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void publishSnapshots() {
+        long now = System.currentTimeMillis();
+        for (TestMetricsAccumulator accumulator : liveMetricsService.all()) {
+            LiveMetricsSnapshot snapshot = accumulator.takeSnapshot(now, interval);
+            channel(accumulator.getLoadTestId()).publishMetrics(toJson(snapshot));
+            metricSeriesService.append(accumulator.getLoadTestId(), interval);
+        }
+    }
+
+    private LiveChannel channel(Long loadTestId) {
+        return channels.computeIfAbsent(loadTestId, id -> new LiveChannel(bufferSize, sendExecutor));
+    }
+
+    @PreDestroy
+    public void stop() {
+        sendExecutor.shutdownNow();
+    }
+
+    private boolean isActive(LoadTest loadTest) {
+        return switch (loadTest.getStatus()) {
+            case PENDING, RUNNING -> true;
+            default -> false;
+        };
+    }
+
+    private LoadTestStatusResponse toStatusResponse(LoadTest loadTest) {
+        return new LoadTestStatusResponse(
+                loadTest.getId(),
+                loadTest.getStatus(),
+                null,
+                loadTest.getContainerCount(),
+                loadTest.getCompletedContainerCount(),
+                loadTest.isAllContainersCompleted()
+        );
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live event", e);
+        }
+    }
+}
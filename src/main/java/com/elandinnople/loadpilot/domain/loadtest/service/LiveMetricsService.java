@@ -0,0 +1,185 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.AbortRule;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrameReader;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중인 테스트의 러너가 주기적으로 보내는 메트릭 증분을 테스트별 메모리 누적기에 반영합니다.
+ */
+@Service
+@Slf4j
+public class LiveMetricsService {
+
+    private final LoadTestRepository loadTestRepository;
+    private final RunnerPoolService runnerPoolService;
+    private final MetricSeriesService metricSeriesService;
+    private final MetricFrameReader frameReader;
+    private final OrchestrationMetrics orchestrationMetrics;
+    private final int defaultAbortBreachSeconds;
+    private final long abortMinRequests;
+    private final Map<Long, TestMetricsAccumulator> accumulators = new ConcurrentHashMap<>();
+
+    public LiveMetricsService(LoadTestRepository loadTestRepository, RunnerPoolService runnerPoolService,
+                              MetricSeriesService metricSeriesService, ObjectMapper objectMapper,
+                              OrchestrationMetrics orchestrationMetrics,
+                              @Value("${loadtest.abort.default-breach-seconds:10}") int defaultAbortBreachSeconds,
+                              @Value("${loadtest.abort.min-requests:20}") long abortMinRequests) {
+        this.loadTestRepository = loadTestRepository;
+        this.runnerPoolService = runnerPoolService;
+        this.metricSeriesService = metricSeriesService;
+        this.frameReader = new MetricFrameReader(objectMapper.getFactory());
+        this.orchestrationMetrics = orchestrationMetrics;
+        this.defaultAbortBreachSeconds = defaultAbortBreachSeconds;
+        this.abortMinRequests = abortMinRequests;
+    }
+
+    public void register(LoadTest loadTest) {
+        accumulators.computeIfAbsent(loadTest.getId(), id -> newAccumulator(loadTest));
+    }
+
+    public Optional<TestMetricsAccumulator> find(Long loadTestId) {
+        return Optional.ofNullable(accumulators.get(loadTestId));
+    }
+
+    public Collection<TestMetricsAccumulator> all() {
+        return accumulators.values();
+    }
+
+    /**
+     * 누적기를 제거하고 마지막 스냅샷 이후의 구간까지 시계열에 기록한 뒤 시계열 파일을 닫습니다.
+     */
+    public void remove(Long loadTestId) {
+        TestMetricsAccumulator accumulator = accumulators.remove(loadTestId);
+        MetricFrame lastInterval = null;
+        if (accumulator != null) {
+            lastInterval = new MetricFrame();
+            accumulator.takeSnapshot(System.currentTimeMillis(), lastInterval);
+        }
+        metricSeriesService.complete(loadTestId, lastInterval);
+        runnerPoolService.forget(loadTestId);
+        orchestrationMetrics.forget(loadTestId);
+    }
+
+    /**
+     * 스트림에 포함된 모든 프레임을 읽어 테스트별 누적기에 반영합니다.
+     * 실행 중이 아닌 테스트의 프레임은 무시됩니다.
+     *
+     * @return 반영된 프레임 수
+     */
+    public int ingest(InputStream inputStream) throws IOException {
+        int[] accepted = {0};
+        frameReader.read(inputStream, frame -> {
+            if (accept(frame)) {
+                accepted[0]++;
+            }
+        });
+        return accepted[0];
+    }
+
+    /**
+     * 프레임 하나를 테스트별 누적기에 반영합니다. 프로세스 안에서 실행되는 로컬 엔진도 같은 경로로 증분을 보냅니다.
+     *
+     * @return 반영되었으면 true (실행 중이 아닌 테스트의 프레임은 false)
+     */
+    public boolean accept(MetricFrame frame) {
+        TestMetricsAccumulator accumulator = resolve(frame.getLoadTestId());
+        if (accumulator == null) {
+            log.debug("Ignoring metric frame for non-running load test ID {}", frame.getLoadTestId());
+            return false;
+        }
+        if (accumulator.apply(frame)) {
+            runnerPoolService.recordFirstRequest(frame.getLoadTestId(), frame.getContainerIndex());
+            orchestrationMetrics.firstRequest(frame.getLoadTestId());
+        }
+        return true;
+    }
+
+    private TestMetricsAccumulator resolve(long loadTestId) {
+        TestMetricsAccumulator accumulator = accumulators.get(loadTestId);
+        if (accumulator != null) {
+            return accumulator;
+        }
+        // 서버 재시작 등으로 등록되지 않은 경우 실행 중인 테스트인지 한 번만 확인
+        return loadTestRepository.findById(loadTestId)
+                .filter(loadTest -> loadTest.getStatus() == TestStatus.RUNNING)
+                .map(loadTest -> accumulators.computeIfAbsent(loadTestId, id -> newAccumulator(loadTest)))
+                .orElse(null);
+    }
+
+    private TestMetricsAccumulator newAccumulator(LoadTest loadTest) {
+        metricSeriesService.start(loadTest.getId());
+        TestMetricsAccumulator accumulator = new TestMetricsAccumulator(loadTest.getId());
+        accumulator.setAbortRule(AbortRule.of(loadTest, defaultAbortBreachSeconds, abortMinRequests));
+        return accumulator;
+    }
+
+    /**
+     * 요약 콜백에 빠진 값을 해당 컨테이너의 누적 메트릭으로 채웁니다.
+     * 메트릭을 스트리밍한 러너는 종료 시 대용량 요약 없이 최소한의 콜백만 보내도 됩니다.
+     */
+    public void fillMissingSummary(Long loadTestId, int containerIndex, TestResultProcessRequest request) {
+        find(loadTestId).ifPresent(accumulator -> accumulator.withContainer(containerIndex, container -> {
+            LatencyHistogram histogram = container.getHistogram();
+
+            if (request.getTotalRequests() == null) {
+                request.setTotalRequests(container.getRequests());
+                request.setFailedRequests(container.getFailedRequests());
+                request.setSuccessfulRequests(container.getRequests() - container.getFailedRequests());
+            }
+            if (request.getLatencyHistogram() == null || request.getLatencyHistogram().isEmpty()) {
+                request.setLatencyHistogram(histogram.toBucketCounts());
+            }
+            if (request.getAvgResponseTimeMs() == null) {
+                request.setAvgResponseTimeMs(histogram.getMean());
+            }
+            if (request.getP95ResponseTimeMs() == null) {
+                request.setP95ResponseTimeMs(histogram.getValueAtPercentile(95));
+            }
+            if (request.getP99ResponseTimeMs() == null) {
+                request.setP99ResponseTimeMs(histogram.getValueAtPercentile(99));
+            }
+            if (request.getMaxResponseTimeMs() == null) {
+                request.setMaxResponseTimeMs(histogram.getMaxValue());
+            }
+            if (request.getMinResponseTimeMs() == null) {
+                request.setMinResponseTimeMs(histogram.getMinValue());
+            }
+            if (request.getRequestsPerSecond() == null) {
+                double elapsedSeconds = container.getElapsedSeconds();
+                request.setRequestsPerSecond(elapsedSeconds > 0 ? container.getRequests() / elapsedSeconds : 0);
+            }
+            if (request.getStartTime() == null && container.getLastTimestamp() > 0) {
+                request.setStartTime(toUtc(container.getFirstTimestamp()));
+            }
+            if (request.getEndTime() == null && container.getLastTimestamp() > 0) {
+                request.setEndTime(toUtc(container.getLastTimestamp()));
+            }
+        }));
+    }
+
+    // 러너가 보내는 시작/종료 시각과 동일하게 UTC 기준으로 변환
+    private LocalDateTime toUtc(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
@@ -1,26 +1,36 @@
 package com.elandinnople.loadpilot.domain.loadtest.service;
 
 import com.amazonaws.services.ecs.model.ResourceNotFoundException;
-import com.elandinnople.loadpilot.common.service.EcsService;
-import com.elandinnople.loadpilot.common.service.LambdaService;
 import com.elandinnople.loadpilot.common.service.S3Service;
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.common.util.WorkloadSharder;
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.CreateLoadTestRequest;
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
 import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.ContainerTaskStatusResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CursorPageResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestStatusResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RawSummaryBlob;
 import com.elandinnople.loadpilot.domain.loadtest.dto.response.TestResultResponse;
 import com.elandinnople.loadpilot.domain.loadtest.entity.AggregatedTestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
 import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
 import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutor;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
 import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
 import com.elandinnople.loadpilot.domain.loadtest.repository.AggregatedTestResultRepository;
 import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
 import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
 import com.elandinnople.loadpilot.domain.user.entity.User;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,7 +38,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -40,9 +52,29 @@ public class LoadTestService {
     private final LoadTestRepository loadTestRepository;
     private final TestResultRepository testResultRepository;
     private final AggregatedTestResultRepository aggregatedTestResultRepository;
-    private final LambdaService lambdaService;
-    private final EcsService ecsService;
     private final S3Service s3Service;
+    private final ContainerLauncher containerLauncher;
+    private final LiveMetricsService liveMetricsService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+    private final TestResultAggregator testResultAggregator;
+    private final K6ScriptGenerator k6ScriptGenerator;
+    private final LoadExecutorRegistry loadExecutorRegistry;
+    private final TestResultCache testResultCache;
+    private final ResultSummaryStore resultSummaryStore;
+    private final MetricSeriesService metricSeriesService;
+    private final OrchestrationMetrics orchestrationMetrics;
+
+    @Value("${loadtest.launch.max-containers:500}")
+    private int maxContainers;
+
+    @Value("${loadtest.listing.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${loadtest.capacity.default-min-rps-divisor:10}")
+    private int defaultMinRpsDivisor;
+
+    @Value("${loadtest.capacity.default-slo-error-rate:0.01}")
+    private double defaultSloErrorRate;
 
     @Transactional
     public LoadTest createLoadTest(CreateLoadTestRequest request, User user) {
@@ -58,31 +90,119 @@ public class LoadTestService {
         loadTest.setStatus(TestStatus.PENDING);
         loadTest.setUser(user);
 
-        // 컨테이너 수 설정 (기본값 1, 최대 5)
-        Integer containerCount = request.getContainerCount();
-        if (containerCount == null || containerCount < 1) {
-            containerCount = 1;
-        } else if (containerCount > 5) {
-            containerCount = 5;
+        // 실행기 선택 (지정하지 않으면 기본 실행기)
+        LoadExecutor executor = loadExecutorRegistry.select(request.getExecutorType());
+        loadTest.setExecutorType(executor.getType());
+
+        // 컨테이너 수 설정 (기본값 1, 최대 maxContainers 와 실행기 용량, 컨테이너마다 최소 1명의 가상 사용자가 배정되도록 제한)
+        int containerLimit = Math.min(maxContainers, executor.getCapacity().getMaxContainersPerTest());
+        int requestedContainerCount = request.getContainerCount() != null && request.getContainerCount() >= 1
+                ? request.getContainerCount() : 1;
+        // 가중치는 요청한 컨테이너 수 기준으로 확인 (제한으로 줄어든 수와 비교하면 가중치가 조용히 잘림)
+        List<Integer> weights = request.getContainerWeights();
+        boolean weighted = weights != null && !weights.isEmpty();
+        if (weighted && weights.size() != requestedContainerCount) {
+            throw new IllegalStateException("Container weights must have one entry per container");
+        }
+        int containerCount = Math.min(requestedContainerCount, containerLimit);
+        containerCount = Math.min(containerCount, request.getVirtualUsers());
+
+        // 도착률 모델(용량 탐색 포함): 목표 RPS 필수, VU 풀 기본값은 virtualUsers
+        TestType testType = request.getTestType();
+        if (testType != null && (testType.isArrivalRate() || testType.isCapacitySearch())) {
+            if (request.getTargetRps() == null) {
+                throw new IllegalStateException("targetRps is required for arrival-rate test types");
+            }
+            int preAllocatedVUs = request.getPreAllocatedVUs() != null
+                    ? request.getPreAllocatedVUs() : request.getVirtualUsers();
+            int maxVUs = request.getMaxVUs() != null ? request.getMaxVUs() : preAllocatedVUs;
+            if (maxVUs < preAllocatedVUs) {
+                throw new IllegalStateException("maxVUs must be greater than or equal to preAllocatedVUs");
+            }
+            loadTest.setTargetRps(request.getTargetRps());
+            loadTest.setPreAllocatedVUs(preAllocatedVUs);
+            loadTest.setMaxVUs(maxVUs);
+            // 컨테이너마다 최소 1 RPS, 1 VU 가 배정되도록 제한
+            containerCount = Math.min(containerCount, Math.min(request.getTargetRps(), preAllocatedVUs));
+        }
+        if (testType != null && testType.isCapacitySearch()) {
+            // 단계마다 요청률을 정해 스크립트를 생성하므로 커스텀 스크립트는 사용할 수 없음
+            if (request.getScriptContent() != null && !request.getScriptContent().trim().isEmpty()) {
+                throw new IllegalStateException("Custom scripts are not supported for capacity search tests");
+            }
+            if (request.getSloP99Ms() == null) {
+                throw new IllegalStateException("sloP99Ms is required for capacity search tests");
+            }
+            int minRps = request.getMinRps() != null
+                    ? request.getMinRps() : Math.max(1, request.getTargetRps() / defaultMinRpsDivisor);
+            if (minRps > request.getTargetRps()) {
+                throw new IllegalStateException("minRps must be less than or equal to targetRps");
+            }
+            loadTest.setMinRps(minRps);
+            loadTest.setSloP99Ms(request.getSloP99Ms());
+            loadTest.setSloErrorRate(request.getSloErrorRate() != null
+                    ? request.getSloErrorRate() : defaultSloErrorRate);
+            // 가장 낮은 단계에서도 컨테이너마다 최소 1 RPS 가 배정되도록 제한
+            containerCount = Math.min(containerCount, minRps);
+        } else {
+            // 용량 탐색은 단계별 SLO 로 판단하므로 조기 중단 규칙은 다른 테스트 유형에만 적용
+            loadTest.setAbortP95Ms(request.getAbortP95Ms());
+            loadTest.setAbortErrorRate(request.getAbortErrorRate());
+            loadTest.setAbortBreachSeconds(request.getAbortBreachSeconds());
         }
         loadTest.setContainerCount(containerCount);
+
+        if (weighted) {
+            if (containerCount != requestedContainerCount) {
+                throw new IllegalStateException("containerCount must be at most " + containerCount
+                        + " for this workload when container weights are given");
+            }
+            loadTest.setContainerWeights(weights.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
         loadTest.setCompletedContainerCount(0);
 
         return loadTestRepository.save(loadTest);
     }
 
-    @Transactional
+    /**
+     * 테스트를 시작합니다.
+     * <p>
+     * RUNNING 전환을 먼저 커밋한 뒤 트랜잭션 밖에서 컨테이너를 실행하고, 실행한 태스크 ID 는 짧은 트랜잭션으로 저장합니다.
+     * 컨테이너 실행(원격 호출과 롤백)이 컨테이너 수에 비례해 오래 걸려도 DB 커넥션과 행 잠금을 잡고 있지 않습니다.
+     */
     public LoadTest startLoadTest(Long id, Long userId) {
         LoadTest loadTest = getLoadTest(id, userId);
 
-        if (loadTest.getStatus() != TestStatus.PENDING) {
+        // 조건부 전환이므로 동시에 시작 요청이 와도 한 요청만 컨테이너를 실행
+        if (loadTest.getStatus() != TestStatus.PENDING || !testResultAggregator.markRunning(id)) {
             throw new IllegalStateException("Load test is already started or completed");
         }
+        loadTest.setStatus(TestStatus.RUNNING);
+        orchestrationMetrics.testStarted(loadTest);
+
+        // 용량 탐색은 CapacitySearchService 가 단계마다 컨테이너를 실행
+        if (loadTest.getTestType().isCapacitySearch()) {
+            liveMetricsService.register(loadTest);
+            liveMetricsBroadcaster.publishStatus(loadTest);
+            return loadTest;
+        }
 
+        List<String> taskIds;
         try {
-            // 여러 컨테이너 시작
+            // 컨테이너별 실행 요청 생성
             int containerCount = loadTest.getContainerCount();
-            List<String> taskIds = new ArrayList<>();
+            List<LoadTestRequest> lambdaRequests = new ArrayList<>(containerCount);
+
+            // 가상 사용자 수를 가중치 비율로 분배 (합계 보존, 컨테이너당 최소 1명)
+            int[] weights = containerWeights(loadTest);
+            int[] vusPerContainer = WorkloadSharder.split(loadTest.getVirtualUsers(), weights, 1);
+
+            // 도착률 모델은 목표 RPS 와 VU 풀도 같은 가중치로 분배
+            boolean arrivalRate = loadTest.getTestType().isArrivalRate();
+            int[] rpsPerContainer = arrivalRate ? WorkloadSharder.split(loadTest.getTargetRps(), weights, 1) : null;
+            int[] preAllocatedPerContainer = arrivalRate
+                    ? WorkloadSharder.split(loadTest.getPreAllocatedVUs(), weights, 1) : null;
+            int[] maxVUsPerContainer = arrivalRate ? WorkloadSharder.split(loadTest.getMaxVUs(), weights, 1) : null;
 
             for (int i = 0; i < containerCount; i++) {
                 // 각 컨테이너별로 Lambda 요청 생성
@@ -90,71 +210,113 @@ public class LoadTestService {
                 lambdaRequest.setTestId(loadTest.getId());
                 lambdaRequest.setTargetUrl(loadTest.getTargetUrl());
 
-                // 가상 사용자 수를 컨테이너 수로 분배
-                int vusPerContainer = loadTest.getVirtualUsers() / containerCount;
-                // 마지막 컨테이너가 나머지 사용자를 처리
-                if (i == containerCount - 1) {
-                    vusPerContainer += loadTest.getVirtualUsers() % containerCount;
-                }
-                lambdaRequest.setVirtualUsers(vusPerContainer);
+                lambdaRequest.setVirtualUsers(vusPerContainer[i]);
 
                 lambdaRequest.setDurationSeconds(loadTest.getDurationSeconds());
                 lambdaRequest.setRampUpSeconds(loadTest.getRampUpSeconds());
+                lambdaRequest.setTestType(loadTest.getTestType());
                 lambdaRequest.setScriptContent(loadTest.getScriptContent());
+                if (arrivalRate) {
+                    lambdaRequest.setTargetRps(rpsPerContainer[i]);
+                    lambdaRequest.setPreAllocatedVUs(preAllocatedPerContainer[i]);
+                    lambdaRequest.setMaxVUs(Math.max(maxVUsPerContainer[i], preAllocatedPerContainer[i]));
+                    // 커스텀 스크립트가 없으면 컨테이너 몫의 요청률로 스크립트 생성
+                    if (!hasCustomScript(loadTest)) {
+                        lambdaRequest.setScriptContent(k6ScriptGenerator.generateArrivalRateScript(
+                                loadTest.getTargetUrl(), loadTest.getTestType(), lambdaRequest.getTargetRps(),
+                                lambdaRequest.getPreAllocatedVUs(), lambdaRequest.getMaxVUs(),
+                                loadTest.getDurationSeconds(), loadTest.getRampUpSeconds()));
+                    }
+                    // 컨테이너 몫의 VU 와 요청률로 예상 요청 간격 계산
+                    lambdaRequest.setExpectedIntervalMs(rpsPerContainer[i] > 0
+                            ? preAllocatedPerContainer[i] * 1000.0 / rpsPerContainer[i] : null);
+                } else {
+                    lambdaRequest.setExpectedIntervalMs(loadTest.getExpectedIntervalMs());
+                }
                 lambdaRequest.setContainerIndex(i);
                 lambdaRequest.setTotalContainers(containerCount);
-
-                // Lambda 호출하여 ECS 태스크 시작
-                String taskId = lambdaService.invokeEcsTask(lambdaRequest);
-                taskIds.add(taskId);
+                lambdaRequests.add(lambdaRequest);
             }
 
-            // 태스크 ID 저장 (첫 번째 태스크 ID만 저장하거나, 모든 ID를 JSON으로 저장)
-            loadTest.setTaskId(taskIds.get(0));
-            // 선택적: 모든 태스크 ID를 JSON으로 저장
-            // loadTest.setAllTaskIds(new ObjectMapper().writeValueAsString(taskIds));
-
-            // 상태 업데이트
-            loadTest.setStatus(TestStatus.RUNNING);
-
-            return loadTestRepository.save(loadTest);
+            // 모든 컨테이너를 병렬로 시작 (하나라도 실패하면 시작된 태스크는 중지됨)
+            taskIds = containerLauncher.launchAll(
+                    loadTest.getId(), loadTest.getExecutorTypeOrDefault(), lambdaRequests);
         } catch (Exception e) {
             log.error("부하 테스트 시작 중 오류: {}", e.getMessage());
-            loadTest.setStatus(TestStatus.FAILED);
-            return loadTestRepository.save(loadTest);
+            return failStart(loadTest);
         }
-    }
-
-    @Transactional
-    public void processTestResult(Long loadTestId, TestResultProcessRequest resultRequest) {
-        LoadTest loadTest = loadTestRepository.findById(loadTestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Load test not found"));
 
-        // 컨테이너 인덱스 확인
-        Integer containerIndex = resultRequest.getContainerIndex();
-        if (containerIndex == null) {
-            containerIndex = 0; // 기본값으로 0 설정
+        // 컨테이너별 태스크 ID 저장 (상태는 ContainerTaskReconciler 가 주기적으로 갱신)
+        boolean running;
+        try {
+            running = testResultAggregator.recordContainerTasks(id, taskIds);
+        } catch (RuntimeException e) {
+            log.error("테스트 ID {} 태스크 ID 저장 실패, 실행한 컨테이너를 중지합니다: {}", id, e.getMessage());
+            stopLaunchedTasks(loadTest, taskIds);
+            return failStart(loadTest);
+        }
+        if (!running) {
+            // 실행하는 동안 중단되어 중단 처리가 알지 못한 태스크를 중지
+            log.info("테스트 ID {} 가 컨테이너 실행 중 종료되어 실행한 컨테이너를 중지합니다", id);
+            stopLaunchedTasks(loadTest, taskIds);
+            orchestrationMetrics.forget(id);
+            return loadTestRepository.findById(id).orElse(loadTest);
         }
 
-        // 이미 해당 컨테이너의 결과가 처리된 경우 중복 처리 방지
-        if (testResultRepository.existsByParentTestIdAndContainerIndex(loadTestId, containerIndex)) {
-            log.warn("Test result already exists for load test ID {} and container index {}",
-                    loadTestId, containerIndex);
-            return;
+        // 기존 API 호환을 위해 첫 번째 태스크 ID 도 유지
+        loadTest.setTaskId(taskIds.get(0));
+        liveMetricsService.register(loadTest);
+        liveMetricsBroadcaster.publishStatus(loadTest);
+        return loadTest;
+    }
+
+    private LoadTest failStart(LoadTest loadTest) {
+        orchestrationMetrics.forget(loadTest.getId());
+        if (!testResultAggregator.failLoadTest(loadTest.getId())) {
+            // 그 사이 중단된 테스트는 중단 상태를 유지
+            return loadTestRepository.findById(loadTest.getId()).orElse(loadTest);
         }
+        loadTest.setStatus(TestStatus.FAILED);
+        liveMetricsBroadcaster.publishStatus(loadTest);
+        return loadTest;
+    }
 
-        // S3에 결과 업로드 (컨테이너 인덱스 포함)
-        String resultJson = resultRequest.getSummaryJson();
-        String resultFileName = String.format("result-%d-container-%d.json", loadTestId, containerIndex);
-        String resultUrl = s3Service.uploadTestResult(loadTestId, resultJson, resultFileName);
+    private void stopLaunchedTasks(LoadTest loadTest, List<String> taskIds) {
+        loadExecutorRegistry.get(loadTest.getExecutorTypeOrDefault()).stopAll(loadTest.getId(), taskIds,
+                "LoadPilot test " + loadTest.getId() + " was stopped while starting");
+    }
+
+    private static boolean hasCustomScript(LoadTest loadTest) {
+        return loadTest.getScriptContent() != null && !loadTest.getScriptContent().trim().isEmpty();
+    }
+
+    // 저장된 컨테이너 가중치 (없으면 균등, 용량 탐색 단계와 공유)
+    static int[] containerWeights(LoadTest loadTest) {
+        int[] weights = new int[loadTest.getContainerCount()];
+        Arrays.fill(weights, 1);
+        if (loadTest.getContainerWeights() != null) {
+            String[] values = loadTest.getContainerWeights().split(",");
+            for (int i = 0; i < Math.min(values.length, weights.length); i++) {
+                weights[i] = Math.max(1, Integer.parseInt(values[i].trim()));
+            }
+        }
+        return weights;
+    }
 
-        // 테스트 결과 저장
+    // 콜백 요청을 컨테이너 결과 엔티티로 변환 (결과 수집 파이프라인에서 사용)
+    static TestResult toTestResult(LoadTest loadTest, Integer containerIndex,
+                                   TestResultProcessRequest resultRequest, String resultUrl) {
         TestResult testResult = new TestResult();
         testResult.setParentTest(loadTest);
         testResult.setContainerIndex(containerIndex);
         testResult.setStartTime(resultRequest.getStartTime());
         testResult.setEndTime(resultRequest.getEndTime());
-        testResult.setSummaryJson(resultJson);
+        testResult.setSummaryJson(resultRequest.getSummaryJson());
+        // 러너가 직접 업로드한 원본은 포인터만 전달되며 ResultSummaryStore 가 확인한 뒤 유지
+        testResult.setSummaryBlobKey(resultRequest.getSummaryObjectKey());
+        testResult.setSummarySizeBytes(resultRequest.getSummarySizeBytes());
+        testResult.setSummarySha256(resultRequest.getSummarySha256());
+        testResult.setSummaryContentType(resultRequest.getSummaryContentType());
         testResult.setTotalRequests(resultRequest.getTotalRequests());
         testResult.setSuccessfulRequests(resultRequest.getSuccessfulRequests());
         testResult.setFailedRequests(resultRequest.getFailedRequests());
@@ -164,130 +326,42 @@ public class LoadTestService {
         testResult.setMaxResponseTimeMs(resultRequest.getMaxResponseTimeMs());
         testResult.setMinResponseTimeMs(resultRequest.getMinResponseTimeMs());
         testResult.setRequestsPerSecond(resultRequest.getRequestsPerSecond());
+        testResult.setDroppedIterations(resultRequest.getDroppedIterations());
         testResult.setResultFilePath(resultUrl);
 
-        testResultRepository.save(testResult);
-
-        // 완료된 컨테이너 수 증가
-        loadTest.incrementCompletedContainerCount();
-
-        // 모든 컨테이너가 완료되었는지 확인
-        if (loadTest.isAllContainersCompleted()) {
-            // 모든 컨테이너 결과 집계
-            aggregateTestResults(loadTest);
-
-            // 테스트 상태 업데이트
-            loadTest.setStatus(TestStatus.COMPLETED);
-        }
-
-        loadTestRepository.save(loadTest);
-    }
-
-    // 테스트 결과 집계 메서드
-    private void aggregateTestResults(LoadTest loadTest) {
-        try {
-            List<TestResult> results = testResultRepository.findByParentTestId(loadTest.getId());
-            if (results.isEmpty()) {
-                log.warn("No test results found for load test ID {}", loadTest.getId());
-                return;
+        // 러너가 전송한 지연시간 히스토그램 저장 (집계 시 병합용)
+        if (resultRequest.getLatencyHistogram() != null && !resultRequest.getLatencyHistogram().isEmpty()) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.addBucketCounts(resultRequest.getLatencyHistogram());
+            testResult.setLatencyHistogram(histogram.encode());
+
+            // 러너가 요청별로 보정한 히스토그램을 우선 사용하고, 없으면 측정 히스토그램을 예상 요청 간격으로 보정
+            LatencyHistogram corrected;
+            Double expectedIntervalMs = loadTest.getExpectedIntervalMs();
+            if (resultRequest.getCorrectedLatencyHistogram() != null
+                    && !resultRequest.getCorrectedLatencyHistogram().isEmpty()) {
+                corrected = new LatencyHistogram();
+                corrected.addBucketCounts(resultRequest.getCorrectedLatencyHistogram());
+            } else if (expectedIntervalMs != null) {
+                corrected = histogram.copyCorrectedForCoordinatedOmission(expectedIntervalMs);
+            } else {
+                corrected = histogram;
             }
-
-            // 집계 시작
-            AggregatedTestResult aggregated = new AggregatedTestResult();
-            aggregated.setLoadTest(loadTest);
-
-            long totalRequests = 0;
-            long successfulRequests = 0;
-            long failedRequests = 0;
-            double totalResponseTime = 0;
-            double maxP95 = 0;
-            double maxP99 = 0;
-            double maxResponseTime = 0;
-            double minResponseTime = Double.MAX_VALUE;
-            double totalRps = 0;
-
-            LocalDateTime earliestStart = null;
-            LocalDateTime latestEnd = null;
-
-            // 모든 결과 순회하며 집계
-            for (TestResult result : results) {
-                totalRequests += result.getTotalRequests();
-                successfulRequests += result.getSuccessfulRequests();
-                failedRequests += result.getFailedRequests();
-
-                // 가중 평균을 위한 계산
-                totalResponseTime += result.getAvgResponseTimeMs() * result.getTotalRequests();
-
-                // 최대/최소값 계산
-                maxP95 = Math.max(maxP95, result.getP95ResponseTimeMs());
-                maxP99 = Math.max(maxP99, result.getP99ResponseTimeMs());
-                maxResponseTime = Math.max(maxResponseTime, result.getMaxResponseTimeMs());
-                minResponseTime = Math.min(minResponseTime, result.getMinResponseTimeMs());
-
-                // RPS 합산
-                totalRps += result.getRequestsPerSecond();
-
-                // 시작 및 종료 시간 계산
-                if (earliestStart == null || result.getStartTime().isBefore(earliestStart)) {
-                    earliestStart = result.getStartTime();
-                }
-                if (latestEnd == null || result.getEndTime().isAfter(latestEnd)) {
-                    latestEnd = result.getEndTime();
-                }
-            }
-
-            // 평균 응답 시간 계산 (가중 평균)
-            double avgResponseTime = totalRequests > 0 ? totalResponseTime / totalRequests : 0;
-
-            // 집계 결과 설정
-            aggregated.setTotalRequests(totalRequests);
-            aggregated.setSuccessfulRequests(successfulRequests);
-            aggregated.setFailedRequests(failedRequests);
-            aggregated.setAvgResponseTimeMs(avgResponseTime);
-            aggregated.setP95ResponseTimeMs(maxP95);
-            aggregated.setP99ResponseTimeMs(maxP99);
-            aggregated.setMaxResponseTimeMs(maxResponseTime);
-            aggregated.setMinResponseTimeMs(minResponseTime == Double.MAX_VALUE ? 0 : minResponseTime);
-            aggregated.setRequestsPerSecond(totalRps);
-            aggregated.setStartTime(earliestStart);
-            aggregated.setEndTime(latestEnd);
-
-            // JSON 결과 생성
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Object> aggregatedJson = new HashMap<>();
-            aggregatedJson.put("totalRequests", totalRequests);
-            aggregatedJson.put("successfulRequests", successfulRequests);
-            aggregatedJson.put("failedRequests", failedRequests);
-            aggregatedJson.put("avgResponseTimeMs", avgResponseTime);
-            aggregatedJson.put("p95ResponseTimeMs", maxP95);
-            aggregatedJson.put("p99ResponseTimeMs", maxP99);
-            aggregatedJson.put("maxResponseTimeMs", maxResponseTime);
-            aggregatedJson.put("minResponseTimeMs", minResponseTime == Double.MAX_VALUE ? 0 : minResponseTime);
-            aggregatedJson.put("requestsPerSecond", totalRps);
-            aggregatedJson.put("successRate", totalRequests > 0
-                    ? (double) successfulRequests / totalRequests * 100 : 0);
-            aggregatedJson.put("startTime", earliestStart);
-            aggregatedJson.put("endTime", latestEnd);
-            aggregatedJson.put("containerCount", loadTest.getContainerCount());
-
-            aggregated.setAggregatedJson(objectMapper.writeValueAsString(aggregatedJson));
-
-            // DB에 저장
-            aggregatedTestResultRepository.save(aggregated);
-
-            log.info("Successfully aggregated test results for load test ID {}", loadTest.getId());
-        } catch (Exception e) {
-            log.error("Error aggregating test results for load test ID {}: {}",
-                    loadTest.getId(), e.getMessage());
+            testResult.setCorrectedLatencyHistogram(corrected.encode());
+            testResult.setCorrectedP95ResponseTimeMs(corrected.getValueAtPercentile(95));
+            testResult.setCorrectedP99ResponseTimeMs(corrected.getValueAtPercentile(99));
         }
+
+        return testResult;
     }
 
     @Transactional(readOnly = true)
     public TestResultResponse getAggregatedTestResult(Long loadTestId, Long userId) {
         LoadTest loadTest = getLoadTest(loadTestId, userId);
 
-        // 테스트가 완료되지 않았으면 오류
-        if (loadTest.getStatus() != TestStatus.COMPLETED || !loadTest.isAllContainersCompleted()) {
+        // 테스트가 완료되지 않았으면 오류 (조기 중단된 테스트는 부분 결과를 반환)
+        if (loadTest.getStatus() != TestStatus.ABORTED
+                && (loadTest.getStatus() != TestStatus.COMPLETED || !loadTest.isAllContainersCompleted())) {
             throw new IllegalStateException("Test results are not ready yet");
         }
 
@@ -305,18 +379,23 @@ public class LoadTestService {
         response.setSuccessfulRequests(aggregated.getSuccessfulRequests());
         response.setFailedRequests(aggregated.getFailedRequests());
         response.setAvgResponseTimeMs(aggregated.getAvgResponseTimeMs());
+        response.setP50ResponseTimeMs(aggregated.getP50ResponseTimeMs());
+        response.setP90ResponseTimeMs(aggregated.getP90ResponseTimeMs());
         response.setP95ResponseTimeMs(aggregated.getP95ResponseTimeMs());
         response.setP99ResponseTimeMs(aggregated.getP99ResponseTimeMs());
+        response.setP999ResponseTimeMs(aggregated.getP999ResponseTimeMs());
         response.setMaxResponseTimeMs(aggregated.getMaxResponseTimeMs());
         response.setMinResponseTimeMs(aggregated.getMinResponseTimeMs());
         response.setRequestsPerSecond(aggregated.getRequestsPerSecond());
+        response.setDroppedIterations(aggregated.getDroppedIterations());
+        response.setCorrectedP50ResponseTimeMs(aggregated.getCorrectedP50ResponseTimeMs());
+        response.setCorrectedP90ResponseTimeMs(aggregated.getCorrectedP90ResponseTimeMs());
+        response.setCorrectedP95ResponseTimeMs(aggregated.getCorrectedP95ResponseTimeMs());
+        response.setCorrectedP99ResponseTimeMs(aggregated.getCorrectedP99ResponseTimeMs());
+        response.setCorrectedP999ResponseTimeMs(aggregated.getCorrectedP999ResponseTimeMs());
 
         // 개별 컨테이너 결과 URL 리스트 추가 (선택적)
-        List<TestResult> individualResults = testResultRepository.findByParentTestId(loadTestId);
-        List<String> resultUrls = individualResults.stream()
-                .map(TestResult::getResultFilePath)
-                .collect(Collectors.toList());
-        response.setContainerResultUrls(resultUrls);
+        response.setContainerResultUrls(testResultRepository.findResultFilePathsByParentTestId(loadTestId));
 
         return response;
     }
@@ -335,58 +414,81 @@ public class LoadTestService {
                 .orElseThrow(() -> new ResourceNotFoundException("Load test not found"));
     }
 
-    @Transactional
+    /**
+     * 로드 테스트의 상태를 조회합니다.
+     * 컨테이너별 ECS 태스크 상태는 ContainerTaskReconciler 가 기록한 값을 사용하므로 AWS 호출이 발생하지 않습니다.
+     */
+    @Transactional(readOnly = true)
     public LoadTestStatusResponse getLoadTestStatus(Long id, Long userId) {
         LoadTest loadTest = getLoadTest(id, userId);
 
-        // 이미 완료 또는 실패 상태라면 추가 조회 필요 없음
-        if (loadTest.getStatus() == TestStatus.COMPLETED || loadTest.getStatus() == TestStatus.FAILED) {
-            return new LoadTestStatusResponse(
-                    loadTest.getId(),
-                    loadTest.getStatus(),
-                    null,
-                    loadTest.getContainerCount(),
-                    loadTest.getCompletedContainerCount(),
-                    loadTest.isAllContainersCompleted()
-            );
-        }
-
-        // 실행 중인 경우 ECS 태스크 상태 조회
-        if (loadTest.getStatus() == TestStatus.RUNNING && loadTest.getTaskId() != null) {
-            TaskStatus taskStatus = ecsService.getTaskStatus(loadTest.getTaskId());
-
-            // 다중 컨테이너의 경우, 첫 번째 컨테이너의 상태만 조회
-            // 실제 완료된 컨테이너 수는 DB에 기록된 값 사용
-
-            // 상태 업데이트가 필요한 경우
-            if ((taskStatus == TaskStatus.COMPLETED && loadTest.getStatus() != TestStatus.COMPLETED && loadTest.isAllContainersCompleted()) ||
-                    (taskStatus == TaskStatus.FAILED && loadTest.getStatus() != TestStatus.FAILED)) {
-
-                loadTest.setStatus(taskStatus == TaskStatus.COMPLETED ?
-                        TestStatus.COMPLETED : TestStatus.FAILED);
-                loadTestRepository.save(loadTest);
-            }
+        List<ContainerTaskStatusResponse> containerStatuses = loadTest.getContainerTasks().stream()
+                .map(ContainerTaskStatusResponse::fromEntity)
+                .collect(Collectors.toList());
 
-            return new LoadTestStatusResponse(
-                    loadTest.getId(),
-                    loadTest.getStatus(),
-                    taskStatus == TaskStatus.UNKNOWN ? "UNKNOWN" : taskStatus.name(),
-                    loadTest.getContainerCount(),
-                    loadTest.getCompletedContainerCount(),
-                    loadTest.isAllContainersCompleted()
-            );
+        // 이미 완료 또는 실패 상태라면 태스크 상태 요약 불필요
+        String taskStatus = null;
+        if (loadTest.getStatus() == TestStatus.RUNNING && !containerStatuses.isEmpty()) {
+            taskStatus = summarizeTaskStatus(loadTest.getContainerTasks()).name();
         }
 
         return new LoadTestStatusResponse(
                 loadTest.getId(),
                 loadTest.getStatus(),
-                null,
+                taskStatus,
                 loadTest.getContainerCount(),
                 loadTest.getCompletedContainerCount(),
-                loadTest.isAllContainersCompleted()
+                loadTest.isAllContainersCompleted(),
+                containerStatuses
         );
     }
 
+    // 컨테이너 상태 요약: 하나라도 실패 > 실행 중 > 대기 > 모두 완료 순으로 대표 상태 결정
+    private TaskStatus summarizeTaskStatus(List<ContainerTask> containerTasks) {
+        Set<TaskStatus> statuses = containerTasks.stream()
+                .map(ContainerTask::getStatus)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TaskStatus.class)));
+
+        if (statuses.contains(TaskStatus.FAILED)) {
+            return TaskStatus.FAILED;
+        } else if (statuses.contains(TaskStatus.RUNNING)) {
+            return TaskStatus.RUNNING;
+        } else if (statuses.contains(TaskStatus.PENDING)) {
+            return TaskStatus.PENDING;
+        } else if (statuses.equals(EnumSet.of(TaskStatus.COMPLETED))) {
+            return TaskStatus.COMPLETED;
+        }
+        return TaskStatus.UNKNOWN;
+    }
+
+
+    /**
+     * 결과를 조회하고 ETag 를 붙여 반환합니다.
+     * 집계 행이 있는 COMPLETED 테스트의 결과만 바뀌지 않으므로 캐시에 저장하고, 이후 같은 사용자의 조회는
+     * 컨트롤러에서 {@link TestResultCache} 로 바로 처리됩니다. ABORTED 테스트는 중단 처리가 상태를 먼저 바꾼 뒤
+     * 집계하므로 그 사이의 부분 결과가 굳지 않도록 캐시하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public TestResultCache.CachedTestResult getCacheableTestResult(Long loadTestId, User user) {
+        LoadTest loadTest = getLoadTest(loadTestId, user.getId());
+        TestResultResponse response = buildTestResult(loadTest);
+
+        // 응답 ID 는 집계 행에서 만든 결과에만 설정됨
+        if (loadTest.getStatus() == TestStatus.COMPLETED && response.getId() != null) {
+            return testResultCache.put(loadTestId, user.getKeycloakId(), response);
+        }
+        return testResultCache.uncached(user.getKeycloakId(), response);
+    }
+
+    /**
+     * 컨테이너 원본 요약의 블롭 키와 형식을 조회합니다. 소유자 확인 후 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public RawSummaryBlob getRawSummaryBlob(Long loadTestId, Long userId, Integer containerIndex) {
+        getLoadTest(loadTestId, userId);
+        return testResultRepository.findRawSummaryBlob(loadTestId, containerIndex)
+                .orElseThrow(() -> new ResourceNotFoundException("Raw result not found"));
+    }
 
     /**
      * 로드 테스트의 결과를 조회합니다.
@@ -394,15 +496,19 @@ public class LoadTestService {
      */
     @Transactional(readOnly = true)
     public TestResultResponse getTestResult(Long loadTestId, Long userId) {
-        LoadTest loadTest = getLoadTest(loadTestId, userId);
+        return buildTestResult(getLoadTest(loadTestId, userId));
+    }
 
-        // 테스트가 완료되지 않은 경우
-        if (loadTest.getStatus() != TestStatus.COMPLETED) {
+    private TestResultResponse buildTestResult(LoadTest loadTest) {
+        Long loadTestId = loadTest.getId();
+
+        // 테스트가 완료되지 않은 경우 (조기 중단된 테스트는 부분 결과를 반환)
+        if (loadTest.getStatus() != TestStatus.COMPLETED && loadTest.getStatus() != TestStatus.ABORTED) {
             throw new IllegalStateException("Test is not completed yet");
         }
 
         // 모든 컨테이너가 완료되지 않은 경우
-        if (!loadTest.isAllContainersCompleted()) {
+        if (loadTest.getStatus() == TestStatus.COMPLETED && !loadTest.isAllContainersCompleted()) {
             throw new IllegalStateException("Not all containers have completed yet");
         }
 
@@ -423,78 +529,72 @@ public class LoadTestService {
             response.setSuccessfulRequests(result.getSuccessfulRequests());
             response.setFailedRequests(result.getFailedRequests());
             response.setAvgResponseTimeMs(result.getAvgResponseTimeMs());
+            response.setP50ResponseTimeMs(result.getP50ResponseTimeMs());
+            response.setP90ResponseTimeMs(result.getP90ResponseTimeMs());
             response.setP95ResponseTimeMs(result.getP95ResponseTimeMs());
             response.setP99ResponseTimeMs(result.getP99ResponseTimeMs());
+            response.setP999ResponseTimeMs(result.getP999ResponseTimeMs());
             response.setMaxResponseTimeMs(result.getMaxResponseTimeMs());
             response.setMinResponseTimeMs(result.getMinResponseTimeMs());
             response.setRequestsPerSecond(result.getRequestsPerSecond());
+            response.setDroppedIterations(result.getDroppedIterations());
+            response.setCorrectedP50ResponseTimeMs(result.getCorrectedP50ResponseTimeMs());
+            response.setCorrectedP90ResponseTimeMs(result.getCorrectedP90ResponseTimeMs());
+            response.setCorrectedP95ResponseTimeMs(result.getCorrectedP95ResponseTimeMs());
+            response.setCorrectedP99ResponseTimeMs(result.getCorrectedP99ResponseTimeMs());
+            response.setCorrectedP999ResponseTimeMs(result.getCorrectedP999ResponseTimeMs());
 
             // 개별 컨테이너 결과 URL 추가
-            List<TestResult> individualResults = testResultRepository.findByParentTestId(loadTestId);
-            List<String> resultUrls = individualResults.stream()
-                    .map(TestResult::getResultFilePath)
-                    .collect(Collectors.toList());
-            response.setContainerResultUrls(resultUrls);
+            response.setContainerResultUrls(testResultRepository.findResultFilePathsByParentTestId(loadTestId));
 
             return response;
         } else {
-            // 집계된 결과가 없는 경우 개별 결과들을 조회
-            List<TestResult> results = testResultRepository.findByParentTestId(loadTestId);
+            // 집계된 결과가 없는 경우 개별 결과들을 그룹 단위로 부분 집계
+            PartialAggregate total = testResultAggregator.aggregatePartials(loadTestId);
 
-            if (results.isEmpty()) {
+            if (total.isEmpty()) {
                 throw new ResourceNotFoundException("Test results not found");
             }
 
-            // 첫 번째 결과를 기본으로 사용
-            TestResult firstResult = results.get(0);
-
             TestResultResponse response = new TestResultResponse();
-            response.setId(firstResult.getId());
             response.setLoadTestId(loadTestId);
-            response.setStartTime(firstResult.getStartTime());
-            response.setEndTime(firstResult.getEndTime());
-
-            // 전체 결과 집계 (간단한 합산)
-            long totalRequests = 0;
-            long successfulRequests = 0;
-            long failedRequests = 0;
-            double totalResponseTime = 0;
-            double maxP95 = 0;
-            double maxP99 = 0;
-            double maxResponse = 0;
-            double minResponse = Double.MAX_VALUE;
-            double totalRps = 0;
-
-            for (TestResult result : results) {
-                totalRequests += result.getTotalRequests();
-                successfulRequests += result.getSuccessfulRequests();
-                failedRequests += result.getFailedRequests();
-                totalResponseTime += result.getAvgResponseTimeMs() * result.getTotalRequests();
-                maxP95 = Math.max(maxP95, result.getP95ResponseTimeMs());
-                maxP99 = Math.max(maxP99, result.getP99ResponseTimeMs());
-                maxResponse = Math.max(maxResponse, result.getMaxResponseTimeMs());
-                minResponse = Math.min(minResponse, result.getMinResponseTimeMs());
-                totalRps += result.getRequestsPerSecond();
+            response.setStartTime(total.getStartTime());
+            response.setEndTime(total.getEndTime());
+            response.setTotalRequests(total.getTotalRequests());
+            response.setSuccessfulRequests(total.getSuccessfulRequests());
+            response.setFailedRequests(total.getFailedRequests());
+            response.setAvgResponseTimeMs(total.getAvgResponseTimeMs());
+
+            LatencyHistogram mergedHistogram = total.getMergedHistogram();
+            if (mergedHistogram != null) {
+                response.setP50ResponseTimeMs(mergedHistogram.getValueAtPercentile(50));
+                response.setP90ResponseTimeMs(mergedHistogram.getValueAtPercentile(90));
+                response.setP95ResponseTimeMs(mergedHistogram.getValueAtPercentile(95));
+                response.setP99ResponseTimeMs(mergedHistogram.getValueAtPercentile(99));
+                response.setP999ResponseTimeMs(mergedHistogram.getValueAtPercentile(99.9));
+            } else {
+                response.setP95ResponseTimeMs(total.getMaxP95ResponseTimeMs());
+                response.setP99ResponseTimeMs(total.getMaxP99ResponseTimeMs());
+            }
+            response.setMaxResponseTimeMs(total.getMaxResponseTimeMs());
+            response.setMinResponseTimeMs(total.getMinResponseTimeMs());
+            response.setRequestsPerSecond(total.getRequestsPerSecond());
+            response.setDroppedIterations(total.getDroppedIterations());
+
+            LatencyHistogram correctedHistogram = total.getMergedCorrectedHistogram();
+            if (correctedHistogram != null) {
+                response.setCorrectedP50ResponseTimeMs(correctedHistogram.getValueAtPercentile(50));
+                response.setCorrectedP90ResponseTimeMs(correctedHistogram.getValueAtPercentile(90));
+                response.setCorrectedP95ResponseTimeMs(correctedHistogram.getValueAtPercentile(95));
+                response.setCorrectedP99ResponseTimeMs(correctedHistogram.getValueAtPercentile(99));
+                response.setCorrectedP999ResponseTimeMs(correctedHistogram.getValueAtPercentile(99.9));
+            } else {
+                response.setCorrectedP95ResponseTimeMs(total.getMaxCorrectedP95ResponseTimeMs());
+                response.setCorrectedP99ResponseTimeMs(total.getMaxCorrectedP99ResponseTimeMs());
             }
-
-            // 평균 응답 시간 계산
-            double avgResponseTime = totalRequests > 0 ? totalResponseTime / totalRequests : 0;
-
-            response.setTotalRequests(totalRequests);
-            response.setSuccessfulRequests(successfulRequests);
-            response.setFailedRequests(failedRequests);
-            response.setAvgResponseTimeMs(avgResponseTime);
-            response.setP95ResponseTimeMs(maxP95);
-            response.setP99ResponseTimeMs(maxP99);
-            response.setMaxResponseTimeMs(maxResponse);
-            response.setMinResponseTimeMs(minResponse == Double.MAX_VALUE ? 0 : minResponse);
-            response.setRequestsPerSecond(totalRps);
 
             // 개별 컨테이너 결과 URL 추가
-            List<String> resultUrls = results.stream()
-                    .map(TestResult::getResultFilePath)
-                    .collect(Collectors.toList());
-            response.setContainerResultUrls(resultUrls);
+            response.setContainerResultUrls(testResultRepository.findResultFilePathsByParentTestId(loadTestId));
 
             return response;
         }
@@ -519,10 +619,21 @@ public class LoadTestService {
         aggregatedResult.ifPresent(aggregatedTestResultRepository::delete);
 
         // 개별 테스트 결과들 삭제 (cascading으로 처리될 수도 있음)
+        List<String> blobKeys = new ArrayList<>(testResultRepository.findSummaryBlobKeysByParentTestId(id));
         List<TestResult> results = testResultRepository.findByParentTestId(id);
+        // 결과 콜백 없이 업로드만 남은 러너 직접 업로드 객체도 함께 정리
+        Set<Integer> reported = results.stream().map(TestResult::getContainerIndex).collect(Collectors.toSet());
+        for (int i = 0; loadTest.getContainerCount() != null && i < loadTest.getContainerCount(); i++) {
+            if (!reported.contains(i)) {
+                blobKeys.add(ResultUploadService.objectKey(id, i));
+            }
+        }
         if (!results.isEmpty()) {
             testResultRepository.deleteAll(results);
         }
+        // 다른 결과와 공유하지 않는 원본 요약 블롭 삭제
+        resultSummaryStore.releaseUnreferenced(blobKeys);
+        metricSeriesService.delete(id);
 
         // S3에서 결과 파일 삭제 (선택적)
         try {
@@ -533,6 +644,7 @@ public class LoadTestService {
 
         // 로드 테스트 삭제
         loadTestRepository.delete(loadTest);
+        testResultCache.invalidate(id);
     }
 
     /**
@@ -545,13 +657,70 @@ public class LoadTestService {
      * @return 로드 테스트 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<LoadTest> getLoadTests(Long userId, TestStatus status, int page, int size) {
+    public Page<LoadTestResponse> getLoadTests(Long userId, TestStatus status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
         if (status != null) {
-            return loadTestRepository.findByUserIdAndStatus(userId, status, pageable);
+            return loadTestRepository.findListingByUserIdAndStatus(userId, status, pageable);
         } else {
-            return loadTestRepository.findByUserId(userId, pageable);
+            return loadTestRepository.findListingByUserId(userId, pageable);
+        }
+    }
+
+    /**
+     * 사용자의 로드 테스트 목록을 (createdAt, id) 커서 기준으로 최신순 조회합니다.
+     * 개수 조회와 OFFSET 없이 인덱스 범위만 읽으므로 페이지 깊이와 관계없이 비용이 같습니다.
+     *
+     * @param userId 사용자 ID
+     * @param status 필터링할 테스트 상태 (null인 경우 모든 상태)
+     * @param cursor 이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param size 페이지 크기 (최대 loadtest.listing.max-page-size)
+     * @return 로드 테스트 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LoadTestResponse> getLoadTestsByCursor(Long userId, TestStatus status,
+                                                                     String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable fetch = PageRequest.of(0, limit + 1);
+
+        List<LoadTestResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status != null
+                    ? loadTestRepository.findFirstListingByStatus(userId, status, fetch)
+                    : loadTestRepository.findFirstListing(userId, fetch);
+        } else {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+            Long id = Long.valueOf(position[1]);
+            rows = status != null
+                    ? loadTestRepository.findListingByStatusAfter(userId, status, createdAt, id, fetch)
+                    : loadTestRepository.findListingAfter(userId, createdAt, id, fetch);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<LoadTestResponse> items = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new CursorPageResponse<>(items, nextCursor, hasNext);
+    }
+
+    // 커서는 마지막 항목의 "createdAt|id" 를 URL-safe Base64 로 인코딩한 값
+    private static String encodeCursor(LoadTestResponse last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalStateException("Invalid cursor: " + cursor);
         }
     }
 
@@ -0,0 +1,341 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.amazonaws.services.ecs.model.ResourceNotFoundException;
+import com.elandinnople.loadpilot.common.service.S3Service;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TimeSeriesPoint;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TimeSeriesResponse;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricSeriesReader;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricSeriesWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트별 초 단위 메트릭 시계열 파일을 관리합니다.
+ * <p>
+ * 실행 중에는 로컬 디렉터리의 파일에 구간 프레임을 추가하고, 테스트가 끝나면 파일을 닫아
+ * S3 의 테스트 결과 경로(results/{id}/metrics.lpts)에 보관합니다. 조회 시 로컬에 없으면 S3 에서 내려받아 매핑합니다.
+ * 서버가 재시작되면 진행 중이던 파일은 푸터 없이 남아 읽을 수 없으므로 새로 기록됩니다.
+ * <p>
+ * 기록 시점에 롤업 해상도(기본 10초/1분/10분)를 함께 계산해 두므로, 시계열 조회는 요청 간격을 넘지 않는
+ * 가장 큰 해상도 섹션만 읽어 히스토그램을 병합합니다. 장시간 테스트도 수백 개 포인트만 디코딩하면 됩니다.
+ * 완료된 테스트의 파일은 바뀌지 않으므로 한 번 연 리더를 캐시해 두고 조회마다 다시 매핑하지 않습니다.
+ */
+@Service
+@Slf4j
+public class MetricSeriesService {
+
+    static final String FILE_NAME = "metrics.lpts";
+
+    private static final Pattern RESOLUTION_PATTERN = Pattern.compile("(\\d+)(ms|s|m|h)");
+
+    private final S3Service s3Service;
+    private final Path baseDir;
+    private final int resolutionMs;
+    private final int[] rollupResolutionsMs;
+    private final boolean archiveToS3;
+    private final int autoPoints;
+    private final int maxPoints;
+    private final Map<Long, MetricSeriesWriter> writers = new ConcurrentHashMap<>();
+    private final Cache<Long, MetricSeriesReader> readers;
+
+    public MetricSeriesService(
+            S3Service s3Service,
+            @Value("${loadtest.series.dir:${java.io.tmpdir}/loadpilot-series}") String baseDir,
+            @Value("${loadtest.series.resolution-ms:1000}") int resolutionMs,
+            @Value("${loadtest.series.rollup-resolutions-ms:10000,60000,600000}") int[] rollupResolutionsMs,
+            @Value("${loadtest.series.archive-to-s3:true}") boolean archiveToS3,
+            @Value("${loadtest.series.auto-points:300}") int autoPoints,
+            @Value("${loadtest.series.max-points:5000}") int maxPoints,
+            @Value("${loadtest.series.reader-cache-size:64}") long readerCacheSize,
+            @Value("${loadtest.series.reader-cache-idle-minutes:30}") long readerCacheIdleMinutes) {
+        this.s3Service = s3Service;
+        this.baseDir = Path.of(baseDir).toAbsolutePath().normalize();
+        this.resolutionMs = resolutionMs;
+        this.rollupResolutionsMs = rollupResolutionsMs;
+        this.archiveToS3 = archiveToS3;
+        this.autoPoints = Math.max(1, autoPoints);
+        this.maxPoints = Math.max(1, maxPoints);
+        this.readers = Caffeine.newBuilder()
+                .maximumSize(readerCacheSize)
+                .expireAfterAccess(Duration.ofMinutes(readerCacheIdleMinutes))
+                .build();
+    }
+
+    /**
+     * 테스트의 시계열 파일을 새로 만듭니다. 실패하면 해당 테스트는 시계열 없이 진행됩니다.
+     */
+    public void start(Long loadTestId) {
+        try {
+            writers.computeIfAbsent(loadTestId, this::createWriter);
+        } catch (UncheckedIOException e) {
+            log.warn("테스트 ID {} 시계열 파일 생성 실패: {}", loadTestId, e.getMessage());
+        }
+    }
+
+    /**
+     * 구간 프레임을 테스트의 시계열 파일에 추가합니다. 기록에 실패하면 해당 테스트의 시계열 기록을 중단합니다.
+     * 시작되지 않았거나 이미 완료된 테스트의 프레임은 무시됩니다.
+     */
+    public void append(Long loadTestId, MetricFrame interval) {
+        MetricSeriesWriter writer = writers.get(loadTestId);
+        if (writer == null) {
+            return;
+        }
+        synchronized (writer) {
+            try {
+                writer.append(interval);
+            } catch (IllegalStateException e) {
+                // 완료 처리와 경합하여 이미 닫힌 경우
+                log.debug("Metric series for load test ID {} already closed", loadTestId);
+            } catch (IOException e) {
+                log.warn("테스트 ID {} 시계열 기록 실패, 기록을 중단합니다: {}", loadTestId, e.getMessage());
+                writers.remove(loadTestId, writer);
+                closeQuietly(loadTestId, writer);
+            }
+        }
+    }
+
+    /**
+     * 마지막 구간 프레임을 추가하고 시계열 파일을 닫은 뒤 S3 에 보관합니다.
+     */
+    public void complete(Long loadTestId, MetricFrame lastInterval) {
+        if (lastInterval != null && lastInterval.getRequests() > 0) {
+            append(loadTestId, lastInterval);
+        }
+        MetricSeriesWriter writer = writers.remove(loadTestId);
+        if (writer == null) {
+            return;
+        }
+        synchronized (writer) {
+            if (!closeQuietly(loadTestId, writer)) {
+                return;
+            }
+        }
+        if (archiveToS3) {
+            // 요청 처리 트랜잭션을 지연시키지 않도록 업로드는 별도 가상 스레드에서 수행
+            Thread.ofVirtual().name("metric-series-archive-" + loadTestId).start(() -> {
+                try {
+                    s3Service.uploadTestResultFile(loadTestId, FILE_NAME, file(loadTestId));
+                } catch (RuntimeException e) {
+                    log.warn("테스트 ID {} 시계열 파일 보관 실패: {}", loadTestId, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * 완료된 테스트의 시계열 파일을 엽니다. 실행 중이거나 기록된 시계열이 없으면 빈 값을 반환합니다.
+     * 연 리더는 캐시되며, 시계열이 없는 경우는 캐시하지 않으므로 나중에 보관된 파일도 조회할 수 있습니다.
+     */
+    public Optional<MetricSeriesReader> open(Long loadTestId) {
+        if (writers.containsKey(loadTestId)) {
+            return Optional.empty();
+        }
+        // 매핑 함수가 null 을 반환하면 캐시에 저장되지 않음
+        return Optional.ofNullable(readers.get(loadTestId, this::openReader));
+    }
+
+    private MetricSeriesReader openReader(Long loadTestId) {
+        Path file = file(loadTestId);
+        try {
+            if (!Files.exists(file) && !(archiveToS3 && download(loadTestId, file))) {
+                return null;
+            }
+            return MetricSeriesReader.open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open metric series for load test " + loadTestId, e);
+        }
+    }
+
+    /**
+     * 완료된 테스트의 처리량, 오류율, 지연시간 분위수를 요청한 간격으로 다운샘플링하여 반환합니다.
+     *
+     * @param resolution 포인트 간격 (예: 1s, 10s, 1m) 또는 auto (조회 범위가 약 auto-points 개 포인트가 되도록 선택)
+     * @param from 조회 범위 시작 (epoch ms, 포함). 없으면 시계열의 시작
+     * @param to 조회 범위 끝 (epoch ms, 제외). 없으면 시계열의 끝
+     * @throws ResourceNotFoundException 시계열이 없거나 테스트가 아직 실행 중인 경우
+     * @throws IllegalStateException 간격 형식이 잘못되었거나 포인트 수가 최대치를 넘는 경우
+     */
+    public TimeSeriesResponse query(Long loadTestId, String resolution, Long from, Long to) {
+        MetricSeriesReader reader = open(loadTestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Time series not found"));
+
+        long rangeFrom = from != null ? from : reader.getFirstTimestamp();
+        long rangeTo = to != null ? to : reader.getLastTimestamp() + 1;
+        if (rangeTo <= rangeFrom) {
+            throw new IllegalStateException("Invalid time range");
+        }
+
+        long requestedStep = resolution == null || resolution.equalsIgnoreCase("auto")
+                ? Math.ceilDiv(rangeTo - rangeFrom, autoPoints)
+                : parseResolution(resolution);
+        // 읽을 섹션의 해상도 배수로 맞춰야 포인트마다 같은 수의 구간이 병합됨
+        int sectionResolution = reader.coarsestResolutionAtMost(requestedStep);
+        long step = Math.max(1, Math.ceilDiv(requestedStep, sectionResolution)) * sectionResolution;
+        long alignedFrom = rangeFrom - Math.floorMod(rangeFrom, step);
+        if (Math.ceilDiv(rangeTo - alignedFrom, step) > maxPoints) {
+            throw new IllegalStateException("Too many points for resolution " + resolution + ", max " + maxPoints);
+        }
+
+        List<TimeSeriesPoint> points = new ArrayList<>();
+        PointBuilder builder = new PointBuilder(step);
+        reader.read(sectionResolution, alignedFrom, rangeTo, frame -> {
+            long windowStart = frame.getTimestamp() - Math.floorMod(frame.getTimestamp(), step);
+            if (builder.pending && builder.windowStart != windowStart) {
+                points.add(builder.build());
+            }
+            builder.add(windowStart, frame);
+        });
+        if (builder.pending) {
+            points.add(builder.build());
+        }
+        return new TimeSeriesResponse(loadTestId, (int) Math.min(step, Integer.MAX_VALUE), alignedFrom, rangeTo,
+                points);
+    }
+
+    /**
+     * 캐시된 리더와 로컬 시계열 파일을 삭제합니다. S3 의 사본은 테스트 결과 삭제 시 함께 삭제됩니다.
+     */
+    public void delete(Long loadTestId) {
+        readers.invalidate(loadTestId);
+        MetricSeriesWriter writer = writers.remove(loadTestId);
+        if (writer != null) {
+            synchronized (writer) {
+                closeQuietly(loadTestId, writer);
+            }
+        }
+        try {
+            Files.deleteIfExists(file(loadTestId));
+        } catch (IOException e) {
+            log.warn("테스트 ID {} 시계열 파일 삭제 실패: {}", loadTestId, e.getMessage());
+        }
+    }
+
+    private MetricSeriesWriter createWriter(Long loadTestId) {
+        try {
+            Files.createDirectories(baseDir);
+            return MetricSeriesWriter.create(file(loadTestId), resolutionMs, rollupResolutionsMs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create metric series for load test " + loadTestId, e);
+        }
+    }
+
+    // 다른 요청이 내려받는 중인 파일을 읽지 않도록 임시 파일로 받은 뒤 원자적으로 이동
+    private boolean download(Long loadTestId, Path file) throws IOException {
+        Files.createDirectories(baseDir);
+        Path temp = Files.createTempFile(baseDir, loadTestId + "-", ".tmp");
+        try {
+            if (!s3Service.downloadTestResultFile(loadTestId, FILE_NAME, temp)) {
+                return false;
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean closeQuietly(Long loadTestId, MetricSeriesWriter writer) {
+        try {
+            writer.close();
+            return true;
+        } catch (IOException e) {
+            log.warn("테스트 ID {} 시계열 파일 닫기 실패: {}", loadTestId, e.getMessage());
+            return false;
+        }
+    }
+
+    private Path file(Long loadTestId) {
+        return baseDir.resolve(loadTestId + ".lpts");
+    }
+
+    private long parseResolution(String resolution) {
+        Matcher matcher = RESOLUTION_PATTERN.matcher(resolution.trim().toLowerCase());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Invalid resolution: " + resolution);
+        }
+        long value = Long.parseLong(matcher.group(1));
+        long stepMs = switch (matcher.group(2)) {
+            case "ms" -> value;
+            case "s" -> value * 1000;
+            case "m" -> value * 60_000;
+            default -> value * 3_600_000;
+        };
+        if (stepMs <= 0) {
+            throw new IllegalStateException("Invalid resolution: " + resolution);
+        }
+        return stepMs;
+    }
+
+    /**
+     * 같은 출력 구간에 속하는 프레임의 카운터와 히스토그램을 병합합니다.
+     */
+    private static final class PointBuilder {
+
+        private final long step;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private boolean pending;
+        private long windowStart;
+        private long intervalMs;
+        private long requests;
+        private long failedRequests;
+
+        private PointBuilder(long step) {
+            this.step = step;
+        }
+
+        private void add(long windowStart, MetricFrame frame) {
+            this.pending = true;
+            this.windowStart = windowStart;
+            intervalMs += frame.getIntervalMs();
+            requests += frame.getRequests();
+            failedRequests += frame.getFailedRequests();
+            for (int i = 0; i < frame.getBucketSize(); i++) {
+                histogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+            }
+        }
+
+        private TimeSeriesPoint build() {
+            // 실제로 측정된 구간 길이 기준 (마지막 구간처럼 일부만 측정된 경우 포함)
+            double seconds = Math.min(intervalMs, step) / 1000.0;
+            TimeSeriesPoint point = new TimeSeriesPoint(
+                    windowStart,
+                    requests,
+                    failedRequests,
+                    seconds > 0 ? requests / seconds : 0,
+                    requests > 0 ? (double) failedRequests / requests : 0,
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(95),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getMaxValue()
+            );
+
+            pending = false;
+            intervalMs = 0;
+            requests = 0;
+            failedRequests = 0;
+            histogram.reset();
+            return point;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.MetricTags;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 테스트 단위 오케스트레이션 구간 시간을 테스트 유형/컨테이너 수 태그로 기록합니다.
+ * <ul>
+ *     <li>loadpilot.test.launch.to.first.request: 시작 요청부터 어느 컨테이너든 첫 메트릭 프레임이 도착할 때까지</li>
+ *     <li>loadpilot.test.last.callback.to.aggregated: 마지막 결과 콜백 수신부터 집계 완료까지</li>
+ *     <li>loadpilot.result.aggregate: 전체 결과 집계 시간</li>
+ *     <li>loadpilot.result.process: 결과 콜백 하나를 수신부터 수집 파이프라인에서 처리 완료할 때까지 걸린 시간</li>
+ * </ul>
+ * 추적 상태는 메모리에만 있으므로 서버가 재시작되기 전에 시작된 테스트는 구간 시간을 기록하지 않습니다.
+ */
+@Component
+public class OrchestrationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // 시작 후 아직 집계되거나 정리되지 않은 테스트
+    private final Map<Long, TrackedTest> tracked = new ConcurrentHashMap<>();
+
+    private static final class TrackedTest {
+        private final long startedAt = System.nanoTime();
+        private final Tags tags;
+        private final AtomicBoolean firstRequestRecorded = new AtomicBoolean();
+        private volatile long lastCallbackAt;
+
+        private TrackedTest(Tags tags) {
+            this.tags = tags;
+        }
+    }
+
+    public OrchestrationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("loadpilot.test.tracked", tracked, Map::size)
+                .description("시작 후 아직 집계되지 않은 테스트 수")
+                .register(meterRegistry);
+    }
+
+    public void testStarted(LoadTest loadTest) {
+        tracked.put(loadTest.getId(), new TrackedTest(tags(loadTest)));
+    }
+
+    /**
+     * 메트릭 프레임이 컨테이너의 첫 프레임일 때 호출됩니다. 테스트마다 처음 한 번만 기록합니다.
+     */
+    public void firstRequest(Long loadTestId) {
+        TrackedTest test = tracked.get(loadTestId);
+        if (test != null && test.firstRequestRecorded.compareAndSet(false, true)) {
+            timer("loadpilot.test.launch.to.first.request", "시작 요청부터 첫 메트릭 프레임 수신까지 걸린 시간", test.tags)
+                    .record(System.nanoTime() - test.startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void resultReceived(Long loadTestId) {
+        TrackedTest test = tracked.get(loadTestId);
+        if (test != null) {
+            test.lastCallbackAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * 결과 집계 시간을 기록하고, 마지막 콜백 수신 시각을 알고 있으면 콜백부터 집계 완료까지의 시간도 기록합니다.
+     */
+    public void aggregated(LoadTest loadTest, long aggregationNanos) {
+        Tags tags = tags(loadTest);
+        timer("loadpilot.result.aggregate", "전체 결과 집계 시간", tags)
+                .record(aggregationNanos, TimeUnit.NANOSECONDS);
+
+        TrackedTest test = tracked.remove(loadTest.getId());
+        if (test != null && test.lastCallbackAt != 0) {
+            timer("loadpilot.test.last.callback.to.aggregated", "마지막 결과 콜백 수신부터 집계 완료까지 걸린 시간", tags)
+                    .record(System.nanoTime() - test.lastCallbackAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Timer resultProcessTimer(LoadTest loadTest) {
+        return timer("loadpilot.result.process", "결과 콜백 수신부터 처리 완료까지 걸린 시간", tags(loadTest));
+    }
+
+    /**
+     * 집계 없이 끝난 테스트(실패 등)의 추적 상태를 정리합니다.
+     */
+    public void forget(Long loadTestId) {
+        tracked.remove(loadTestId);
+    }
+
+    static Tags tags(LoadTest loadTest) {
+        return MetricTags.forTest(loadTest.getTestType(), loadTest.getContainerCount());
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
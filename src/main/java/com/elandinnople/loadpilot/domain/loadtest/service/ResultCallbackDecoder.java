@@ -0,0 +1,95 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.ResultCallbackReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.ZstdInputStream;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * v2 결과 콜백 본문의 압축(Content-Encoding)과 인코딩(Content-Type)을 풀어 {@link ResultCallbackReader} 로 읽습니다.
+ * <p>
+ * 지원 형식: application/json, application/cbor, application/x-jackson-smile
+ * / 압축: gzip, zstd, identity(없음). 압축 해제와 파싱은 스트림으로 이어지므로 본문 전체를 버퍼링하지 않습니다.
+ */
+@Component
+public class ResultCallbackDecoder {
+
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ResultCallbackReader jsonReader;
+    private final ResultCallbackReader cborReader;
+    private final ResultCallbackReader smileReader;
+
+    public ResultCallbackDecoder(ObjectMapper objectMapper) {
+        this.jsonReader = new ResultCallbackReader(objectMapper.getFactory(), objectMapper.getFactory());
+        this.cborReader = new ResultCallbackReader(new CBORFactory(), objectMapper.getFactory());
+        this.smileReader = new ResultCallbackReader(new SmileFactory(), objectMapper.getFactory());
+    }
+
+    /**
+     * @throws UnsupportedBodyFormatException 지원하지 않는 Content-Type 또는 Content-Encoding 인 경우
+     * @throws IOException 본문을 읽거나 파싱할 수 없는 경우
+     */
+    public TestResultProcessRequest decode(InputStream body, String contentType, String contentEncoding)
+            throws IOException {
+        ResultCallbackReader reader = reader(contentType);
+        try (InputStream decoded = decompress(body, contentEncoding)) {
+            return reader.read(decoded);
+        }
+    }
+
+    private ResultCallbackReader reader(String contentType) throws UnsupportedBodyFormatException {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType != null ? contentType : MediaType.APPLICATION_JSON_VALUE);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedBodyFormatException("Unsupported content type: " + contentType);
+        }
+        if (MediaType.APPLICATION_JSON.includes(mediaType)) {
+            return jsonReader;
+        }
+        String type = mediaType.getType() + "/" + mediaType.getSubtype();
+        if (APPLICATION_CBOR_VALUE.equals(type)) {
+            return cborReader;
+        }
+        if (APPLICATION_SMILE_VALUE.equals(type)) {
+            return smileReader;
+        }
+        throw new UnsupportedBodyFormatException("Unsupported content type: " + contentType);
+    }
+
+    private static InputStream decompress(InputStream body, String contentEncoding) throws IOException {
+        if (!StringUtils.hasText(contentEncoding)) {
+            return body;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "identity" -> body;
+            case "gzip", "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+            case "zstd" -> new BufferedInputStream(new ZstdInputStream(body), BUFFER_SIZE);
+            default -> throw new UnsupportedBodyFormatException("Unsupported content encoding: " + contentEncoding);
+        };
+    }
+
+    /**
+     * 지원하지 않는 본문 형식 (415 로 응답)
+     */
+    public static class UnsupportedBodyFormatException extends IOException {
+        public UnsupportedBodyFormatException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.common.storage.StoredBlob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원본 요약을 블롭 저장소로 옮기기 전에 저장된 결과 행의 summary_json 을 블롭 저장소로 옮깁니다.
+ * <p>
+ * 엔티티는 더 이상 summary_json 을 매핑하지 않으므로 JDBC 로 직접 읽고, 블롭 포인터를 채우면서 컬럼 값을 비웁니다.
+ * 블롭은 내용 해시 기반이고 행 갱신은 포인터가 비어 있을 때만 적용되므로 여러 인스턴스가 동시에 실행해도 안전합니다.
+ * summary_json 컬럼이 없는 스키마(새로 생성한 DB)에서는 아무것도 하지 않습니다.
+ */
+@Component
+@Slf4j
+public class ResultSummaryBackfill {
+
+    private static final String SELECT_SQL =
+            "SELECT id, load_test_id, container_index, summary_json FROM test_results " +
+                    "WHERE summary_json IS NOT NULL AND summary_blob_key IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE test_results SET summary_blob_key = ?, summary_size_bytes = ?, summary_sha256 = ?, " +
+                    "summary_content_type = ?, result_file_path = ?, summary_json = NULL " +
+                    "WHERE id = ? AND summary_blob_key IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ResultSummaryBackfill(JdbcTemplate jdbcTemplate,
+                                 BlobStore blobStore,
+                                 @Value("${loadtest.blob-store.backfill-enabled:true}") boolean enabled,
+                                 @Value("${loadtest.blob-store.backfill-batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStore = blobStore;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 기동이 끝난 뒤 가상 스레드에서 백필합니다 (요청 처리를 막지 않음).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if (enabled && hasLegacyColumn()) {
+            Thread.ofVirtual().name("result-summary-backfill").start(() -> {
+                try {
+                    int moved = backfill();
+                    if (moved > 0) {
+                        log.info("기존 결과 {}건의 원본 요약을 블롭 저장소로 옮겼습니다", moved);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("원본 요약 백필 중 오류 (다음 기동 시 이어서 진행): {}", e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 남은 summary_json 을 배치 단위로 모두 옮깁니다.
+     *
+     * @return 옮긴 행 수
+     */
+    public int backfill() {
+        int moved = 0;
+        long afterId = 0;
+        while (true) {
+            List<LegacySummary> summaries = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new LegacySummary(rs.getLong("id"), rs.getLong("load_test_id"),
+                            rs.getInt("container_index"), rs.getString("summary_json")),
+                    afterId, batchSize);
+            if (summaries.isEmpty()) {
+                return moved;
+            }
+
+            List<Object[]> updates = new ArrayList<>(summaries.size());
+            for (LegacySummary summary : summaries) {
+                StoredBlob blob = blobStore.store(summary.summaryJson().getBytes(StandardCharsets.UTF_8));
+                updates.add(new Object[]{blob.getKey(), blob.getSize(), blob.getSha256(),
+                        ResultSummaryStore.JSON_CONTENT_TYPE,
+                        ResultSummaryStore.rawSummaryPath(summary.loadTestId(), summary.containerIndex()),
+                        summary.id()});
+            }
+            for (int count : jdbcTemplate.batchUpdate(UPDATE_SQL, updates)) {
+                moved += Math.max(count, 0);
+            }
+            afterId = summaries.get(summaries.size() - 1).id();
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE LOWER(table_name) = 'test_results' AND LOWER(column_name) = 'summary_json'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+
+    private record LegacySummary(long id, long loadTestId, int containerIndex, String summaryJson) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.common.storage.StoredBlob;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 컨테이너별 원본 요약(k6 JSON 출력)을 블롭 저장소에 보관합니다.
+ * <p>
+ * 결과 행에는 블롭 키, 크기, 체크섬만 저장하므로 결과 조회 시 큰 문자열을 읽지 않으며,
+ * 원본은 명시적으로 요청할 때만 스트림으로 전달합니다.
+ * 러너가 원본을 직접 업로드한 결과는 콜백에 포인터만 있으므로 키와 존재 여부만 확인합니다 (원본 크기와 무관한 비용).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResultSummaryStore {
+
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    // 러너가 직접 업로드하는 k6 --out json 출력
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final BlobStore blobStore;
+    private final TestResultRepository testResultRepository;
+
+    // 삭제 예약된 블롭 키 -> 삭제 가능 시각 (재시작하면 예약은 사라지고 블롭은 남음)
+    private final Map<String, Long> pendingReleases = new ConcurrentHashMap<>();
+
+    @Value("${loadtest.blob-store.release-delay-seconds:300}")
+    private long releaseDelaySeconds;
+
+    /**
+     * 결과의 원본 요약을 블롭 저장소로 옮기고 포인터를 설정합니다. 원본 문자열은 해제됩니다.
+     * 직접 업로드한 원본의 포인터가 있으면 원본 문자열 대신 그 포인터를 확인해 사용합니다.
+     */
+    public void store(TestResult result) {
+        if (result.getSummaryBlobKey() != null) {
+            result.setSummaryJson(null);
+            attachUploaded(result);
+            return;
+        }
+        if (result.getSummaryJson() == null) {
+            return;
+        }
+        StoredBlob blob = blobStore.store(result.getSummaryJson().getBytes(StandardCharsets.UTF_8));
+        result.setSummaryBlobKey(blob.getKey());
+        result.setSummarySizeBytes(blob.getSize());
+        result.setSummarySha256(blob.getSha256());
+        if (result.getSummaryContentType() == null) {
+            result.setSummaryContentType(JSON_CONTENT_TYPE);
+        }
+        result.setResultFilePath(rawSummaryPath(result.getParentTest().getId(), result.getContainerIndex()));
+        result.setSummaryJson(null);
+    }
+
+    // 발급한 키(테스트/컨테이너별)이고 실제로 업로드된 경우에만 포인터 유지 (다른 테스트의 원본을 가리키지 못하게 함)
+    private void attachUploaded(TestResult result) {
+        Long loadTestId = result.getParentTest().getId();
+        String key = result.getSummaryBlobKey();
+        if (key.equals(ResultUploadService.objectKey(loadTestId, result.getContainerIndex())) && blobStore.exists(key)) {
+            result.setSummaryContentType(NDJSON_CONTENT_TYPE);
+            result.setResultFilePath(rawSummaryPath(loadTestId, result.getContainerIndex()));
+            return;
+        }
+        log.warn("테스트 ID {} 컨테이너 {} 업로드 원본을 확인할 수 없어 포인터를 무시합니다: {}",
+                loadTestId, result.getContainerIndex(), key);
+        result.setSummaryBlobKey(null);
+        result.setSummarySizeBytes(null);
+        result.setSummarySha256(null);
+        result.setSummaryContentType(null);
+    }
+
+    /**
+     * 원본 요약 스트림을 엽니다.
+     *
+     * @param compressed true 이면 gzip 압축 그대로, false 이면 압축을 풀면서 읽음
+     */
+    public InputStream open(String blobKey, boolean compressed) {
+        InputStream in = blobStore.openCompressed(blobKey);
+        if (compressed) {
+            return in;
+        }
+        try {
+            return new GZIPInputStream(in);
+        } catch (IOException e) {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 원래 예외를 전달
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 더 이상 어떤 결과 행도 참조하지 않는 블롭의 삭제를 예약합니다. 결과 행을 삭제한 뒤 호출해야 합니다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에만 예약하므로 롤백된 삭제가 블롭을 지우지 않습니다.
+     * 같은 내용의 결과가 그 사이 저장되면 (내용 해시가 같으면 블롭을 다시 쓰지 않음) 새 행이 블롭을 참조하게 되므로,
+     * 유예 시간이 지난 뒤 참조 여부를 다시 확인하고 삭제합니다.
+     */
+    public void releaseUnreferenced(Collection<String> blobKeys) {
+        if (blobKeys.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(blobKeys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleRelease(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRelease(keys);
+            }
+        });
+    }
+
+    private void scheduleRelease(List<String> blobKeys) {
+        long dueAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(releaseDelaySeconds);
+        blobKeys.forEach(blobKey -> pendingReleases.put(blobKey, dueAt));
+    }
+
+    /**
+     * 유예 시간이 지난 삭제 예약 중 여전히 참조하는 결과가 없는 블롭을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${loadtest.blob-store.release-interval-ms:60000}")
+    public void releaseDue() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : pendingReleases.entrySet()) {
+            String blobKey = entry.getKey();
+            if (entry.getValue() > now || !pendingReleases.remove(blobKey, entry.getValue())) {
+                continue;
+            }
+            try {
+                if (!testResultRepository.existsBySummaryBlobKey(blobKey)) {
+                    blobStore.delete(blobKey);
+                }
+            } catch (RuntimeException e) {
+                log.warn("원본 요약 블롭 {} 삭제 실패: {}", blobKey, e.getMessage());
+            }
+        }
+    }
+
+    public static String rawSummaryPath(Long loadTestId, Integer containerIndex) {
+        return String.format("/api/load-tests/%d/results/%d/raw", loadTestId, containerIndex);
+    }
+}
@@ -0,0 +1,134 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 러너가 원본 결과(k6 출력)를 블롭 저장소에 직접 업로드하도록 컨테이너마다 업로드 대상을 발급합니다.
+ * <p>
+ * 러너는 업로드한 객체의 키와 체크섬, 요약 값만 콜백으로 보내므로 콜백 하나를 처리하는 비용이 원본 크기와 무관합니다.
+ * S3 저장소는 PUT 사전 서명 URL 을 발급하고, 직접 업로드 URL 을 발급할 수 없는 저장소(파일 시스템)는
+ * 백엔드 업로드 엔드포인트의 상대 경로에 만료 시각과 HMAC 서명을 붙여 발급합니다.
+ * 키는 테스트와 컨테이너로 정해지므로 콜백이 가리키는 키가 발급한 키인지 다시 계산해 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class ResultUploadService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final BlobStore blobStore;
+    private final boolean enabled;
+    private final long urlSlackSeconds;
+    private final SecretKeySpec signingKey;
+
+    public ResultUploadService(
+            BlobStore blobStore,
+            @Value("${loadtest.upload.enabled:true}") boolean enabled,
+            @Value("${loadtest.upload.url-slack-seconds:3600}") long urlSlackSeconds,
+            @Value("${loadtest.upload.signing-secret:}") String signingSecret,
+            @Value("${loadtest.upload.allow-generated-secret:false}") boolean allowGeneratedSecret) {
+        this.blobStore = blobStore;
+        this.enabled = enabled;
+        this.urlSlackSeconds = Math.max(0, urlSlackSeconds);
+
+        byte[] secret;
+        if (StringUtils.hasText(signingSecret)) {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        } else if (enabled && !allowGeneratedSecret) {
+            // 임의 키는 서버마다 달라 다른 인스턴스가 발급한 업로드 경로를 거부하고, 재시작하면 발급한 경로가 모두 무효화됨
+            throw new IllegalStateException(
+                    "loadtest.upload.signing-secret must be set when result uploads are enabled");
+        } else {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            if (enabled) {
+                log.warn("업로드 서명 키가 설정되지 않아 임의 키를 사용합니다 (단일 인스턴스 전용, 재시작하면 발급한 업로드 경로가 무효화됨)");
+            }
+        }
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    /**
+     * 실행 요청에 업로드 URL 과 객체 키를 설정합니다. URL 은 테스트가 끝난 뒤 여유 시간까지 유효합니다.
+     */
+    public void assign(LoadTestRequest request) {
+        if (!enabled) {
+            return;
+        }
+        Long loadTestId = request.getTestId();
+        Integer containerIndex = request.getContainerIndex();
+        String key = objectKey(loadTestId, containerIndex);
+        Duration ttl = Duration.ofSeconds(seconds(request.getDurationSeconds()) + seconds(request.getRampUpSeconds())
+                + urlSlackSeconds);
+
+        String url = blobStore.createUploadUrl(key, ttl)
+                .map(URL::toString)
+                .orElseGet(() -> uploadPath(loadTestId, containerIndex,
+                        System.currentTimeMillis() / 1000 + ttl.toSeconds()));
+        request.setResultUploadUrl(url);
+        request.setResultObjectKey(key);
+    }
+
+    /**
+     * 백엔드 업로드 엔드포인트 경로의 서명을 확인합니다.
+     *
+     * @return 서명이 맞고 만료되지 않은 경우 true
+     */
+    public boolean verify(Long loadTestId, Integer containerIndex, long expires, String signature) {
+        if (signature == null || expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(loadTestId, containerIndex, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 백엔드 업로드 엔드포인트로 받은 gzip 압축 원본을 발급한 키에 저장합니다. 서명은 호출자가 먼저 확인해야 합니다.
+     */
+    public void store(Long loadTestId, Integer containerIndex, InputStream compressed) {
+        blobStore.storeCompressed(objectKey(loadTestId, containerIndex), compressed);
+    }
+
+    public static String objectKey(Long loadTestId, Integer containerIndex) {
+        return String.format("uploads/%d/%d.json.gz", loadTestId, containerIndex);
+    }
+
+    // 러너는 BACKEND_API_URL 의 origin 기준으로 상대 경로를 해석
+    private String uploadPath(Long loadTestId, Integer containerIndex, long expires) {
+        return String.format("/api/callback/uploads/%d/%d?expires=%d&signature=%s",
+                loadTestId, containerIndex, expires, sign(loadTestId, containerIndex, expires));
+    }
+
+    private String sign(Long loadTestId, Integer containerIndex, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((loadTestId + ":" + containerIndex + ":" + expires)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long seconds(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,289 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RunnerPoolStatsResponse;
+import com.elandinnople.loadpilot.domain.loadtest.pool.PooledRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 미리 실행해 둔 k6 러너 태스크(웜 풀)를 관리합니다.
+ * <p>
+ * 풀 러너는 작업 없이 시작하여 롱 폴링으로 할당을 기다리므로, 테스트 시작 시 Lambda → ECS RunTask → Fargate 프로비저닝 →
+ * 이미지 다운로드를 거치지 않고 바로 부하를 생성할 수 있습니다. 풀이 비어 있으면 호출자가 기존 실행 경로를 사용합니다.
+ * 풀 크기는 최소 대기 러너 수(min-idle)와 최대 크기(max-size) 정책으로 주기적으로 보충됩니다.
+ * <p>
+ * 풀 적중률과, 실행 요청부터 컨테이너의 첫 메트릭 프레임 수신까지의 시간(time-to-first-request)을 웜/콜드로 나누어 기록합니다.
+ */
+@Service
+@Slf4j
+public class RunnerPoolService {
+
+    private final EcsService ecsService;
+    private final boolean enabled;
+    private final int minIdle;
+    private final int maxSize;
+    private final long pollWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long startTimeoutMillis;
+
+    private final Map<String, PooledRunner> runners = new ConcurrentHashMap<>();
+    // "테스트 ID:컨테이너 인덱스" -> 실행 요청 시각 (첫 프레임 수신 시 제거)
+    private final Map<String, PendingLaunch> pendingLaunches = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Timer warmTimeToFirstRequest;
+    private final Timer coldTimeToFirstRequest;
+    private final LongAdder warmTotalMillis = new LongAdder();
+    private final LongAdder warmCount = new LongAdder();
+    private final LongAdder coldTotalMillis = new LongAdder();
+    private final LongAdder coldCount = new LongAdder();
+
+    private record PendingLaunch(long launchedAt, boolean warm) {
+    }
+
+    public RunnerPoolService(
+            EcsService ecsService,
+            MeterRegistry meterRegistry,
+            @Value("${loadtest.pool.enabled:false}") boolean enabled,
+            @Value("${loadtest.pool.min-idle:0}") int minIdle,
+            @Value("${loadtest.pool.max-size:20}") int maxSize,
+            @Value("${loadtest.pool.poll-wait-seconds:20}") long pollWaitSeconds,
+            @Value("${loadtest.pool.idle-timeout-seconds:60}") long idleTimeoutSeconds,
+            @Value("${loadtest.pool.start-timeout-seconds:180}") long startTimeoutSeconds) {
+        this.ecsService = ecsService;
+        this.enabled = enabled;
+        this.minIdle = Math.max(0, minIdle);
+        this.maxSize = Math.max(this.minIdle, maxSize);
+        this.pollWaitMillis = TimeUnit.SECONDS.toMillis(pollWaitSeconds);
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+        this.startTimeoutMillis = TimeUnit.SECONDS.toMillis(startTimeoutSeconds);
+
+        Gauge.builder("loadpilot.runner.pool.idle", this, pool -> pool.countRunners(PooledRunner.State.IDLE))
+                .description("작업을 기다리는 웜 풀 러너 수")
+                .register(meterRegistry);
+        Gauge.builder("loadpilot.runner.pool.starting", this, pool -> pool.countRunners(PooledRunner.State.STARTING))
+                .description("실행 중이지만 아직 폴링하지 않은 웜 풀 러너 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("loadpilot.runner.pool.assignments")
+                .description("컨테이너 실행 요청 중 웜 풀에서 처리된 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("loadpilot.runner.pool.assignments")
+                .description("컨테이너 실행 요청 중 웜 풀에서 처리된 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.warmTimeToFirstRequest = Timer.builder("loadpilot.runner.time.to.first.request")
+                .description("실행 요청부터 첫 메트릭 프레임 수신까지 걸린 시간")
+                .tag("launch", "warm")
+                .register(meterRegistry);
+        this.coldTimeToFirstRequest = Timer.builder("loadpilot.runner.time.to.first.request")
+                .description("실행 요청부터 첫 메트릭 프레임 수신까지 걸린 시간")
+                .tag("launch", "cold")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 러너의 롱 폴링 요청을 처리합니다. 할당이 있으면 바로 응답하고, 없으면 poll-wait 동안 대기 후 204 로 응답합니다.
+     * 풀이 비활성화되었거나 가득 찬 상태에서 알 수 없는 러너가 폴링하면 410 으로 종료를 요청합니다.
+     */
+    public DeferredResult<ResponseEntity<LoadTestRequest>> poll(String taskArn) {
+        DeferredResult<ResponseEntity<LoadTestRequest>> result =
+                new DeferredResult<>(pollWaitMillis, ResponseEntity.noContent().build());
+
+        PooledRunner runner = runners.get(taskArn);
+        if (runner == null) {
+            // 서버 재시작 등으로 모르는 러너는 풀에 여유가 있을 때만 다시 등록
+            if (!enabled || countAvailableRunners() >= maxSize) {
+                result.setResult(ResponseEntity.status(HttpStatus.GONE).build());
+                return result;
+            }
+            runner = runners.computeIfAbsent(taskArn, arn -> new PooledRunner(arn, System.currentTimeMillis()));
+        }
+
+        PooledRunner polled = runner;
+        synchronized (polled) {
+            polled.setLastSeenAt(System.currentTimeMillis());
+            if (polled.getAssignment() != null) {
+                // 이전 응답이 유실된 경우 같은 할당을 다시 전달
+                result.setResult(ResponseEntity.ok(polled.getAssignment()));
+                return result;
+            }
+            polled.setState(PooledRunner.State.IDLE);
+            polled.setPendingPoll(result);
+        }
+        result.onCompletion(() -> {
+            synchronized (polled) {
+                if (polled.getPendingPoll() == result) {
+                    polled.setPendingPoll(null);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 대기 중인 웜 러너에 컨테이너 실행 요청을 할당합니다.
+     *
+     * @return 할당된 러너의 태스크 ARN, 풀이 비어 있으면 empty
+     */
+    public Optional<String> assign(LoadTestRequest request) {
+        if (enabled) {
+            long now = System.currentTimeMillis();
+            for (PooledRunner runner : runners.values()) {
+                synchronized (runner) {
+                    if (runner.getState() != PooledRunner.State.IDLE || now - runner.getLastSeenAt() > idleTimeoutMillis) {
+                        continue;
+                    }
+                    runner.setState(PooledRunner.State.ASSIGNED);
+                    runner.setAssignment(request);
+                    // 폴링 대기 중이 아니면 다음 폴링 때 전달됨
+                    if (runner.getPendingPoll() != null) {
+                        runner.getPendingPoll().setResult(ResponseEntity.ok(request));
+                    }
+                    hits.increment();
+                    hitCounter.increment();
+                    log.info("테스트 ID {} 컨테이너 {} 를 웜 러너 {} 에 할당",
+                            request.getTestId(), request.getContainerIndex(), runner.getTaskArn());
+                    return Optional.of(runner.getTaskArn());
+                }
+            }
+        }
+        misses.increment();
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 컨테이너 실행 요청 시각을 기록합니다. 첫 메트릭 프레임이 도착하면 {@link #recordFirstRequest} 에서 소요 시간을 계산합니다.
+     */
+    public void recordLaunch(Long testId, int containerIndex, long launchedAt, boolean warm) {
+        pendingLaunches.put(testId + ":" + containerIndex, new PendingLaunch(launchedAt, warm));
+    }
+
+    public void recordFirstRequest(Long testId, int containerIndex) {
+        PendingLaunch launch = pendingLaunches.remove(testId + ":" + containerIndex);
+        if (launch == null) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - launch.launchedAt();
+        if (launch.warm()) {
+            warmTimeToFirstRequest.record(elapsed, TimeUnit.MILLISECONDS);
+            warmTotalMillis.add(elapsed);
+            warmCount.increment();
+        } else {
+            coldTimeToFirstRequest.record(elapsed, TimeUnit.MILLISECONDS);
+            coldTotalMillis.add(elapsed);
+            coldCount.increment();
+        }
+    }
+
+    // 테스트 종료 시 첫 프레임을 보내지 못한 컨테이너의 기록 정리
+    public void forget(Long testId) {
+        pendingLaunches.keySet().removeIf(key -> key.startsWith(testId + ":"));
+    }
+
+    /**
+     * 응답이 없는 러너를 정리하고 min-idle 정책에 맞게 풀을 보충합니다.
+     */
+    @Scheduled(fixedDelayString = "${loadtest.pool.replenish-interval-ms:10000}")
+    public void replenish() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Iterator<PooledRunner> iterator = runners.values().iterator();
+        while (iterator.hasNext()) {
+            PooledRunner runner = iterator.next();
+            synchronized (runner) {
+                switch (runner.getState()) {
+                    case STARTING -> {
+                        if (now - runner.getLaunchedAt() > startTimeoutMillis) {
+                            log.warn("웜 러너 {} 가 시작 시간 내에 폴링하지 않아 중지합니다", runner.getTaskArn());
+                            ecsService.stopTask(runner.getTaskArn(), "LoadPilot pool runner start timeout");
+                            iterator.remove();
+                        }
+                    }
+                    case IDLE -> {
+                        if (now - runner.getLastSeenAt() > idleTimeoutMillis) {
+                            log.warn("웜 러너 {} 의 폴링이 끊겨 중지합니다", runner.getTaskArn());
+                            ecsService.stopTask(runner.getTaskArn(), "LoadPilot pool runner lost");
+                            iterator.remove();
+                        }
+                    }
+                    // 할당된 러너는 테스트를 실행하며 더 이상 폴링하지 않으므로 재전달 대기 시간이 지나면 풀에서 제외
+                    case ASSIGNED -> {
+                        if (now - runner.getLastSeenAt() > idleTimeoutMillis) {
+                            iterator.remove();
+                        }
+                    }
+                }
+            }
+        }
+
+        int available = countAvailableRunners();
+        int toLaunch = Math.min(minIdle - available, maxSize - available);
+        for (int i = 0; i < toLaunch; i++) {
+            try {
+                String taskArn = ecsService.runPoolRunner();
+                runners.putIfAbsent(taskArn, new PooledRunner(taskArn, System.currentTimeMillis()));
+            } catch (Exception e) {
+                log.error("웜 풀 러너 실행 중 오류: {}", e.getMessage());
+                break;
+            }
+        }
+    }
+
+    public RunnerPoolStatsResponse getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new RunnerPoolStatsResponse(
+                enabled,
+                countRunners(PooledRunner.State.STARTING),
+                countRunners(PooledRunner.State.IDLE),
+                hitCount,
+                missCount,
+                total > 0 ? (double) hitCount / total : 0,
+                average(warmTotalMillis, warmCount),
+                average(coldTotalMillis, coldCount));
+    }
+
+    private int countAvailableRunners() {
+        return (int) runners.values().stream().filter(PooledRunner::isAvailable).count();
+    }
+
+    private int countRunners(PooledRunner.State state) {
+        return (int) runners.values().stream().filter(runner -> runner.getState() == state).count();
+    }
+
+    private static Double average(LongAdder totalMillis, LongAdder count) {
+        long n = count.sum();
+        return n > 0 ? (double) totalMillis.sum() / n : null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.elandinnople.loadpilot.domain.loadtest.repository.ContainerTaskRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 조기 중단(SLO) 규칙을 위반한 실행 중인 테스트를 중단합니다.
+ * <p>
+ * 규칙은 누적기가 초 단위 스냅샷마다 평가하고, 이 서비스는 위반한 테스트를 찾아
+ * 상태를 ABORTED 로 전환한 뒤 모든 태스크를 병렬로 중지하고, 지금까지 스트리밍된 메트릭으로
+ * 결과를 보내지 않은 컨테이너의 부분 결과를 만들어 집계합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TestAbortService {
+
+    private final LiveMetricsService liveMetricsService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+    private final LoadTestRepository loadTestRepository;
+    private final ContainerTaskRepository containerTaskRepository;
+    private final LoadExecutorRegistry loadExecutorRegistry;
+    private final TestResultAggregator testResultAggregator;
+    private final TestResultCache testResultCache;
+    // 중단 처리 중인 테스트 (같은 테스트를 중복 처리하지 않도록)
+    private final Set<Long> aborting = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelayString = "${loadtest.abort.check-interval-ms:1000}")
+    public void abortBreachedTests() {
+        for (TestMetricsAccumulator accumulator : liveMetricsService.all()) {
+            String reason = accumulator.getAbortReason();
+            Long loadTestId = accumulator.getLoadTestId();
+            if (reason == null || !aborting.add(loadTestId)) {
+                continue;
+            }
+            // 태스크 중지가 다른 테스트의 규칙 확인을 지연시키지 않도록 테스트마다 가상 스레드에서 처리
+            Thread.ofVirtual().name("abort-load-test-" + loadTestId).start(() -> {
+                try {
+                    abort(loadTestId, reason);
+                } catch (RuntimeException e) {
+                    log.error("테스트 ID {} 조기 중단 처리 중 오류: {}", loadTestId, e.getMessage(), e);
+                } finally {
+                    aborting.remove(loadTestId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 실행 중인 테스트를 중단합니다.
+     *
+     * @return 이번 호출에서 중단했으면 true (이미 끝난 테스트면 false)
+     */
+    public boolean abort(Long loadTestId, String reason) {
+        // 상태를 먼저 전환해야 중단 도중 도착한 마지막 결과가 테스트를 COMPLETED 로 만들지 않음
+        if (!testResultAggregator.abortLoadTest(loadTestId, reason)) {
+            // 이미 끝난 테스트의 누적기가 남아 있으면 다시 확인하지 않도록 정리
+            liveMetricsService.remove(loadTestId);
+            return false;
+        }
+        log.warn("테스트 ID {} 조기 중단: {}", loadTestId, reason);
+        LoadTest loadTest = loadTestRepository.findById(loadTestId).orElseThrow();
+
+        List<ContainerTask> containerTasks = containerTaskRepository.findByLoadTestIdIn(List.of(loadTestId));
+        List<String> taskIds = containerTasks.stream()
+                .map(ContainerTask::getTaskArn)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        loadExecutorRegistry.get(loadTest.getExecutorTypeOrDefault())
+                .stopAll(loadTestId, taskIds, "LoadPilot abort: " + reason);
+
+        // 결과를 보내지 않은 컨테이너는 스트리밍된 누적 메트릭으로 부분 결과를 만듦 (이미 저장된 결과는 배치 저장 시 건너뜀)
+        List<TestResult> partialResults = new ArrayList<>();
+        for (int containerIndex = 0; containerIndex < loadTest.getContainerCount(); containerIndex++) {
+            TestResultProcessRequest request = new TestResultProcessRequest();
+            request.setLoadTestId(loadTestId);
+            request.setContainerIndex(containerIndex);
+            liveMetricsService.fillMissingSummary(loadTestId, containerIndex, request);
+            if (request.getTotalRequests() != null) {
+                partialResults.add(LoadTestService.toTestResult(loadTest, containerIndex, request, null));
+            }
+        }
+        if (!partialResults.isEmpty()) {
+            Map<Long, Integer> completedCounts = testResultAggregator.recordContainerResults(partialResults);
+            loadTest.setCompletedContainerCount(
+                    completedCounts.getOrDefault(loadTestId, loadTest.getCompletedContainerCount()));
+        }
+        testResultAggregator.aggregateAbortedLoadTest(loadTestId);
+        // 집계 전에 조회되어 캐시된 부분 응답 제거
+        testResultCache.invalidate(loadTestId);
+
+        liveMetricsService.remove(loadTestId);
+        liveMetricsBroadcaster.publishStatus(loadTest);
+        return true;
+    }
+}
@@ -0,0 +1,326 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.entity.AggregatedTestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.repository.AggregatedTestResultRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.ContainerTaskRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultJdbcRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 테스트 상태 전환, 컨테이너 결과 기록과 최종 집계를 짧은 트랜잭션 단위로 수행합니다.
+ * <p>
+ * 완료 카운터는 DB 에서 원자적으로 증가시키고, 카운터를 컨테이너 수에 도달시킨 콜백만 집계를 수행하므로
+ * 동시에 도착한 콜백 사이에 행 잠금을 오래 잡거나 집계가 중복 실행되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TestResultAggregator {
+
+    private final LoadTestRepository loadTestRepository;
+    private final TestResultRepository testResultRepository;
+    private final ContainerTaskRepository containerTaskRepository;
+    private final TestResultJdbcRepository testResultJdbcRepository;
+    private final AggregatedTestResultRepository aggregatedTestResultRepository;
+    private final UserDailyStatsService userDailyStatsService;
+    private final ObjectMapper objectMapper;
+    private final OrchestrationMetrics orchestrationMetrics;
+
+    @Value("${loadtest.aggregate.group-size:50}")
+    private int groupSize;
+
+    /**
+     * 여러 컨테이너 결과를 JDBC 배치로 저장하고 테스트별 완료 컨테이너 수를 저장된 건수만큼 증가시킵니다.
+     * 이미 저장된 컨테이너 결과는 건너뛰며, 교착 상태를 피하기 위해 테스트 ID 순서로 카운터를 갱신합니다.
+     * 저장된 결과는 같은 트랜잭션에서 사용자별 일일 롤업에도 반영됩니다.
+     *
+     * @return 결과가 저장된 테스트 ID -> 증가 후 완료된 컨테이너 수
+     */
+    @Transactional
+    public Map<Long, Integer> recordContainerResults(List<TestResult> results) {
+        boolean[] inserted = testResultJdbcRepository.batchInsert(results);
+
+        Map<Long, Integer> insertedCounts = new TreeMap<>();
+        List<TestResult> insertedResults = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            TestResult result = results.get(i);
+            if (inserted[i]) {
+                insertedCounts.merge(result.getParentTest().getId(), 1, Integer::sum);
+                insertedResults.add(result);
+            } else {
+                log.warn("Duplicate test result ignored for load test ID {} and container index {}",
+                        result.getParentTest().getId(), result.getContainerIndex());
+            }
+        }
+
+        if (!insertedResults.isEmpty()) {
+            userDailyStatsService.recordResults(insertedResults);
+        }
+
+        Map<Long, Integer> completedCounts = new HashMap<>();
+        insertedCounts.forEach((loadTestId, count) -> {
+            loadTestRepository.incrementCompletedContainerCount(loadTestId, count);
+            completedCounts.put(loadTestId, loadTestRepository.findCompletedContainerCount(loadTestId));
+        });
+        return completedCounts;
+    }
+
+    /**
+     * 대기 중인 테스트를 RUNNING 으로 전환합니다. 컨테이너를 실행하기 전에 커밋하므로 같은 테스트를 두 번 시작하지 않습니다.
+     *
+     * @return 이번 호출에서 전환했으면 true
+     */
+    @Transactional
+    public boolean markRunning(Long loadTestId) {
+        return loadTestRepository.updateStatusUnlessIn(loadTestId, TestStatus.RUNNING,
+                EnumSet.of(TestStatus.RUNNING, TestStatus.COMPLETED, TestStatus.ABORTED, TestStatus.FAILED)) == 1;
+    }
+
+    /**
+     * 실행한 컨테이너의 태스크 ID 를 저장합니다. 테스트 행은 조건부 쿼리로만 갱신하므로
+     * 그 사이 결과 수집이 올린 완료 컨테이너 수나 중단 상태를 덮어쓰지 않습니다.
+     *
+     * @return 테스트가 아직 실행 중이면 true (실행하는 동안 중단되었거나 실패 처리된 경우 false)
+     */
+    @Transactional
+    public boolean recordContainerTasks(Long loadTestId, List<String> taskIds) {
+        LoadTest loadTest = loadTestRepository.getReferenceById(loadTestId);
+        List<ContainerTask> containerTasks = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            containerTasks.add(new ContainerTask(loadTest, i, taskIds.get(i)));
+        }
+        containerTaskRepository.saveAll(containerTasks);
+        loadTestRepository.updateTaskId(loadTestId, taskIds.get(0));
+        return loadTestRepository.existsByIdAndStatus(loadTestId, TestStatus.RUNNING);
+    }
+
+    /**
+     * 테스트를 COMPLETED 로 전환하고 전체 결과를 집계합니다.
+     * 상태 전환에 성공한 호출만 집계하므로 여러 번 호출되어도 집계는 한 번만 수행됩니다.
+     * 조기 중단되었거나 실패 처리된 테스트는 늦게 도착한 결과로 COMPLETED 가 되지 않습니다.
+     * 집계에 실패하면 예외를 던져 상태 전환도 함께 롤백하므로 결과 처리 재시도에서 다시 완료를 시도합니다.
+     *
+     * @return 이번 호출에서 집계를 수행했으면 true
+     */
+    @Transactional
+    public boolean completeLoadTest(Long loadTestId) {
+        if (loadTestRepository.updateStatusUnlessIn(loadTestId, TestStatus.COMPLETED,
+                EnumSet.of(TestStatus.COMPLETED, TestStatus.ABORTED, TestStatus.FAILED)) == 0) {
+            log.info("Load test ID {} already completed, aborted or failed, skipping aggregation", loadTestId);
+            return false;
+        }
+        loadTestRepository.findById(loadTestId).ifPresent(this::aggregateTestResults);
+        return true;
+    }
+
+    /**
+     * 실행 중인 테스트를 ABORTED 로 전환합니다.
+     *
+     * @return 이번 호출에서 전환했으면 true (이미 끝난 테스트면 false)
+     */
+    @Transactional
+    public boolean abortLoadTest(Long loadTestId, String reason) {
+        return loadTestRepository.abortIfRunning(loadTestId, reason, TestStatus.RUNNING, TestStatus.ABORTED) == 1;
+    }
+
+    /**
+     * 중단된 테스트의 지금까지 저장된 결과를 집계합니다.
+     */
+    @Transactional
+    public void aggregateAbortedLoadTest(Long loadTestId) {
+        loadTestRepository.findById(loadTestId).ifPresent(this::aggregateTestResults);
+    }
+
+    /**
+     * 용량 탐색 테스트를 탐색 결과와 함께 COMPLETED 로 전환하고 모든 단계의 결과를 집계합니다.
+     * 탐색 도중 중단되거나 실패한 테스트는 전환하지 않습니다.
+     *
+     * @return 이번 호출에서 완료 처리했으면 true
+     */
+    @Transactional
+    public boolean completeCapacitySearch(Long loadTestId, Integer maxSustainableRps,
+                                          Integer saturationRps, Integer saturationStep) {
+        if (loadTestRepository.updateStatusUnlessIn(loadTestId, TestStatus.COMPLETED,
+                EnumSet.of(TestStatus.COMPLETED, TestStatus.ABORTED, TestStatus.FAILED)) == 0) {
+            log.info("Capacity search for load test ID {} is no longer running, skipping completion", loadTestId);
+            return false;
+        }
+        loadTestRepository.findById(loadTestId).ifPresent(loadTest -> {
+            loadTest.setMaxSustainableRps(maxSustainableRps);
+            loadTest.setSaturationRps(saturationRps);
+            loadTest.setSaturationStep(saturationStep);
+            aggregateTestResults(loadTest);
+        });
+        return true;
+    }
+
+    /**
+     * 실행 중인 테스트를 FAILED 로 전환합니다.
+     *
+     * @return 이번 호출에서 전환했으면 true
+     */
+    @Transactional
+    public boolean failLoadTest(Long loadTestId) {
+        return loadTestRepository.updateStatusUnlessIn(loadTestId, TestStatus.FAILED,
+                EnumSet.of(TestStatus.COMPLETED, TestStatus.ABORTED, TestStatus.FAILED)) == 1;
+    }
+
+    /**
+     * 컨테이너 결과를 트리 형태로 집계합니다.
+     * 요약 JSON 을 제외한 수치 컬럼만 키셋 페이지 단위로 조회하여 그룹별 부분 집계를 만들고,
+     * 부분 집계를 다시 병합하므로 컨테이너 수가 많아도 한 번에 그룹 크기만큼의 행만 메모리에 올립니다.
+     */
+    public PartialAggregate aggregatePartials(Long loadTestId) {
+        PartialAggregate total = new PartialAggregate();
+        Pageable group = PageRequest.of(0, groupSize);
+        long afterId = 0;
+        while (true) {
+            List<PartialAggregate> leaves = testResultRepository.findPartialAggregates(loadTestId, afterId, group);
+            if (leaves.isEmpty()) {
+                break;
+            }
+            PartialAggregate groupAggregate = PartialAggregate.mergeAll(leaves);
+            total.merge(groupAggregate);
+            afterId = groupAggregate.getLastResultId();
+            if (leaves.size() < groupSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // 테스트 결과 집계 메서드 (실패하면 예외를 그대로 던져 호출한 트랜잭션의 상태 전환까지 롤백)
+    private void aggregateTestResults(LoadTest loadTest) {
+        long startedAt = System.nanoTime();
+        try {
+            PartialAggregate total = aggregatePartials(loadTest.getId());
+            if (total.isEmpty()) {
+                log.warn("No test results found for load test ID {}", loadTest.getId());
+                return;
+            }
+
+            // 집계 시작
+            AggregatedTestResult aggregated = new AggregatedTestResult();
+            aggregated.setLoadTest(loadTest);
+
+            // 컨테이너별 히스토그램을 병합하여 실제 분위수 계산
+            // (히스토그램이 없는 컨테이너가 있으면 기존 방식대로 컨테이너별 최대값 사용)
+            LatencyHistogram mergedHistogram = total.getMergedHistogram();
+            Double p50 = null;
+            Double p90 = null;
+            double p95 = total.getMaxP95ResponseTimeMs();
+            double p99 = total.getMaxP99ResponseTimeMs();
+            Double p999 = null;
+            if (mergedHistogram != null) {
+                p50 = mergedHistogram.getValueAtPercentile(50);
+                p90 = mergedHistogram.getValueAtPercentile(90);
+                p95 = mergedHistogram.getValueAtPercentile(95);
+                p99 = mergedHistogram.getValueAtPercentile(99);
+                p999 = mergedHistogram.getValueAtPercentile(99.9);
+                aggregated.setLatencyHistogram(mergedHistogram.encode());
+            }
+
+            // 조정 누락 보정 분위수도 같은 방식으로 계산
+            LatencyHistogram correctedHistogram = total.getMergedCorrectedHistogram();
+            Double correctedP50 = null;
+            Double correctedP90 = null;
+            double correctedP95 = total.getMaxCorrectedP95ResponseTimeMs();
+            double correctedP99 = total.getMaxCorrectedP99ResponseTimeMs();
+            Double correctedP999 = null;
+            if (correctedHistogram != null) {
+                correctedP50 = correctedHistogram.getValueAtPercentile(50);
+                correctedP90 = correctedHistogram.getValueAtPercentile(90);
+                correctedP95 = correctedHistogram.getValueAtPercentile(95);
+                correctedP99 = correctedHistogram.getValueAtPercentile(99);
+                correctedP999 = correctedHistogram.getValueAtPercentile(99.9);
+                aggregated.setCorrectedLatencyHistogram(correctedHistogram.encode());
+            }
+
+            // 집계 결과 설정
+            aggregated.setTotalRequests(total.getTotalRequests());
+            aggregated.setSuccessfulRequests(total.getSuccessfulRequests());
+            aggregated.setFailedRequests(total.getFailedRequests());
+            aggregated.setAvgResponseTimeMs(total.getAvgResponseTimeMs());
+            aggregated.setP50ResponseTimeMs(p50);
+            aggregated.setP90ResponseTimeMs(p90);
+            aggregated.setP95ResponseTimeMs(p95);
+            aggregated.setP99ResponseTimeMs(p99);
+            aggregated.setP999ResponseTimeMs(p999);
+            aggregated.setCorrectedP50ResponseTimeMs(correctedP50);
+            aggregated.setCorrectedP90ResponseTimeMs(correctedP90);
+            aggregated.setCorrectedP95ResponseTimeMs(correctedP95);
+            aggregated.setCorrectedP99ResponseTimeMs(correctedP99);
+            aggregated.setCorrectedP999ResponseTimeMs(correctedP999);
+            aggregated.setMaxResponseTimeMs(total.getMaxResponseTimeMs());
+            aggregated.setMinResponseTimeMs(total.getMinResponseTimeMs());
+            aggregated.setRequestsPerSecond(total.getRequestsPerSecond());
+            aggregated.setDroppedIterations(total.getDroppedIterations());
+            aggregated.setStartTime(total.getStartTime());
+            aggregated.setEndTime(total.getEndTime());
+
+            // JSON 결과 생성 (LocalDateTime 직렬화를 위해 스프링 ObjectMapper 사용)
+            Map<String, Object> aggregatedJson = new HashMap<>();
+            aggregatedJson.put("totalRequests", total.getTotalRequests());
+            aggregatedJson.put("successfulRequests", total.getSuccessfulRequests());
+            aggregatedJson.put("failedRequests", total.getFailedRequests());
+            aggregatedJson.put("avgResponseTimeMs", total.getAvgResponseTimeMs());
+            aggregatedJson.put("p50ResponseTimeMs", p50);
+            aggregatedJson.put("p90ResponseTimeMs", p90);
+            aggregatedJson.put("p95ResponseTimeMs", p95);
+            aggregatedJson.put("p99ResponseTimeMs", p99);
+            aggregatedJson.put("p999ResponseTimeMs", p999);
+            aggregatedJson.put("correctedP50ResponseTimeMs", correctedP50);
+            aggregatedJson.put("correctedP90ResponseTimeMs", correctedP90);
+            aggregatedJson.put("correctedP95ResponseTimeMs", correctedP95);
+            aggregatedJson.put("correctedP99ResponseTimeMs", correctedP99);
+            aggregatedJson.put("correctedP999ResponseTimeMs", correctedP999);
+            aggregatedJson.put("maxResponseTimeMs", total.getMaxResponseTimeMs());
+            aggregatedJson.put("minResponseTimeMs", total.getMinResponseTimeMs());
+            aggregatedJson.put("requestsPerSecond", total.getRequestsPerSecond());
+            aggregatedJson.put("droppedIterations", total.getDroppedIterations());
+            aggregatedJson.put("successRate", total.getTotalRequests() > 0
+                    ? (double) total.getSuccessfulRequests() / total.getTotalRequests() * 100 : 0);
+            aggregatedJson.put("startTime", total.getStartTime());
+            aggregatedJson.put("endTime", total.getEndTime());
+            aggregatedJson.put("containerCount", loadTest.getContainerCount());
+
+            try {
+                aggregated.setAggregatedJson(objectMapper.writeValueAsString(aggregatedJson));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize aggregated result for load test ID "
+                        + loadTest.getId(), e);
+            }
+
+            // DB에 저장
+            aggregatedTestResultRepository.save(aggregated);
+
+            log.info("Successfully aggregated {} container results for load test ID {}",
+                    total.getContainerCount(), loadTest.getId());
+        } finally {
+            orchestrationMetrics.aggregated(loadTest, System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TestResultResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 완료된 테스트의 결과 응답 캐시.
+ * <p>
+ * COMPLETED 테스트의 결과는 바뀌지 않으므로 완성된 응답을 직렬화 크기 기준 가중치로 제한된 메모리에 보관하고,
+ * 응답 내용의 해시로 만든 강한 ETag 를 함께 저장합니다. 소유자 Keycloak ID 를 함께 저장하므로
+ * 캐시 적중 시 사용자/테스트 조회 없이 권한을 확인할 수 있습니다. 테스트가 삭제되면 무효화됩니다.
+ */
+@Component
+public class TestResultCache {
+
+    // 직렬화 크기 외에 항목마다 더하는 고정 가중치 (키, ETag, 객체 헤더 등)
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedTestResult> cache;
+
+    public TestResultCache(
+            ObjectMapper objectMapper,
+            @Value("${loadtest.result-cache.max-weight-mb:64}") long maxWeightMb) {
+        this.objectMapper = objectMapper;
+        // 가중치가 항목마다 최소 ENTRY_OVERHEAD_BYTES 이므로 항목 수도 함께 제한됨
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightMb * 1024 * 1024)
+                .weigher((Long loadTestId, CachedTestResult entry) -> entry.getWeight())
+                .build();
+    }
+
+    /**
+     * 캐시된 결과를 반환합니다. 소유자가 다르면 캐시를 사용하지 않습니다(일반 조회 경로에서 권한 오류 처리).
+     */
+    public Optional<CachedTestResult> get(Long loadTestId, String ownerKeycloakId) {
+        CachedTestResult entry = cache.getIfPresent(loadTestId);
+        if (entry == null || !entry.getOwnerKeycloakId().equals(ownerKeycloakId)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * 완료된 테스트의 결과를 캐시에 저장하고 ETag 가 포함된 항목을 반환합니다.
+     */
+    public CachedTestResult put(Long loadTestId, String ownerKeycloakId, TestResultResponse response) {
+        byte[] body = serialize(response);
+        CachedTestResult entry = new CachedTestResult(response, etagOf(body), ownerKeycloakId,
+                body.length + ENTRY_OVERHEAD_BYTES, true);
+        cache.put(loadTestId, entry);
+        return entry;
+    }
+
+    /**
+     * 아직 바뀔 수 있는 결과(중단된 테스트 등)에 ETag 만 붙여 반환합니다. 캐시에는 저장하지 않습니다.
+     */
+    public CachedTestResult uncached(String ownerKeycloakId, TestResultResponse response) {
+        byte[] body = serialize(response);
+        return new CachedTestResult(response, etagOf(body), ownerKeycloakId,
+                body.length + ENTRY_OVERHEAD_BYTES, false);
+    }
+
+    public void invalidate(Long loadTestId) {
+        cache.invalidate(loadTestId);
+    }
+
+    private byte[] serialize(TestResultResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize test result", e);
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedTestResult {
+        private final TestResultResponse response;
+        private final String etag; // 강한 ETag (따옴표 포함)
+        private final String ownerKeycloakId;
+        private final int weight;
+        private final boolean immutable; // 캐시에 저장된(더 이상 바뀌지 않는) 결과인지
+    }
+}
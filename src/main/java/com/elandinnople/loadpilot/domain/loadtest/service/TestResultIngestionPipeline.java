@@ -0,0 +1,391 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 컨테이너 결과 콜백을 비동기로 처리하는 수집 파이프라인.
+ * <p>
+ * 컨트롤러는 요청을 제한된 크기의 큐에 넣기만 하고, 워커가 큐에서 결과를 배치로 꺼내
+ * 준비(조회/중복 제거) → 원본 요약 블롭 저장(병렬) → JDBC 배치 저장 → 집계 순서로 처리합니다.
+ * 큐가 가득 차면 {@link #submit} 이 false 를 반환하며 호출자는 429 로 재시도를 요청해야 합니다.
+ * <p>
+ * 러너는 이미 202 를 받았으므로 실패한 결과를 버리지 않습니다. 배치 처리가 실패하면 결과를 한 건씩 다시 처리해
+ * 실패를 해당 결과로 좁히고, 실패한 결과는 지수 백오프로 재시도한 뒤 최대 시도 횟수를 넘으면 dead-letter
+ * 디렉터리에 JSON 으로 남깁니다. 이미 저장된 결과의 재시도는 저장을 건너뛰고 완료 여부만 다시 확인하므로
+ * 집계 단계에서 실패한 테스트도 재시도로 완료됩니다.
+ */
+@Service
+@Slf4j
+public class TestResultIngestionPipeline {
+
+    private final LoadTestRepository loadTestRepository;
+    private final TestResultRepository testResultRepository;
+    private final TestResultAggregator testResultAggregator;
+    private final LiveMetricsService liveMetricsService;
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster;
+    private final ResultSummaryStore resultSummaryStore;
+    private final OrchestrationMetrics orchestrationMetrics;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<PendingResult> queue;
+    // 재시도 대기 중인 결과 (백오프 시간이 지난 것만 꺼낼 수 있음)
+    private final DelayQueue<RetryEntry> retries = new DelayQueue<>();
+    private final int workerCount;
+    private final int batchSize;
+    private final int uploadConcurrency;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Path deadLetterDir;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer prepareTimer;
+    private final Timer uploadTimer;
+    private final Timer persistTimer;
+    private final Timer aggregateTimer;
+    private final Timer batchTimer;
+
+    public TestResultIngestionPipeline(
+            LoadTestRepository loadTestRepository,
+            TestResultRepository testResultRepository,
+            TestResultAggregator testResultAggregator,
+            LiveMetricsService liveMetricsService,
+            LiveMetricsBroadcaster liveMetricsBroadcaster,
+            ResultSummaryStore resultSummaryStore,
+            OrchestrationMetrics orchestrationMetrics,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${loadtest.ingest.queue-capacity:1000}") int queueCapacity,
+            @Value("${loadtest.ingest.workers:2}") int workerCount,
+            @Value("${loadtest.ingest.batch-size:50}") int batchSize,
+            @Value("${loadtest.ingest.upload-concurrency:16}") int uploadConcurrency,
+            @Value("${loadtest.ingest.max-attempts:5}") int maxAttempts,
+            @Value("${loadtest.ingest.retry-backoff-ms:2000}") long retryBackoffMillis,
+            @Value("${loadtest.ingest.dead-letter-dir:${java.io.tmpdir}/loadpilot-dead-letters}") String deadLetterDir) {
+        this.loadTestRepository = loadTestRepository;
+        this.testResultRepository = testResultRepository;
+        this.testResultAggregator = testResultAggregator;
+        this.liveMetricsService = liveMetricsService;
+        this.liveMetricsBroadcaster = liveMetricsBroadcaster;
+        this.resultSummaryStore = resultSummaryStore;
+        this.orchestrationMetrics = orchestrationMetrics;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.uploadConcurrency = Math.max(1, uploadConcurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.deadLetterDir = Path.of(deadLetterDir).toAbsolutePath().normalize();
+
+        Gauge.builder("loadpilot.result.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("처리 대기 중인 결과 콜백 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("loadpilot.result.ingest.rejected")
+                .description("큐가 가득 차 거절된 결과 콜백 수")
+                .register(meterRegistry);
+        Gauge.builder("loadpilot.result.ingest.retry.pending", retries, DelayQueue::size)
+                .description("재시도 대기 중인 결과 콜백 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("loadpilot.result.ingest.retried")
+                .description("처리에 실패해 재시도하도록 예약된 결과 콜백 수")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("loadpilot.result.ingest.dead.lettered")
+                .description("최대 시도 횟수를 넘겨 dead-letter 로 남긴 결과 콜백 수")
+                .register(meterRegistry);
+        this.prepareTimer = stageTimer(meterRegistry, "prepare");
+        this.uploadTimer = stageTimer(meterRegistry, "upload");
+        this.persistTimer = stageTimer(meterRegistry, "persist");
+        this.aggregateTimer = stageTimer(meterRegistry, "aggregate");
+        this.batchTimer = Timer.builder("loadpilot.result.ingest.batch")
+                .description("결과 배치 하나를 처리하는 시간 (실패 시 건별 재처리 포함)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("result-ingest-" + i).start(this::runWorker));
+        }
+    }
+
+    // 종료 시 큐에 남은 결과를 모두 처리한 뒤 워커를 멈추고, 아직 재시도 시각이 되지 않은 결과는 dead-letter 로 남김
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        for (RetryEntry entry : retries) {
+            deadLetter(entry.pending(), "shutdown before retry");
+        }
+        retries.clear();
+    }
+
+    /**
+     * 결과를 처리 큐에 넣습니다.
+     *
+     * @return 큐가 가득 차 받아들이지 못한 경우 false
+     */
+    public boolean submit(TestResultProcessRequest request) {
+        if (queue.offer(new PendingResult(request, 1, System.nanoTime()))) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    private void runWorker() {
+        List<PendingResult> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 재시도 시각이 된 결과를 먼저 담고, 없을 때만 새 결과를 기다림 (재시도 지연은 최대 1초)
+                for (RetryEntry entry; batch.size() < batchSize && (entry = retries.poll()) != null; ) {
+                    batch.add(entry.pending());
+                }
+                if (batch.isEmpty()) {
+                    PendingResult first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("결과 배치 {}건 처리 중 오류: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치가 실패하면 한 건씩 다시 처리해 실패한 결과만 재시도 (저장 단계는 한 트랜잭션이므로 함께 롤백됨)
+    private void processBatch(List<PendingResult> batch) {
+        batchTimer.record(() -> processBatchOrItems(batch));
+    }
+
+    private void processBatchOrItems(List<PendingResult> batch) {
+        try {
+            process(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                retryOrDeadLetter(batch.get(0), e);
+                return;
+            }
+            log.warn("결과 배치 {}건 처리 실패, 건별로 다시 처리합니다: {}", batch.size(), e.getMessage());
+            for (PendingResult pending : batch) {
+                try {
+                    process(List.of(pending));
+                } catch (RuntimeException itemFailure) {
+                    retryOrDeadLetter(pending, itemFailure);
+                }
+            }
+        }
+    }
+
+    private void process(List<PendingResult> batch) {
+        Prepared prepared = prepareTimer.record(() -> prepare(batch));
+        if (prepared.results().isEmpty() && prepared.stored().isEmpty()) {
+            return;
+        }
+        List<TestResult> results = prepared.results();
+        uploadTimer.record(() -> upload(results));
+        // 이미 저장된 결과의 테스트도 완료 여부를 확인하도록 아래에서 항목을 추가하므로 복사해서 사용
+        Map<Long, Integer> completedCounts = results.isEmpty() ? new HashMap<>()
+                : new HashMap<>(persistTimer.record(() -> testResultAggregator.recordContainerResults(results)));
+        aggregateTimer.record(() -> complete(results, prepared.stored(), completedCounts));
+
+        // 결과마다 콜백 수신부터 처리 완료까지의 시간 기록 (큐 대기와 재시도 포함)
+        long now = System.nanoTime();
+        for (int i = 0; i < results.size(); i++) {
+            orchestrationMetrics.resultProcessTimer(results.get(i).getParentTest())
+                    .record(now - prepared.accepted().get(i).receivedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 준비 단계 결과
+     *
+     * @param results 새로 저장할 결과
+     * @param accepted results 와 같은 순서의 원래 콜백
+     * @param stored 이미 저장된 결과를 다시 받은 실행 중 테스트 (재시도이면 완료 여부를 다시 확인)
+     */
+    private record Prepared(List<TestResult> results, List<PendingResult> accepted, Map<Long, LoadTest> stored) {
+    }
+
+    // 테스트를 한 번에 조회하고 이미 저장되었거나 배치 안에서 중복된 결과를 제거
+    private Prepared prepare(List<PendingResult> batch) {
+        Set<Long> loadTestIds = batch.stream()
+                .map(pending -> pending.request().getLoadTestId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, LoadTest> loadTests = loadTestRepository.findAllById(loadTestIds).stream()
+                .collect(Collectors.toMap(LoadTest::getId, Function.identity()));
+
+        Set<String> stored = new HashSet<>();
+        for (Object[] row : testResultRepository.findContainerIndexesByParentTestIdIn(loadTestIds)) {
+            stored.add(row[0] + ":" + row[1]);
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<TestResult> results = new ArrayList<>(batch.size());
+        List<PendingResult> accepted = new ArrayList<>(batch.size());
+        Map<Long, LoadTest> storedTests = new HashMap<>();
+        for (PendingResult pending : batch) {
+            TestResultProcessRequest request = pending.request();
+            LoadTest loadTest = loadTests.get(request.getLoadTestId());
+            if (loadTest == null) {
+                log.warn("Load test not found for result callback: {}", request.getLoadTestId());
+                continue;
+            }
+            int containerIndex = request.getContainerIndex() != null ? request.getContainerIndex() : 0;
+            String key = loadTest.getId() + ":" + containerIndex;
+            if (stored.contains(key) || !seen.add(key)) {
+                log.warn("Test result already exists for load test ID {} and container index {}",
+                        loadTest.getId(), containerIndex);
+                if (stored.contains(key) && loadTest.getStatus() == TestStatus.RUNNING) {
+                    storedTests.put(loadTest.getId(), loadTest);
+                }
+                continue;
+            }
+
+            liveMetricsService.fillMissingSummary(loadTest.getId(), containerIndex, request);
+            results.add(LoadTestService.toTestResult(loadTest, containerIndex, request, null));
+            accepted.add(pending);
+        }
+        return new Prepared(results, accepted, storedTests);
+    }
+
+    // 원본 요약을 가상 스레드에서 병렬로 블롭 저장소에 저장하거나 직접 업로드한 원본을 확인 (실패해도 결과 자체는 저장)
+    private void upload(List<TestResult> results) {
+        Semaphore permits = new Semaphore(uploadConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TestResult result : results) {
+                if (result.getSummaryJson() == null && result.getSummaryBlobKey() == null) {
+                    continue;
+                }
+                executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    Long loadTestId = result.getParentTest().getId();
+                    try {
+                        resultSummaryStore.store(result);
+                    } catch (RuntimeException e) {
+                        log.error("테스트 ID {} 컨테이너 {} 원본 요약 저장 실패: {}",
+                                loadTestId, result.getContainerIndex(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    // 카운터가 컨테이너 수에 도달한 테스트만 집계 (중복 집계는 상태 전환 조건으로 차단)
+    private void complete(List<TestResult> results, Map<Long, LoadTest> storedTests,
+                          Map<Long, Integer> completedCounts) {
+        Map<Long, LoadTest> loadTests = new HashMap<>(storedTests);
+        for (TestResult result : results) {
+            loadTests.putIfAbsent(result.getParentTest().getId(), result.getParentTest());
+        }
+        storedTests.forEach((loadTestId, loadTest) -> completedCounts.computeIfAbsent(loadTestId,
+                loadTestRepository::findCompletedContainerCount));
+
+        completedCounts.forEach((loadTestId, completedCount) -> {
+            LoadTest loadTest = loadTests.get(loadTestId);
+            loadTest.setCompletedContainerCount(completedCount);
+            if (completedCount >= loadTest.getContainerCount() && !loadTest.getTestType().isCapacitySearch()
+                    && testResultAggregator.completeLoadTest(loadTestId)) {
+                loadTest.setStatus(TestStatus.COMPLETED);
+                liveMetricsService.remove(loadTestId);
+            }
+            liveMetricsBroadcaster.publishStatus(loadTest);
+        });
+    }
+
+    private void retryOrDeadLetter(PendingResult pending, RuntimeException failure) {
+        TestResultProcessRequest request = pending.request();
+        if (pending.attempt() >= maxAttempts) {
+            log.error("테스트 ID {} 컨테이너 {} 결과 처리가 {}회 실패했습니다: {}", request.getLoadTestId(),
+                    request.getContainerIndex(), pending.attempt(), failure.getMessage(), failure);
+            deadLetter(pending, failure.getMessage());
+            return;
+        }
+        long delayMillis = retryBackoffMillis << Math.min(pending.attempt() - 1, 10);
+        log.warn("테스트 ID {} 컨테이너 {} 결과 처리 실패 ({}회), {} ms 후 재시도합니다: {}", request.getLoadTestId(),
+                request.getContainerIndex(), pending.attempt(), delayMillis, failure.getMessage());
+        retriedCounter.increment();
+        retries.add(new RetryEntry(new PendingResult(request, pending.attempt() + 1, pending.receivedAtNanos()),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis)));
+    }
+
+    // 다시 처리할 수 있도록 콜백 본문 그대로 파일로 남김
+    private void deadLetter(PendingResult pending, String reason) {
+        deadLetteredCounter.increment();
+        TestResultProcessRequest request = pending.request();
+        Path file = deadLetterDir.resolve(String.format("%s-%s-%d.json",
+                request.getLoadTestId(), request.getContainerIndex(), System.currentTimeMillis()));
+        try {
+            Files.createDirectories(deadLetterDir);
+            objectMapper.writeValue(file.toFile(), request);
+            log.error("테스트 ID {} 컨테이너 {} 결과를 dead-letter 로 남겼습니다: {} ({})",
+                    request.getLoadTestId(), request.getContainerIndex(), file, reason);
+        } catch (IOException e) {
+            log.error("테스트 ID {} 컨테이너 {} 결과를 dead-letter 로 남기지 못했습니다: {}",
+                    request.getLoadTestId(), request.getContainerIndex(), e.getMessage());
+        }
+    }
+
+    private record PendingResult(TestResultProcessRequest request, int attempt, long receivedAtNanos) {
+    }
+
+    private record RetryEntry(PendingResult pending, long dueAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("loadpilot.result.ingest.stage")
+                .description("결과 수집 파이프라인 단계별 처리 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.DailyStatsResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.UserDailyStats;
+import com.elandinnople.loadpilot.domain.loadtest.repository.UserDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 일일 롤업을 결과 저장 시점에 증분 갱신하고 대시보드 기간 조회에 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDailyStatsService {
+
+    // 대시보드 기간 조회의 최대 일수
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final UserDailyStatsRepository userDailyStatsRepository;
+
+    /**
+     * 저장된 컨테이너 결과를 사용자별로 모아 오늘 롤업에 반영합니다.
+     * 결과를 저장한 트랜잭션 안에서 호출되며, 교착 상태를 피하기 위해 사용자 ID 순서로 롤업 행을 잠급니다.
+     */
+    @Transactional
+    public void recordResults(List<TestResult> results) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        Map<Long, Increment> increments = new TreeMap<>();
+        for (TestResult result : results) {
+            Long userId = result.getParentTest().getUser().getId();
+            increments.computeIfAbsent(userId, id -> new Increment()).add(result);
+        }
+
+        increments.forEach((userId, increment) -> {
+            userDailyStatsRepository.insertIfAbsent(userId, today, now);
+            UserDailyStats stats = userDailyStatsRepository.findForUpdate(userId, today)
+                    .orElseThrow(() -> new IllegalStateException("Daily stats row not found for user " + userId));
+            increment.applyTo(stats);
+        });
+    }
+
+    /**
+     * 기간의 일별 통계를 조회합니다. 기간을 지정하지 않으면 오늘까지 최근 30일입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DailyStatsResponse> getDailyStats(Long userId, LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalStateException("startDate must not be after endDate");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new IllegalStateException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        return userDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDate(userId, start, end)
+                .stream()
+                .map(DailyStatsResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // 한 번의 배치에서 같은 사용자에게 반영할 증분
+    private static final class Increment {
+        private long resultCount;
+        private long totalRequests;
+        private long successfulRequests;
+        private long failedRequests;
+        private double responseTimeSum;
+        private double maxResponseTimeMs;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        void add(TestResult result) {
+            long requests = valueOf(result.getTotalRequests());
+            resultCount++;
+            totalRequests += requests;
+            successfulRequests += valueOf(result.getSuccessfulRequests());
+            failedRequests += valueOf(result.getFailedRequests());
+            responseTimeSum += valueOf(result.getAvgResponseTimeMs()) * requests;
+            maxResponseTimeMs = Math.max(maxResponseTimeMs, valueOf(result.getMaxResponseTimeMs()));
+            if (result.getLatencyHistogram() != null) {
+                histogram.add(LatencyHistogram.decode(result.getLatencyHistogram()));
+            }
+        }
+
+        void applyTo(UserDailyStats stats) {
+            stats.setResultCount(valueOf(stats.getResultCount()) + resultCount);
+            stats.setTotalRequests(valueOf(stats.getTotalRequests()) + totalRequests);
+            stats.setSuccessfulRequests(valueOf(stats.getSuccessfulRequests()) + successfulRequests);
+            stats.setFailedRequests(valueOf(stats.getFailedRequests()) + failedRequests);
+            stats.setResponseTimeSum(valueOf(stats.getResponseTimeSum()) + responseTimeSum);
+            stats.setMaxResponseTimeMs(Math.max(valueOf(stats.getMaxResponseTimeMs()), maxResponseTimeMs));
+            if (histogram.getTotalCount() > 0) {
+                LatencyHistogram merged = stats.getLatencyHistogram() != null
+                        ? LatencyHistogram.decode(stats.getLatencyHistogram()) : new LatencyHistogram();
+                merged.add(histogram);
+                stats.setLatencyHistogram(merged.encode());
+            }
+        }
+
+        private static long valueOf(Long value) {
+            return value != null ? value : 0;
+        }
+
+        private static double valueOf(Double value) {
+            return value != null ? value : 0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+-- 운영(PostgreSQL) 스키마 업그레이드: 컨테이너 결과 파이프라인, 실행기, 도착률/용량 탐색, 조기 중단, 원본 요약 블롭 저장, 일일 롤업
+--
+-- 운영 프로필은 ddl-auto: validate 이므로 이 버전을 배포하기 전에 한 번 실행합니다.
+-- 여러 번 실행해도 안전하도록 작성되었으며 전체가 하나의 트랜잭션으로 적용됩니다.
+--   psql -v ON_ERROR_STOP=1 -f 001_container_results_and_capacity_search.sql
+--
+-- test_results.summary_json 은 더 이상 매핑하지 않지만 제거하지 않습니다. 애플리케이션이 기동할 때 남은 원본 요약을
+-- 블롭 저장소로 옮기고(ResultSummaryBackfill) 값을 비우므로, 모두 비워진 뒤 별도로 제거합니다.
+
+BEGIN;
+
+-- load_tests: 실행기, 도착률/용량 탐색 설정과 결과, 조기 중단 규칙, 컨테이너 가중치
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS executor_type VARCHAR(255);
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS target_rps INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS pre_allocated_vus INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS max_vus INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS min_rps INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS slo_p99_ms DOUBLE PRECISION;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS slo_error_rate DOUBLE PRECISION;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS max_sustainable_rps INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS saturation_rps INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS saturation_step INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS abort_p95_ms DOUBLE PRECISION;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS abort_error_rate DOUBLE PRECISION;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS abort_breach_seconds INTEGER;
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS abort_reason VARCHAR(500);
+ALTER TABLE load_tests ADD COLUMN IF NOT EXISTS container_weights VARCHAR(4000);
+
+-- ddl-auto 로 만든 스키마의 열거형 CHECK 제약을 새 값(ABORTED, 도착률/용량 탐색 유형)을 포함하도록 교체
+ALTER TABLE load_tests DROP CONSTRAINT IF EXISTS load_tests_status_check;
+ALTER TABLE load_tests ADD CONSTRAINT load_tests_status_check
+    CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'ABORTED'));
+ALTER TABLE load_tests DROP CONSTRAINT IF EXISTS load_tests_test_type_check;
+ALTER TABLE load_tests ADD CONSTRAINT load_tests_test_type_check
+    CHECK (test_type IN ('SMOKE', 'LOAD', 'STRESS', 'SOAK',
+                         'CONSTANT_ARRIVAL_RATE', 'RAMPING_ARRIVAL_RATE', 'BREAKPOINT'));
+ALTER TABLE load_tests DROP CONSTRAINT IF EXISTS load_tests_executor_type_check;
+ALTER TABLE load_tests ADD CONSTRAINT load_tests_executor_type_check
+    CHECK (executor_type IN ('LAMBDA_ECS', 'ECS', 'LOCAL_K6', 'IN_PROCESS'));
+
+-- 목록 키셋 조회 (createdAt, id) 내림차순
+CREATE INDEX IF NOT EXISTS idx_load_tests_user_status_created ON load_tests (user_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_load_tests_user_created ON load_tests (user_id, created_at, id);
+
+-- test_results: 원본 요약 블롭 포인터, 히스토그램, 조정 누락 보정 지표
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS summary_blob_key VARCHAR(255);
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS summary_size_bytes BIGINT;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS summary_sha256 VARCHAR(64);
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS summary_content_type VARCHAR(64);
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS dropped_iterations BIGINT;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS latency_histogram TEXT;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS corrected_p95_response_time_ms DOUBLE PRECISION;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS corrected_p99_response_time_ms DOUBLE PRECISION;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS corrected_latency_histogram TEXT;
+CREATE INDEX IF NOT EXISTS idx_test_results_summary_blob_key ON test_results (summary_blob_key);
+
+-- 제거된 1:1 매핑(TestResult.loadTest)이 만든 load_test_id 단독 유니크 제약 제거 (테스트당 결과가 하나만 저장되던 원인)
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT con.conname
+        FROM pg_constraint con
+                 JOIN pg_class rel ON rel.oid = con.conrelid
+                 JOIN pg_attribute att ON att.attrelid = rel.oid AND att.attname = 'load_test_id'
+        WHERE rel.relname = 'test_results'
+          AND con.contype = 'u'
+          AND con.conkey = ARRAY [att.attnum]
+        LOOP
+            EXECUTE format('ALTER TABLE test_results DROP CONSTRAINT %I', constraint_name);
+        END LOOP;
+END
+$$;
+
+-- 중복 저장된 컨테이너 결과는 가장 먼저 저장된 행만 남기고 완료 컨테이너 수를 실제 결과 수로 맞춘 뒤 유니크 제약 추가
+DELETE FROM test_results duplicate
+    USING test_results kept
+WHERE duplicate.load_test_id = kept.load_test_id
+  AND duplicate.container_index = kept.container_index
+  AND duplicate.id > kept.id;
+
+UPDATE load_tests lt
+SET completed_container_count = counted.result_count
+FROM (SELECT load_test_id, COUNT(*) AS result_count
+      FROM test_results
+      GROUP BY load_test_id) counted
+WHERE counted.load_test_id = lt.id
+  AND lt.completed_container_count > counted.result_count;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_test_results_load_test_container') THEN
+        ALTER TABLE test_results
+            ADD CONSTRAINT uk_test_results_load_test_container UNIQUE (load_test_id, container_index);
+    END IF;
+END
+$$;
+
+-- aggregated_test_results: 병합 히스토그램 분위수와 조정 누락 보정 지표
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS p50_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS p90_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS p999_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS dropped_iterations BIGINT;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_p50_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_p90_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_p95_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_p99_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_p999_response_time_ms DOUBLE PRECISION;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS latency_histogram TEXT;
+ALTER TABLE aggregated_test_results ADD COLUMN IF NOT EXISTS corrected_latency_histogram TEXT;
+
+-- 컨테이너별 ECS 태스크와 마지막 상태
+CREATE TABLE IF NOT EXISTS container_tasks
+(
+    id              BIGSERIAL PRIMARY KEY,
+    created_by      VARCHAR(50)  NOT NULL,
+    updated_by      VARCHAR(50),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    load_test_id    BIGINT       NOT NULL REFERENCES load_tests (id),
+    container_index INTEGER      NOT NULL,
+    task_arn        VARCHAR(255),
+    status          VARCHAR(255) NOT NULL
+        CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'UNKNOWN')),
+    last_checked_at TIMESTAMP(6),
+    CONSTRAINT uk_container_tasks_test_container UNIQUE (load_test_id, container_index)
+);
+CREATE INDEX IF NOT EXISTS idx_container_tasks_task_arn ON container_tasks (task_arn);
+
+-- 용량 탐색 단계별 결과
+CREATE TABLE IF NOT EXISTS capacity_search_steps
+(
+    id                    BIGSERIAL PRIMARY KEY,
+    created_by            VARCHAR(50)  NOT NULL,
+    updated_by            VARCHAR(50),
+    created_at            TIMESTAMP(6) NOT NULL,
+    updated_at            TIMESTAMP(6),
+    load_test_id          BIGINT       NOT NULL REFERENCES load_tests (id),
+    step_index            INTEGER      NOT NULL,
+    target_rps            INTEGER      NOT NULL,
+    first_container_index INTEGER      NOT NULL,
+    container_count       INTEGER      NOT NULL,
+    achieved_rps          DOUBLE PRECISION,
+    total_requests        BIGINT,
+    failed_requests       BIGINT,
+    error_rate            DOUBLE PRECISION,
+    p50_response_time_ms  DOUBLE PRECISION,
+    p95_response_time_ms  DOUBLE PRECISION,
+    p99_response_time_ms  DOUBLE PRECISION,
+    sustainable           BOOLEAN      NOT NULL,
+    breach_reason         VARCHAR(500),
+    started_at            TIMESTAMP(6),
+    ended_at              TIMESTAMP(6),
+    CONSTRAINT uk_capacity_search_steps_test_step UNIQUE (load_test_id, step_index)
+);
+
+-- 사용자별 일일 롤업 (기존 결과로 채우지 않으며 배포 이후 저장되는 결과부터 집계)
+CREATE TABLE IF NOT EXISTS user_daily_stats
+(
+    id                   BIGSERIAL PRIMARY KEY,
+    created_by           VARCHAR(50)  NOT NULL,
+    updated_by           VARCHAR(50),
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6),
+    user_id              BIGINT       NOT NULL,
+    stat_date            DATE         NOT NULL,
+    result_count         BIGINT,
+    total_requests       BIGINT,
+    successful_requests  BIGINT,
+    failed_requests      BIGINT,
+    response_time_sum    DOUBLE PRECISION,
+    max_response_time_ms DOUBLE PRECISION,
+    latency_histogram    TEXT,
+    CONSTRAINT uk_user_daily_stats_user_date UNIQUE (user_id, stat_date)
+);
+
+COMMIT;
@@ -0,0 +1,34 @@
+package com.elandinnople.loadpilot;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadPilotApplicationObjectMapperTest {
+
+    private final ObjectMapper objectMapper = new LoadPilotApplication().objectMapper();
+
+    @Test
+    void callbackWithSummaryLongerThanJacksonDefaultLimitIsRead() throws Exception {
+        // Jackson 기본 문자열 길이 제한(2천만 자)을 넘는 원본 요약
+        String summaryJson = "x".repeat(25_000_000);
+        String callback = "{\"loadTestId\":7,\"containerIndex\":0,\"summaryJson\":\"" + summaryJson + "\"}";
+
+        TestResultProcessRequest request = objectMapper.readValue(callback, TestResultProcessRequest.class);
+
+        assertThat(request.getLoadTestId()).isEqualTo(7L);
+        assertThat(request.getSummaryJson()).hasSize(summaryJson.length());
+    }
+
+    @Test
+    void datesAreWrittenAsIsoStrings() throws Exception {
+        TestResultProcessRequest request = new TestResultProcessRequest();
+        request.setStartTime(LocalDateTime.of(2026, 10, 17, 9, 30));
+
+        assertThat(objectMapper.writeValueAsString(request)).contains("\"startTime\":\"2026-10-17T09:30:00\"");
+    }
+}
@@ -0,0 +1,53 @@
+package com.elandinnople.loadpilot.common.service;
+
+import com.elandinnople.loadpilot.common.util.MetricTags;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AwsCallMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AwsCallMetrics awsCallMetrics = new AwsCallMetrics(meterRegistry);
+
+    @Test
+    void successfulCallIsTimedWithServiceOperationAndTestTags() {
+        String result = awsCallMetrics.record("ecs", "RunTask", MetricTags.forTest(TestType.STRESS, 150), () -> "arn");
+
+        assertThat(result).isEqualTo("arn");
+        Timer timer = meterRegistry.get("loadpilot.aws.call")
+                .tag("service", "ecs").tag("operation", "RunTask").tag("outcome", "success")
+                .tag(MetricTags.TEST_TYPE, "STRESS").tag(MetricTags.CONTAINERS, "101+")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void failedCallIsRecordedAsErrorAndRethrown() {
+        IllegalStateException failure = new IllegalStateException("throttled");
+
+        assertThatThrownBy(() -> awsCallMetrics.record("s3", "PutObject", () -> {
+            throw failure;
+        })).isSameAs(failure);
+
+        // 테스트와 무관한 호출도 같은 태그 키를 가짐
+        assertThat(meterRegistry.get("loadpilot.aws.call")
+                .tag("service", "s3").tag("outcome", "error")
+                .tag(MetricTags.TEST_TYPE, "none").tag(MetricTags.CONTAINERS, "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("loadpilot.aws.call").tag("outcome", "success").timer()).isNull();
+    }
+
+    @Test
+    void uploadSizeIsRecordedInBytes() {
+        awsCallMetrics.recordUploadSize("s3", 2_048);
+        awsCallMetrics.recordUploadSize("s3", 1_024);
+
+        assertThat(meterRegistry.get("loadpilot.aws.upload.size").tag("service", "s3").summary().totalAmount())
+                .isEqualTo(3_072.0);
+    }
+}
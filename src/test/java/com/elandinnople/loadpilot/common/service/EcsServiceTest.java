@@ -0,0 +1,70 @@
+package com.elandinnople.loadpilot.common.service;
+
+import com.amazonaws.services.ecs.AmazonECS;
+import com.amazonaws.services.ecs.model.Container;
+import com.amazonaws.services.ecs.model.DescribeTasksRequest;
+import com.amazonaws.services.ecs.model.DescribeTasksResult;
+import com.amazonaws.services.ecs.model.Task;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EcsServiceTest {
+
+    private final AmazonECS ecsClient = mock(AmazonECS.class);
+    private final EcsService ecsService = new EcsService(ecsClient, new AwsCallMetrics(new SimpleMeterRegistry()),
+            "cluster", "task-definition", "subnet", "security-group");
+
+    @Test
+    void describesTaskStatusesInBatchesOfOneHundred() {
+        List<String> taskArns = IntStream.range(0, 250).mapToObj(i -> "arn-" + i).collect(Collectors.toList());
+        when(ecsClient.describeTasks(any())).thenAnswer(invocation -> {
+            DescribeTasksRequest request = invocation.getArgument(0);
+            return new DescribeTasksResult().withTasks(request.getTasks().stream()
+                    .map(arn -> new Task().withTaskArn(arn).withLastStatus("RUNNING"))
+                    .collect(Collectors.toList()));
+        });
+
+        Map<String, TaskStatus> statuses = ecsService.describeTaskStatuses(taskArns);
+
+        ArgumentCaptor<DescribeTasksRequest> requests = ArgumentCaptor.forClass(DescribeTasksRequest.class);
+        verify(ecsClient, times(3)).describeTasks(requests.capture());
+        assertThat(requests.getAllValues()).extracting(request -> request.getTasks().size())
+                .containsExactly(100, 100, 50);
+        assertThat(statuses).hasSize(250).containsValue(TaskStatus.RUNNING);
+    }
+
+    @Test
+    void mapsStoppedTasksByExitCodeAndSkipsFailedBatches() {
+        when(ecsClient.describeTasks(any()))
+                .thenReturn(new DescribeTasksResult().withTasks(
+                        new Task().withTaskArn("ok").withLastStatus("STOPPED")
+                                .withContainers(new Container().withExitCode(0)),
+                        new Task().withTaskArn("crashed").withLastStatus("STOPPED")
+                                .withContainers(new Container().withExitCode(137)),
+                        new Task().withTaskArn("starting").withLastStatus("PROVISIONING")))
+                .thenThrow(new IllegalStateException("throttled"));
+        List<String> taskArns = IntStream.range(0, 150).mapToObj(i -> "arn-" + i).collect(Collectors.toList());
+
+        Map<String, TaskStatus> statuses = ecsService.describeTaskStatuses(taskArns);
+
+        // 두 번째 묶음의 조회 실패는 첫 묶음의 결과에 영향을 주지 않음
+        assertThat(statuses).containsOnly(
+                Map.entry("ok", TaskStatus.COMPLETED),
+                Map.entry("crashed", TaskStatus.FAILED),
+                Map.entry("starting", TaskStatus.PENDING));
+    }
+}
@@ -0,0 +1,73 @@
+package com.elandinnople.loadpilot.common.service;
+
+import com.amazonaws.services.lambda.AWSLambda;
+import com.amazonaws.services.lambda.model.InvokeRequest;
+import com.amazonaws.services.lambda.model.InvokeResult;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LambdaServiceTest {
+
+    private final AWSLambda lambdaClient = mock(AWSLambda.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LambdaService lambdaService = new LambdaService(lambdaClient, "load-runner", objectMapper,
+            new AwsCallMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void invokesTheFunctionWithTheRequestAndReturnsTheTaskId() throws Exception {
+        when(lambdaClient.invoke(any())).thenReturn(result("{\"statusCode\":200,\"taskId\":\"arn:task/1\"}", null));
+
+        String taskId = lambdaService.invokeEcsTask(request(), 5_000);
+
+        ArgumentCaptor<InvokeRequest> captor = ArgumentCaptor.forClass(InvokeRequest.class);
+        verify(lambdaClient).invoke(captor.capture());
+        InvokeRequest invokeRequest = captor.getValue();
+        JsonNode payload = objectMapper.readTree(StandardCharsets.UTF_8.decode(invokeRequest.getPayload()).toString());
+        assertThat(taskId).isEqualTo("arn:task/1");
+        assertThat(invokeRequest.getFunctionName()).isEqualTo("load-runner");
+        assertThat(invokeRequest.getSdkRequestTimeout()).isEqualTo(5_000);
+        assertThat(payload.path("testId").asLong()).isEqualTo(7L);
+        assertThat(payload.path("containerIndex").asInt()).isEqualTo(2);
+        assertThat(payload.path("testType").asText()).isEqualTo("LOAD");
+    }
+
+    @Test
+    void functionErrorIsRaised() {
+        when(lambdaClient.invoke(any())).thenReturn(result("{\"errorMessage\":\"boom\"}", "Unhandled"));
+
+        assertThatThrownBy(() -> lambdaService.invokeEcsTask(request()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Lambda");
+    }
+
+    private static InvokeResult result(String payload, String functionError) {
+        return new InvokeResult()
+                .withPayload(ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8)))
+                .withFunctionError(functionError);
+    }
+
+    private static LoadTestRequest request() {
+        LoadTestRequest request = new LoadTestRequest();
+        request.setTestId(7L);
+        request.setContainerIndex(2);
+        request.setTotalContainers(4);
+        request.setTargetUrl("http://target");
+        request.setTestType(TestType.LOAD);
+        return request;
+    }
+}
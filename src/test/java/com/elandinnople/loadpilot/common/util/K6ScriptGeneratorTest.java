@@ -0,0 +1,71 @@
+package com.elandinnople.loadpilot.common.util;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class K6ScriptGeneratorTest {
+
+    private final K6ScriptGenerator generator = new K6ScriptGenerator();
+
+    @Test
+    void constantArrivalRateUsesOpenModelExecutorWithoutSleep() {
+        String script = generator.generateArrivalRateScript("http://target", TestType.CONSTANT_ARRIVAL_RATE,
+                250, 20, 50, 120, null);
+
+        assertThat(script)
+                .contains("executor: 'constant-arrival-rate'")
+                .contains("rate: 250,")
+                .contains("timeUnit: '1s'")
+                .contains("duration: '120s'")
+                .contains("preAllocatedVUs: 20,")
+                .contains("maxVUs: 50,")
+                .contains("const BASE_URL = 'http://target';")
+                // 반복 사이 대기는 요청률을 바꾸지 못하고 VU 만 점유
+                .doesNotContain("sleep(");
+    }
+
+    @Test
+    void rampingArrivalRateRampsFromZeroThenHoldsTarget() {
+        String script = generator.generateArrivalRateScript("http://target", TestType.RAMPING_ARRIVAL_RATE,
+                300, 10, 40, 60, 30);
+
+        assertThat(script)
+                .contains("executor: 'ramping-arrival-rate'")
+                .contains("startRate: 0,")
+                .contains("{ duration: '30s', target: 300 },\n        { duration: '60s', target: 300 },")
+                .doesNotContain("sleep(");
+        assertThat(generator.generateArrivalRateScript("http://target", TestType.RAMPING_ARRIVAL_RATE,
+                300, 10, 40, 60, null))
+                .doesNotContain("duration: '0s'")
+                .contains("{ duration: '60s', target: 300 },");
+    }
+
+    @Test
+    void defaultScriptFollowsTheTestModel() {
+        LoadTest arrival = loadTest(TestType.CONSTANT_ARRIVAL_RATE);
+        arrival.setTargetRps(100);
+        arrival.setPreAllocatedVUs(10);
+        arrival.setMaxVUs(20);
+        LoadTest closed = loadTest(TestType.LOAD);
+
+        assertThat(generator.generateScriptForLoadTest(arrival)).contains("constant-arrival-rate");
+        assertThat(generator.generateScriptForLoadTest(closed))
+                .doesNotContain("arrival-rate")
+                .contains("sleep(" + K6ScriptGenerator.ITERATION_PAUSE_SECONDS + ")");
+
+        closed.setScriptContent("export default function() {}");
+        assertThat(generator.generateScriptForLoadTest(closed)).isEqualTo("export default function() {}");
+    }
+
+    private static LoadTest loadTest(TestType testType) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setTargetUrl("http://target");
+        loadTest.setTestType(testType);
+        loadTest.setVirtualUsers(10);
+        loadTest.setDurationSeconds(60);
+        return loadTest;
+    }
+}
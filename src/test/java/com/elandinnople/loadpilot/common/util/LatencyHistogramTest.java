@@ -0,0 +1,87 @@
+package com.elandinnople.loadpilot.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void mergedPercentilesMatchSingleHistogram() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        LatencyHistogram whole = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++) {
+            first.recordValue(i);
+            whole.recordValue(i);
+        }
+        for (int i = 1; i <= 100; i++) {
+            second.recordValue(5000 + i);
+            whole.recordValue(5000 + i);
+        }
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.add(first);
+        merged.add(second);
+
+        assertThat(merged.getTotalCount()).isEqualTo(1100);
+        assertThat(merged.getValueAtPercentile(99)).isEqualTo(whole.getValueAtPercentile(99));
+        // p99 은 두 번째 컨테이너의 느린 요청 구간에 위치해야 함
+        assertThat(merged.getValueAtPercentile(99)).isCloseTo(5089, within(5089 * 0.01));
+    }
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(0.5, 10);
+        histogram.recordValue(120, 3);
+        histogram.recordValue(2500);
+
+        LatencyHistogram decoded = LatencyHistogram.decode(histogram.encode());
+
+        assertThat(decoded.getTotalCount()).isEqualTo(14);
+        assertThat(decoded.toBucketCounts()).isEqualTo(histogram.toBucketCounts());
+        assertThat(decoded.getMaxValue()).isEqualTo(2500);
+    }
+
+    @Test
+    void bucketCountsFromRunnerAreMerged() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.addBucketCounts(java.util.Map.of(LatencyHistogram.bucketIndex(12.5), 2L));
+
+        assertThat(histogram.getTotalCount()).isEqualTo(2);
+        assertThat(histogram.getValueAtPercentile(50)).isCloseTo(12.5, within(12.5 * 0.01));
+    }
+
+    @Test
+    void coordinatedOmissionCorrectionBackfillsMissedRequests() {
+        // 1초 간격으로 요청하는 VU 가 10초 동안 멈춘 응답을 100번 받은 경우
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(10, 9900);
+        histogram.recordValue(10000, 100);
+
+        LatencyHistogram corrected = histogram.copyCorrectedForCoordinatedOmission(1000);
+
+        // 멈춘 응답마다 9000, 8000, ..., 2000ms (8개)를 기다린 요청이 추가됨 (1000ms 미만은 추가하지 않음)
+        assertThat(corrected.getTotalCount()).isEqualTo(10000 + 100 * 8);
+        assertThat(corrected.getMaxValue()).isEqualTo(histogram.getMaxValue());
+        assertThat(histogram.getValueAtPercentile(99)).isCloseTo(10, within(10 * 0.01));
+        assertThat(corrected.getValueAtPercentile(99)).isCloseTo(9000, within(9000 * 0.01));
+        // 원본은 변경되지 않음
+        assertThat(histogram.getTotalCount()).isEqualTo(10000);
+    }
+
+    @Test
+    void coordinatedOmissionCorrectionIgnoresFastResponses() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(1500, 5);
+        histogram.recordValue(40, 95);
+
+        assertThat(histogram.copyCorrectedForCoordinatedOmission(1000).toBucketCounts())
+                .isEqualTo(histogram.toBucketCounts());
+        assertThat(histogram.copyCorrectedForCoordinatedOmission(0).toBucketCounts())
+                .isEqualTo(histogram.toBucketCounts());
+    }
+}
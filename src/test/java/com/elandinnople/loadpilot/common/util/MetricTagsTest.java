@@ -0,0 +1,34 @@
+package com.elandinnople.loadpilot.common.util;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import io.micrometer.core.instrument.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricTagsTest {
+
+    @Test
+    void containerCountsAreBucketed() {
+        assertThat(MetricTags.containerBucket(null)).isEqualTo("unknown");
+        assertThat(MetricTags.containerBucket(0)).isEqualTo("unknown");
+        assertThat(MetricTags.containerBucket(1)).isEqualTo("1");
+        assertThat(MetricTags.containerBucket(2)).isEqualTo("2-5");
+        assertThat(MetricTags.containerBucket(5)).isEqualTo("2-5");
+        assertThat(MetricTags.containerBucket(6)).isEqualTo("6-20");
+        assertThat(MetricTags.containerBucket(20)).isEqualTo("6-20");
+        assertThat(MetricTags.containerBucket(21)).isEqualTo("21-100");
+        assertThat(MetricTags.containerBucket(100)).isEqualTo("21-100");
+        assertThat(MetricTags.containerBucket(101)).isEqualTo("101+");
+    }
+
+    @Test
+    void testTagsAndNoneTagsShareTheSameKeys() {
+        assertThat(MetricTags.forTest(TestType.SOAK, 3)).containsExactly(
+                Tag.of(MetricTags.CONTAINERS, "2-5"), Tag.of(MetricTags.TEST_TYPE, "SOAK"));
+        assertThat(MetricTags.forTest(null, null)).containsExactly(
+                Tag.of(MetricTags.CONTAINERS, "unknown"), Tag.of(MetricTags.TEST_TYPE, "unknown"));
+        assertThat(MetricTags.none()).containsExactly(
+                Tag.of(MetricTags.CONTAINERS, "none"), Tag.of(MetricTags.TEST_TYPE, "none"));
+    }
+}
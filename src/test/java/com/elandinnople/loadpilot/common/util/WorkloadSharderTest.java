@@ -0,0 +1,52 @@
+package com.elandinnople.loadpilot.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkloadSharderTest {
+
+    @Test
+    void evenSplitSpreadsRemainderOverLeadingShards() {
+        assertThat(WorkloadSharder.split(10, 4)).containsExactly(3, 3, 2, 2);
+        assertThat(WorkloadSharder.split(3, 5)).containsExactly(1, 1, 1, 0, 0);
+    }
+
+    @Test
+    void weightedSplitUsesLargestRemainder() {
+        // 이상적인 몫 16.67 / 33.33 / 50 -> 소수부가 큰 첫 번째 컨테이너가 1 더 받음
+        assertThat(WorkloadSharder.split(100, new int[]{1, 2, 3}, 0)).containsExactly(17, 33, 50);
+    }
+
+    @Test
+    void sharesAlwaysSumToTotalAndStayWithinOneOfIdeal() {
+        int[] weights = {7, 1, 3, 1, 5, 2, 9};
+        int weightSum = Arrays.stream(weights).sum();
+        for (int total = 0; total <= 500; total++) {
+            int[] shares = WorkloadSharder.split(total, weights, 0);
+            assertThat(Arrays.stream(shares).sum()).isEqualTo(total);
+            for (int i = 0; i < weights.length; i++) {
+                double ideal = (double) total * weights[i] / weightSum;
+                assertThat(Math.abs(shares[i] - ideal)).isLessThan(1.0);
+            }
+        }
+    }
+
+    @Test
+    void guaranteesMinimumPerShardWhenTotalAllows() {
+        int[] shares = WorkloadSharder.split(10, new int[]{100, 1, 1}, 1);
+        assertThat(Arrays.stream(shares).min().getAsInt()).isGreaterThanOrEqualTo(1);
+        assertThat(Arrays.stream(shares).sum()).isEqualTo(10);
+
+        // 최소 몫을 모두 보장할 수 없으면 가능한 만큼만 보장
+        assertThat(Arrays.stream(WorkloadSharder.split(2, new int[]{1, 1, 1}, 1)).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyInputsProduceZeroShares() {
+        assertThat(WorkloadSharder.split(0, 3)).containsExactly(0, 0, 0);
+        assertThat(WorkloadSharder.split(5, new int[0], 1)).isEmpty();
+    }
+}
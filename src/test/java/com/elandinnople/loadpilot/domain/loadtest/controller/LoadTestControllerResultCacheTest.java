@@ -0,0 +1,129 @@
+package com.elandinnople.loadpilot.domain.loadtest.controller;
+
+import com.amazonaws.services.ecs.model.ResourceNotFoundException;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TestResultResponse;
+import com.elandinnople.loadpilot.domain.loadtest.service.LoadTestService;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultCache;
+import com.elandinnople.loadpilot.domain.user.entity.User;
+import com.elandinnople.loadpilot.domain.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadTestControllerResultCacheTest {
+
+    private static final long LOAD_TEST_ID = 42L;
+    private static final String OWNER = "owner-keycloak-id";
+
+    private final LoadTestService loadTestService = mock(LoadTestService.class);
+    private final UserService userService = mock(UserService.class);
+    private final TestResultCache testResultCache = new TestResultCache(new ObjectMapper().findAndRegisterModules(), 1);
+    private LoadTestController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new LoadTestController(loadTestService, userService, null, null, testResultCache, null, null,
+                null);
+        User owner = new User();
+        owner.setKeycloakId(OWNER);
+        when(userService.findByKeycloakId(OWNER)).thenReturn(owner);
+    }
+
+    @Test
+    void completedResultIsImmutableAndServedFromCacheWithNotModified() {
+        when(loadTestService.getCacheableTestResult(eq(LOAD_TEST_ID), any()))
+                .thenAnswer(invocation -> testResultCache.put(LOAD_TEST_ID, OWNER, response(1000)));
+
+        ResponseEntity<TestResultResponse> first = controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), null);
+        String etag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody().getTotalRequests()).isEqualTo(1000);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(first.getHeaders().getCacheControl())
+                .contains("max-age=31536000", "private", "immutable");
+
+        ResponseEntity<TestResultResponse> revalidated = controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), etag);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getBody()).isNull();
+        assertThat(revalidated.getHeaders().getETag()).isEqualTo(etag);
+        // 두 번째 요청은 캐시에서 처리되어 서비스를 다시 호출하지 않음
+        verify(loadTestService, times(1)).getCacheableTestResult(eq(LOAD_TEST_ID), any());
+    }
+
+    @Test
+    void weakListAndWildcardValidatorsMatch() {
+        when(loadTestService.getCacheableTestResult(eq(LOAD_TEST_ID), any()))
+                .thenAnswer(invocation -> testResultCache.put(LOAD_TEST_ID, OWNER, response(1000)));
+        String etag = controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), null).getHeaders().getETag();
+
+        assertThat(controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), "W/" + etag).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), "\"other\", " + etag).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), "\"stale\"").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void mutableResultIsRevalidatedAndNeverCached() {
+        when(loadTestService.getCacheableTestResult(eq(LOAD_TEST_ID), any()))
+                .thenAnswer(invocation -> testResultCache.uncached(OWNER, response(10)))
+                .thenAnswer(invocation -> testResultCache.uncached(OWNER, response(20)));
+
+        ResponseEntity<TestResultResponse> partial = controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), null);
+
+        assertThat(partial.getHeaders().getCacheControl()).contains("no-cache").doesNotContain("immutable");
+        assertThat(testResultCache.get(LOAD_TEST_ID, OWNER)).isEmpty();
+
+        // 결과가 바뀌면 이전 ETag 로 재검증해도 새 본문을 받음
+        ResponseEntity<TestResultResponse> updated =
+                controller.getLoadTestResult(LOAD_TEST_ID, jwt(OWNER), partial.getHeaders().getETag());
+
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody().getTotalRequests()).isEqualTo(20);
+        assertThat(updated.getHeaders().getETag()).isNotEqualTo(partial.getHeaders().getETag());
+    }
+
+    @Test
+    void cachedResultIsNotServedToAnotherUser() {
+        testResultCache.put(LOAD_TEST_ID, OWNER, response(1000));
+        User other = new User();
+        other.setKeycloakId("other");
+        when(userService.findByKeycloakId("other")).thenReturn(other);
+        when(loadTestService.getCacheableTestResult(LOAD_TEST_ID, other))
+                .thenThrow(new ResourceNotFoundException("Load test not found"));
+
+        // 소유자 확인은 일반 조회 경로에서 이루어짐
+        assertThatThrownBy(() -> controller.getLoadTestResult(LOAD_TEST_ID, jwt("other"), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(loadTestService).getCacheableTestResult(LOAD_TEST_ID, other);
+    }
+
+    private static TestResultResponse response(long totalRequests) {
+        TestResultResponse response = new TestResultResponse();
+        response.setId(1L);
+        response.setLoadTestId(LOAD_TEST_ID);
+        response.setTotalRequests(totalRequests);
+        return response;
+    }
+
+    private static Jwt jwt(String subject) {
+        return Jwt.withTokenValue("token").header("alg", "none").subject(subject).build();
+    }
+}
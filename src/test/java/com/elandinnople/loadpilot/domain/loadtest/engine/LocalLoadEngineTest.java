@@ -0,0 +1,107 @@
+package com.elandinnople.loadpilot.domain.loadtest.engine;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.service.LiveMetricsService;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultIngestionPipeline;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalLoadEngineTest {
+
+    private HttpServer server;
+    private TestResultIngestionPipeline ingestionPipeline;
+    private LiveMetricsService liveMetricsService;
+    private LocalLoadEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        ingestionPipeline = mock(TestResultIngestionPipeline.class);
+        when(ingestionPipeline.submit(any())).thenReturn(true);
+        liveMetricsService = mock(LiveMetricsService.class);
+        engine = new LocalLoadEngine(ingestionPipeline, liveMetricsService, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+        server.stop(0);
+    }
+
+    @Test
+    void completedRunSubmitsTheResultAndStreamsTheSameRequestsAsIntervals() throws InterruptedException {
+        String taskId = engine.start(request(2));
+
+        assertThat(awaitOutcome(taskId)).isEqualTo(TaskStatus.COMPLETED);
+        ArgumentCaptor<TestResultProcessRequest> result = ArgumentCaptor.forClass(TestResultProcessRequest.class);
+        verify(ingestionPipeline).submit(result.capture());
+        ArgumentCaptor<MetricFrame> frames = ArgumentCaptor.forClass(MetricFrame.class);
+        verify(liveMetricsService, atLeastOnce()).accept(frames.capture());
+
+        // 구간 증분의 합이 최종 결과와 같아야 함
+        long streamed = frames.getAllValues().stream().mapToLong(MetricFrame::getRequests).sum();
+        assertThat(result.getValue().getTotalRequests()).isPositive().isEqualTo(streamed);
+        assertThat(frames.getAllValues()).allSatisfy(frame -> {
+            assertThat(frame.getLoadTestId()).isEqualTo(1L);
+            assertThat(frame.getContainerIndex()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    void cancelledRunIsReportedFailedWithoutSubmittingAResult() throws InterruptedException {
+        String taskId = engine.start(request(60));
+        Thread.sleep(300);
+
+        engine.cancel(taskId);
+
+        assertThat(awaitOutcome(taskId)).isEqualTo(TaskStatus.FAILED);
+        verify(ingestionPipeline, never()).submit(any());
+    }
+
+    private LoadTestRequest request(int durationSeconds) {
+        LoadTestRequest request = new LoadTestRequest();
+        request.setTestId(1L);
+        request.setContainerIndex(0);
+        request.setTotalContainers(1);
+        request.setTargetUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        request.setTestType(TestType.SMOKE);
+        request.setVirtualUsers(2);
+        request.setDurationSeconds(durationSeconds);
+        return request;
+    }
+
+    private TaskStatus awaitOutcome(String taskId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            TaskStatus status = engine.getStatus(taskId);
+            if (status != TaskStatus.RUNNING) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("로컬 실행이 끝나지 않음: " + taskId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadExecutorResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadExecutorRegistryTest {
+
+    private final LoadExecutor ecs = executor(ExecutorType.ECS, true, new ExecutorCapacity(100, 4, 3));
+    private final LoadExecutor localK6 = executor(ExecutorType.LOCAL_K6, false, new ExecutorCapacity(4, 4, 0));
+
+    @Test
+    void defaultExecutorFollowsConfigurationThenLocalImplementationFlag() {
+        assertThat(registry("ECS", false).getDefaultType()).isEqualTo(ExecutorType.ECS);
+        assertThat(registry("", true).getDefaultType()).isEqualTo(ExecutorType.IN_PROCESS);
+        assertThat(registry(null, false).getDefaultType()).isEqualTo(ExecutorType.LAMBDA_ECS);
+    }
+
+    @Test
+    void selectUsesTheDefaultAndRejectsUnavailableOrUnregisteredExecutors() {
+        LoadExecutorRegistry registry = registry("ECS", false);
+
+        assertThat(registry.select(null)).isSameAs(ecs);
+        assertThatThrownBy(() -> registry.select(ExecutorType.LOCAL_K6))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available");
+        assertThatThrownBy(() -> registry.get(ExecutorType.IN_PROCESS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not registered");
+    }
+
+    @Test
+    void describeReportsCapacityAndMeasuredLaunchLatency() {
+        LoadExecutorRegistry registry = registry("ECS", false);
+        registry.getLaunchTimer(ExecutorType.ECS).record(Duration.ofMillis(200));
+        registry.getLaunchTimer(ExecutorType.ECS).record(Duration.ofMillis(400));
+
+        List<LoadExecutorResponse> responses = registry.describe();
+
+        LoadExecutorResponse ecsResponse = responses.stream()
+                .filter(response -> response.getType() == ExecutorType.ECS).findFirst().orElseThrow();
+        assertThat(ecsResponse.isDefaultExecutor()).isTrue();
+        assertThat(ecsResponse.getMaxContainersPerTest()).isEqualTo(100);
+        assertThat(ecsResponse.getRunningTasks()).isEqualTo(3);
+        assertThat(ecsResponse.getLaunches()).isEqualTo(2);
+        assertThat(ecsResponse.getAvgLaunchLatencyMs()).isEqualTo(300.0);
+        // 동시 실행 4개, 평균 300ms
+        assertThat(ecsResponse.getLaunchesPerSecond()).isCloseTo(13.33, offset(0.01));
+
+        // 실행 이력이 없으면 지연 추정치를 비워 둠
+        LoadExecutorResponse k6Response = responses.stream()
+                .filter(response -> response.getType() == ExecutorType.LOCAL_K6).findFirst().orElseThrow();
+        assertThat(k6Response.isAvailable()).isFalse();
+        assertThat(k6Response.getLaunches()).isZero();
+        assertThat(k6Response.getAvgLaunchLatencyMs()).isNull();
+        assertThat(k6Response.getLaunchesPerSecond()).isNull();
+    }
+
+    private LoadExecutorRegistry registry(String defaultType, boolean useLocalImplementation) {
+        return new LoadExecutorRegistry(List.of(ecs, localK6), new SimpleMeterRegistry(),
+                defaultType, useLocalImplementation);
+    }
+
+    private static LoadExecutor executor(ExecutorType type, boolean available, ExecutorCapacity capacity) {
+        LoadExecutor executor = mock(LoadExecutor.class);
+        when(executor.getType()).thenReturn(type);
+        when(executor.isAvailable()).thenReturn(available);
+        when(executor.getCapacity()).thenReturn(capacity);
+        return executor;
+    }
+}
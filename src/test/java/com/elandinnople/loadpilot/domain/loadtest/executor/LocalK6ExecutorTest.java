@@ -0,0 +1,142 @@
+package com.elandinnople.loadpilot.domain.loadtest.executor;
+
+import com.elandinnople.loadpilot.common.util.K6ScriptGenerator;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.service.TestResultIngestionPipeline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * k6 대신 JSON 출력을 쓰고 종료하는 셸 스크립트로 로컬 k6 실행기를 확인합니다.
+ */
+@DisabledOnOs(OS.WINDOWS)
+class LocalK6ExecutorTest {
+
+    @TempDir
+    Path binDir;
+
+    private final TestResultIngestionPipeline ingestionPipeline = mock(TestResultIngestionPipeline.class);
+
+    @Test
+    void finishedProcessIsSummarisedFromItsJsonOutput() throws Exception {
+        // k6 run --quiet --out json=<파일> <스크립트>
+        LocalK6Executor executor = executor(fakeK6("""
+                out="${4#json=}"
+                echo '{"type":"Point","metric":"http_reqs","data":{"value":1}}' >> "$out"
+                echo '{"type":"Point","metric":"http_reqs","data":{"value":1}}' >> "$out"
+                echo '{"type":"Point","metric":"http_req_failed","data":{"value":1}}' >> "$out"
+                echo '{"type":"Point","metric":"http_req_duration","data":{"value":10}}' >> "$out"
+                echo '{"type":"Point","metric":"http_req_duration","data":{"value":30}}' >> "$out"
+                echo '{"type":"Point","metric":"dropped_iterations","data":{"value":3}}' >> "$out"
+                echo '{"type":"Metric","metric":"http_reqs","data":{}}' >> "$out"
+                exit 99
+                """), 2);
+        when(ingestionPipeline.submit(any())).thenReturn(true);
+
+        String taskId = executor.launch(request(3), 0);
+
+        ArgumentCaptor<TestResultProcessRequest> captor = ArgumentCaptor.forClass(TestResultProcessRequest.class);
+        verify(ingestionPipeline, timeout(10_000)).submit(captor.capture());
+        TestResultProcessRequest result = captor.getValue();
+        assertThat(taskId).isEqualTo(LocalK6Executor.TASK_ID_PREFIX + "7:3");
+        assertThat(result.getLoadTestId()).isEqualTo(7L);
+        assertThat(result.getContainerIndex()).isEqualTo(3);
+        assertThat(result.getTotalRequests()).isEqualTo(2);
+        assertThat(result.getFailedRequests()).isEqualTo(1);
+        assertThat(result.getSuccessfulRequests()).isEqualTo(1);
+        assertThat(result.getAvgResponseTimeMs()).isEqualTo(20.0);
+        assertThat(result.getDroppedIterations()).isEqualTo(3);
+        assertThat(result.getLatencyHistogram()).isNotEmpty();
+        assertThat(awaitOutcome(executor, taskId)).isEqualTo(TaskStatus.COMPLETED);
+        // 결과 상태는 한 번만 반환되고 이후에는 알 수 없는 태스크로 취급
+        assertThat(executor.getTaskStatuses(List.of(taskId))).containsEntry(taskId, TaskStatus.FAILED);
+    }
+
+    @Test
+    void abnormalExitIsReportedFailedWithoutSubmitting() throws Exception {
+        LocalK6Executor executor = executor(fakeK6("exit 107"), 2);
+
+        String taskId = executor.launch(request(0), 0);
+
+        assertThat(awaitOutcome(executor, taskId)).isEqualTo(TaskStatus.FAILED);
+        verify(ingestionPipeline, never()).submit(any());
+    }
+
+    @Test
+    void launchesAreLimitedToMaxProcesses() throws Exception {
+        LocalK6Executor executor = executor(fakeK6("sleep 30"), 1);
+
+        String taskId = executor.launch(request(0), 0);
+        assertThat(executor.getCapacity().getRunningTasks()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.launch(request(1), 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("limit");
+
+        executor.stop(taskId, "test");
+        assertThat(awaitOutcome(executor, taskId)).isEqualTo(TaskStatus.FAILED);
+    }
+
+    @Test
+    void availabilityChecksTheBinaryVersion() throws Exception {
+        assertThat(executor(fakeK6("exit 0"), 1).isAvailable()).isTrue();
+        assertThat(executor(fakeK6("exit 1"), 1).isAvailable()).isFalse();
+        assertThat(executor(binDir.resolve("missing").toString(), 1).isAvailable()).isFalse();
+    }
+
+    private LocalK6Executor executor(String binary, int maxProcesses) {
+        return new LocalK6Executor(ingestionPipeline, new K6ScriptGenerator(), new ObjectMapper(), binary, maxProcesses);
+    }
+
+    private String fakeK6(String body) throws IOException {
+        Path script = Files.createTempFile(binDir, "k6-", ".sh");
+        Files.writeString(script, "#!/bin/sh\n" + body + "\n");
+        script.toFile().setExecutable(true);
+        return script.toString();
+    }
+
+    // 프로세스가 끝나 실행 중 상태가 아닐 때까지 대기
+    private static TaskStatus awaitOutcome(LocalK6Executor executor, String taskId) throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            Map<String, TaskStatus> statuses = executor.getTaskStatuses(List.of(taskId));
+            if (statuses.get(taskId) != TaskStatus.RUNNING) {
+                return statuses.get(taskId);
+            }
+            Thread.sleep(50);
+        }
+        return TaskStatus.RUNNING;
+    }
+
+    private static LoadTestRequest request(int containerIndex) {
+        LoadTestRequest request = new LoadTestRequest();
+        request.setTestId(7L);
+        request.setContainerIndex(containerIndex);
+        request.setTotalContainers(4);
+        request.setTargetUrl("http://target");
+        request.setTestType(TestType.LOAD);
+        request.setVirtualUsers(5);
+        request.setDurationSeconds(10);
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbortRuleTest {
+
+    @Test
+    void checkReportsErrorRateBeforeLatency() {
+        AbortRule rule = new AbortRule(500.0, 0.05, 3, 10);
+
+        assertThat(rule.check(400, 0.01)).isNull();
+        assertThat(rule.check(500, 0.05)).isNull();
+        assertThat(rule.check(800, 0.01)).isEqualTo("p95 800.0ms > 500.0ms");
+        assertThat(rule.check(800, 0.2)).isEqualTo("error rate 0.200 > 0.050");
+    }
+
+    @Test
+    void unsetThresholdIsNeverBreached() {
+        AbortRule latencyOnly = new AbortRule(100.0, null, 1, 1);
+
+        assertThat(latencyOnly.check(50, 1.0)).isNull();
+        assertThat(new AbortRule(null, 0.1, 1, 1).check(10_000, 0.0)).isNull();
+    }
+
+    @Test
+    void ruleIsBuiltOnlyWhenTestHasThreshold() {
+        LoadTest loadTest = new LoadTest();
+        assertThat(AbortRule.of(loadTest, 10, 20)).isNull();
+
+        loadTest.setAbortErrorRate(0.1);
+        AbortRule defaults = AbortRule.of(loadTest, 10, 20);
+        assertThat(defaults.getBreachSeconds()).isEqualTo(10);
+        assertThat(defaults.getMinRequests()).isEqualTo(20);
+
+        loadTest.setAbortBreachSeconds(0);
+        assertThat(AbortRule.of(loadTest, 10, 0).getBreachSeconds()).isEqualTo(1);
+        assertThat(AbortRule.of(loadTest, 10, 0).getMinRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void abortsAfterConsecutiveBreachedIntervals() {
+        Intervals intervals = new Intervals(new AbortRule(100.0, null, 3, 10));
+
+        intervals.next(50, 0, 200);
+        intervals.next(300, 0, 200);
+        intervals.next(300, 0, 200);
+        assertThat(intervals.accumulator.getAbortReason()).isNull();
+
+        intervals.next(300, 0, 200);
+        assertThat(intervals.accumulator.getAbortReason()).startsWith("p95").endsWith("for 3s");
+    }
+
+    @Test
+    void healthyIntervalResetsStreakButLowVolumeIntervalDoesNot() {
+        Intervals intervals = new Intervals(new AbortRule(null, 0.1, 3, 100));
+
+        intervals.next(10, 50, 200);
+        intervals.next(10, 50, 200);
+        intervals.next(10, 0, 200);
+        intervals.next(10, 50, 200);
+        intervals.next(10, 50, 200);
+        assertThat(intervals.accumulator.getAbortReason()).isNull();
+
+        // 요청 수가 최소치 미만인 구간은 판단에서 제외 (연속 위반을 끊지도 않음)
+        intervals.next(10, 0, 5);
+        intervals.next(10, 50, 200);
+        assertThat(intervals.accumulator.getAbortReason()).startsWith("error rate 0.250");
+    }
+
+    @Test
+    void firstBreachReasonIsKept() {
+        Intervals intervals = new Intervals(new AbortRule(100.0, 0.5, 1, 1));
+
+        intervals.next(300, 0, 10);
+        intervals.next(10, 10, 10);
+
+        assertThat(intervals.accumulator.getAbortReason()).startsWith("p95");
+    }
+
+    /**
+     * 1초 간격 스냅샷을 차례로 만드는 도우미
+     */
+    private static final class Intervals {
+
+        private final TestMetricsAccumulator accumulator = new TestMetricsAccumulator(1L);
+        private final MetricFrame interval = new MetricFrame();
+        private long now = System.currentTimeMillis();
+
+        private Intervals(AbortRule rule) {
+            accumulator.setAbortRule(rule);
+        }
+
+        private void next(double latencyMs, long failed, long requests) {
+            MetricFrame frame = new MetricFrame();
+            frame.setRequests(requests);
+            frame.setFailedRequests(failed);
+            frame.addBucket(LatencyHistogram.bucketIndex(latencyMs), requests);
+            accumulator.apply(frame);
+            now += 1000;
+            accumulator.takeSnapshot(now, interval);
+        }
+    }
+}
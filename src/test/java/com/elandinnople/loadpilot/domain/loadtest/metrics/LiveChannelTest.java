@@ -0,0 +1,112 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveChannelTest {
+
+    @Test
+    void newSubscriberGetsStatusAndBufferedSnapshotsBeforeLiveEvents() {
+        LiveChannel channel = new LiveChannel(3, Runnable::run);
+        channel.initStatus("{\"status\":\"RUNNING\"}");
+        for (int second = 1; second <= 4; second++) {
+            channel.publishMetrics("{\"second\":" + second + "}");
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        channel.subscribe(emitter);
+        channel.publishMetrics("{\"second\":5}");
+
+        // 링 버퍼 크기(3)만큼 최근 스냅샷이 오래된 순서로 전송됨
+        assertThat(emitter.events).containsExactly(
+                "status {\"status\":\"RUNNING\"}",
+                "metrics {\"second\":2}",
+                "metrics {\"second\":3}",
+                "metrics {\"second\":4}",
+                "metrics {\"second\":5}");
+    }
+
+    @Test
+    void subscriberThatFallsBehindByTheBufferSizeIsDropped() {
+        // 전송 작업을 실행하지 않는 실행기: 발행은 막히지 않고 구독자 큐만 쌓임
+        List<Runnable> queuedSends = new ArrayList<>();
+        LiveChannel channel = new LiveChannel(3, queuedSends::add);
+        RecordingEmitter slow = new RecordingEmitter();
+        channel.subscribe(slow);
+
+        for (int second = 1; second <= 4; second++) {
+            channel.publishMetrics("{\"second\":" + second + "}");
+        }
+
+        assertThat(channel.getSubscriberCount()).isZero();
+        assertThat(slow.completed).isTrue();
+        assertThat(queuedSends).hasSize(1);
+    }
+
+    @Test
+    void disconnectedSubscriberIsRemovedAndOthersKeepReceiving() {
+        LiveChannel channel = new LiveChannel(3, Runnable::run);
+        RecordingEmitter disconnected = new RecordingEmitter();
+        RecordingEmitter connected = new RecordingEmitter();
+        channel.subscribe(disconnected);
+        channel.subscribe(connected);
+        disconnected.failSends = true;
+
+        channel.publishMetrics("{\"second\":1}");
+        channel.publishMetrics("{\"second\":2}");
+
+        assertThat(channel.getSubscriberCount()).isEqualTo(1);
+        assertThat(connected.events).containsExactly("metrics {\"second\":1}", "metrics {\"second\":2}");
+    }
+
+    @Test
+    void completeSendsPendingEventsBeforeClosing() {
+        List<Runnable> queuedSends = new ArrayList<>();
+        Executor manual = queuedSends::add;
+        LiveChannel channel = new LiveChannel(10, manual);
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.subscribe(emitter);
+
+        channel.publishStatus("{\"status\":\"COMPLETED\"}");
+        channel.complete();
+        queuedSends.forEach(Runnable::run);
+
+        assertThat(emitter.events).containsExactly("status {\"status\":\"COMPLETED\"}");
+        assertThat(emitter.completed).isTrue();
+        assertThat(channel.getSubscriberCount()).isZero();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+        private boolean failSends;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failSends) {
+                throw new IOException("Broken pipe");
+            }
+            // "event:<이름>\ndata:" + JSON + "\n\n" 형태를 "<이름> <JSON>" 으로 기록
+            String raw = builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            String name = raw.substring("event:".length(), raw.indexOf('\n'));
+            String data = raw.substring(raw.indexOf("data:") + "data:".length()).trim();
+            events.add(name + " " + data);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricFrameReaderTest {
+
+    private final MetricFrameReader reader = new MetricFrameReader(new JsonFactory());
+
+    @Test
+    void readsNdjsonFramesWithHistogramAndErrors() throws IOException {
+        String body = """
+                {"loadTestId":7,"containerIndex":2,"timestamp":1000,"intervalMs":1000,"requests":10,"failedRequests":1,\
+                "latencyHistogram":{"120":9,"180":1},"errors":{"500":1},"unknown":{"nested":[1,2]}}
+                {"loadTestId":7,"containerIndex":3,"requests":5,"failedRequests":null}
+                """;
+        List<String> frames = new ArrayList<>();
+
+        int count = reader.read(stream(body), frame -> frames.add(describe(frame)));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(frames).containsExactly(
+                "7/2@1000+1000 10/1 [120=9,180=1] {500=1}",
+                "7/3@0+0 5/0 [] {}");
+    }
+
+    @Test
+    void readsJsonArrayOfFrames() throws IOException {
+        String body = "[{\"loadTestId\":1,\"requests\":3},{\"loadTestId\":1,\"requests\":4}]";
+        long[] requests = {0};
+
+        assertThat(reader.read(stream(body), frame -> requests[0] += frame.getRequests())).isEqualTo(2);
+        assertThat(requests[0]).isEqualTo(7);
+    }
+
+    @Test
+    void rejectsNonObjectContent() {
+        assertThatThrownBy(() -> reader.read(stream("{\"requests\":1} 42"), frame -> {
+        })).isInstanceOf(IOException.class);
+    }
+
+    // 프레임은 재사용되므로 콜백 안에서 값을 문자열로 복사
+    private static String describe(MetricFrame frame) {
+        StringBuilder builder = new StringBuilder()
+                .append(frame.getLoadTestId()).append('/').append(frame.getContainerIndex())
+                .append('@').append(frame.getTimestamp()).append('+').append(frame.getIntervalMs())
+                .append(' ').append(frame.getRequests()).append('/').append(frame.getFailedRequests())
+                .append(" [");
+        for (int i = 0; i < frame.getBucketSize(); i++) {
+            builder.append(i > 0 ? "," : "").append(frame.getBucketIndexes()[i]).append('=')
+                    .append(frame.getBucketCounts()[i]);
+        }
+        builder.append("] {");
+        for (int i = 0; i < frame.getErrorSize(); i++) {
+            builder.append(i > 0 ? "," : "").append(frame.getErrorKeys()[i]).append('=')
+                    .append(frame.getErrorCounts()[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,143 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricSeriesWriterReaderTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void framesRoundTripAcrossBlocks() throws IOException {
+        Path file = dir.resolve("series.lpts");
+        int frameCount = 3000;
+        try (MetricSeriesWriter writer = MetricSeriesWriter.create(file, 1000)) {
+            for (int i = 0; i < frameCount; i++) {
+                writer.append(frame(START + i * 1000L, 100 + i % 7, i % 3, 5 + i % 50, i % 10 == 0 ? "503" : null));
+            }
+        }
+
+        MetricSeriesReader reader = MetricSeriesReader.open(file);
+        List<long[]> read = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int count = reader.read(Long.MIN_VALUE, Long.MAX_VALUE, frame -> {
+            read.add(new long[]{frame.getTimestamp(), frame.getRequests(), frame.getFailedRequests(),
+                    frame.getBucketIndexes()[0], frame.getBucketCounts()[0], frame.getIntervalMs()});
+            if (frame.getErrorSize() > 0) {
+                errors.add(frame.getErrorKeys()[0] + "=" + frame.getErrorCounts()[0]);
+            }
+        });
+
+        assertThat(count).isEqualTo(frameCount);
+        assertThat(reader.getFirstTimestamp()).isEqualTo(START);
+        assertThat(reader.getLastTimestamp()).isEqualTo(START + (frameCount - 1) * 1000L);
+        for (int i = 0; i < frameCount; i++) {
+            assertThat(read.get(i)).containsExactly(START + i * 1000L, 100 + i % 7, i % 3,
+                    LatencyHistogram.bucketIndex(5 + i % 50), 100 + i % 7, 1000);
+        }
+        assertThat(errors).hasSize(frameCount / 10).allMatch(error -> error.startsWith("503="));
+    }
+
+    @Test
+    void rangeReadReturnsOnlyFramesStartingInsideRange() throws IOException {
+        Path file = writeSeries(120, 1000);
+
+        List<Long> timestamps = new ArrayList<>();
+        MetricSeriesReader.open(file).read(START + 10_000, START + 15_000, frame -> timestamps.add(frame.getTimestamp()));
+
+        assertThat(timestamps).containsExactly(START + 10_000, START + 11_000, START + 12_000, START + 13_000,
+                START + 14_000);
+    }
+
+    @Test
+    void rollupSectionsMatchSumsOfRawFrames() throws IOException {
+        Path file = writeSeries(125, 1000, 10_000, 60_000);
+        MetricSeriesReader reader = MetricSeriesReader.open(file);
+
+        assertThat(reader.getResolutionsMs()).containsExactly(1000, 10_000, 60_000);
+        assertThat(reader.coarsestResolutionAtMost(30_000)).isEqualTo(10_000);
+        assertThat(reader.coarsestResolutionAtMost(500)).isEqualTo(1000);
+
+        List<long[]> rollup = new ArrayList<>();
+        reader.read(10_000, Long.MIN_VALUE, Long.MAX_VALUE, frame -> rollup.add(new long[]{
+                frame.getTimestamp(), frame.getRequests(), frame.getIntervalMs(), histogramOf(frame).getTotalCount()}));
+
+        // 마지막 구간은 5개 프레임만 포함
+        assertThat(rollup).hasSize(13);
+        for (int window = 0; window < rollup.size(); window++) {
+            long expectedRequests = 0;
+            for (int i = window * 10; i < Math.min(window * 10 + 10, 125); i++) {
+                expectedRequests += 100 + i;
+            }
+            long[] point = rollup.get(window);
+            assertThat(point[0]).isEqualTo(START + window * 10_000L);
+            assertThat(point[1]).isEqualTo(expectedRequests);
+            assertThat(point[3]).isEqualTo(expectedRequests);
+        }
+        assertThat(rollup.get(12)[2]).isEqualTo(5000);
+    }
+
+    @Test
+    void unclosedFileCannotBeOpened() throws IOException {
+        Path file = dir.resolve("open.lpts");
+        MetricSeriesWriter writer = MetricSeriesWriter.create(file, 1000);
+        writer.append(frame(START, 1, 0, 1, null));
+
+        assertThatThrownBy(() -> MetricSeriesReader.open(file)).isInstanceOf(IOException.class);
+        writer.close();
+        assertThat(MetricSeriesReader.open(file).read(Long.MIN_VALUE, Long.MAX_VALUE, frame -> { })).isEqualTo(1);
+    }
+
+    @Test
+    void appendAfterCloseIsRejected() throws IOException {
+        MetricSeriesWriter writer = MetricSeriesWriter.create(dir.resolve("closed.lpts"), 1000);
+        writer.close();
+
+        assertThatThrownBy(() -> writer.append(frame(START, 1, 0, 1, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // i 번째 프레임은 100 + i 건의 요청
+    private Path writeSeries(int frameCount, int resolutionMs, int... rollupResolutionsMs) throws IOException {
+        Path file = dir.resolve("series-" + frameCount + ".lpts");
+        try (MetricSeriesWriter writer = MetricSeriesWriter.create(file, resolutionMs, rollupResolutionsMs)) {
+            for (int i = 0; i < frameCount; i++) {
+                writer.append(frame(START + i * 1000L, 100 + i, 0, 10 + i, null));
+            }
+        }
+        return file;
+    }
+
+    private static LatencyHistogram histogramOf(MetricFrame frame) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < frame.getBucketSize(); i++) {
+            histogram.addToBucket(frame.getBucketIndexes()[i], frame.getBucketCounts()[i]);
+        }
+        return histogram;
+    }
+
+    static MetricFrame frame(long timestamp, long requests, long failed, double latencyMs, String errorKey) {
+        MetricFrame frame = new MetricFrame();
+        frame.setTimestamp(timestamp);
+        frame.setIntervalMs(1000);
+        frame.setRequests(requests);
+        frame.setFailedRequests(failed);
+        frame.addBucket(LatencyHistogram.bucketIndex(latencyMs), requests);
+        if (errorKey != null) {
+            frame.addError(errorKey, Math.max(1, failed));
+        }
+        return frame;
+    }
+}
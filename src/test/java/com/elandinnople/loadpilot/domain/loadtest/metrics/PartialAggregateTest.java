@@ -0,0 +1,84 @@
+package com.elandinnople.loadpilot.domain.loadtest.metrics;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PartialAggregateTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void groupedMergeMatchesFlatMerge() {
+        List<PartialAggregate> leaves = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            leaves.add(leaf(i + 1, 100L * (i + 1), 10.0 * (i + 1), i));
+        }
+
+        PartialAggregate flat = PartialAggregate.mergeAll(leaves);
+        // 그룹 크기 3 으로 나눈 트리 병합
+        List<PartialAggregate> groups = new ArrayList<>();
+        for (int from = 0; from < leaves.size(); from += 3) {
+            groups.add(PartialAggregate.mergeAll(leaves.subList(from, Math.min(from + 3, leaves.size()))));
+        }
+        PartialAggregate tree = PartialAggregate.mergeAll(groups);
+
+        assertThat(tree.getContainerCount()).isEqualTo(flat.getContainerCount()).isEqualTo(10);
+        assertThat(tree.getTotalRequests()).isEqualTo(flat.getTotalRequests()).isEqualTo(5500);
+        assertThat(tree.getFailedRequests()).isEqualTo(flat.getFailedRequests());
+        assertThat(tree.getAvgResponseTimeMs()).isCloseTo(flat.getAvgResponseTimeMs(), within(1e-9));
+        assertThat(tree.getLastResultId()).isEqualTo(10);
+        assertThat(tree.getStartTime()).isEqualTo(BASE);
+        assertThat(tree.getEndTime()).isEqualTo(BASE.plusMinutes(10));
+        assertThat(tree.getMergedHistogram().getValueAtPercentile(99))
+                .isEqualTo(flat.getMergedHistogram().getValueAtPercentile(99));
+    }
+
+    @Test
+    void averageIsWeightedByRequestCount() {
+        PartialAggregate merged = leaf(1, 900L, 10.0, 0).merge(leaf(2, 100L, 110.0, 1));
+
+        assertThat(merged.getAvgResponseTimeMs()).isCloseTo(20.0, within(1e-9));
+        assertThat(merged.getMinResponseTimeMs()).isEqualTo(1.0);
+        assertThat(merged.getMaxResponseTimeMs()).isEqualTo(220.0);
+        assertThat(merged.getRequestsPerSecond()).isCloseTo(1000 / 60.0, within(1e-9));
+    }
+
+    @Test
+    void missingHistogramDisablesMergedPercentiles() {
+        PartialAggregate withoutHistogram = new PartialAggregate(2L, 10L, 10L, 0L, 5.0, 8.0, 9.0, 10.0, 1.0,
+                1.0, 0L, BASE, BASE.plusMinutes(1), null, null, null, null);
+
+        PartialAggregate merged = leaf(1, 100L, 5.0, 0).merge(withoutHistogram);
+
+        assertThat(merged.getMergedHistogram()).isNull();
+        assertThat(merged.getMergedCorrectedHistogram()).isNull();
+        assertThat(merged.getMaxP99ResponseTimeMs()).isEqualTo(9.0);
+    }
+
+    @Test
+    void emptyAggregateReportsZeroes() {
+        PartialAggregate empty = PartialAggregate.mergeAll(List.of());
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.getAvgResponseTimeMs()).isZero();
+        assertThat(empty.getMinResponseTimeMs()).isZero();
+        assertThat(empty.getMergedHistogram()).isNull();
+    }
+
+    // 응답 시간이 avg 로 일정한 컨테이너 결과 (1분 동안 실행)
+    private static PartialAggregate leaf(long id, long requests, double avg, int startOffsetMinutes) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(avg, requests);
+        return new PartialAggregate(id, requests, requests - 1, 1L, avg, avg, avg, avg * 2, avg / 10,
+                requests / 60.0, 0L, BASE.plusMinutes(startOffsetMinutes),
+                BASE.plusMinutes(startOffsetMinutes + 1), histogram.encode(),
+                avg, avg, histogram.encode());
+    }
+}
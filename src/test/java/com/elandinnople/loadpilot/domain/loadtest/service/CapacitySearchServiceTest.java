@@ -0,0 +1,214 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.entity.CapacitySearchStep;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CapacitySearchServiceTest {
+
+    private static final int MAX_STEPS = 10;
+    private static final double RESOLUTION = 0.05;
+
+    private static final long LOAD_TEST_ID = 1L;
+    private static final int FIRST_CONTAINER_INDEX = 4;
+
+    private final TestResultRepository testResultRepository = mock(TestResultRepository.class);
+    private final LiveMetricsService liveMetricsService = mock(LiveMetricsService.class);
+    private final CapacitySearchService service = new CapacitySearchService(
+            null, null, testResultRepository, null, null, null, liveMetricsService, null, null, null,
+            MAX_STEPS, RESOLUTION, 0.95, 60, 5, 100);
+
+    @Test
+    void firstStepRunsAtMinRps() {
+        assertThat(service.nextRps(loadTest(100, 1000), List.of())).isEqualTo(100);
+    }
+
+    @Test
+    void runsTargetRpsNextAndStopsWhenItIsSustainable() {
+        LoadTest loadTest = loadTest(100, 1000);
+        List<CapacitySearchStep> steps = new ArrayList<>();
+        steps.add(step(100, true));
+
+        assertThat(service.nextRps(loadTest, steps)).isEqualTo(1000);
+
+        steps.add(step(1000, true));
+        assertThat(service.nextRps(loadTest, steps)).isNull();
+    }
+
+    @Test
+    void stopsWhenSloIsBreachedAtMinRps() {
+        assertThat(service.nextRps(loadTest(100, 1000), List.of(step(100, false)))).isNull();
+    }
+
+    @Test
+    void bisectsTowardCapacityAndStopsWithinResolution() {
+        int capacity = 730;
+        LoadTest loadTest = loadTest(100, 1000);
+        List<CapacitySearchStep> steps = runSearch(loadTest, capacity);
+
+        assertThat(steps).hasSizeLessThanOrEqualTo(MAX_STEPS);
+        assertThat(steps).extracting(CapacitySearchStep::getTargetRps)
+                .startsWith(100, 1000, 550)
+                .doesNotHaveDuplicates();
+
+        int sustainable = steps.stream().filter(CapacitySearchStep::getSustainable)
+                .mapToInt(CapacitySearchStep::getTargetRps).max().orElseThrow();
+        int saturated = steps.stream().filter(step -> !step.getSustainable())
+                .mapToInt(CapacitySearchStep::getTargetRps).min().orElseThrow();
+        assertThat(sustainable).isLessThanOrEqualTo(capacity);
+        assertThat(saturated).isGreaterThan(capacity);
+        assertThat(saturated - sustainable).isLessThanOrEqualTo((int) Math.ceil(saturated * RESOLUTION));
+    }
+
+    @Test
+    void ignoresSustainableStepsAboveTheLowestBreach() {
+        // 측정 잡음으로 위반한 요청률보다 높은 단계가 지속 가능으로 나와도 간격은 위반 지점 아래에서 계산
+        LoadTest loadTest = loadTest(100, 1000);
+        List<CapacitySearchStep> steps = List.of(step(100, true), step(1000, false), step(550, false), step(600, true));
+
+        assertThat(service.nextRps(loadTest, steps)).isEqualTo(325);
+    }
+
+    @Test
+    void measuresStepFromTheMergedStoredResultsOfItsContainers() {
+        LoadTest loadTest = stepLoadTest();
+        // 컨테이너 하나는 빠르고 하나는 느림: 컨테이너별 p99 최대값이 아니라 병합 히스토그램의 p99 로 판정
+        storedResults(leaf(1L, 990, 0, 100, 10, 50.0), leaf(2L, 10, 0, 10, 150, 150.0));
+
+        CapacitySearchStep step = service.measureStep(loadTest, 2, 100, FIRST_CONTAINER_INDEX, 10, null);
+
+        assertThat(step.getTotalRequests()).isEqualTo(1000);
+        assertThat(step.getAchievedRps()).isEqualTo(100.0);
+        assertThat(step.getP99ResponseTimeMs()).isLessThan(loadTest.getSloP99Ms());
+        assertThat(step.getSustainable()).isTrue();
+        assertThat(step.getFirstContainerIndex()).isEqualTo(FIRST_CONTAINER_INDEX);
+    }
+
+    @Test
+    void storedErrorsBreachTheSlo() {
+        storedResults(leaf(1L, 500, 50, 100, 10, 20.0), leaf(2L, 500, 0, 100, 10, 20.0));
+
+        CapacitySearchStep step = service.measureStep(stepLoadTest(), 2, 100, FIRST_CONTAINER_INDEX, 10, null);
+
+        assertThat(step.getErrorRate()).isEqualTo(0.05);
+        assertThat(step.getSustainable()).isFalse();
+        assertThat(step.getBreachReason()).startsWith("error rate");
+    }
+
+    @Test
+    void stepWithMissingContainerResultsIsNotSustainable() {
+        storedResults(leaf(1L, 1000, 0, 100, 10, 20.0));
+
+        CapacitySearchStep step = service.measureStep(stepLoadTest(), 2, 100, FIRST_CONTAINER_INDEX, 10, null);
+
+        assertThat(step.getSustainable()).isFalse();
+        assertThat(step.getBreachReason()).isEqualTo("results from 1 of 2 containers");
+    }
+
+    @Test
+    void liveMetricsStopTheStepOnlyOnAClearBreach() {
+        LoadTest loadTest = stepLoadTest();
+        TestMetricsAccumulator accumulator = new TestMetricsAccumulator(LOAD_TEST_ID);
+        when(liveMetricsService.find(LOAD_TEST_ID)).thenReturn(Optional.of(accumulator));
+
+        // 최소 요청 수 미만이면 오류율이 높아도 판정하지 않음
+        accumulator.apply(frame(FIRST_CONTAINER_INDEX, 50, 25, 20.0));
+        assertThat(service.liveBreach(loadTest, FIRST_CONTAINER_INDEX)).isNull();
+
+        // 다른 단계(이전 컨테이너 범위)의 메트릭은 포함하지 않음
+        accumulator.apply(frame(0, 1000, 1000, 20.0));
+        assertThat(service.liveBreach(loadTest, FIRST_CONTAINER_INDEX)).isNull();
+
+        accumulator.apply(frame(FIRST_CONTAINER_INDEX + 1, 50, 0, 20.0));
+        assertThat(service.liveBreach(loadTest, FIRST_CONTAINER_INDEX)).startsWith("error rate");
+    }
+
+    @Test
+    void earlyStoppedStepWithoutStoredResultsUsesLiveMetrics() {
+        TestMetricsAccumulator accumulator = new TestMetricsAccumulator(LOAD_TEST_ID);
+        accumulator.apply(frame(FIRST_CONTAINER_INDEX, 300, 0, 400.0));
+        when(liveMetricsService.find(LOAD_TEST_ID)).thenReturn(Optional.of(accumulator));
+        storedResults();
+
+        CapacitySearchStep step = service.measureStep(stepLoadTest(), 2, 100, FIRST_CONTAINER_INDEX, 3,
+                "p99 400.0ms > 100.0ms");
+
+        assertThat(step.getTotalRequests()).isEqualTo(300);
+        assertThat(step.getAchievedRps()).isEqualTo(100.0);
+        assertThat(step.getSustainable()).isFalse();
+        assertThat(step.getBreachReason()).isEqualTo("stopped early: p99 400.0ms > 100.0ms");
+    }
+
+    private void storedResults(PartialAggregate... leaves) {
+        when(testResultRepository.findPartialAggregatesByContainerIndexBetween(
+                LOAD_TEST_ID, FIRST_CONTAINER_INDEX, FIRST_CONTAINER_INDEX + 1)).thenReturn(List.of(leaves));
+    }
+
+    // 응답 시간이 모두 latencyMs 인 컨테이너 결과 (p99 는 컨테이너가 보고한 값)
+    private static PartialAggregate leaf(long resultId, long requests, long failed, double rps,
+                                         double latencyMs, double p99Ms) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(latencyMs, requests);
+        return new PartialAggregate(resultId, requests, requests - failed, failed, latencyMs, p99Ms, p99Ms,
+                latencyMs, latencyMs, rps, 0L, null, null, histogram.encode(), null, null, null);
+    }
+
+    private static MetricFrame frame(int containerIndex, long requests, long failed, double latencyMs) {
+        MetricFrame frame = new MetricFrame();
+        frame.setLoadTestId(LOAD_TEST_ID);
+        frame.setContainerIndex(containerIndex);
+        frame.setTimestamp(System.currentTimeMillis());
+        frame.setIntervalMs(1000);
+        frame.setRequests(requests);
+        frame.setFailedRequests(failed);
+        frame.addBucket(LatencyHistogram.bucketIndex(latencyMs), requests);
+        return frame;
+    }
+
+    private static LoadTest stepLoadTest() {
+        LoadTest loadTest = loadTest(10, 1000);
+        loadTest.setId(LOAD_TEST_ID);
+        loadTest.setContainerCount(2);
+        loadTest.setDurationSeconds(10);
+        loadTest.setSloP99Ms(100.0);
+        loadTest.setSloErrorRate(0.01);
+        return loadTest;
+    }
+
+    // 요청률이 capacity 이하일 때만 SLO 를 지키는 대상에 대해 탐색이 끝날 때까지 단계를 진행
+    private List<CapacitySearchStep> runSearch(LoadTest loadTest, int capacity) {
+        List<CapacitySearchStep> steps = new ArrayList<>();
+        Integer rps;
+        while ((rps = service.nextRps(loadTest, steps)) != null && steps.size() < MAX_STEPS) {
+            steps.add(step(rps, rps <= capacity));
+        }
+        return steps;
+    }
+
+    private static LoadTest loadTest(int minRps, int targetRps) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setMinRps(minRps);
+        loadTest.setTargetRps(targetRps);
+        return loadTest;
+    }
+
+    private static CapacitySearchStep step(int targetRps, boolean sustainable) {
+        CapacitySearchStep step = new CapacitySearchStep();
+        step.setTargetRps(targetRps);
+        step.setSustainable(sustainable);
+        return step;
+    }
+}
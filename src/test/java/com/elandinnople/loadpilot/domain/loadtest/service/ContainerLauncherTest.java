@@ -0,0 +1,144 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.executor.ExecutorCapacity;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutor;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerLauncherTest {
+
+    private static final long LOAD_TEST_ID = 5L;
+
+    private final LoadExecutor executor = mock(LoadExecutor.class);
+    private final LoadExecutorRegistry loadExecutorRegistry = mock(LoadExecutorRegistry.class);
+    private ContainerLauncher containerLauncher;
+
+    @BeforeEach
+    void setUp() {
+        when(loadExecutorRegistry.get(ExecutorType.ECS)).thenReturn(executor);
+        when(loadExecutorRegistry.getLaunchTimer(ExecutorType.ECS))
+                .thenReturn(Timer.builder("launch").register(new SimpleMeterRegistry()));
+        when(executor.getCapacity()).thenReturn(new ExecutorCapacity(100, 4, -1));
+        containerLauncher = new ContainerLauncher(loadExecutorRegistry, mock(RunnerPoolService.class),
+                mock(ResultUploadService.class), 20, 30);
+    }
+
+    @Test
+    void returnsTaskIdsInContainerIndexOrder() {
+        when(executor.launch(any(), anyInt()))
+                .thenAnswer(invocation -> "task-" + invocation.<LoadTestRequest>getArgument(0).getContainerIndex());
+
+        List<String> taskIds = containerLauncher.launchAll(LOAD_TEST_ID, ExecutorType.ECS, requests(10));
+
+        assertThat(taskIds).containsExactly("task-0", "task-1", "task-2", "task-3", "task-4", "task-5", "task-6",
+                "task-7", "task-8", "task-9");
+        verify(executor, never()).stopAll(any(), any(), anyString());
+    }
+
+    @Test
+    void assignsWarmRunnersFirstAndLaunchesTheRestCold() {
+        RunnerPoolService runnerPoolService = new RunnerPoolService(mock(EcsService.class), new SimpleMeterRegistry(),
+                true, 0, 20, 20, 60, 180);
+        runnerPoolService.poll("warm-a");
+        runnerPoolService.poll("warm-b");
+        when(executor.supportsRunnerPool()).thenReturn(true);
+        when(executor.launch(any(), anyInt()))
+                .thenAnswer(invocation -> "task-" + invocation.<LoadTestRequest>getArgument(0).getContainerIndex());
+        ContainerLauncher launcher = new ContainerLauncher(loadExecutorRegistry, runnerPoolService,
+                mock(ResultUploadService.class), 20, 30);
+
+        List<String> taskIds = launcher.launchAll(LOAD_TEST_ID, ExecutorType.ECS, requests(4));
+
+        assertThat(taskIds.subList(0, 2)).containsExactlyInAnyOrder("warm-a", "warm-b");
+        assertThat(taskIds.subList(2, 4)).containsExactly("task-2", "task-3");
+        verify(executor, never()).launch(argThat(request -> request.getContainerIndex() < 2), anyInt());
+        assertThat(runnerPoolService.getStats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void failedLaunchStopsEveryStartedTask() {
+        when(executor.launch(any(), anyInt())).thenAnswer(invocation -> {
+            int containerIndex = invocation.<LoadTestRequest>getArgument(0).getContainerIndex();
+            if (containerIndex == 3) {
+                throw new IllegalStateException("capacity exceeded");
+            }
+            return "task-" + containerIndex;
+        });
+
+        assertThatThrownBy(() -> containerLauncher.launchAll(LOAD_TEST_ID, ExecutorType.ECS, requests(8)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("capacity exceeded");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> stopped = ArgumentCaptor.forClass(Collection.class);
+        verify(executor).stopAll(eq(LOAD_TEST_ID), stopped.capture(), anyString());
+        // 실패 이후에 취소된 컨테이너를 제외하고 시작된 태스크는 모두 중지
+        assertThat(stopped.getValue()).isNotEmpty().doesNotContain("task-3").doesNotContainNull()
+                .allMatch(taskId -> taskId.startsWith("task-"));
+        List<String> launched = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            if (i != 3) {
+                launched.add("task-" + i);
+            }
+        }
+        assertThat(launched).containsAll(stopped.getValue());
+    }
+
+    @Test
+    void tasksLaunchedConcurrentlyWithTheFailureAreStoppedToo() {
+        // 실패하는 컨테이너는 나머지가 모두 시작된 뒤에 실패
+        CountDownLatch othersLaunched = new CountDownLatch(4);
+        when(executor.getCapacity()).thenReturn(new ExecutorCapacity(100, 5, -1));
+        when(executor.launch(any(), anyInt())).thenAnswer(invocation -> {
+            int containerIndex = invocation.<LoadTestRequest>getArgument(0).getContainerIndex();
+            if (containerIndex == 2) {
+                assertThat(othersLaunched.await(10, TimeUnit.SECONDS)).isTrue();
+                throw new IllegalStateException("throttled");
+            }
+            othersLaunched.countDown();
+            return "task-" + containerIndex;
+        });
+
+        assertThatThrownBy(() -> containerLauncher.launchAll(LOAD_TEST_ID, ExecutorType.ECS, requests(5)))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(executor).stopAll(eq(LOAD_TEST_ID), eq(List.of("task-0", "task-1", "task-3", "task-4")), anyString());
+    }
+
+    private static List<LoadTestRequest> requests(int containerCount) {
+        List<LoadTestRequest> requests = new ArrayList<>(containerCount);
+        for (int i = 0; i < containerCount; i++) {
+            LoadTestRequest request = new LoadTestRequest();
+            request.setTestId(LOAD_TEST_ID);
+            request.setContainerIndex(i);
+            request.setTotalContainers(containerCount);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
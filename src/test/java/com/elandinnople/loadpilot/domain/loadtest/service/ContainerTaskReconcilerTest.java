@@ -0,0 +1,122 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.ContainerTask;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TaskStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutor;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.repository.ContainerTaskRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ContainerTaskReconcilerTest {
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private final ContainerTaskRepository containerTaskRepository = mock(ContainerTaskRepository.class);
+    private final LoadExecutorRegistry loadExecutorRegistry = mock(LoadExecutorRegistry.class);
+    private final LiveMetricsService liveMetricsService = mock(LiveMetricsService.class);
+    private final LiveMetricsBroadcaster liveMetricsBroadcaster = mock(LiveMetricsBroadcaster.class);
+    private final LoadExecutor ecsExecutor = mock(LoadExecutor.class);
+    private final LoadExecutor localExecutor = mock(LoadExecutor.class);
+    private final ContainerTaskReconciler reconciler = new ContainerTaskReconciler(loadTestRepository,
+            containerTaskRepository, loadExecutorRegistry, liveMetricsService, liveMetricsBroadcaster);
+
+    @Test
+    void queriesEachExecutorOnceForAllRunningTestsAndRecordsStatuses() {
+        LoadTest first = loadTest(1L, ExecutorType.ECS, TestType.LOAD);
+        LoadTest second = loadTest(2L, ExecutorType.ECS, TestType.LOAD);
+        LoadTest local = loadTest(3L, ExecutorType.IN_PROCESS, TestType.LOAD);
+        ContainerTask a = task(first, 0, "arn-a", TaskStatus.RUNNING);
+        ContainerTask b = task(second, 0, "arn-b", TaskStatus.PENDING);
+        ContainerTask done = task(second, 1, "arn-done", TaskStatus.COMPLETED);
+        ContainerTask notLaunched = task(second, 2, null, TaskStatus.PENDING);
+        ContainerTask c = task(local, 0, "local:3:0", TaskStatus.RUNNING);
+        running(List.of(first, second, local), List.of(a, b, done, notLaunched, c));
+        when(ecsExecutor.getTaskStatuses(List.of("arn-a", "arn-b")))
+                .thenReturn(Map.of("arn-a", TaskStatus.COMPLETED, "arn-b", TaskStatus.RUNNING));
+        when(localExecutor.getTaskStatuses(List.of("local:3:0"))).thenReturn(Map.of());
+
+        reconciler.reconcile();
+
+        // 종료된 태스크와 아직 실행되지 않은 태스크는 조회하지 않음
+        verify(ecsExecutor).getTaskStatuses(List.of("arn-a", "arn-b"));
+        verify(localExecutor).getTaskStatuses(List.of("local:3:0"));
+        assertThat(a.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(a.getLastCheckedAt()).isNotNull();
+        assertThat(b.getStatus()).isEqualTo(TaskStatus.RUNNING);
+        // 상태를 받지 못한 태스크는 그대로 둠
+        assertThat(c.getStatus()).isEqualTo(TaskStatus.RUNNING);
+        assertThat(c.getLastCheckedAt()).isNull();
+        verify(loadTestRepository, never()).updateStatusUnlessIn(anyLong(), any(), any());
+    }
+
+    @Test
+    void failedContainerFailsTheTestAndClosesItsLiveStream() {
+        LoadTest loadTest = loadTest(1L, ExecutorType.ECS, TestType.LOAD);
+        running(List.of(loadTest), List.of(task(loadTest, 0, "arn-a", TaskStatus.RUNNING),
+                task(loadTest, 1, "arn-b", TaskStatus.RUNNING)));
+        when(ecsExecutor.getTaskStatuses(List.of("arn-a", "arn-b")))
+                .thenReturn(Map.of("arn-a", TaskStatus.RUNNING, "arn-b", TaskStatus.FAILED));
+        when(loadTestRepository.updateStatusUnlessIn(eq(1L), eq(TestStatus.FAILED), any())).thenReturn(1);
+        when(loadTestRepository.findById(1L)).thenReturn(Optional.of(loadTest));
+
+        reconciler.reconcile();
+
+        verify(liveMetricsService).remove(1L);
+        verify(liveMetricsBroadcaster).publishStatus(loadTest);
+    }
+
+    @Test
+    void failedTaskDoesNotFailACapacitySearch() {
+        LoadTest loadTest = loadTest(1L, ExecutorType.ECS, TestType.BREAKPOINT);
+        running(List.of(loadTest), List.of(task(loadTest, 0, "arn-a", TaskStatus.RUNNING)));
+        when(ecsExecutor.getTaskStatuses(List.of("arn-a"))).thenReturn(Map.of("arn-a", TaskStatus.FAILED));
+
+        reconciler.reconcile();
+
+        verify(loadTestRepository, never()).updateStatusUnlessIn(anyLong(), any(), any());
+        verifyNoInteractions(liveMetricsService);
+    }
+
+    private void running(List<LoadTest> loadTests, List<ContainerTask> tasks) {
+        when(loadTestRepository.findByStatus(TestStatus.RUNNING)).thenReturn(loadTests);
+        when(containerTaskRepository.findByLoadTestIdIn(any())).thenReturn(tasks);
+        when(loadExecutorRegistry.get(ExecutorType.ECS)).thenReturn(ecsExecutor);
+        when(loadExecutorRegistry.get(ExecutorType.IN_PROCESS)).thenReturn(localExecutor);
+    }
+
+    private static LoadTest loadTest(Long id, ExecutorType executorType, TestType testType) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(id);
+        loadTest.setStatus(TestStatus.RUNNING);
+        loadTest.setExecutorType(executorType);
+        loadTest.setTestType(testType);
+        loadTest.setContainerTasks(new ArrayList<>());
+        return loadTest;
+    }
+
+    private static ContainerTask task(LoadTest loadTest, int containerIndex, String taskArn, TaskStatus status) {
+        ContainerTask task = new ContainerTask(loadTest, containerIndex, taskArn);
+        task.setStatus(status);
+        loadTest.getContainerTasks().add(task);
+        return task;
+    }
+}
@@ -0,0 +1,112 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.TestMetricsAccumulator;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LiveMetricsServiceTest {
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private final RunnerPoolService runnerPoolService = mock(RunnerPoolService.class);
+    private final MetricSeriesService metricSeriesService = mock(MetricSeriesService.class);
+    private final OrchestrationMetrics orchestrationMetrics = mock(OrchestrationMetrics.class);
+    private final LiveMetricsService liveMetricsService = new LiveMetricsService(loadTestRepository,
+            runnerPoolService, metricSeriesService, new ObjectMapper(), orchestrationMetrics, 10, 20);
+
+    @Test
+    void accumulatesFramesPerContainerAndReportsTheFirstRequestOnce() throws IOException {
+        liveMetricsService.register(loadTest(1L, TestStatus.RUNNING));
+
+        int accepted = liveMetricsService.ingest(stream("""
+                {"loadTestId":1,"containerIndex":0,"timestamp":1000,"intervalMs":1000,"requests":10,"failedRequests":1}
+                {"loadTestId":1,"containerIndex":0,"timestamp":2000,"intervalMs":1000,"requests":20,"failedRequests":0}
+                {"loadTestId":1,"containerIndex":1,"timestamp":1000,"intervalMs":1000,"requests":5,"failedRequests":0}
+                """));
+
+        assertThat(accepted).isEqualTo(3);
+        TestMetricsAccumulator accumulator = liveMetricsService.find(1L).orElseThrow();
+        assertThat(accumulator.getRequests()).isEqualTo(35);
+        assertThat(accumulator.getFailedRequests()).isEqualTo(1);
+        verify(runnerPoolService).recordFirstRequest(1L, 0);
+        verify(runnerPoolService).recordFirstRequest(1L, 1);
+        verify(orchestrationMetrics, times(2)).firstRequest(1L);
+        verify(metricSeriesService).start(1L);
+    }
+
+    @Test
+    void ignoresFramesForTestsThatAreNotRunning() throws IOException {
+        when(loadTestRepository.findById(2L)).thenReturn(Optional.of(loadTest(2L, TestStatus.COMPLETED)));
+
+        int accepted = liveMetricsService.ingest(stream("{\"loadTestId\":2,\"containerIndex\":0,\"requests\":10}"));
+
+        assertThat(accepted).isZero();
+        assertThat(liveMetricsService.find(2L)).isEmpty();
+        verify(runnerPoolService, never()).recordFirstRequest(anyLong(), anyInt());
+    }
+
+    @Test
+    void registersRunningTestsSeenForTheFirstTimeAfterARestart() throws IOException {
+        when(loadTestRepository.findById(3L)).thenReturn(Optional.of(loadTest(3L, TestStatus.RUNNING)));
+
+        assertThat(liveMetricsService.ingest(stream("{\"loadTestId\":3,\"containerIndex\":0,\"requests\":10}")))
+                .isEqualTo(1);
+        assertThat(liveMetricsService.find(3L)).hasValueSatisfying(accumulator ->
+                assertThat(accumulator.getRequests()).isEqualTo(10));
+    }
+
+    @Test
+    void fillsMissingSummaryFieldsFromStreamedMetrics() throws IOException {
+        liveMetricsService.register(loadTest(1L, TestStatus.RUNNING));
+        liveMetricsService.ingest(stream("""
+                {"loadTestId":1,"containerIndex":0,"timestamp":1000,"intervalMs":1000,"requests":10,"failedRequests":2,\
+                "latencyHistogram":{"100":10}}
+                {"loadTestId":1,"containerIndex":0,"timestamp":2000,"intervalMs":1000,"requests":10,"failedRequests":0,\
+                "latencyHistogram":{"100":10}}
+                """));
+        TestResultProcessRequest request = new TestResultProcessRequest();
+        request.setLoadTestId(1L);
+        request.setContainerIndex(0);
+        request.setP99ResponseTimeMs(999.0);
+
+        liveMetricsService.fillMissingSummary(1L, 0, request);
+
+        assertThat(request.getTotalRequests()).isEqualTo(20);
+        assertThat(request.getFailedRequests()).isEqualTo(2);
+        assertThat(request.getSuccessfulRequests()).isEqualTo(18);
+        assertThat(request.getRequestsPerSecond()).isEqualTo(10.0);
+        assertThat(request.getLatencyHistogram()).containsEntry(100, 20L);
+        // 러너가 보낸 값은 덮어쓰지 않음
+        assertThat(request.getP99ResponseTimeMs()).isEqualTo(999.0);
+    }
+
+    private static LoadTest loadTest(Long id, TestStatus status) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(id);
+        loadTest.setStatus(status);
+        loadTest.setTestType(TestType.LOAD);
+        return loadTest;
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.CreateLoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.ExecutorType;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.executor.ExecutorCapacity;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutor;
+import com.elandinnople.loadpilot.domain.loadtest.executor.LoadExecutorRegistry;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadTestServiceCreateTest {
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private final LoadExecutorRegistry loadExecutorRegistry = mock(LoadExecutorRegistry.class);
+    private LoadTestService loadTestService;
+
+    @BeforeEach
+    void setUp() {
+        LoadExecutor executor = mock(LoadExecutor.class);
+        when(executor.getType()).thenReturn(ExecutorType.ECS);
+        when(executor.getCapacity()).thenReturn(new ExecutorCapacity(100, 4, -1));
+        when(loadExecutorRegistry.select(any())).thenReturn(executor);
+        when(loadTestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        loadTestService = new LoadTestService(loadTestRepository, null, null, null, null, null, null, null, null,
+                loadExecutorRegistry, null, null, null, null);
+        ReflectionTestUtils.setField(loadTestService, "maxContainers", 500);
+        ReflectionTestUtils.setField(loadTestService, "defaultMinRpsDivisor", 10);
+        ReflectionTestUtils.setField(loadTestService, "defaultSloErrorRate", 0.01);
+    }
+
+    @Test
+    void arrivalRateTestDefaultsItsVuPoolToVirtualUsers() {
+        CreateLoadTestRequest request = request(TestType.CONSTANT_ARRIVAL_RATE, 50, 10);
+        request.setTargetRps(200);
+
+        LoadTest loadTest = loadTestService.createLoadTest(request, new User());
+
+        assertThat(loadTest.getTargetRps()).isEqualTo(200);
+        assertThat(loadTest.getPreAllocatedVUs()).isEqualTo(50);
+        assertThat(loadTest.getMaxVUs()).isEqualTo(50);
+        assertThat(loadTest.getContainerCount()).isEqualTo(10);
+    }
+
+    @Test
+    void arrivalRateContainersAreCappedSoEachGetsAtLeastOneRps() {
+        CreateLoadTestRequest request = request(TestType.RAMPING_ARRIVAL_RATE, 50, 10);
+        request.setTargetRps(3);
+
+        assertThat(loadTestService.createLoadTest(request, new User()).getContainerCount()).isEqualTo(3);
+    }
+
+    @Test
+    void arrivalRateTestRequiresTargetRpsAndAConsistentVuPool() {
+        CreateLoadTestRequest withoutRps = request(TestType.CONSTANT_ARRIVAL_RATE, 50, 1);
+        assertThatThrownBy(() -> loadTestService.createLoadTest(withoutRps, new User()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("targetRps");
+
+        CreateLoadTestRequest invertedPool = request(TestType.CONSTANT_ARRIVAL_RATE, 50, 1);
+        invertedPool.setTargetRps(100);
+        invertedPool.setPreAllocatedVUs(20);
+        invertedPool.setMaxVUs(10);
+        assertThatThrownBy(() -> loadTestService.createLoadTest(invertedPool, new User()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maxVUs");
+    }
+
+    @Test
+    void closedModelTestIgnoresArrivalRateFields() {
+        CreateLoadTestRequest request = request(TestType.LOAD, 50, 2);
+        request.setTargetRps(100);
+
+        LoadTest loadTest = loadTestService.createLoadTest(request, new User());
+
+        assertThat(loadTest.getTargetRps()).isNull();
+        assertThat(loadTest.getContainerCount()).isEqualTo(2);
+    }
+
+    private static CreateLoadTestRequest request(TestType testType, int virtualUsers, int containerCount) {
+        CreateLoadTestRequest request = new CreateLoadTestRequest();
+        request.setName("arrival");
+        request.setTargetUrl("http://target");
+        request.setTestType(testType);
+        request.setVirtualUsers(virtualUsers);
+        request.setDurationSeconds(60);
+        request.setContainerCount(containerCount);
+        return request;
+    }
+}
@@ -0,0 +1,125 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.CursorPageResponse;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.LoadTestResponse;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadTestServiceCursorTest {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_789);
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private LoadTestService loadTestService;
+
+    @BeforeEach
+    void setUp() {
+        loadTestService = new LoadTestService(loadTestRepository, null, null, null, null, null, null, null, null,
+                null, null, null, null, null);
+        ReflectionTestUtils.setField(loadTestService, "maxPageSize", 20);
+    }
+
+    @Test
+    void fullPageReturnsCursorOfLastItemAndNextPageStartsAfterIt() {
+        // 한 건 더 조회한 결과가 있으면 다음 페이지가 있음
+        when(loadTestRepository.findFirstListing(USER_ID, PageRequest.of(0, 4))).thenReturn(rows(0, 4));
+
+        CursorPageResponse<LoadTestResponse> first = loadTestService.getLoadTestsByCursor(USER_ID, null, null, 3);
+
+        assertThat(first.getItems()).extracting(LoadTestResponse::getId).containsExactly(100L, 99L, 98L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        LoadTestResponse last = first.getItems().get(2);
+        when(loadTestRepository.findListingAfter(USER_ID, last.getCreatedAt(), last.getId(), PageRequest.of(0, 4)))
+                .thenReturn(rows(3, 2));
+
+        CursorPageResponse<LoadTestResponse> second =
+                loadTestService.getLoadTestsByCursor(USER_ID, null, first.getNextCursor(), 3);
+
+        assertThat(second.getItems()).extracting(LoadTestResponse::getId).containsExactly(97L, 96L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageWithExactlyLimitRowsIsLastPage() {
+        when(loadTestRepository.findFirstListing(USER_ID, PageRequest.of(0, 4))).thenReturn(rows(0, 3));
+
+        CursorPageResponse<LoadTestResponse> page = loadTestService.getLoadTestsByCursor(USER_ID, null, null, 3);
+
+        assertThat(page.getItems()).hasSize(3);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorRoundTripsWholeSecondTimestamps() {
+        LoadTestResponse row = new LoadTestResponse();
+        row.setId(5L);
+        row.setCreatedAt(LocalDateTime.of(2025, 3, 1, 12, 0));
+        when(loadTestRepository.findFirstListingByStatus(USER_ID, TestStatus.COMPLETED, PageRequest.of(0, 2)))
+                .thenReturn(List.of(row, new LoadTestResponse()));
+
+        String cursor = loadTestService.getLoadTestsByCursor(USER_ID, TestStatus.COMPLETED, null, 1).getNextCursor();
+        loadTestService.getLoadTestsByCursor(USER_ID, TestStatus.COMPLETED, cursor, 1);
+
+        verify(loadTestRepository).findListingByStatusAfter(USER_ID, TestStatus.COMPLETED,
+                LocalDateTime.of(2025, 3, 1, 12, 0), 5L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void pageSizeIsClampedToConfiguredRange() {
+        loadTestService.getLoadTestsByCursor(USER_ID, null, null, 1000);
+        verify(loadTestRepository).findFirstListing(USER_ID, PageRequest.of(0, 21));
+
+        loadTestService.getLoadTestsByCursor(USER_ID, TestStatus.RUNNING, null, 0);
+        verify(loadTestRepository).findFirstListingByStatus(eq(USER_ID), eq(TestStatus.RUNNING),
+                eq(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String missingId = Base64.getUrlEncoder().encodeToString("2025-03-01T12:00".getBytes(StandardCharsets.UTF_8));
+        String badTimestamp = Base64.getUrlEncoder().encodeToString("yesterday|5".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not base64!", missingId, badTimestamp)) {
+            assertThatThrownBy(() -> loadTestService.getLoadTestsByCursor(USER_ID, null, cursor, 10))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageStartingWith("Invalid cursor");
+        }
+        verify(loadTestRepository, never()).findListingAfter(any(), any(), any(), any());
+    }
+
+    // 최신순 목록에서 offset 번째부터 count 개 (ID 와 생성 시각이 함께 감소)
+    private static List<LoadTestResponse> rows(int offset, int count) {
+        List<LoadTestResponse> rows = new ArrayList<>();
+        for (int i = offset; i < offset + count; i++) {
+            LoadTestResponse row = new LoadTestResponse();
+            row.setId(100L - i);
+            row.setCreatedAt(NEWEST.minusSeconds(i));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,116 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.AggregatedTestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.PartialAggregate;
+import com.elandinnople.loadpilot.domain.loadtest.repository.AggregatedTestResultRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import com.elandinnople.loadpilot.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadTestServiceResultCacheTest {
+
+    private static final long LOAD_TEST_ID = 42L;
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private final TestResultRepository testResultRepository = mock(TestResultRepository.class);
+    private final AggregatedTestResultRepository aggregatedTestResultRepository =
+            mock(AggregatedTestResultRepository.class);
+    private final TestResultAggregator testResultAggregator = mock(TestResultAggregator.class);
+    private final TestResultCache testResultCache = new TestResultCache(new ObjectMapper().findAndRegisterModules(), 1);
+    private final User user = new User();
+    private LoadTestService loadTestService;
+
+    @BeforeEach
+    void setUp() {
+        loadTestService = new LoadTestService(loadTestRepository, testResultRepository, aggregatedTestResultRepository,
+                null, null, null, null, testResultAggregator, null, null, testResultCache, null, null, null);
+        user.setId(1L);
+        user.setKeycloakId("owner");
+        when(testResultRepository.findResultFilePathsByParentTestId(LOAD_TEST_ID)).thenReturn(List.of());
+    }
+
+    @Test
+    void completedResultWithAggregateRowIsCachedAsImmutable() {
+        givenLoadTest(TestStatus.COMPLETED);
+        givenAggregateRow();
+
+        TestResultCache.CachedTestResult result = loadTestService.getCacheableTestResult(LOAD_TEST_ID, user);
+
+        assertThat(result.isImmutable()).isTrue();
+        assertThat(testResultCache.get(LOAD_TEST_ID, "owner")).containsSame(result);
+    }
+
+    @Test
+    void abortedResultBeforeAggregationIsNotCached() {
+        // 중단 처리가 상태를 바꾼 뒤 집계하기 전: 지금까지 저장된 결과로 부분 집계
+        givenLoadTest(TestStatus.ABORTED);
+        when(aggregatedTestResultRepository.findByLoadTestId(LOAD_TEST_ID)).thenReturn(Optional.empty());
+        when(testResultAggregator.aggregatePartials(LOAD_TEST_ID)).thenReturn(new PartialAggregate(1L, 50L, 50L, 0L,
+                10.0, 20.0, 30.0, 40.0, 1.0, 5.0, 0L, null, null, null, null, null, null));
+
+        TestResultCache.CachedTestResult result = loadTestService.getCacheableTestResult(LOAD_TEST_ID, user);
+
+        assertThat(result.isImmutable()).isFalse();
+        assertThat(result.getEtag()).isNotBlank();
+        assertThat(result.getResponse().getTotalRequests()).isEqualTo(50);
+        assertThat(testResultCache.get(LOAD_TEST_ID, "owner")).isEmpty();
+    }
+
+    @Test
+    void abortedResultIsNotCachedEvenAfterAggregation() {
+        givenLoadTest(TestStatus.ABORTED);
+        givenAggregateRow();
+
+        assertThat(loadTestService.getCacheableTestResult(LOAD_TEST_ID, user).isImmutable()).isFalse();
+        assertThat(testResultCache.get(LOAD_TEST_ID, "owner")).isEmpty();
+    }
+
+    @Test
+    void sameResultKeepsSameETag() {
+        givenLoadTest(TestStatus.COMPLETED);
+        givenAggregateRow();
+
+        String etag = loadTestService.getCacheableTestResult(LOAD_TEST_ID, user).getEtag();
+        testResultCache.invalidate(LOAD_TEST_ID);
+
+        assertThat(loadTestService.getCacheableTestResult(LOAD_TEST_ID, user).getEtag()).isEqualTo(etag);
+    }
+
+    @Test
+    void unfinishedResultIsRejectedAndNotCached() {
+        givenLoadTest(TestStatus.RUNNING);
+
+        assertThatThrownBy(() -> loadTestService.getCacheableTestResult(LOAD_TEST_ID, user))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(testResultCache.get(LOAD_TEST_ID, "owner")).isEmpty();
+    }
+
+    private void givenLoadTest(TestStatus status) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(LOAD_TEST_ID);
+        loadTest.setStatus(status);
+        loadTest.setContainerCount(2);
+        loadTest.setCompletedContainerCount(status == TestStatus.COMPLETED ? 2 : 1);
+        when(loadTestRepository.findByIdAndUserId(LOAD_TEST_ID, 1L)).thenReturn(Optional.of(loadTest));
+    }
+
+    private void givenAggregateRow() {
+        AggregatedTestResult aggregate = new AggregatedTestResult();
+        aggregate.setId(7L);
+        aggregate.setTotalRequests(100L);
+        when(aggregatedTestResultRepository.findByLoadTestId(LOAD_TEST_ID)).thenReturn(Optional.of(aggregate));
+    }
+}
@@ -0,0 +1,143 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.amazonaws.services.ecs.model.ResourceNotFoundException;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TimeSeriesPoint;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.TimeSeriesResponse;
+import com.elandinnople.loadpilot.domain.loadtest.metrics.MetricFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MetricSeriesServiceTest {
+
+    private static final long LOAD_TEST_ID = 3L;
+    // 1분 경계에 맞춘 시작 시각
+    private static final long START = 1_700_000_040_000L;
+    private static final int SECONDS = 300;
+
+    @TempDir
+    Path dir;
+
+    private MetricSeriesService metricSeriesService;
+
+    @BeforeEach
+    void setUp() {
+        metricSeriesService = new MetricSeriesService(null, dir.toString(), 1000, new int[]{10_000, 60_000}, false,
+                300, 200, 16, 30);
+    }
+
+    @Test
+    void downsamplesFromRollupSectionWithExactCounters() {
+        recordCompletedTest();
+
+        TimeSeriesResponse response = metricSeriesService.query(LOAD_TEST_ID, "10s", null, null);
+
+        assertThat(response.getResolutionMs()).isEqualTo(10_000);
+        assertThat(response.getFrom()).isEqualTo(START);
+        assertThat(response.getPoints()).hasSize(30);
+        TimeSeriesPoint point = response.getPoints().get(0);
+        assertThat(point.getTimestamp()).isEqualTo(START);
+        assertThat(point.getTotalRequests()).isEqualTo(1000);
+        assertThat(point.getFailedRequests()).isEqualTo(10);
+        assertThat(point.getRequestsPerSecond()).isCloseTo(100.0, within(1e-9));
+        assertThat(point.getErrorRate()).isCloseTo(0.01, within(1e-9));
+    }
+
+    @Test
+    void percentilesAreMergedPerWindow() {
+        recordCompletedTest();
+
+        TimeSeriesResponse response = metricSeriesService.query(LOAD_TEST_ID, "1m", null, null);
+
+        // 앞 150초는 10ms, 뒤 150초는 100ms: 세 번째 1분 구간(120~180초)은 절반씩 섞임
+        assertThat(response.getPoints()).hasSize(5);
+        assertThat(response.getPoints().get(1).getP99ResponseTimeMs()).isCloseTo(10, within(0.2));
+        assertThat(response.getPoints().get(1).getMaxResponseTimeMs()).isCloseTo(10, within(0.2));
+        assertThat(response.getPoints().get(2).getP90ResponseTimeMs()).isCloseTo(100, within(2.0));
+        assertThat(response.getPoints().get(2).getTotalRequests()).isEqualTo(6000);
+        assertThat(response.getPoints().get(4).getP50ResponseTimeMs()).isCloseTo(100, within(2.0));
+    }
+
+    @Test
+    void stepIsRoundedUpToMultipleOfStoredResolution() {
+        recordCompletedTest();
+
+        TimeSeriesResponse response = metricSeriesService.query(LOAD_TEST_ID, "15s", null, null);
+
+        assertThat(response.getResolutionMs()).isEqualTo(20_000);
+        assertThat(response.getPoints()).hasSize(15)
+                .allSatisfy(point -> assertThat(point.getTotalRequests()).isEqualTo(2000));
+    }
+
+    @Test
+    void autoResolutionTargetsPointCountOverRequestedRange() {
+        recordCompletedTest();
+
+        // 20초 범위 / 목표 300 포인트 -> 원본 해상도(1초)
+        TimeSeriesResponse range = metricSeriesService.query(LOAD_TEST_ID, "auto", START + 20_000, START + 40_000);
+
+        assertThat(range.getResolutionMs()).isEqualTo(1000);
+        assertThat(range.getPoints()).hasSize(20);
+        assertThat(range.getPoints().get(0).getTimestamp()).isEqualTo(START + 20_000);
+        assertThat(range.getPoints().get(19).getTimestamp()).isEqualTo(START + 39_000);
+    }
+
+    @Test
+    void rejectsInvalidQueries() {
+        recordCompletedTest();
+
+        assertThatThrownBy(() -> metricSeriesService.query(LOAD_TEST_ID, "1s", null, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Too many points");
+        assertThatThrownBy(() -> metricSeriesService.query(LOAD_TEST_ID, "ten seconds", null, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> metricSeriesService.query(LOAD_TEST_ID, "10s", START + 5000, START))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void runningTestHasNoQueryableSeries() {
+        metricSeriesService.start(LOAD_TEST_ID);
+        metricSeriesService.append(LOAD_TEST_ID, frame(START, 10));
+
+        assertThatThrownBy(() -> metricSeriesService.query(LOAD_TEST_ID, "10s", null, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void openedReaderIsReusedUntilDeleted() {
+        recordCompletedTest();
+
+        assertThat(metricSeriesService.open(LOAD_TEST_ID).orElseThrow())
+                .isSameAs(metricSeriesService.open(LOAD_TEST_ID).orElseThrow());
+
+        metricSeriesService.delete(LOAD_TEST_ID);
+        assertThat(metricSeriesService.open(LOAD_TEST_ID)).isEmpty();
+    }
+
+    // 1초마다 100건(1건 실패), 앞 150초는 10ms, 뒤 150초는 100ms
+    private void recordCompletedTest() {
+        metricSeriesService.start(LOAD_TEST_ID);
+        for (int i = 0; i < SECONDS; i++) {
+            metricSeriesService.append(LOAD_TEST_ID, frame(START + i * 1000L, i < SECONDS / 2 ? 10 : 100));
+        }
+        metricSeriesService.complete(LOAD_TEST_ID, null);
+    }
+
+    private static MetricFrame frame(long timestamp, double latencyMs) {
+        MetricFrame frame = new MetricFrame();
+        frame.setTimestamp(timestamp);
+        frame.setIntervalMs(1000);
+        frame.setRequests(100);
+        frame.setFailedRequests(1);
+        frame.addBucket(LatencyHistogram.bucketIndex(latencyMs), 100);
+        return frame;
+    }
+}
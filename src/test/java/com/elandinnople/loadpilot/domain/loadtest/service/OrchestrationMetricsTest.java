@@ -0,0 +1,68 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrchestrationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrchestrationMetrics orchestrationMetrics = new OrchestrationMetrics(meterRegistry);
+
+    @Test
+    void phasesAreRecordedOncePerTestWithTestTags() {
+        LoadTest loadTest = loadTest(1L, 8);
+        orchestrationMetrics.testStarted(loadTest);
+        assertThat(meterRegistry.get("loadpilot.test.tracked").gauge().value()).isEqualTo(1.0);
+
+        // 첫 프레임은 컨테이너마다 도착하지만 테스트당 한 번만 기록
+        orchestrationMetrics.firstRequest(1L);
+        orchestrationMetrics.firstRequest(1L);
+        orchestrationMetrics.resultReceived(1L);
+        orchestrationMetrics.aggregated(loadTest, TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertThat(meterRegistry.get("loadpilot.test.launch.to.first.request")
+                .tag("test_type", "LOAD").tag("containers", "6-20").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("loadpilot.result.aggregate").tag("containers", "6-20").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+        assertThat(meterRegistry.get("loadpilot.test.last.callback.to.aggregated").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("loadpilot.test.tracked").gauge().value()).isZero();
+    }
+
+    @Test
+    void untrackedTestsRecordOnlyTheAggregationTime() {
+        // 재시작 전에 시작된 테스트 또는 정리된 테스트
+        LoadTest loadTest = loadTest(2L, 1);
+        orchestrationMetrics.testStarted(loadTest);
+        orchestrationMetrics.forget(2L);
+
+        orchestrationMetrics.firstRequest(2L);
+        orchestrationMetrics.resultReceived(2L);
+        orchestrationMetrics.aggregated(loadTest, 1_000);
+
+        assertThat(meterRegistry.find("loadpilot.test.launch.to.first.request").timer()).isNull();
+        assertThat(meterRegistry.find("loadpilot.test.last.callback.to.aggregated").timer()).isNull();
+        assertThat(meterRegistry.get("loadpilot.result.aggregate").tag("containers", "1").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void resultProcessTimerIsSharedPerTagSet() {
+        assertThat(orchestrationMetrics.resultProcessTimer(loadTest(3L, 4)))
+                .isSameAs(orchestrationMetrics.resultProcessTimer(loadTest(4L, 5)))
+                .isNotSameAs(orchestrationMetrics.resultProcessTimer(loadTest(5L, 6)));
+    }
+
+    private static LoadTest loadTest(Long id, int containerCount) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(id);
+        loadTest.setTestType(TestType.LOAD);
+        loadTest.setContainerCount(containerCount);
+        return loadTest;
+    }
+}
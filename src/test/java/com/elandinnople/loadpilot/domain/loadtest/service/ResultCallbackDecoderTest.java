@@ -0,0 +1,216 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ResultCallbackDecoderTest {
+
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResultCallbackDecoder decoder = new ResultCallbackDecoder(objectMapper);
+
+    @Test
+    void decodesJsonCborAndSmileBodiesToTheSameResult() throws IOException {
+        TestResultProcessRequest json = decoder.decode(
+                new ByteArrayInputStream(pointBody(objectMapper.getFactory())), "application/json; charset=UTF-8", null);
+        TestResultProcessRequest cbor = decoder.decode(
+                new ByteArrayInputStream(pointBody(new CBORFactory())), ResultCallbackDecoder.APPLICATION_CBOR_VALUE, null);
+        TestResultProcessRequest smile = decoder.decode(
+                new ByteArrayInputStream(pointBody(new SmileFactory())), ResultCallbackDecoder.APPLICATION_SMILE_VALUE, "identity");
+
+        assertPointTotals(json);
+        assertThat(cbor).usingRecursiveComparison().isEqualTo(json);
+        assertThat(smile).usingRecursiveComparison().isEqualTo(json);
+    }
+
+    @Test
+    void decompressesGzipAndZstdBodies() throws IOException {
+        byte[] body = pointBody(new CBORFactory());
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(body);
+        }
+        ByteArrayOutputStream zstd = new ByteArrayOutputStream();
+        try (OutputStream out = new ZstdOutputStream(zstd)) {
+            out.write(body);
+        }
+
+        assertPointTotals(decoder.decode(new ByteArrayInputStream(gzip.toByteArray()),
+                ResultCallbackDecoder.APPLICATION_CBOR_VALUE, "gzip"));
+        assertPointTotals(decoder.decode(new ByteArrayInputStream(zstd.toByteArray()),
+                ResultCallbackDecoder.APPLICATION_CBOR_VALUE, " ZSTD "));
+    }
+
+    @Test
+    void summaryValuesTakePrecedenceOverPointTotals() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("totalRequests", 10);
+            generator.writeNumberField("p99ResponseTimeMs", 123.0);
+            writePoints(generator);
+            generator.writeEndObject();
+        }
+
+        TestResultProcessRequest request = decoder.decode(
+                new ByteArrayInputStream(buffer.toByteArray()), null, null);
+
+        assertThat(request.getTotalRequests()).isEqualTo(10L);
+        assertThat(request.getFailedRequests()).isEqualTo(1L);
+        assertThat(request.getSuccessfulRequests()).isEqualTo(9L);
+        assertThat(request.getP99ResponseTimeMs()).isEqualTo(123.0);
+    }
+
+    @Test
+    void uploadedResultWithoutPointsUsesHistogramForMissingPercentiles() throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.recordValue(value);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new SmileFactory().createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("loadTestId", 7);
+            generator.writeNumberField("containerIndex", 0);
+            generator.writeStringField("startTime", "2023-11-14T22:13:20");
+            generator.writeStringField("endTime", "2023-11-14T22:13:30");
+            generator.writeNumberField("totalRequests", 100);
+            generator.writeNumberField("failedRequests", 0);
+            generator.writeObjectFieldStart("latencyHistogram");
+            for (Map.Entry<Integer, Long> bucket : histogram.toBucketCounts().entrySet()) {
+                generator.writeNumberField(String.valueOf(bucket.getKey()), bucket.getValue());
+            }
+            generator.writeEndObject();
+            generator.writeStringField("summaryObjectKey", "uploads/7/0.json.gz");
+            generator.writeStringField("summarySha256", "abc");
+            generator.writeNumberField("summarySizeBytes", 2048);
+            generator.writeEndObject();
+        }
+
+        TestResultProcessRequest request = decoder.decode(
+                new ByteArrayInputStream(buffer.toByteArray()), ResultCallbackDecoder.APPLICATION_SMILE_VALUE, null);
+
+        assertThat(request.getRequestsPerSecond()).isEqualTo(10.0);
+        assertThat(request.getP95ResponseTimeMs()).isCloseTo(95.0, within(2.0));
+        assertThat(request.getP99ResponseTimeMs()).isCloseTo(99.0, within(2.0));
+        assertThat(request.getSummaryObjectKey()).isEqualTo("uploads/7/0.json.gz");
+        assertThat(request.getSummarySizeBytes()).isEqualTo(2048L);
+        assertThat(request.getSummaryJson()).isNull();
+    }
+
+    @Test
+    void rejectsUnsupportedContentTypeAndEncoding() {
+        assertThatThrownBy(() -> decoder.decode(new ByteArrayInputStream(new byte[0]), "text/plain", null))
+                .isInstanceOf(ResultCallbackDecoder.UnsupportedBodyFormatException.class);
+        assertThatThrownBy(() -> decoder.decode(new ByteArrayInputStream(new byte[0]), "not a type", null))
+                .isInstanceOf(ResultCallbackDecoder.UnsupportedBodyFormatException.class);
+        assertThatThrownBy(() -> decoder.decode(new ByteArrayInputStream(new byte[0]), null, "br"))
+                .isInstanceOf(ResultCallbackDecoder.UnsupportedBodyFormatException.class);
+    }
+
+    @Test
+    void rejectsBodyThatIsNotAnObject() {
+        assertThatThrownBy(() -> decoder.decode(new ByteArrayInputStream("[1]".getBytes()), null, null))
+                .isInstanceOf(IOException.class)
+                .isNotInstanceOf(ResultCallbackDecoder.UnsupportedBodyFormatException.class);
+    }
+
+    private static void assertPointTotals(TestResultProcessRequest request) {
+        assertThat(request.getLoadTestId()).isEqualTo(7L);
+        assertThat(request.getContainerIndex()).isEqualTo(3);
+        assertThat(request.getStartTime()).isEqualTo(LocalDateTime.of(2023, 11, 14, 22, 13, 20));
+        assertThat(request.getEndTime()).isEqualTo(LocalDateTime.of(2023, 11, 14, 22, 13, 30));
+        assertThat(request.getTotalRequests()).isEqualTo(4L);
+        assertThat(request.getFailedRequests()).isEqualTo(1L);
+        assertThat(request.getSuccessfulRequests()).isEqualTo(3L);
+        assertThat(request.getDroppedIterations()).isEqualTo(2L);
+        assertThat(request.getRequestsPerSecond()).isEqualTo(0.4);
+        assertThat(request.getAvgResponseTimeMs()).isEqualTo(25.0);
+        assertThat(request.getMaxResponseTimeMs()).isCloseTo(40.0, within(1.0));
+        assertThat(request.getLatencyHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(4L);
+        // 예상 요청 간격보다 긴 응답은 보정 히스토그램에 누락 표본이 추가됨
+        assertThat(request.getCorrectedLatencyHistogram().values().stream().mapToLong(Long::longValue).sum())
+                .isGreaterThan(4L);
+        assertThat(request.getSummaryJson()).isEqualTo("{\"metrics\":{\"http_reqs\":{\"count\":4}}}");
+    }
+
+    // k6 Point 목록과 종료 요약을 담은 본문 (입력 형식만 다르고 구조는 같음)
+    private static byte[] pointBody(JsonFactory factory) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("loadTestId", 7);
+            generator.writeNumberField("containerIndex", 3);
+            generator.writeStringField("startTime", "2023-11-15T07:13:20+09:00");
+            generator.writeNumberField("endTime", START_MILLIS + 10_000);
+            generator.writeNumberField("expectedIntervalMs", 10.0);
+            generator.writeStringField("runnerVersion", "2.1.0");
+            writePoints(generator);
+            generator.writeObjectFieldStart("summary");
+            generator.writeObjectFieldStart("metrics");
+            generator.writeObjectFieldStart("http_reqs");
+            generator.writeNumberField("count", 4);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writePoints(JsonGenerator generator) throws IOException {
+        double[] durations = {10, 20, 30, 40};
+        generator.writeArrayFieldStart("points");
+        // Point 가 아닌 메트릭 정의는 무시
+        generator.writeStartObject();
+        generator.writeStringField("type", "Metric");
+        generator.writeStringField("metric", "http_reqs");
+        generator.writeObjectFieldStart("data");
+        generator.writeStringField("type", "counter");
+        generator.writeEndObject();
+        generator.writeEndObject();
+        for (int i = 0; i < durations.length; i++) {
+            writePoint(generator, "http_reqs", 1);
+            writePoint(generator, "http_req_failed", i == 2 ? 1 : 0);
+            writePoint(generator, "http_req_duration", durations[i]);
+        }
+        writePoint(generator, "dropped_iterations", 2);
+        writePoint(generator, "vus", 5);
+        generator.writeEndArray();
+    }
+
+    private static void writePoint(JsonGenerator generator, String metric, double value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Point");
+        generator.writeStringField("metric", metric);
+        generator.writeObjectFieldStart("data");
+        generator.writeStringField("time", "2023-11-14T22:13:21Z");
+        generator.writeNumberField("value", value);
+        generator.writeObjectFieldStart("tags");
+        generator.writeStringField("status", "200");
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,78 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.common.storage.FileSystemBlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 결과 행의 summary_json 을 블롭 저장소로 옮기는지 H2(PostgreSQL 모드)에서 확인합니다.
+ */
+class ResultSummaryBackfillTest {
+
+    @TempDir
+    Path blobDir;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:backfill;MODE=PostgreSQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE test_results (id BIGINT PRIMARY KEY, load_test_id BIGINT, " +
+                "container_index INTEGER, summary_json TEXT, summary_blob_key VARCHAR(255), summary_size_bytes BIGINT, " +
+                "summary_sha256 VARCHAR(64), summary_content_type VARCHAR(64), result_file_path VARCHAR(255))");
+        blobStore = new FileSystemBlobStore(blobDir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void movesLegacySummariesIntoTheBlobStoreInBatches() throws IOException {
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO test_results (id, load_test_id, container_index, summary_json) VALUES (?, 7, ?, ?)",
+                    id, (int) id - 1, "{\"container\":" + (id - 1) + "}");
+        }
+        // 이미 옮겨진 행은 그대로 둠
+        jdbcTemplate.update("INSERT INTO test_results (id, load_test_id, container_index, summary_json, summary_blob_key) " +
+                "VALUES (6, 7, 5, 'stale', 'sha256/ab/existing')");
+
+        int moved = new ResultSummaryBackfill(jdbcTemplate, blobStore, true, 2).backfill();
+
+        assertThat(moved).isEqualTo(5);
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM test_results WHERE id = 3");
+        assertThat(row.get("SUMMARY_JSON")).isNull();
+        assertThat(row.get("SUMMARY_CONTENT_TYPE")).isEqualTo(ResultSummaryStore.JSON_CONTENT_TYPE);
+        assertThat(row.get("RESULT_FILE_PATH")).isEqualTo(ResultSummaryStore.rawSummaryPath(7L, 2));
+        assertThat(read((String) row.get("SUMMARY_BLOB_KEY"))).isEqualTo("{\"container\":2}");
+        assertThat(jdbcTemplate.queryForObject("SELECT summary_blob_key FROM test_results WHERE id = 6", String.class))
+                .isEqualTo("sha256/ab/existing");
+
+        // 다시 실행해도 옮길 행이 없음
+        assertThat(new ResultSummaryBackfill(jdbcTemplate, blobStore, true, 2).backfill()).isZero();
+    }
+
+    private String read(String blobKey) throws IOException {
+        try (InputStream in = new GZIPInputStream(blobStore.openCompressed(blobKey))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
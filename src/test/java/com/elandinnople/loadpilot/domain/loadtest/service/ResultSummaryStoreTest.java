@@ -0,0 +1,124 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.common.storage.FileSystemBlobStore;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResultSummaryStoreTest {
+
+    @TempDir
+    Path blobDir;
+
+    private BlobStore blobStore;
+    private TestResultRepository testResultRepository;
+    private ResultSummaryStore resultSummaryStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new FileSystemBlobStore(blobDir);
+        testResultRepository = mock(TestResultRepository.class);
+        resultSummaryStore = new ResultSummaryStore(blobStore, testResultRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void unreferencedBlobIsDeletedOnceTheDelayHasPassed() {
+        String key = storeSummary(1L);
+
+        resultSummaryStore.releaseUnreferenced(List.of(key));
+        resultSummaryStore.releaseDue();
+
+        assertThat(blobStore.exists(key)).isFalse();
+    }
+
+    @Test
+    void blobReferencedAgainDuringTheDelayIsKept() {
+        ReflectionTestUtils.setField(resultSummaryStore, "releaseDelaySeconds", 300L);
+        String key = storeSummary(1L);
+
+        resultSummaryStore.releaseUnreferenced(List.of(key));
+        resultSummaryStore.releaseDue();
+        assertThat(blobStore.exists(key)).isTrue();
+
+        // 유예 시간 동안 같은 내용의 결과가 저장되어 블롭을 다시 참조
+        String sameKey = storeSummary(2L);
+        when(testResultRepository.existsBySummaryBlobKey(key)).thenReturn(true);
+        ReflectionTestUtils.setField(resultSummaryStore, "releaseDelaySeconds", 0L);
+        resultSummaryStore.releaseUnreferenced(List.of(key));
+        resultSummaryStore.releaseDue();
+
+        assertThat(sameKey).isEqualTo(key);
+        assertThat(blobStore.exists(key)).isTrue();
+    }
+
+    @Test
+    void releaseInsideATransactionWaitsForTheCommit() {
+        String key = storeSummary(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        resultSummaryStore.releaseUnreferenced(List.of(key));
+        resultSummaryStore.releaseDue();
+        assertThat(blobStore.exists(key)).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        resultSummaryStore.releaseDue();
+        assertThat(blobStore.exists(key)).isFalse();
+    }
+
+    @Test
+    void rolledBackReleaseKeepsTheBlob() {
+        String key = storeSummary(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        resultSummaryStore.releaseUnreferenced(List.of(key));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        resultSummaryStore.releaseDue();
+
+        assertThat(blobStore.exists(key)).isTrue();
+    }
+
+    @Test
+    void deletedBlobIsWrittenAgainForIdenticalContent() {
+        String key = storeSummary(1L);
+        blobStore.delete(key);
+
+        assertThat(storeSummary(2L)).isEqualTo(key);
+        assertThat(blobStore.exists(key)).isTrue();
+    }
+
+    private String storeSummary(Long loadTestId) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(loadTestId);
+        TestResult result = new TestResult();
+        result.setParentTest(loadTest);
+        result.setContainerIndex(0);
+        result.setSummaryJson("{\"metrics\":{\"http_reqs\":{\"count\":100}}}");
+        resultSummaryStore.store(result);
+        assertThat(result.getSummaryJson()).isNull();
+        assertThat(result.getResultFilePath()).isEqualTo(ResultSummaryStore.rawSummaryPath(loadTestId, 0));
+        return result.getSummaryBlobKey();
+    }
+}
@@ -0,0 +1,132 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.storage.BlobStore;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResultUploadServiceTest {
+
+    private static final String SECRET = "test-signing-secret";
+
+    private final BlobStore blobStore = mock(BlobStore.class);
+
+    @Test
+    void assignsSignedBackendPathWhenStoreCannotIssueUploadUrl() {
+        when(blobStore.createUploadUrl(any(), any())).thenReturn(Optional.empty());
+        ResultUploadService service = new ResultUploadService(blobStore, true, 3600, SECRET, false);
+
+        LoadTestRequest request = request(7L, 3);
+        long before = System.currentTimeMillis() / 1000;
+        service.assign(request);
+
+        assertThat(request.getResultObjectKey()).isEqualTo("uploads/7/3.json.gz");
+        UriComponents uri = UriComponentsBuilder.fromUriString(request.getResultUploadUrl()).build();
+        assertThat(uri.getPath()).isEqualTo("/api/callback/uploads/7/3");
+        long expires = Long.parseLong(uri.getQueryParams().getFirst("expires"));
+        // 실행 시간 + 램프업 + 여유 시간
+        assertThat(expires).isBetween(before + 3600 + 300 + 30, before + 3600 + 300 + 30 + 5);
+        verify(blobStore).createUploadUrl("uploads/7/3.json.gz", Duration.ofSeconds(3600 + 300 + 30));
+
+        String signature = uri.getQueryParams().getFirst("signature");
+        assertThat(service.verify(7L, 3, expires, signature)).isTrue();
+        // 같은 비밀 키를 쓰는 다른 인스턴스에서도 유효
+        assertThat(new ResultUploadService(blobStore, true, 3600, SECRET, false).verify(7L, 3, expires, signature)).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedMissingOrForeignSignatures() {
+        ResultUploadService service = new ResultUploadService(blobStore, true, 3600, SECRET, false);
+        long expires = System.currentTimeMillis() / 1000 + 600;
+        String signature = sign(service, 7L, 3, expires);
+
+        assertThat(service.verify(7L, 3, expires, signature)).isTrue();
+        assertThat(service.verify(7L, 3, expires, null)).isFalse();
+        assertThat(service.verify(7L, 3, expires, flipLastChar(signature))).isFalse();
+        assertThat(service.verify(7L, 3, expires, signature.substring(1))).isFalse();
+        // 다른 컨테이너, 다른 테스트, 연장한 만료 시각에는 쓸 수 없음
+        assertThat(service.verify(7L, 4, expires, signature)).isFalse();
+        assertThat(service.verify(8L, 3, expires, signature)).isFalse();
+        assertThat(service.verify(7L, 3, expires + 3600, signature)).isFalse();
+        // 다른 비밀 키로 서명한 경로
+        assertThat(new ResultUploadService(blobStore, true, 3600, "other-secret", false).verify(7L, 3, expires, signature))
+                .isFalse();
+    }
+
+    @Test
+    void rejectsExpiredSignature() {
+        ResultUploadService service = new ResultUploadService(blobStore, true, 3600, SECRET, false);
+        long expired = System.currentTimeMillis() / 1000 - 1;
+
+        assertThat(service.verify(7L, 3, expired, sign(service, 7L, 3, expired))).isFalse();
+    }
+
+    @Test
+    void usesPresignedUrlFromStoreWhenAvailable() throws Exception {
+        URL presigned = URI.create("https://bucket.s3.amazonaws.com/uploads/7/0.json.gz?X-Amz-Signature=abc").toURL();
+        when(blobStore.createUploadUrl(eq("uploads/7/0.json.gz"), any())).thenReturn(Optional.of(presigned));
+        ResultUploadService service = new ResultUploadService(blobStore, true, 3600, SECRET, false);
+
+        LoadTestRequest request = request(7L, 0);
+        service.assign(request);
+
+        assertThat(request.getResultUploadUrl()).isEqualTo(presigned.toString());
+        assertThat(request.getResultObjectKey()).isEqualTo("uploads/7/0.json.gz");
+    }
+
+    @Test
+    void assignsNothingWhenDisabled() {
+        ResultUploadService service = new ResultUploadService(blobStore, false, 3600, SECRET, false);
+
+        LoadTestRequest request = request(7L, 0);
+        service.assign(request);
+
+        assertThat(request.getResultUploadUrl()).isNull();
+        assertThat(request.getResultObjectKey()).isNull();
+    }
+
+    @Test
+    void requiresSigningSecretWhenUploadsAreEnabled() {
+        assertThatThrownBy(() -> new ResultUploadService(blobStore, true, 3600, "", false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("loadtest.upload.signing-secret");
+
+        // 로컬 프로필에서는 임의 키 허용, 업로드를 쓰지 않으면 키가 필요 없음
+        assertThat(new ResultUploadService(blobStore, true, 3600, "", true).verify(7L, 3, Long.MAX_VALUE, "00"))
+                .isFalse();
+        assertThat(new ResultUploadService(blobStore, false, 3600, "", false)).isNotNull();
+    }
+
+    private static String sign(ResultUploadService service, Long loadTestId, Integer containerIndex, long expires) {
+        return ReflectionTestUtils.invokeMethod(service, "sign", loadTestId, containerIndex, expires);
+    }
+
+    private static String flipLastChar(String signature) {
+        char last = signature.charAt(signature.length() - 1);
+        return signature.substring(0, signature.length() - 1) + (last == '0' ? '1' : '0');
+    }
+
+    private static LoadTestRequest request(Long loadTestId, Integer containerIndex) {
+        LoadTestRequest request = new LoadTestRequest();
+        request.setTestId(loadTestId);
+        request.setContainerIndex(containerIndex);
+        request.setDurationSeconds(300);
+        request.setRampUpSeconds(30);
+        return request;
+    }
+}
@@ -0,0 +1,119 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.service.EcsService;
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.LoadTestRequest;
+import com.elandinnople.loadpilot.domain.loadtest.dto.response.RunnerPoolStatsResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RunnerPoolServiceTest {
+
+    private final EcsService ecsService = mock(EcsService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void idleRunnerReceivesTheAssignmentOnItsPendingPoll() {
+        RunnerPoolService pool = pool(true, 0, 0);
+        DeferredResult<ResponseEntity<LoadTestRequest>> poll = pool.poll("arn-1");
+        assertThat(poll.hasResult()).isFalse();
+        LoadTestRequest request = request(0);
+
+        assertThat(pool.assign(request)).contains("arn-1");
+        assertThat(poll.getResult()).isEqualTo(ResponseEntity.ok(request));
+
+        // 할당된 러너는 다시 할당되지 않으므로 다음 요청은 기존 실행 경로로
+        assertThat(pool.assign(request(1))).isEmpty();
+        RunnerPoolStatsResponse stats = pool.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void assignmentIsDeliveredAgainWhenTheRunnerPollsAfterALostResponse() {
+        RunnerPoolService pool = pool(true, 0, 0);
+        pool.poll("arn-1");
+        LoadTestRequest request = request(0);
+        pool.assign(request);
+
+        DeferredResult<ResponseEntity<LoadTestRequest>> retry = pool.poll("arn-1");
+
+        assertThat(retry.getResult()).isEqualTo(ResponseEntity.ok(request));
+    }
+
+    @Test
+    void unknownRunnerIsToldToExitWhenThePoolIsDisabled() {
+        RunnerPoolService pool = pool(false, 0, 0);
+
+        DeferredResult<ResponseEntity<LoadTestRequest>> poll = pool.poll("arn-1");
+
+        assertThat(poll.getResult()).isEqualTo(ResponseEntity.status(HttpStatus.GONE).build());
+        assertThat(pool.assign(request(0))).isEmpty();
+    }
+
+    @Test
+    void replenishesToMinIdleAndStopsRunnersThatNeverPoll() throws InterruptedException {
+        when(ecsService.runPoolRunner()).thenReturn("arn-1", "arn-2", "arn-3", "arn-4");
+        RunnerPoolService pool = pool(true, 2, 0);
+
+        pool.replenish();
+        assertThat(pool.getStats().getStartingRunners()).isEqualTo(2);
+        verify(ecsService, never()).stopTask(anyString(), anyString());
+
+        // 시작 제한 시간(0초)이 지나도록 폴링하지 않은 러너는 중지하고 새로 보충
+        Thread.sleep(10);
+        pool.replenish();
+        verify(ecsService).stopTask("arn-1", "LoadPilot pool runner start timeout");
+        verify(ecsService).stopTask("arn-2", "LoadPilot pool runner start timeout");
+        verify(ecsService, times(4)).runPoolRunner();
+    }
+
+    @Test
+    void recordsTimeToFirstRequestSeparatelyForWarmAndColdLaunches() {
+        RunnerPoolService pool = pool(true, 0, 0);
+        long launchedAt = System.currentTimeMillis() - 1000;
+        pool.recordLaunch(1L, 0, launchedAt, true);
+        pool.recordLaunch(1L, 1, launchedAt, false);
+        pool.recordLaunch(1L, 2, launchedAt, false);
+
+        pool.recordFirstRequest(1L, 0);
+        pool.recordFirstRequest(1L, 0);
+        pool.recordFirstRequest(1L, 1);
+        pool.forget(1L);
+        pool.recordFirstRequest(1L, 2);
+
+        // 같은 컨테이너의 두 번째 프레임과 정리된 컨테이너는 기록하지 않음
+        assertThat(timeToFirstRequest("warm").count()).isEqualTo(1);
+        assertThat(timeToFirstRequest("cold").count()).isEqualTo(1);
+        assertThat(pool.getStats().getAvgWarmTimeToFirstRequestMs()).isGreaterThanOrEqualTo(1000.0);
+        assertThat(pool.getStats().getAvgColdTimeToFirstRequestMs()).isGreaterThanOrEqualTo(1000.0);
+    }
+
+    private Timer timeToFirstRequest(String launch) {
+        return meterRegistry.get("loadpilot.runner.time.to.first.request").tag("launch", launch).timer();
+    }
+
+    private RunnerPoolService pool(boolean enabled, int minIdle, long startTimeoutSeconds) {
+        return new RunnerPoolService(ecsService, meterRegistry, enabled, minIdle, 20, 20, 60,
+                startTimeoutSeconds);
+    }
+
+    private static LoadTestRequest request(int containerIndex) {
+        LoadTestRequest request = new LoadTestRequest();
+        request.setTestId(1L);
+        request.setContainerIndex(containerIndex);
+        return request;
+    }
+}
@@ -0,0 +1,165 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.config.AuditConfig;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.repository.AggregatedTestResultRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultJdbcRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import com.elandinnople.loadpilot.domain.user.entity.User;
+import com.elandinnople.loadpilot.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시에 도착한 컨테이너 결과 콜백이 완료 카운터를 정확히 올리고 집계를 한 번만 수행하는지 H2(PostgreSQL 모드)에서 확인합니다.
+ * 콜백마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:aggregator;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditConfig.class, TestResultAggregator.class, TestResultJdbcRepository.class,
+        UserDailyStatsService.class, OrchestrationMetrics.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TestResultAggregatorConcurrencyTest {
+
+    private static final int CONTAINER_COUNT = 8;
+
+    @Autowired
+    private TestResultAggregator testResultAggregator;
+    @Autowired
+    private LoadTestRepository loadTestRepository;
+    @Autowired
+    private TestResultRepository testResultRepository;
+    @Autowired
+    private AggregatedTestResultRepository aggregatedTestResultRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final ExecutorService callbacks = Executors.newFixedThreadPool(CONTAINER_COUNT);
+
+    @AfterEach
+    void tearDown() {
+        callbacks.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallbacksCompleteAndAggregateExactlyOnce() throws Exception {
+        LoadTest loadTest = runningLoadTest();
+
+        // 모든 컨테이너 결과가 동시에 도착한 뒤 같은 결과가 다시 동시에 재전송됨
+        int completions = deliverConcurrently(loadTest) + deliverConcurrently(loadTest);
+
+        LoadTest stored = loadTestRepository.findById(loadTest.getId()).orElseThrow();
+        assertThat(completions).isEqualTo(1);
+        assertThat(stored.getStatus()).isEqualTo(TestStatus.COMPLETED);
+        assertThat(stored.getCompletedContainerCount()).isEqualTo(CONTAINER_COUNT);
+        assertThat(testResultRepository.findContainerIndexesByParentTestIdIn(List.of(loadTest.getId())))
+                .hasSize(CONTAINER_COUNT);
+        assertThat(aggregatedTestResultRepository.findByLoadTestId(loadTest.getId()))
+                .hasValueSatisfying(aggregated ->
+                        assertThat(aggregated.getTotalRequests()).isEqualTo(CONTAINER_COUNT * 100L));
+    }
+
+    @Test
+    void abortedTestIsNotCompletedByLateCallbacks() {
+        LoadTest loadTest = runningLoadTest();
+        assertThat(testResultAggregator.abortLoadTest(loadTest.getId(), "p95 breached")).isTrue();
+
+        List<TestResult> results = new ArrayList<>();
+        for (int containerIndex = 0; containerIndex < CONTAINER_COUNT; containerIndex++) {
+            results.add(result(loadTest, containerIndex));
+        }
+        Map<Long, Integer> counts = testResultAggregator.recordContainerResults(results);
+
+        assertThat(counts).containsEntry(loadTest.getId(), CONTAINER_COUNT);
+        assertThat(testResultAggregator.completeLoadTest(loadTest.getId())).isFalse();
+        assertThat(loadTestRepository.findById(loadTest.getId()).orElseThrow().getStatus())
+                .isEqualTo(TestStatus.ABORTED);
+    }
+
+    // 컨테이너마다 콜백 하나씩 동시에 처리하고 완료 처리에 성공한 콜백 수를 반환
+    private int deliverConcurrently(LoadTest loadTest) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int containerIndex = 0; containerIndex < CONTAINER_COUNT; containerIndex++) {
+            int index = containerIndex;
+            futures.add(callbacks.submit(() -> {
+                start.await();
+                Integer completed = testResultAggregator.recordContainerResults(List.of(result(loadTest, index)))
+                        .get(loadTest.getId());
+                return completed != null && completed >= CONTAINER_COUNT
+                        && testResultAggregator.completeLoadTest(loadTest.getId());
+            }));
+        }
+        start.countDown();
+
+        int completions = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                completions++;
+            }
+        }
+        return completions;
+    }
+
+    private LoadTest runningLoadTest() {
+        String name = UUID.randomUUID().toString();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setKeycloakId(name);
+        userRepository.save(user);
+
+        LoadTest loadTest = new LoadTest();
+        loadTest.setName("concurrent callbacks");
+        loadTest.setTargetUrl("http://localhost");
+        loadTest.setTestType(TestType.LOAD);
+        loadTest.setVirtualUsers(10);
+        loadTest.setDurationSeconds(60);
+        loadTest.setStatus(TestStatus.RUNNING);
+        loadTest.setContainerCount(CONTAINER_COUNT);
+        loadTest.setUser(user);
+        return loadTestRepository.save(loadTest);
+    }
+
+    private static TestResult result(LoadTest loadTest, int containerIndex) {
+        TestResult result = new TestResult();
+        result.setParentTest(loadTest);
+        result.setContainerIndex(containerIndex);
+        result.setStartTime(LocalDateTime.now().minusMinutes(1));
+        result.setEndTime(LocalDateTime.now());
+        result.setTotalRequests(100L);
+        result.setSuccessfulRequests(100L);
+        result.setFailedRequests(0L);
+        result.setAvgResponseTimeMs(20.0);
+        result.setP95ResponseTimeMs(40.0);
+        result.setP99ResponseTimeMs(60.0);
+        result.setMaxResponseTimeMs(80.0);
+        result.setMinResponseTimeMs(5.0);
+        result.setRequestsPerSecond(10.0);
+        return result;
+    }
+}
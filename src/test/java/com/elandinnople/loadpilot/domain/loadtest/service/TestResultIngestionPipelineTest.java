@@ -0,0 +1,175 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.domain.loadtest.dto.request.TestResultProcessRequest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestStatus;
+import com.elandinnople.loadpilot.domain.loadtest.entity.type.TestType;
+import com.elandinnople.loadpilot.domain.loadtest.repository.LoadTestRepository;
+import com.elandinnople.loadpilot.domain.loadtest.repository.TestResultRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TestResultIngestionPipelineTest {
+
+    private static final long LOAD_TEST_ID = 7L;
+
+    @TempDir
+    Path deadLetterDir;
+
+    private final LoadTestRepository loadTestRepository = mock(LoadTestRepository.class);
+    private final TestResultRepository testResultRepository = mock(TestResultRepository.class);
+    private final TestResultAggregator testResultAggregator = mock(TestResultAggregator.class);
+    // 호출마다 넘겨받은 결과의 컨테이너 인덱스 (목은 리스트 참조만 보관하므로 복사해 둠)
+    private final List<List<Integer>> persistedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setId(LOAD_TEST_ID);
+        loadTest.setStatus(TestStatus.RUNNING);
+        loadTest.setTestType(TestType.LOAD);
+        loadTest.setContainerCount(100);
+        when(loadTestRepository.findAllById(anyCollection())).thenReturn(List.of(loadTest));
+    }
+
+    @Test
+    void dropsDuplicatesWithinBatchAndAlreadyStoredResults() {
+        recordPersistedBatches(null);
+        List<Object[]> stored = new ArrayList<>();
+        stored.add(new Object[]{LOAD_TEST_ID, 2});
+        when(testResultRepository.findContainerIndexesByParentTestIdIn(anyCollection())).thenReturn(stored);
+
+        TestResultIngestionPipeline pipeline = pipeline(50, 5);
+        pipeline.submit(request(0));
+        pipeline.submit(request(1));
+        pipeline.submit(request(0));
+        pipeline.submit(request(2));
+        runUntilDrained(pipeline);
+
+        assertThat(persistedBatches).containsExactly(List.of(0, 1));
+    }
+
+    @Test
+    void groupsQueuedResultsIntoBatchesOfConfiguredSize() {
+        recordPersistedBatches(null);
+
+        TestResultIngestionPipeline pipeline = pipeline(2, 5);
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(request(i));
+        }
+        runUntilDrained(pipeline);
+
+        assertThat(persistedBatches).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4));
+    }
+
+    @Test
+    void failedBatchIsReprocessedPerItemAndOnlyTheFailingResultIsDeadLettered() throws IOException {
+        recordPersistedBatches(1);
+
+        TestResultIngestionPipeline pipeline = pipeline(50, 1);
+        pipeline.submit(request(0));
+        pipeline.submit(request(1));
+        pipeline.submit(request(2));
+        runUntilDrained(pipeline);
+
+        // 배치 전체 시도 후 건별 재처리
+        assertThat(persistedBatches).containsExactly(List.of(0, 1, 2), List.of(0), List.of(1), List.of(2));
+        try (Stream<Path> files = Files.list(deadLetterDir)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .singleElement()
+                    .satisfies(name -> assertThat(name).startsWith(LOAD_TEST_ID + "-1-"));
+        }
+    }
+
+    @Test
+    void retriesFailedResultAfterBackoff() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        when(testResultRepository.findContainerIndexesByParentTestIdIn(anyCollection())).thenReturn(List.of());
+        when(testResultAggregator.recordContainerResults(any())).thenAnswer(invocation -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("connection reset");
+            }
+            return Map.of();
+        });
+
+        TestResultIngestionPipeline pipeline = pipeline(50, 3);
+        pipeline.submit(request(0));
+        pipeline.start();
+        verify(testResultAggregator, timeout(5000).times(2)).recordContainerResults(any());
+        pipeline.stop();
+
+        try (Stream<Path> files = Files.list(deadLetterDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    // failingIndex 가 포함된 저장 호출은 실패
+    private void recordPersistedBatches(Integer failingIndex) {
+        when(testResultRepository.findContainerIndexesByParentTestIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.of());
+        when(testResultAggregator.recordContainerResults(any())).thenAnswer(invocation -> {
+            List<TestResult> results = invocation.getArgument(0);
+            List<Integer> indexes = results.stream().map(TestResult::getContainerIndex).toList();
+            persistedBatches.add(indexes);
+            if (failingIndex != null && indexes.contains(failingIndex)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return Map.of();
+        });
+    }
+
+    // 큐에 미리 넣어 둔 결과를 워커 하나가 모두 처리할 때까지 실행
+    private static void runUntilDrained(TestResultIngestionPipeline pipeline) {
+        pipeline.start();
+        try {
+            pipeline.stop();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private TestResultIngestionPipeline pipeline(int batchSize, int maxAttempts) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new TestResultIngestionPipeline(
+                loadTestRepository,
+                testResultRepository,
+                testResultAggregator,
+                mock(LiveMetricsService.class),
+                mock(LiveMetricsBroadcaster.class),
+                mock(ResultSummaryStore.class),
+                new OrchestrationMetrics(meterRegistry),
+                new ObjectMapper().findAndRegisterModules(),
+                meterRegistry,
+                100, 1, batchSize, 4, maxAttempts, 0, deadLetterDir.toString());
+    }
+
+    private static TestResultProcessRequest request(int containerIndex) {
+        TestResultProcessRequest request = new TestResultProcessRequest();
+        request.setLoadTestId(LOAD_TEST_ID);
+        request.setContainerIndex(containerIndex);
+        request.setTotalRequests(100L);
+        return request;
+    }
+}
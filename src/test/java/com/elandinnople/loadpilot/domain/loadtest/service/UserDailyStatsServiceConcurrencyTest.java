@@ -0,0 +1,156 @@
+package com.elandinnople.loadpilot.domain.loadtest.service;
+
+import com.elandinnople.loadpilot.common.config.AuditConfig;
+import com.elandinnople.loadpilot.common.util.LatencyHistogram;
+import com.elandinnople.loadpilot.domain.loadtest.entity.LoadTest;
+import com.elandinnople.loadpilot.domain.loadtest.entity.TestResult;
+import com.elandinnople.loadpilot.domain.loadtest.entity.UserDailyStats;
+import com.elandinnople.loadpilot.domain.loadtest.repository.UserDailyStatsRepository;
+import com.elandinnople.loadpilot.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자의 결과가 동시에 저장되어도 일일 롤업 행을 잠근 뒤 갱신하여 증분을 잃지 않는지 H2(PostgreSQL 모드)에서 확인합니다.
+ * 저장마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:dailystats;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditConfig.class, UserDailyStatsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserDailyStatsServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int ROUNDS = 5;
+
+    // 테스트마다 다른 사용자 ID 를 사용하여 같은 DB 를 공유해도 서로 영향을 주지 않음
+    private static final AtomicLong USER_IDS = new AtomicLong(1_000);
+
+    @Autowired
+    private UserDailyStatsService userDailyStatsService;
+    @Autowired
+    private UserDailyStatsRepository userDailyStatsRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+
+    @AfterEach
+    void tearDown() {
+        writers.shutdownNow();
+    }
+
+    @Test
+    void insertIfAbsentCreatesTheRowOnlyOnce() {
+        Long userId = USER_IDS.incrementAndGet();
+        LocalDate today = LocalDate.now();
+
+        int first = transactionTemplate.execute(status ->
+                userDailyStatsRepository.insertIfAbsent(userId, today, LocalDateTime.now()));
+        int second = transactionTemplate.execute(status ->
+                userDailyStatsRepository.insertIfAbsent(userId, today, LocalDateTime.now()));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(userDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDate(userId, today, today))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.getResultCount()).isZero());
+    }
+
+    @Test
+    void concurrentResultsForTheSameUserAreAllCounted() throws Exception {
+        User user = user(USER_IDS.incrementAndGet());
+        // 첫 결과로 행을 만든 뒤 나머지를 동시에 반영 (H2 는 커밋 전 같은 키의 동시 삽입을 대기 대신 오류로 처리)
+        userDailyStatsService.recordResults(List.of(result(user, 10.0, 50.0)));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                double maxResponseTime = 100.0 + round * WRITERS + writer;
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    userDailyStatsService.recordResults(List.of(result(user, 10.0, maxResponseTime)));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        long results = 1 + (long) ROUNDS * WRITERS;
+        UserDailyStats stats = todayStats(user.getId());
+        assertThat(stats.getResultCount()).isEqualTo(results);
+        assertThat(stats.getTotalRequests()).isEqualTo(results * 100);
+        assertThat(stats.getFailedRequests()).isEqualTo(results * 2);
+        assertThat(stats.getResponseTimeSum()).isEqualTo(results * 100 * 10.0);
+        assertThat(stats.getMaxResponseTimeMs()).isEqualTo(100.0 + ROUNDS * WRITERS - 1);
+        assertThat(LatencyHistogram.decode(stats.getLatencyHistogram()).getTotalCount()).isEqualTo(results * 100);
+    }
+
+    @Test
+    void batchIsSplitPerUser() {
+        User first = user(USER_IDS.incrementAndGet());
+        User second = user(USER_IDS.incrementAndGet());
+
+        userDailyStatsService.recordResults(List.of(
+                result(first, 10.0, 50.0), result(second, 20.0, 60.0), result(first, 30.0, 70.0)));
+
+        assertThat(todayStats(first.getId()).getResultCount()).isEqualTo(2);
+        assertThat(todayStats(first.getId()).getResponseTimeSum()).isEqualTo(100 * 10.0 + 100 * 30.0);
+        assertThat(todayStats(second.getId()).getResultCount()).isEqualTo(1);
+        assertThat(todayStats(second.getId()).getMaxResponseTimeMs()).isEqualTo(60.0);
+    }
+
+    private UserDailyStats todayStats(Long userId) {
+        LocalDate today = LocalDate.now();
+        return userDailyStatsRepository.findByUserIdAndStatDateBetweenOrderByStatDate(userId, today, today).get(0);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static TestResult result(User user, double avgResponseTimeMs, double maxResponseTimeMs) {
+        LoadTest loadTest = new LoadTest();
+        loadTest.setUser(user);
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            histogram.recordValue(avgResponseTimeMs);
+        }
+
+        TestResult result = new TestResult();
+        result.setParentTest(loadTest);
+        result.setTotalRequests(100L);
+        result.setSuccessfulRequests(98L);
+        result.setFailedRequests(2L);
+        result.setAvgResponseTimeMs(avgResponseTimeMs);
+        result.setMaxResponseTimeMs(maxResponseTimeMs);
+        result.setLatencyHistogram(histogram.encode());
+        return result;
+    }
+}